@@ -308,6 +308,15 @@ public class GpioD {
 
     private static native int c_gpiod_line_event_read(long linePtr, long eventPtr);
 
+    static int lineEventReadMultiple(long linePtr, long[] timestamps, int[] types) {
+        int result = c_gpiod_line_event_read_multiple(linePtr, timestamps, types);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_event_read_multiple failed: " + result + " (" + c_gpiod_strerror() + ")");
+        return result;
+    }
+
+    private static native int c_gpiod_line_event_read_multiple(long linePtr, long[] timestamps, int[] types);
+
     static long lineGet(String device, int offset) {
         Long ptr = c_gpiod_line_get(device, offset);
         if (ptr == null)
@@ -142,4 +142,17 @@ public class GpioLine extends CWrapper {
         GpioD.lineEventRead(getCPointer(), lineEvent.getCPointer());
         return lineEvent;
     }
+
+    /**
+     * Reads all pending events of the line in a single native call, without allocating.  Like
+     * {@link #eventRead(GpioLineEvent)}, this blocks until an event is available, so call it after
+     * {@link #eventWait(long)} returned true.
+     *
+     * @param timestamps receives the event timestamps in nanoseconds
+     * @param types receives the event types, see {@link LineEvent#getVal()}
+     * @return the number of events read, at most the length of the shorter array
+     */
+    public int readEvents(long[] timestamps, int[] types) {
+        return GpioD.lineEventReadMultiple(getCPointer(), timestamps, types);
+    }
 }
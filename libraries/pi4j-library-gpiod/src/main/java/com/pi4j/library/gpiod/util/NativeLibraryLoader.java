@@ -27,18 +27,14 @@ package com.pi4j.library.gpiod.util;
  */
 
 import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.util.NativeLibraryCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URISyntaxException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -213,19 +209,18 @@ public class NativeLibraryLoader {
     /**
      * Loads library from classpath
      * <p>
-     * The file from classpath is copied into system temporary directory and then loaded. The temporary file is
-     * deleted after exiting. Method uses String as filename because the pathname is
-     * "abstract", not system-dependent.
+     * The file from classpath is extracted into the persistent native library cache (see {@link NativeLibraryCache}),
+     * unless a verified copy is already present there, and then loaded. Method uses String as filename because the
+     * pathname is "abstract", not system-dependent.
      *
      * @param path
      *            The file path in classpath as an absolute path, e.g. /package/File.ext (could be inside jar)
      * @throws IOException
-     *             If temporary file creation or read/write operation fails
+     *             If the extraction of the library fails
      * @throws IllegalArgumentException
      *             If source file (param path) does not exist
      * @throws IllegalArgumentException
-     *             If the path is not absolute or if the filename is shorter than three characters (restriction
-     *             of {@see File#createTempFile(java.lang.String, java.lang.String)}).
+     *             If the path is not absolute or does not end with a file name and extension
      */
     public static void loadLibraryFromClasspath(String path) throws IOException {
         Path inputPath = Paths.get(path);
@@ -240,25 +235,15 @@ public class NativeLibraryLoader {
             throw new IllegalArgumentException("The path has to end with a file name and extension, but found: " + fileNameFull);
         }
 
-        String fileName = fileNameFull.substring(0, dotIndex);
-        String extension = fileNameFull.substring(dotIndex);
-
-        Path target = Files.createTempFile(fileName, extension);
-        File targetFile = target.toFile();
-        targetFile.deleteOnExit();
-
-        try (InputStream source = NativeLibraryLoader.class.getResourceAsStream(inputPath.toString())) {
-            if (source == null) {
-                throw new FileNotFoundException("File " + inputPath + " was not found in classpath.");
-            }
-            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
-        }
+        long start = System.nanoTime();
+        Path target = NativeLibraryCache.extract(NativeLibraryLoader.class, inputPath.toString());
 
         // Finally, load the library
         if (!BoardInfoHelper.runningOnRaspberryPi()) {
             logger.warn("Can't load the library, board model is unknown");
         } else {
             System.load(target.toAbsolutePath().toString());
+            logger.info("Loaded native library [{}] in {} ms", target, (System.nanoTime() - start) / 1_000_000);
         }
     }
 }
\ No newline at end of file
@@ -431,6 +431,53 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line
     return gpiod_line_event_read((struct gpiod_line*) (uintptr_t) linePtr, (struct gpiod_line_event*) (uintptr_t) eventPtr);
 }
 
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_event_read_multiple
+ * Signature: (J[J[I)I
+ *
+ * Reads all pending events of the line into the timestamp (ns) and type arrays, up to their length.
+ * libgpiod reads at most 16 events (the size of the kernel's event FIFO) at once; further batches are
+ * only read while more events are pending, so that the call blocks at most for the first event.
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1event_1read_1multiple
+  (JNIEnv* env, jclass javaClass, jlong linePtr, jlongArray timestamps, jintArray types) {
+    struct gpiod_line* line = (struct gpiod_line*) (uintptr_t) linePtr;
+    struct gpiod_line_event events[16];
+    jlong batchTimestamps[16];
+    jint batchTypes[16];
+    struct timespec noWait = { 0, 0 };
+
+    jsize capacity = (*env)->GetArrayLength(env, timestamps);
+    jsize typesLength = (*env)->GetArrayLength(env, types);
+    if(typesLength < capacity) {
+      capacity = typesLength;
+    }
+
+    jint count = 0;
+    while(count < capacity) {
+      if(count > 0 && gpiod_line_event_wait(line, &noWait) <= 0) {
+        break;
+      }
+      unsigned int request = (capacity - count < 16) ? (unsigned int) (capacity - count) : 16;
+      int read = gpiod_line_event_read_multiple(line, events, request);
+      if(read < 0) {
+        return count > 0 ? count : read;
+      }
+      for(int i = 0; i < read; i++) {
+        batchTimestamps[i] = events[i].ts.tv_nsec + (jlong) events[i].ts.tv_sec * 1000000000;
+        batchTypes[i] = events[i].event_type;
+      }
+      (*env)->SetLongArrayRegion(env, timestamps, count, read, batchTimestamps);
+      (*env)->SetIntArrayRegion(env, types, count, read, batchTypes);
+      count += read;
+      if((unsigned int) read < request) {
+        break;
+      }
+    }
+    return count;
+}
+
 /*
  * Class:     com_pi4j_library_gpiod_internal_GpioD
  * Method:    c_gpiod_line_get
@@ -319,6 +319,14 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line
 JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1event_1read
   (JNIEnv *, jclass, jlong, jlong);
 
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_event_read_multiple
+ * Signature: (J[J[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1event_1read_1multiple
+  (JNIEnv *, jclass, jlong, jlongArray, jintArray);
+
 /*
  * Class:     com_pi4j_library_gpiod_internal_GpioD
  * Method:    c_gpiod_line_get
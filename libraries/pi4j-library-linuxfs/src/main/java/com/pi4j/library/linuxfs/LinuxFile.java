@@ -53,9 +53,14 @@ public class LinuxFile extends RandomAccessFile {
     public static final int wordSize = getWordSize();
     public static final int localBufferSize = 2048; //about 1 page
 
+    private static final int EINTR = 4;
+
     public static final ThreadLocal<ByteBuffer> localDataBuffer = new ThreadLocal<>();
     public static final ThreadLocal<IntBuffer> localOffsetsBuffer = new ThreadLocal<>();
 
+    // offset map for ioctl structures without pointers
+    private static final IntBuffer noOffsets = ByteBuffer.allocateDirect(0).order(ByteOrder.nativeOrder()).asIntBuffer();
+
     static {
         // Load the platform library
         NativeLibraryLoader.load("libpi4j-linuxfs.so", "pi4j-linuxfs");
@@ -183,6 +188,148 @@ public class LinuxFile extends RandomAccessFile {
         }
     }
 
+    /**
+     * Runs an ioctl with a structure that does not contain pointers. The data ByteBuffer must be direct
+     * and hold the complete structure, starting at its current position.
+     *
+     * @param command
+     *     ioctl command
+     * @param data
+     *     direct buffer holding the ioctl structure, updated in place
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public void ioctl(long command, ByteBuffer data) throws IOException {
+        ioctl(this.fdHandle, command, data);
+    }
+
+    /**
+     * Maps a region of this file into memory, shared and readable/writable; used for device memory such
+     * as {@code /dev/gpiomem}, which {@link java.nio.channels.FileChannel#map} can not map, since it
+     * tries to extend the file to the size of the mapping.
+     *
+     * @param offset
+     *     offset of the region in the file; must be a multiple of the page size
+     * @param length
+     *     length of the region in bytes
+     *
+     * @return a direct buffer backed by the mapped memory, in native byte order
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public ByteBuffer map(long offset, int length) throws IOException {
+        final ByteBuffer buffer = mmapBuffer(this.fdHandle, offset, length);
+        if (buffer == null)
+            throw new LinuxFileException();
+        return buffer.order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Unmaps memory mapped by {@link #map(long, int)}. The buffer must not be accessed afterwards; any
+     * access would crash the JVM.
+     *
+     * @param buffer
+     *     buffer returned by {@link #map(long, int)}
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static void unmap(ByteBuffer buffer) throws IOException {
+        if (munmapBuffer(buffer) < 0)
+            throw new LinuxFileException();
+    }
+
+    /**
+     * Runs an ioctl on a raw file descriptor, such as a descriptor returned by another ioctl. The data
+     * ByteBuffer must be direct and hold the complete structure, starting at its current position; the
+     * structure must not contain pointers.
+     *
+     * @param fd
+     *     POSIX file descriptor
+     * @param command
+     *     ioctl command
+     * @param data
+     *     direct buffer holding the ioctl structure, updated in place
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static void ioctl(int fd, long command, ByteBuffer data) throws IOException {
+        if (!data.isDirect())
+            throw new IllegalArgumentException("data buffer must be direct!");
+
+        final int response = directIOCTLStructure(fd, command, data, data.position(), noOffsets, 0, 0);
+        if (response < 0)
+            throw new LinuxFileException();
+    }
+
+    /**
+     * Reads from a raw file descriptor into the remaining space of a direct buffer, advancing its
+     * position by the number of bytes read.
+     *
+     * @param fd
+     *     POSIX file descriptor
+     * @param buffer
+     *     direct buffer receiving the data
+     *
+     * @return the number of bytes read
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static int read(int fd, ByteBuffer buffer) throws IOException {
+        if (!buffer.isDirect())
+            throw new IllegalArgumentException("buffer must be direct!");
+
+        final int response = readDirect(fd, buffer, buffer.position(), buffer.remaining());
+        if (response < 0)
+            throw new LinuxFileException();
+
+        buffer.position(buffer.position() + response);
+        return response;
+    }
+
+    /**
+     * Waits until a raw file descriptor has data to read. Unlike a blocking read, this returns after the
+     * timeout, so that a monitoring thread can be stopped.
+     *
+     * @param fd
+     *     POSIX file descriptor
+     * @param timeoutNanos
+     *     maximum time to wait in nanoseconds; negative to wait without timeout
+     *
+     * @return true if data is available, false if the timeout elapsed
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static boolean poll(int fd, long timeoutNanos) throws IOException {
+        final int response = pollDirect(fd, timeoutNanos);
+        if (response < 0) {
+            LinuxFileException e = new LinuxFileException();
+            if (e.getCode() != EINTR)
+                throw e;
+            return false;
+        }
+        return response > 0;
+    }
+
+    /**
+     * Closes a raw file descriptor.
+     *
+     * @param fd
+     *     POSIX file descriptor
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static void close(int fd) throws IOException {
+        if (closeDirect(fd) < 0)
+            throw new LinuxFileException();
+    }
+
     /**
      * Gets the real POSIX file descriptor for use by custom jni calls.
      *
@@ -297,6 +444,16 @@ public class LinuxFile extends RandomAccessFile {
 
     protected static native int directIOCTL(int fd, long command, int value);
 
+    protected static native ByteBuffer mmapBuffer(int fd, long offset, int length);
+
+    protected static native int munmapBuffer(ByteBuffer buffer);
+
+    protected static native int readDirect(int fd, ByteBuffer buffer, int offset, int length);
+
+    protected static native int pollDirect(int fd, long timeoutNanos);
+
+    protected static native int closeDirect(int fd);
+
     protected static native int directIOCTLStructure(int fd, long command, ByteBuffer data, int dataOffset,
         IntBuffer offsetMap, int offsetMapOffset, int offsetCapacity);
 }
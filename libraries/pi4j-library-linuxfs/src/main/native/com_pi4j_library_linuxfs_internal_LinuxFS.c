@@ -24,6 +24,7 @@
  * <http://www.gnu.org/licenses/lgpl-3.0.html>.
  * #L%
  */
+#define _GNU_SOURCE
 #include <stdio.h>
 #include <stdlib.h>
 #include <fcntl.h>
@@ -36,6 +37,8 @@
 #include <errno.h>
 #include <stdint.h>
 #include <sys/mman.h>
+#include <poll.h>
+#include <time.h>
 #include <linux/i2c-dev.h>
 
 
@@ -101,6 +104,54 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_munmapDirect
     return munmap((void *)(uintptr_t)address, (size_t)capacity);
 }
 
+JNIEXPORT jobject JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_mmapBuffer
+  (JNIEnv *env, jclass obj, jint fd, jlong offset, jint length) {
+    void *addr = mmap(NULL, (size_t)length, PROT_READ | PROT_WRITE, MAP_SHARED, fd, (off_t)offset);
+
+    if(addr == MAP_FAILED)
+        return NULL;
+
+    return (*env)->NewDirectByteBuffer(env, addr, (jlong)length);
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_munmapBuffer
+  (JNIEnv *env, jclass obj, jobject buffer) {
+    void *addr = (*env)->GetDirectBufferAddress(env, buffer);
+
+    if(addr == NULL) {
+        errno = EINVAL;
+        return -1;
+    }
+
+    return munmap(addr, (size_t)((*env)->GetDirectBufferCapacity(env, buffer)));
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_readDirect
+  (JNIEnv *env, jclass obj, jint fd, jobject buffer, jint offset, jint length) {
+    uint8_t *data = (uint8_t *)((*env)->GetDirectBufferAddress(env, buffer));
+    jlong capacity = (*env)->GetDirectBufferCapacity(env, buffer);
+
+    if(data == NULL || offset < 0 || length < 0 || (jlong)offset + length > capacity) {
+        errno = EINVAL;
+        return -1;
+    }
+
+    return read(fd, data + offset, (size_t)length);
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_pollDirect
+  (JNIEnv *env, jclass obj, jint fd, jlong timeoutNanos) {
+    struct pollfd pfd = { fd, POLLIN | POLLPRI, 0 };
+    struct timespec timeout = { (time_t)(timeoutNanos / 1000000000L), (long)(timeoutNanos % 1000000000L) };
+
+    return ppoll(&pfd, 1, timeoutNanos < 0 ? NULL : &timeout, NULL);
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_closeDirect
+  (JNIEnv *env, jclass obj, jint fd) {
+    return close(fd);
+}
+
 JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directIOCTLStructure
   (JNIEnv *env, jclass obj, jint fd, jlong command, jobject data, jint dataOffset, jobject offsetMap, jint offsetMapOffset, jint offsetCapacity) {
     uint8_t *dataBuffer = (uint8_t *)((*env)->GetDirectBufferAddress(env, data));
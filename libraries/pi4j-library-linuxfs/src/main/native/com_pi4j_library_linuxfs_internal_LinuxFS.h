@@ -50,6 +50,21 @@ JNIEXPORT jlong JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_mmap
 JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_munmapDirect
   (JNIEnv *env, jclass obj, jlong address, jlong capacity);
 
+JNIEXPORT jobject JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_mmapBuffer
+  (JNIEnv *env, jclass obj, jint fd, jlong offset, jint length);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_munmapBuffer
+  (JNIEnv *env, jclass obj, jobject buffer);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_readDirect
+  (JNIEnv *env, jclass obj, jint fd, jobject buffer, jint offset, jint length);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_pollDirect
+  (JNIEnv *env, jclass obj, jint fd, jlong timeoutNanos);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_closeDirect
+  (JNIEnv *env, jclass obj, jint fd);
+
 JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directIOCTLStructure
   (JNIEnv *env, jclass obj, jint fd, jlong command, jobject data, jint dataOffset, jobject offsetMap, jint offsetMapOffset, jint offsetCapacity);
 
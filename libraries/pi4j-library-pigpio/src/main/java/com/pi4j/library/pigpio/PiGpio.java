@@ -383,4 +383,11 @@ public interface PiGpio extends
      * <p>removeAllListeners.</p>
      */
     void removeAllListeners();
+    /**
+     * Set a listener that is notified of every command round trip to the pigpio daemon;
+     * only the socket implementation performs round trips, the native implementation ignores it.
+     *
+     * @param listener a {@link com.pi4j.library.pigpio.PiGpioRoundTripListener} object, or null to remove it.
+     */
+    default void setRoundTripListener(PiGpioRoundTripListener listener) { }
 }
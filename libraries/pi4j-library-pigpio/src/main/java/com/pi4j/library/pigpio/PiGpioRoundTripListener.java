@@ -0,0 +1,45 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioRoundTripListener.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>PiGpioRoundTripListener interface.</p>
+ * <p>
+ * Notified of every command sent to the pigpio daemon; see {@link PiGpio#setRoundTripListener(PiGpioRoundTripListener)}.
+ * The listener is invoked on the thread that sent the command and must return quickly.
+ */
+public interface PiGpioRoundTripListener {
+    /**
+     * <p>onRoundTrip.</p>
+     *
+     * @param cmd the command sent to the daemon.
+     * @param nanos the time in nanoseconds from sending the command until the response was received (or the command failed).
+     * @param failed true if no response was received.
+     */
+    void onRoundTrip(PiGpioCmd cmd, long nanos, boolean failed);
+}
@@ -71,6 +71,22 @@ public interface PiGpio_GPIO {
      */
     PiGpioState gpioRead(int pin);
 
+    /**
+     * Returns the current level of GPIO 0-31.
+     *
+     * @return bit mask with bit n set if GPIO n is HIGH
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    int gpioRead_Bits_0_31();
+
+    /**
+     * Returns the current level of GPIO 32-53.
+     *
+     * @return bit mask with bit n set if GPIO (32 + n) is HIGH
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_32_53">PIGPIO::gpioRead_Bits_32_53</a>
+     */
+    int gpioRead_Bits_32_53();
+
     /**
      * Sets the GPIO level, on (HIGH) or off (LOW).
      *
@@ -27,6 +27,8 @@ package com.pi4j.library.pigpio;
  * #L%
  */
 
+import com.pi4j.library.pigpio.util.BufferUtil;
+
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -238,7 +240,8 @@ public interface PiGpio_I2C {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return i2cWriteBlockData(handle, register, buffer.array(), offset, length);
+        if(buffer.hasArray()) return i2cWriteBlockData(handle, register, buffer.array(), buffer.arrayOffset() + offset, length);
+        return i2cWriteBlockData(handle, register, BufferUtil.copy(buffer, offset, length), 0, length);
     }
 
     /**
@@ -1051,7 +1054,8 @@ public interface PiGpio_I2C {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return i2cWriteI2CBlockData(handle, register, buffer.array(), offset, length);
+        if(buffer.hasArray()) return i2cWriteI2CBlockData(handle, register, buffer.array(), buffer.arrayOffset() + offset, length);
+        return i2cWriteI2CBlockData(handle, register, BufferUtil.copy(buffer, offset, length), 0, length);
     }
 
     /**
@@ -1408,7 +1412,8 @@ public interface PiGpio_I2C {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return i2cWriteDevice(handle, buffer.array(), offset, length);
+        if(buffer.hasArray()) return i2cWriteDevice(handle, buffer.array(), buffer.arrayOffset() + offset, length);
+        return i2cWriteDevice(handle, BufferUtil.copy(buffer, offset, length), 0, length);
     }
 
     /**
@@ -27,6 +27,8 @@ package com.pi4j.library.pigpio;
  * #L%
  */
 
+import com.pi4j.library.pigpio.util.BufferUtil;
+
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -285,7 +287,8 @@ public interface PiGpio_SPI {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return spiWrite(handle, buffer.array(), offset, length);
+        if(buffer.hasArray()) return spiWrite(handle, buffer.array(), buffer.arrayOffset() + offset, length);
+        return spiWrite(handle, BufferUtil.copy(buffer, offset, length), 0, length);
     }
 
     /**
@@ -747,7 +750,9 @@ public interface PiGpio_SPI {
 
         // create a temporary byte array to read in the length of data bytes
         byte[] temp = new byte[numberOfBytes];
-        int actualLength =spiXfer(handle, write.array(), 0 , temp, 0, numberOfBytes);
+        int actualLength = write.hasArray()
+            ? spiXfer(handle, write.array(), write.arrayOffset() + writeOffset, temp, 0, numberOfBytes)
+            : spiXfer(handle, BufferUtil.copy(write, writeOffset, numberOfBytes), 0, temp, 0, numberOfBytes);
 
         // return any error codes ( < 0)
         if(actualLength < 0) return actualLength;
@@ -847,7 +852,9 @@ public interface PiGpio_SPI {
 
         // create a temporary byte array to read in the length of data bytes
         byte[] temp = new byte[length];
-        int actualLength =spiXfer(handle, buffer.array(), 0 , temp, 0, length);
+        int actualLength = buffer.hasArray()
+            ? spiXfer(handle, buffer.array(), buffer.arrayOffset() + offset, temp, 0, length)
+            : spiXfer(handle, BufferUtil.copy(buffer, offset, length), 0, temp, 0, length);
 
         // return any error codes ( < 0)
         if(actualLength < 0) return actualLength;
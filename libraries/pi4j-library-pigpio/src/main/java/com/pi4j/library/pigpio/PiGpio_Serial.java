@@ -27,6 +27,8 @@ package com.pi4j.library.pigpio;
  * #L%
  */
 
+import com.pi4j.library.pigpio.util.BufferUtil;
+
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -177,7 +179,8 @@ public interface PiGpio_Serial {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return serWrite(handle, buffer.array(), offset, length);
+        if(buffer.hasArray()) return serWrite(handle, buffer.array(), buffer.arrayOffset() + offset, length);
+        return serWrite(handle, BufferUtil.copy(buffer, offset, length), 0, length);
     }
 
     /**
@@ -29,11 +29,14 @@ package com.pi4j.library.pigpio.impl;
 
 import com.pi4j.library.pigpio.*;
 import com.pi4j.library.pigpio.internal.PIGPIO;
+import com.pi4j.library.pigpio.internal.PiGpioAlertBatchCallback;
 import com.pi4j.library.pigpio.internal.PiGpioAlertCallback;
+import com.pi4j.library.pigpio.internal.PiGpioEventRing;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Scanner;
@@ -53,6 +56,17 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
 
     private int SPI_BUFFSIZ = 4096;
 
+    // GPIO alerts are passed from native code through a shared memory ring of this many records
+    private static final int EVENT_RING_CAPACITY = 4096;
+    private static final int EVENT_RING_BATCH_SIZE = 256;
+    private static final int EVENT_RING_WAIT_MILLIS = 100;
+
+    private PiGpioEventRing eventRing;
+    private Thread eventRingThread;
+    private volatile boolean eventRingRunning;
+    private boolean eventRingUnavailable;
+    private long eventRingOverflows;
+
     private static final PiGpioNativeImpl instance;
     static {
         instance = new PiGpioNativeImpl();
@@ -75,9 +89,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
     }
 
     /**
-     * DEFAULT PRIVATE CONSTRUCTOR
+     * DEFAULT CONSTRUCTOR; package-private so that tests can replace the native array functions
      */
-    private PiGpioNativeImpl() {
+    PiGpioNativeImpl() {
         super();
         this.initialized = false;
     }
@@ -147,6 +161,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
             closeAllOpenHandles();
         }
 
+        // stop draining GPIO alerts
+        stopEventRing();
+
         // terminate PiGPio library
         PIGPIO.gpioTerminate();
 
@@ -276,6 +293,36 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return state;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the current level of GPIO 0-31.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    @Override
+    public int gpioRead_Bits_0_31() {
+        logger.trace("[GPIO::GET-BANK] -> BANK: 0-31");
+        validateReady();
+        int result = PIGPIO.gpioRead_Bits_0_31();  // Returns the levels as a bit mask; cannot fail.
+        logger.trace("[GPIO::GET-BANK] <- BANK: 0-31; LEVELS={}", Integer.toBinaryString(result));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the current level of GPIO 32-53.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_32_53">PIGPIO::gpioRead_Bits_32_53</a>
+     */
+    @Override
+    public int gpioRead_Bits_32_53() {
+        logger.trace("[GPIO::GET-BANK] -> BANK: 32-53");
+        validateReady();
+        int result = PIGPIO.gpioRead_Bits_32_53();  // Returns the levels as a bit mask; cannot fail.
+        logger.trace("[GPIO::GET-BANK] <- BANK: 32-53; LEVELS={}", Integer.toBinaryString(result));
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -602,17 +649,42 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
 
     @Override
     public void gpioNotifications(int pin, boolean enabled) {
-        if(enabled)
-            PIGPIO.gpioSetAlertFunc(pin, gpioAlertCallbackHandler);
-        else
+        if(!enabled)
             PIGPIO.gpioDisableAlertFunc(pin);
+        else if(startEventRing())
+            PIGPIO.gpioSetAlertRing(pin, true);
+        else
+            PIGPIO.gpioSetAlertFunc(pin, gpioAlertFallbackHandler);
     }
 
     /**
-     * This handler is used internally to dispatch GPI state change events to Java consumers
+     * @return the number of GPIO alerts dropped because the event ring was full
+     */
+    public long gpioAlertOverflows() {
+        PiGpioEventRing ring = this.eventRing;
+        return ring == null ? 0 : ring.overflows();
+    }
+
+    /**
+     * This handler is used internally to dispatch batches of GPIO state change events drained
+     * from the native event ring to Java consumers
+     */
+    private final PiGpioAlertBatchCallback gpioAlertCallbackHandler = (count, pins, states, ticks) -> {
+        for (int i = 0; i < count; i++) {
+            try {
+                dispatchEvent(new PiGpioStateChangeEvent(pins[i], PiGpioState.from(states[i]), ticks[i]));
+            }
+            catch (Exception e){
+                logger.error(e.getMessage(), e);
+            }
+        }
+    };
+
+    /**
+     * This handler is used if the native library does not provide the event ring
      * (*this method is only invoked from native JNI code*)
      */
-    private PiGpioAlertCallback gpioAlertCallbackHandler = new PiGpioAlertCallback() {
+    private final PiGpioAlertCallback gpioAlertFallbackHandler = new PiGpioAlertCallback() {
         @Override
         public void call(int pin, int state, long tick) {
             try {
@@ -624,6 +696,70 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         }
     };
 
+    /**
+     * Open the native event ring and start the thread draining it, if not done yet
+     *
+     * @return false if the native library does not provide the event ring
+     */
+    private synchronized boolean startEventRing() {
+        if (eventRingThread != null) return true;
+        if (eventRingUnavailable) return false;
+        try {
+            if (eventRing == null) {
+                ByteBuffer buffer = PIGPIO.eventRingOpen(EVENT_RING_CAPACITY);
+                if (buffer == null) throw new IllegalStateException("Unable to allocate the event ring");
+                eventRing = new PiGpioEventRing(buffer, EVENT_RING_BATCH_SIZE);
+            }
+        } catch (UnsatisfiedLinkError | RuntimeException e) {
+            logger.warn("GPIO alert event ring not available, using JNI callbacks: {}", e.getMessage());
+            eventRingUnavailable = true;
+            return false;
+        }
+        eventRingRunning = true;
+        eventRingThread = new Thread(this::drainEventRing, "pigpio-event-ring");
+        eventRingThread.setDaemon(true);
+        eventRingThread.start();
+        logger.debug("[EVENT-RING] -- STARTED; CAPACITY={}", eventRing.capacity());
+        return true;
+    }
+
+    private void drainEventRing() {
+        PiGpioEventRing ring = this.eventRing;
+        while (eventRingRunning) {
+            try {
+                if (ring.pending() == 0)
+                    PIGPIO.eventRingWait(EVENT_RING_WAIT_MILLIS);
+                ring.drain(gpioAlertCallbackHandler);
+
+                long overflows = ring.overflows();
+                if (overflows != eventRingOverflows) {
+                    logger.warn("[EVENT-RING] -- {} GPIO ALERTS DROPPED; RING FULL", overflows - eventRingOverflows);
+                    eventRingOverflows = overflows;
+                }
+            } catch (Exception e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+        // deliver the remaining records
+        ring.drain(gpioAlertCallbackHandler);
+    }
+
+    private void stopEventRing() {
+        Thread thread;
+        synchronized (this) {
+            thread = this.eventRingThread;
+            this.eventRingThread = null;
+            this.eventRingRunning = false;
+        }
+        if (thread == null) return;
+        PIGPIO.eventRingWake();
+        try {
+            thread.join(EVENT_RING_WAIT_MILLIS * 10L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // SERVO IMPLEMENTATION
@@ -1007,6 +1143,29 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * A direct buffer is written from in place by the native library; other buffers are written through a
+     * temporary byte array.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cWriteBlockData">PIGPIO::i2cWriteBlockData</a>
+     */
+    @Override
+    public int i2cWriteBlockData(int handle, int register, ByteBuffer buffer, int offset, int length) {
+        if(!buffer.isDirect()) return super.i2cWriteBlockData(handle, register, buffer, offset, length);
+        length = directLength(buffer, offset, length);
+        logger.trace("[I2C::WRITE] -> [{}]; Register [{}]; Block [{} bytes]; offset={}; direct", handle ,register, length, offset);
+        validateReady();
+        validateHandle(handle);
+        validateI2cRegister(register);
+        validateI2cBlockLength(length);
+        // write data from the buffer memory to I2C device register
+        int result = PIGPIO.i2cWriteBlockDataDirect(handle, register, buffer, offset, length);
+        logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, (result>=0), result);
+        validateResult(result, false);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1028,6 +1187,30 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * A direct buffer with room for the maximum block size of 32 bytes is read into in place by the
+     * native library; other buffers are read through a temporary byte array.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cReadBlockData">PIGPIO::i2cReadBlockData</a>
+     */
+    @Override
+    public int i2cReadBlockData(int handle, int register, ByteBuffer buffer, int offset, int length) {
+        if(!writable(buffer) || buffer.capacity() - offset < 32) return super.i2cReadBlockData(handle, register, buffer, offset, length);
+        logger.trace("[I2C::READ] -> [{}]; Register [{}]; Block [{} bytes]; offset={}; direct", handle, register, length, offset);
+        validateReady();
+        validateHandle(handle);
+        validateI2cRegister(register);
+        Objects.checkIndex(offset, buffer.capacity());
+        // perform the read on the I2C device register into the buffer memory
+        int result = PIGPIO.i2cReadBlockDataDirect(handle, register, buffer, offset);
+        boolean success = result >=0;
+        logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, success, result);
+        validateResult(result, false);
+        if(success) buffer.position(offset + result);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1121,6 +1304,30 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * A direct buffer is read into in place by the native library; other buffers are read through a
+     * temporary byte array.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cReadI2CBlockData">PIGPIO::i2cReadI2CBlockData</a>
+     */
+    @Override
+    public int i2cReadI2CBlockData(int handle, int register, ByteBuffer buffer, int offset, int length){
+        if(!writable(buffer)) return super.i2cReadI2CBlockData(handle, register, buffer, offset, length);
+        length = directLength(buffer, offset, length);
+        logger.trace("[I2C::READ] -> [{}]; Register [{}]; I2C Block [{} bytes]; offset={}; direct", handle ,register, length, offset);
+        validateReady();
+        validateHandle(handle);
+        validateI2cRegister(register);
+        // perform the read on the I2C device register into the buffer memory
+        int result = PIGPIO.i2cReadI2CBlockDataDirect(handle, register, buffer, offset, length);
+        boolean success = result >=0;
+        logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, success, result);
+        validateResult(result, false);
+        if(success) buffer.position(offset + result);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1142,6 +1349,29 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * A direct buffer is written from in place by the native library; other buffers are written through a
+     * temporary byte array.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cWriteI2CBlockData">PIGPIO::i2cWriteI2CBlockData</a>
+     */
+    @Override
+    public int i2cWriteI2CBlockData(int handle, int register, ByteBuffer buffer, int offset, int length) {
+        if(!buffer.isDirect()) return super.i2cWriteI2CBlockData(handle, register, buffer, offset, length);
+        length = directLength(buffer, offset, length);
+        logger.trace("[I2C::WRITE] -> [{}]; Register [{}]; I2C Block [{} bytes]; offset={}; direct", handle, register, length, offset);
+        validateReady();
+        validateHandle(handle);
+        validateI2cRegister(register);
+        validateI2cBlockLength(length);
+        // write data from the buffer memory to I2C device register
+        int result = PIGPIO.i2cWriteI2CBlockDataDirect(handle, register, buffer, offset, length);
+        logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, (result>=0), result);
+        validateResult(result, false);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1162,6 +1392,29 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * A direct buffer is read into in place by the native library; other buffers are read through a
+     * temporary byte array.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cReadDevice">PIGPIO::i2cReadDevice</a>
+     */
+    @Override
+    public int i2cReadDevice(int handle, ByteBuffer buffer, int offset, int length) {
+        if(!writable(buffer)) return super.i2cReadDevice(handle, buffer, offset, length);
+        length = directLength(buffer, offset, length);
+        logger.trace("[I2C::READ] -> [{}]; I2C Raw Read [{} bytes]; offset={}; direct", handle, length, offset);
+        validateReady();
+        validateHandle(handle);
+        // perform the read on the I2C device into the buffer memory
+        int result = PIGPIO.i2cReadDeviceDirect(handle, buffer, offset, length);
+        boolean success = result >=0;
+        logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, success, result);
+        validateResult(result, false);
+        if(success) buffer.position(offset + result);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1181,6 +1434,27 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * A direct buffer is written from in place by the native library; other buffers are written through a
+     * temporary byte array.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cWriteDevice">PIGPIO::i2cWriteDevice</a>
+     */
+    @Override
+    public int i2cWriteDevice(int handle, ByteBuffer buffer, int offset, int length) {
+        if(!buffer.isDirect()) return super.i2cWriteDevice(handle, buffer, offset, length);
+        length = directLength(buffer, offset, length);
+        logger.trace("[I2C::WRITE] -> [{}]; I2C Raw Write [{} bytes]; offset={}; direct", handle, length, offset);
+        validateReady();
+        validateHandle(handle);
+        // write data from the buffer memory to I2C device
+        int result = PIGPIO.i2cWriteDeviceDirect(handle, buffer, offset, length);
+        logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, (result>=0), result);
+        validateResult(result, false);
+        return result;
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // SERIAL IMPLEMENTATION
@@ -1293,6 +1567,27 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * A direct buffer is written from in place by the native library; other buffers are written through a
+     * temporary byte array.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#serWrite">PIGPIO::serWrite</a>
+     */
+    @Override
+    public int serWrite(int handle, ByteBuffer buffer, int offset, int length) {
+        if(!buffer.isDirect()) return super.serWrite(handle, buffer, offset, length);
+        length = directLength(buffer, offset, length);
+        logger.trace("[SERIAL::WRITE] -> [{}]; Serial Write [{} bytes]; direct", handle, length);
+        validateReady();
+        validateHandle(handle);
+        // write data from the buffer memory to serial device/port
+        int result = PIGPIO.serWriteDirect(handle, buffer, offset, length);
+        logger.trace("[SERIAL::WRITE] <- HANDLE={}; SUCCESS={}", handle, (result>=0));
+        validateResult(result, false);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1314,6 +1609,29 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * A direct buffer is read into in place by the native library; other buffers are read through a
+     * temporary byte array.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#serRead">PIGPIO::serRead</a>
+     */
+    @Override
+    public int serRead(int handle, ByteBuffer buffer, int offset, int length) {
+        if(!writable(buffer)) return super.serRead(handle, buffer, offset, length);
+        length = directLength(buffer, offset, length);
+        logger.trace("[SERIAL::READ] -> [{}]; Serial Read [{} bytes]; direct", handle, length);
+        validateReady();
+        validateHandle(handle);
+        // perform the read on the serial device/port into the buffer memory
+        int result = PIGPIO.serReadDirect(handle, buffer, offset, length);
+        boolean success = result >=0;
+        logger.trace("[SERIAL::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, success, result);
+        validateResult(result, false);
+        if(success) buffer.position(offset + result);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1482,6 +1800,35 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * A direct buffer is written from in place by the native library, in chunks of the spidev
+     * buffer size; other buffers are written through a temporary byte array.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiWrite">PIGPIO::spiWrite</a>
+     */
+    @Override
+    public int spiWrite(int handle, ByteBuffer buffer, int offset, int length) {
+        if(!buffer.isDirect()) return super.spiWrite(handle, buffer, offset, length);
+        length = directLength(buffer, offset, length);
+        logger.trace("[SPI::WRITE] -> [{}]; Serial Write [{} bytes]; direct", handle, length);
+        validateReady();
+        validateHandle(handle);
+        // write data from the buffer memory to SPI bus/channel
+        int result = 0;
+        for (int start = 0; start < length; start += SPI_BUFFSIZ) {
+            int chunk = PIGPIO.spiWriteDirect(handle, buffer, offset + start, Math.min(length - start, SPI_BUFFSIZ));
+            logger.trace("[SPI::WRITE] <- HANDLE={}; SUCCESS={}", handle, (chunk>=0));
+            if (chunk < 0) {
+                result = chunk;
+                break;
+            }
+            result += chunk;
+        }
+        validateResult(result, false);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1506,6 +1853,29 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * A direct buffer is read into in place by the native library; other buffers are read through a
+     * temporary byte array.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiRead">PIGPIO::spiRead</a>
+     */
+    @Override
+    public int spiRead(int handle, ByteBuffer buffer, int offset, int length) {
+        if(!writable(buffer)) return super.spiRead(handle, buffer, offset, length);
+        length = directLength(buffer, offset, length);
+        logger.trace("[SPI::READ] -> [{}]; Serial Read [{} bytes]; direct", handle, length);
+        validateReady();
+        validateHandle(handle);
+        // perform the read on the SPI bus/channel into the buffer memory
+        int result = PIGPIO.spiReadDirect(handle, buffer, offset, length);
+        boolean success = result >=0;
+        logger.trace("[SPI::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, success, result);
+        validateResult(result, false);
+        if(success) buffer.position(offset + result);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1531,4 +1901,58 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateResult(result, false);
         return result;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * If both buffers are direct, the data is transferred in place between their memories by the
+     * native library; otherwise the transfer goes through temporary byte arrays.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiXfer">PIGPIO::spiXfer</a>
+     */
+    @Override
+    public int spiXfer(int handle, ByteBuffer write, int writeOffset, ByteBuffer read, int readOffset, int numberOfBytes) {
+        if(!write.isDirect() || !writable(read)) return super.spiXfer(handle, write, writeOffset, read, readOffset, numberOfBytes);
+        numberOfBytes = directLength(write, writeOffset, numberOfBytes);
+        Objects.checkFromIndexSize(readOffset, numberOfBytes, read.capacity());
+        logger.trace("[SPI::XFER] -> [{}]; Serial Transfer [{} bytes]; direct", handle, numberOfBytes);
+        validateReady();
+        validateHandle(handle);
+        // perform SPI data transfer between the buffer memories
+        int result = PIGPIO.spiXferDirect(handle, write, writeOffset, read, readOffset, numberOfBytes);
+        boolean success = result >= 0;
+        logger.trace("[SPI::XFER] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, success, result);
+        validateResult(result, false);
+        if(success) read.position(readOffset + result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * A direct buffer is transferred in place by the native library, the data read replacing the
+     * data written; other buffers are transferred through temporary byte arrays.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiXfer">PIGPIO::spiXfer</a>
+     */
+    @Override
+    public int spiXfer(int handle, ByteBuffer buffer, int offset, int length) {
+        if(!writable(buffer)) return super.spiXfer(handle, buffer, offset, length);
+        return spiXfer(handle, buffer, offset, buffer, offset, length);
+    }
+
+    /**
+     * Bound the length of a direct buffer transfer to the capacity after the offset, as the
+     * default (heap buffer) implementations do, and check that the offset lies within the buffer.
+     */
+    private static int directLength(ByteBuffer buffer, int offset, int length) {
+        length = Math.min(length, buffer.capacity() - offset);
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        return length;
+    }
+
+    /**
+     * @return true if native code can read data directly into the buffer's memory
+     */
+    private static boolean writable(ByteBuffer buffer) {
+        return buffer.isDirect() && !buffer.isReadOnly();
+    }
 }
@@ -38,6 +38,7 @@ import com.pi4j.library.pigpio.PiGpio;
 import com.pi4j.library.pigpio.PiGpioCmd;
 import com.pi4j.library.pigpio.PiGpioException;
 import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioRoundTripListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +58,7 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
     protected int port = DEFAULT_PORT;
     protected boolean connected = false;
     protected Socket socket = null;
+    protected volatile PiGpioRoundTripListener roundTripListener = null;
 
     // TODO :: IMPLEMENT CONNECTION MONITOR TO PROACTIVELY DETECT SOCKET DISCONNECTS AND AUTO-RETRY TO CONNECT IN BACKGROUND THREAD
 
@@ -200,6 +202,9 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
      * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
      */
     protected PiGpioPacket sendPacket(PiGpioPacket tx, Socket sck) {
+        PiGpioRoundTripListener listener = this.roundTripListener;
+        long start = listener != null ? System.nanoTime() : 0;
+        boolean failed = true;
         try {
             try {
                 // get socket streams
@@ -214,6 +219,7 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
                 // read receive packet
                 PiGpioPacket rx = PiGpioPacket.decode(in);
                 logger.trace("[RX] <- {}", rx.toString());
+                failed = false;
                 return rx;
             } catch (SocketException se) {
                 // socket is no longer connected
@@ -224,9 +230,18 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
             }
         } catch (IOException e) {
             throw new PiGpioException(e);
+        } finally {
+            if (listener != null)
+                listener.onRoundTrip(tx.cmd(), System.nanoTime() - start, failed);
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void setRoundTripListener(PiGpioRoundTripListener listener) {
+        this.roundTripListener = listener;
+    }
+
     /** {@inheritDoc} */
     public void gpioNotifications(int pin, boolean enabled){
         logger.trace("[GPIO] -> {} Pin [{}] Notifications", (enabled ? "ENABLE" : "DISABLE"), pin);
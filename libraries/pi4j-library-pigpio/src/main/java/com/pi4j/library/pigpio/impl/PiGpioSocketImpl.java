@@ -227,6 +227,38 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         return state;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the current level of GPIO 0-31.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    @Override
+    public int gpioRead_Bits_0_31() {
+        logger.trace("[GPIO::GET-BANK] -> BANK: 0-31");
+        validateReady();
+        PiGpioPacket result = sendCommand(BR1);
+        // the levels are returned as a bit mask in P3; BR1 cannot fail (GPIO 31 may set the sign bit)
+        logger.trace("[GPIO::GET-BANK] <- BANK: 0-31; LEVELS={}", Integer.toBinaryString(result.p3()));
+        return result.p3();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the current level of GPIO 32-53.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_32_53">PIGPIO::gpioRead_Bits_32_53</a>
+     */
+    @Override
+    public int gpioRead_Bits_32_53() {
+        logger.trace("[GPIO::GET-BANK] -> BANK: 32-53");
+        validateReady();
+        PiGpioPacket result = sendCommand(BR2);
+        // the levels are returned as a bit mask in P3; BR2 cannot fail
+        logger.trace("[GPIO::GET-BANK] <- BANK: 32-53; LEVELS={}", Integer.toBinaryString(result.p3()));
+        return result.p3();
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -31,6 +31,7 @@ package com.pi4j.library.pigpio.internal;
 import com.pi4j.library.pigpio.PiGpioConst;
 import com.pi4j.library.pigpio.util.NativeLibraryLoader;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.Callable;
 
 /**
@@ -219,6 +220,40 @@ public class PIGPIO {
         return gpioSetAlertFunc(user_gpio, null);
     }
 
+    /**
+     * <p>Open the native GPIO alert event ring, or return it if it is already open.</p>
+     *
+     * <p>The ring is shared memory between the native alert callback and Java; see {@link PiGpioEventRing}
+     * for its layout.  It lives as long as the process.</p>
+     *
+     * @param capacity the number of records; a power of two (only used when the ring is first opened)
+     * @return a direct {@link ByteBuffer} over the ring, or null if it could not be allocated
+     */
+    public static native ByteBuffer eventRingOpen(int capacity);
+
+    /**
+     * <p>Wait until the event ring holds records, the timeout elapses, or {@link #eventRingWake()} is called.</p>
+     *
+     * @param timeout the maximum time to wait in milliseconds; 0 to return immediately
+     * @return the number of reserved records, or a negative error code if the ring is not open
+     */
+    public static native int eventRingWait(int timeout);
+
+    /**
+     * <p>Wake a thread waiting in {@link #eventRingWait(int)}.</p>
+     */
+    public static native void eventRingWake();
+
+    /**
+     * <p>Enable or disable GPIO alerts for a pin, written to the event ring instead of calling back into Java.
+     * Replaces any alert callback registered with {@link #gpioSetAlertFunc(int, PiGpioAlertCallback)}.</p>
+     *
+     * @param user_gpio a int.
+     * @param enabled true to write alerts to the event ring, false to disable alerts
+     * @return a int.
+     */
+    public static native int gpioSetAlertRing(int user_gpio, boolean enabled);
+
     /**
      * <p>gpioSetISRFunc.</p>
      *
@@ -526,6 +561,18 @@ public class PIGPIO {
         return i2cWriteBlockData(handle, i2cReg, buf, 0, count);
     }
 
+    /**
+     * <p>i2cWriteBlockData using the memory of a direct buffer, without copying or pinning a Java array.</p>
+     *
+     * @param handle a int.
+     * @param i2cReg a int.
+     * @param buf a direct {@link ByteBuffer}; its position and limit are not used or modified.
+     * @param offset starting position in buffer
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int i2cWriteBlockDataDirect(int handle, int i2cReg, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>i2cReadBlockData.</p>
      *
@@ -549,6 +596,17 @@ public class PIGPIO {
         return i2cReadBlockData(handle, i2cReg, buf, 0);
     }
 
+    /**
+     * <p>i2cReadBlockData using the memory of a direct buffer, without copying or pinning a Java array.</p>
+     *
+     * @param handle a int.
+     * @param i2cReg a int.
+     * @param buf a direct {@link ByteBuffer} with at least 32 bytes available after the offset; its position and limit are not used or modified.
+     * @param offset starting position in buffer
+     * @return a int.
+     */
+    public static native int i2cReadBlockDataDirect(int handle, int i2cReg, ByteBuffer buf, int offset);
+
     /**
      * <p>i2cBlockProcessCall.</p>
      *
@@ -599,6 +657,18 @@ public class PIGPIO {
         return i2cReadI2CBlockData(handle, i2cReg, buf, 0, count);
     }
 
+    /**
+     * <p>i2cReadI2CBlockData using the memory of a direct buffer, without copying or pinning a Java array.</p>
+     *
+     * @param handle a int.
+     * @param i2cReg a int.
+     * @param buf a direct {@link ByteBuffer}; its position and limit are not used or modified.
+     * @param offset starting position in buffer
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int i2cReadI2CBlockDataDirect(int handle, int i2cReg, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>i2cWriteI2CBlockData.</p>
      *
@@ -624,6 +694,18 @@ public class PIGPIO {
         return i2cWriteI2CBlockData(handle, i2cReg, buf, 0, count);
     }
 
+    /**
+     * <p>i2cWriteI2CBlockData using the memory of a direct buffer, without copying or pinning a Java array.</p>
+     *
+     * @param handle a int.
+     * @param i2cReg a int.
+     * @param buf a direct {@link ByteBuffer}; its position and limit are not used or modified.
+     * @param offset starting position in buffer
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int i2cWriteI2CBlockDataDirect(int handle, int i2cReg, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>i2cReadDevice.</p>
      *
@@ -646,6 +728,17 @@ public class PIGPIO {
         return i2cReadDevice(handle, buf, 0, count);
     }
 
+    /**
+     * <p>i2cReadDevice using the memory of a direct buffer, without copying or pinning a Java array.</p>
+     *
+     * @param handle a int.
+     * @param buf a direct {@link ByteBuffer}; its position and limit are not used or modified.
+     * @param offset starting position in buffer
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int i2cReadDeviceDirect(int handle, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>i2cWriteDevice.</p>
      *
@@ -669,6 +762,17 @@ public class PIGPIO {
         return i2cWriteDevice(handle, buf, 0, count);
     }
 
+    /**
+     * <p>i2cWriteDevice using the memory of a direct buffer, without copying or pinning a Java array.</p>
+     *
+     * @param handle a int.
+     * @param buf a direct {@link ByteBuffer}; its position and limit are not used or modified.
+     * @param offset starting position in buffer
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int i2cWriteDeviceDirect(int handle, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>i2cSwitchCombined.</p>
      *
@@ -784,6 +888,17 @@ public class PIGPIO {
         return spiRead(handle ,buf, 0 ,count);
     }
 
+    /**
+     * <p>spiRead using the memory of a direct buffer, without copying or pinning a Java array.</p>
+     *
+     * @param handle a int.
+     * @param buf a direct {@link ByteBuffer}; its position and limit are not used or modified.
+     * @param offset starting position in buffer
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int spiReadDirect(int handle, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>spiWrite.</p>
      *
@@ -807,6 +922,17 @@ public class PIGPIO {
         return spiWrite(handle, buf, 0, count);
     }
 
+    /**
+     * <p>spiWrite using the memory of a direct buffer, without copying or pinning a Java array.</p>
+     *
+     * @param handle a int.
+     * @param buf a direct {@link ByteBuffer}; its position and limit are not used or modified.
+     * @param offset starting position in buffer
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int spiWriteDirect(int handle, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>spiXfer.</p>
      *
@@ -833,6 +959,19 @@ public class PIGPIO {
         return spiXfer(handle, txBuf, 0, rxBuf, 0, count);
     }
 
+    /**
+     * <p>spiXfer using the memory of a direct buffer, without copying or pinning a Java array.</p>
+     *
+     * @param handle a int.
+     * @param txBuf a direct {@link ByteBuffer} holding the data to write.
+     * @param txOffset position in txBuf to start
+     * @param rxBuf a direct {@link ByteBuffer} receiving the data read.
+     * @param rxOffset position in rxBuf to start
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int spiXferDirect(int handle, ByteBuffer txBuf, int txOffset, ByteBuffer rxBuf, int rxOffset, int count);
+
     /**
      * <p>serOpen.</p>
      *
@@ -898,6 +1037,17 @@ public class PIGPIO {
         return serWrite(handle, buf, 0, count);
     }
 
+    /**
+     * <p>serWrite using the memory of a direct buffer, without copying or pinning a Java array.</p>
+     *
+     * @param handle a int.
+     * @param buf a direct {@link ByteBuffer}; its position and limit are not used or modified.
+     * @param offset starting position in buffer
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int serWriteDirect(int handle, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>serRead.</p>
      *
@@ -921,6 +1071,17 @@ public class PIGPIO {
         return serRead(handle, buf, 0 , count);
     }
 
+    /**
+     * <p>serRead using the memory of a direct buffer, without copying or pinning a Java array.</p>
+     *
+     * @param handle a int.
+     * @param buf a direct {@link ByteBuffer}; its position and limit are not used or modified.
+     * @param offset starting position in buffer
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int serReadDirect(int handle, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>serDataAvailable.</p>
      *
@@ -0,0 +1,152 @@
+package com.pi4j.library.pigpio.internal;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioEventRing.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>The Java (consumer) side of the native GPIO alert event ring.</p>
+ *
+ * <p>The native alert callback publishes {@code (gpio, level, tick)} records into a ring in shared memory,
+ * without attaching pigpio's alert thread to the JVM; a single Java thread drains the records in batches.
+ * If the ring is full, the native side drops the record and counts it in {@link #overflows()}.</p>
+ *
+ * <p>Layout of the ring (native byte order; header fields on separate cache lines):</p>
+ * <pre>
+ *   offset   0  uint32  capacity (number of records, a power of two)
+ *   offset   4  uint32  record size (16)
+ *   offset  64  uint32  write sequence, the next sequence reserved by the producers
+ *   offset 128  uint32  read sequence, the next sequence consumed by Java
+ *   offset 192  uint32  overflow counter
+ *   offset 196  uint32  waiting flag of the consumer
+ *   offset 256  records [capacity]:
+ *                  uint32 sequence + 1 once published, int32 gpio, int32 level, uint32 tick
+ * </pre>
+ *
+ * <p>This class is not thread-safe; it must be drained by a single thread.</p>
+ */
+public class PiGpioEventRing {
+
+    /** Size of the ring header in bytes. */
+    public static final int HEADER_SIZE = 256;
+    /** Size of a record in bytes. */
+    public static final int RECORD_SIZE = 16;
+
+    static final int CAPACITY_OFFSET = 0;
+    static final int RECORD_SIZE_OFFSET = 4;
+    static final int WRITE_OFFSET = 64;
+    static final int READ_OFFSET = 128;
+    static final int OVERFLOWS_OFFSET = 192;
+
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+    private final int[] pins;
+    private final int[] states;
+    private final long[] ticks;
+    private int read;
+
+    /**
+     * <p>Constructor for PiGpioEventRing.</p>
+     *
+     * @param buffer the direct buffer returned by {@link PIGPIO#eventRingOpen(int)}
+     * @param batchSize the maximum number of records passed to the callback at once
+     */
+    public PiGpioEventRing(ByteBuffer buffer, int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("batchSize must be positive");
+        this.buffer = buffer.duplicate().order(ByteOrder.nativeOrder());
+        this.capacity = (int) INT.getAcquire(this.buffer, CAPACITY_OFFSET);
+        if (capacity < 2 || Integer.bitCount(capacity) != 1
+                || (int) INT.get(this.buffer, RECORD_SIZE_OFFSET) != RECORD_SIZE
+                || this.buffer.capacity() < HEADER_SIZE + capacity * RECORD_SIZE)
+            throw new IllegalArgumentException("Invalid event ring");
+        this.mask = capacity - 1;
+        this.read = (int) INT.getAcquire(this.buffer, READ_OFFSET);
+        this.pins = new int[batchSize];
+        this.states = new int[batchSize];
+        this.ticks = new long[batchSize];
+    }
+
+    /**
+     * @return the number of records the ring holds
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the number of records reserved by the producers and not yet drained
+     */
+    public int pending() {
+        return (int) INT.getAcquire(buffer, WRITE_OFFSET) - read;
+    }
+
+    /**
+     * @return the number of records dropped because the ring was full
+     */
+    public long overflows() {
+        return Integer.toUnsignedLong((int) INT.getAcquire(buffer, OVERFLOWS_OFFSET));
+    }
+
+    /**
+     * Pass all published records to a callback, in batches, and release their slots to the producers
+     *
+     * @param callback the callback
+     * @return the number of records drained
+     */
+    public int drain(PiGpioAlertBatchCallback callback) {
+        int total = 0;
+        int count;
+        do {
+            count = 0;
+            while (count < pins.length) {
+                int offset = HEADER_SIZE + (read & mask) * RECORD_SIZE;
+                if ((int) INT.getAcquire(buffer, offset) != read + 1)
+                    break;
+                pins[count] = buffer.getInt(offset + 4);
+                states[count] = buffer.getInt(offset + 8);
+                ticks[count] = Integer.toUnsignedLong(buffer.getInt(offset + 12));
+                count++;
+                read++;
+            }
+            if (count > 0) {
+                // release the slots before the callback, so that producers are not blocked by slow listeners
+                INT.setRelease(buffer, READ_OFFSET, read);
+                callback.call(count, pins, states, ticks);
+                total += count;
+            }
+        } while (count == pins.length);
+        return total;
+    }
+}
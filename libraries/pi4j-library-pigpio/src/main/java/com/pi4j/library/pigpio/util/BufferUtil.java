@@ -0,0 +1,56 @@
+package com.pi4j.library.pigpio.util;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  BufferUtil.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>Helpers for the byte buffer variants of the PIGPIO functions, which are implemented on top of the
+ * byte array variants.</p>
+ */
+public class BufferUtil {
+
+    private BufferUtil() {
+        // static helpers only
+    }
+
+    /**
+     * Copy bytes of a buffer that has no accessible array, such as a direct or a read-only buffer
+     *
+     * @param buffer the buffer; its position and limit are not changed
+     * @param offset the index of the first byte to copy
+     * @param length the number of bytes to copy
+     * @return a new array holding the bytes
+     */
+    public static byte[] copy(ByteBuffer buffer, int offset, int length) {
+        byte[] data = new byte[length];
+        buffer.duplicate().position(offset).get(data);
+        return data;
+    }
+}
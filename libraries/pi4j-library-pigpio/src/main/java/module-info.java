@@ -29,6 +29,9 @@ module com.pi4j.library.pigpio {
     // SLF4J
     requires org.slf4j;
 
+    // PI4J
+    requires com.pi4j;
+
     // EXPORTS
     exports  com.pi4j.library.pigpio;
 }
@@ -27,6 +27,11 @@
 #include <jni.h>
 #include <stdio.h>
 #include <stdlib.h>
+#include <stdint.h>
+#include <string.h>
+#include <errno.h>
+#include <time.h>
+#include <pthread.h>
 #include <pigpio.h>
 #include "com_pi4j_library_pigpio_internal_PIGPIO.h"
 
@@ -74,6 +79,43 @@ struct _PiGpioCallback eventCallbacks[PI_MAX_EVENT+1];
  */
 struct _PiGpioCallback signalCallbacks[PI_MAX_SIGNUM+1];
 
+/*
+ * GPIO Alert Event Ring
+ *
+ * Shared memory ring of GPIO alert records; written by the pigpio alert thread (without attaching
+ * to the JVM) and drained in batches by a Java thread through a direct ByteBuffer.  The layout is
+ * mirrored by com.pi4j.library.pigpio.internal.PiGpioEventRing; the producer, consumer and
+ * counter fields are kept on separate cache lines.
+ */
+struct _PiGpioEventRing
+{
+    uint32_t capacity;              // offset   0: number of records (power of two)
+    uint32_t recordSize;            // offset   4: size of a record in bytes
+    uint8_t  reserved0[56];
+    uint32_t write;                 // offset  64: next sequence to reserve (producers)
+    uint8_t  reserved1[60];
+    uint32_t read;                  // offset 128: next sequence to consume (Java consumer)
+    uint8_t  reserved2[60];
+    uint32_t overflows;             // offset 192: records dropped because the ring was full
+    uint32_t waiting;               // offset 196: non-zero while the consumer waits for records
+    uint8_t  reserved3[56];
+};
+
+struct _PiGpioEventRecord
+{
+    uint32_t sequence;              // sequence + 1 once the record is published
+    int32_t  gpio;
+    int32_t  level;
+    uint32_t tick;
+};
+
+struct _PiGpioEventRing *eventRing = NULL;
+struct _PiGpioEventRecord *eventRecords = NULL;
+jobject eventRingBuffer = NULL;
+int eventRingWakeup = 0;
+pthread_mutex_t eventRingMutex = PTHREAD_MUTEX_INITIALIZER;
+pthread_cond_t eventRingCondition = PTHREAD_COND_INITIALIZER;
+
 
 // *****************************************************************************************************
 // *****************************************************************************************************
@@ -396,6 +438,28 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSetSigna
     return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRead_Bits_0_31
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_10_131
+  (JNIEnv *env, jclass class)
+{
+    return (jint)gpioRead_Bits_0_31();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRead_Bits_32_53
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_132_153
+  (JNIEnv *env, jclass class)
+{
+    return (jint)gpioRead_Bits_32_53();
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    gpioSetSignalFuncEx
@@ -827,6 +891,170 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSetAlert
     return result;
 }
 
+// *****************************************************************************************************
+// *****************************************************************************************************
+// GPIO ALERT EVENT RING IMPLEMENTATION
+// *****************************************************************************************************
+// *****************************************************************************************************
+
+void gpioAlertRingDelegate(int gpio, int level, uint32_t tick)
+{
+    struct _PiGpioEventRing *ring = __atomic_load_n(&eventRing, __ATOMIC_ACQUIRE);
+    if(ring == NULL){
+        return;
+    }
+
+    // reserve a sequence; drop the record if the consumer has not yet released its slot
+    uint32_t sequence = __atomic_load_n(&ring->write, __ATOMIC_RELAXED);
+    do {
+        if(sequence - __atomic_load_n(&ring->read, __ATOMIC_ACQUIRE) >= ring->capacity){
+            __atomic_fetch_add(&ring->overflows, 1, __ATOMIC_RELAXED);
+            return;
+        }
+    } while(!__atomic_compare_exchange_n(&ring->write, &sequence, sequence + 1, 1, __ATOMIC_ACQ_REL, __ATOMIC_RELAXED));
+
+    // fill and publish the record
+    struct _PiGpioEventRecord *record = &eventRecords[sequence & (ring->capacity - 1)];
+    record->gpio = gpio;
+    record->level = level;
+    record->tick = tick;
+    __atomic_store_n(&record->sequence, sequence + 1, __ATOMIC_SEQ_CST);
+
+    // only signal (a system call) if the consumer is waiting
+    if(__atomic_load_n(&ring->waiting, __ATOMIC_SEQ_CST)){
+        pthread_mutex_lock(&eventRingMutex);
+        pthread_cond_signal(&eventRingCondition);
+        pthread_mutex_unlock(&eventRingMutex);
+    }
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    eventRingOpen
+ * Signature: (I)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_eventRingOpen
+  (JNIEnv *env, jclass class, jint capacity)
+{
+    pthread_mutex_lock(&eventRingMutex);
+    if(eventRing == NULL){
+        // the capacity must be a power of two
+        if(capacity < 2 || (capacity & (capacity - 1)) != 0){
+            pthread_mutex_unlock(&eventRingMutex);
+            printf("NATIVE (PIGPIO::eventRingOpen) ERROR; INVALID CAPACITY: %d;\n", capacity);
+            return NULL;
+        }
+
+        // the ring lives as long as the process; it is never freed
+        size_t size = sizeof(struct _PiGpioEventRing) + (size_t)capacity * sizeof(struct _PiGpioEventRecord);
+        void *memory = NULL;
+        if(posix_memalign(&memory, 64, size) != 0){
+            pthread_mutex_unlock(&eventRingMutex);
+            printf("NATIVE (PIGPIO::eventRingOpen) ERROR; UNABLE TO ALLOCATE %zu BYTES;\n", size);
+            return NULL;
+        }
+        memset(memory, 0, size);
+
+        struct _PiGpioEventRing *ring = (struct _PiGpioEventRing *)memory;
+        ring->capacity = (uint32_t)capacity;
+        ring->recordSize = sizeof(struct _PiGpioEventRecord);
+        eventRecords = (struct _PiGpioEventRecord *)((uint8_t *)memory + sizeof(struct _PiGpioEventRing));
+        eventRingBuffer = (*env)->NewGlobalRef(env, (*env)->NewDirectByteBuffer(env, memory, (jlong)size));
+        __atomic_store_n(&eventRing, ring, __ATOMIC_RELEASE);
+    }
+    pthread_mutex_unlock(&eventRingMutex);
+    return (*env)->NewLocalRef(env, eventRingBuffer);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    eventRingWait
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_eventRingWait
+  (JNIEnv *env, jclass class, jint timeout)
+{
+    struct _PiGpioEventRing *ring = __atomic_load_n(&eventRing, __ATOMIC_ACQUIRE);
+    if(ring == NULL){
+        return PI_NOT_INITIALISED;
+    }
+
+    if(timeout > 0){
+        struct timespec deadline;
+        clock_gettime(CLOCK_REALTIME, &deadline);
+        deadline.tv_sec += timeout / 1000;
+        deadline.tv_nsec += (long)(timeout % 1000) * 1000000L;
+        if(deadline.tv_nsec >= 1000000000L){
+            deadline.tv_sec++;
+            deadline.tv_nsec -= 1000000000L;
+        }
+
+        pthread_mutex_lock(&eventRingMutex);
+        __atomic_store_n(&ring->waiting, 1, __ATOMIC_SEQ_CST);
+        while(!eventRingWakeup &&
+              __atomic_load_n(&ring->write, __ATOMIC_SEQ_CST) == __atomic_load_n(&ring->read, __ATOMIC_SEQ_CST)){
+            if(pthread_cond_timedwait(&eventRingCondition, &eventRingMutex, &deadline) == ETIMEDOUT){
+                break;
+            }
+        }
+        __atomic_store_n(&ring->waiting, 0, __ATOMIC_SEQ_CST);
+        eventRingWakeup = 0;
+        pthread_mutex_unlock(&eventRingMutex);
+    }
+    return (jint)(__atomic_load_n(&ring->write, __ATOMIC_ACQUIRE) - __atomic_load_n(&ring->read, __ATOMIC_ACQUIRE));
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    eventRingWake
+ * Signature: ()V
+ */
+JNIEXPORT void JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_eventRingWake
+  (JNIEnv *env, jclass class)
+{
+    pthread_mutex_lock(&eventRingMutex);
+    eventRingWakeup = 1;
+    pthread_cond_broadcast(&eventRingCondition);
+    pthread_mutex_unlock(&eventRingMutex);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioSetAlertRing
+ * Signature: (IZ)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSetAlertRing
+  (JNIEnv *env, jclass class, jint user_gpio, jboolean enabled)
+{
+    // validate the user requested GPIO pin
+    if(user_gpio > PI_MAX_USER_GPIO){
+        printf("NATIVE (PIGPIO::gpioSetAlertRing) ERROR; INVALID GPIO PIN; SUPPORTED PINS: <0-31>;\n");
+        return PI_BAD_USER_GPIO;
+    }
+
+    // the ring must be opened first
+    if(enabled && __atomic_load_n(&eventRing, __ATOMIC_ACQUIRE) == NULL){
+        printf("NATIVE (PIGPIO::gpioSetAlertRing) ERROR; EVENT RING NOT OPEN;\n");
+        return PI_NOT_INITIALISED;
+    }
+
+    // replace (or remove) any registered alert function for this gpio pin
+    jint result = gpioSetAlertFunc((unsigned)user_gpio, enabled ? gpioAlertRingDelegate : NULL);
+
+    // destroy any global references to a Java callback for this gpio pin
+    if(gpioAlertCallbacks[user_gpio].callback != NULL){
+        (*env)->DeleteGlobalRef(env, gpioAlertCallbacks[user_gpio].callback);
+    }
+    if(gpioAlertCallbacks[user_gpio].userdata != NULL){
+        (*env)->DeleteGlobalRef(env, gpioAlertCallbacks[user_gpio].userdata);
+    }
+    gpioAlertCallbacks[user_gpio].callback = NULL;
+    gpioAlertCallbacks[user_gpio].class = NULL;
+    gpioAlertCallbacks[user_gpio].method = 0;
+    gpioAlertCallbacks[user_gpio].userdata = NULL;
+    return result;
+}
+
 // *****************************************************************************************************
 // *****************************************************************************************************
 // GPIO INTERRUPTS (and callbacks) IMPLEMENTATION
@@ -1339,6 +1567,23 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioGetServo
 // *****************************************************************************************************
 // *****************************************************************************************************
 
+/*
+ * Resolve the native address of a direct NIO buffer at the given offset; the byte count is
+ * bounded to the buffer's capacity (minus offset).  Returns NULL if the object is not a direct
+ * buffer or the offset lies outside of the buffer.  The address remains valid for as long as
+ * the Java side holds a reference to the buffer, so no pinning or copying is required.
+ */
+static char *directBufferAddress(JNIEnv *env, jobject data, jint offset, jint count, unsigned *length)
+{
+    char *address = (char *)(*env)->GetDirectBufferAddress(env, data);
+    jlong capacity = (*env)->GetDirectBufferCapacity(env, data);
+
+    if (address == NULL || capacity < 0 || offset < 0 || count < 0 || offset > capacity) return NULL;
+
+    *length = (count > capacity - offset) ? (unsigned)(capacity - offset) : (unsigned)count;
+    return address + offset;
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cOpen
@@ -1482,6 +1727,23 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteBloc
 
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cWriteBlockDataDirect
+ * Signature: (IILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteBlockDataDirect
+  (JNIEnv *env, jclass class, jint handle, jint i2cReg, jobject data, jint offset, jint count)
+{
+    // resolve the native address of the direct buffer at the given offset
+    unsigned length;
+    char *buffer = directBufferAddress(env, data, offset, count, &length);
+    if (buffer == NULL) return PI_BAD_PARAM;
+
+    // perform the actual I2C write operation directly from the buffer memory
+    return i2cWriteBlockData((unsigned)handle, (unsigned)i2cReg, buffer, length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cReadBlockData
@@ -1506,6 +1768,24 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadBlock
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cReadBlockDataDirect
+ * Signature: (IILjava/nio/ByteBuffer;I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadBlockDataDirect
+  (JNIEnv *env, jclass class, jint handle, jint i2cReg, jobject data, jint offset)
+{
+    // resolve the native address of the direct buffer at the given offset; the device
+    // may return up to 32 bytes, so the buffer must provide at least that much space
+    unsigned length;
+    char *buffer = directBufferAddress(env, data, offset, 32, &length);
+    if (buffer == NULL || length < 32) return PI_BAD_PARAM;
+
+    // perform the actual I2C read operation directly into the buffer memory
+    return i2cReadBlockData((unsigned)handle, (unsigned)i2cReg, buffer);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cBlockProcessCall
@@ -1566,6 +1846,23 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadI2CBl
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cReadI2CBlockDataDirect
+ * Signature: (IILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadI2CBlockDataDirect
+  (JNIEnv *env, jclass class, jint handle, jint i2cReg, jobject data, jint offset, jint count)
+{
+    // resolve the native address of the direct buffer at the given offset
+    unsigned length;
+    char *buffer = directBufferAddress(env, data, offset, count, &length);
+    if (buffer == NULL) return PI_BAD_PARAM;
+
+    // perform the actual I2C read operation directly into the buffer memory
+    return i2cReadI2CBlockData((unsigned)handle, (unsigned)i2cReg, buffer, length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cWriteI2CBlockData
@@ -1596,6 +1893,23 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteI2CB
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cWriteI2CBlockDataDirect
+ * Signature: (IILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteI2CBlockDataDirect
+  (JNIEnv *env, jclass class, jint handle, jint i2cReg, jobject data, jint offset, jint count)
+{
+    // resolve the native address of the direct buffer at the given offset
+    unsigned length;
+    char *buffer = directBufferAddress(env, data, offset, count, &length);
+    if (buffer == NULL) return PI_BAD_PARAM;
+
+    // perform the actual I2C write operation directly from the buffer memory
+    return i2cWriteI2CBlockData((unsigned)handle, (unsigned)i2cReg, buffer, length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cReadDevice
@@ -1626,6 +1940,23 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadDevic
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cReadDeviceDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadDeviceDirect
+  (JNIEnv *env, jclass class, jint handle, jobject data, jint offset, jint count)
+{
+    // resolve the native address of the direct buffer at the given offset
+    unsigned length;
+    char *buffer = directBufferAddress(env, data, offset, count, &length);
+    if (buffer == NULL) return PI_BAD_PARAM;
+
+    // perform the actual I2C read operation directly into the buffer memory
+    return i2cReadDevice((unsigned)handle, buffer, length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cWriteDevice
@@ -1656,6 +1987,23 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteDevi
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cWriteDeviceDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteDeviceDirect
+  (JNIEnv *env, jclass class, jint handle, jobject data, jint offset, jint count)
+{
+    // resolve the native address of the direct buffer at the given offset
+    unsigned length;
+    char *buffer = directBufferAddress(env, data, offset, count, &length);
+    if (buffer == NULL) return PI_BAD_PARAM;
+
+    // perform the actual I2C write operation directly from the buffer memory
+    return i2cWriteDevice((unsigned)handle, buffer, length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cSwitchCombined
@@ -1725,6 +2073,23 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiRead
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    spiReadDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiReadDirect
+  (JNIEnv *env, jclass class, jint handle, jobject data, jint offset, jint count)
+{
+    // resolve the native address of the direct buffer at the given offset
+    unsigned length;
+    char *buffer = directBufferAddress(env, data, offset, count, &length);
+    if (buffer == NULL) return PI_BAD_PARAM;
+
+    // perform the actual SPI read operation directly into the buffer memory
+    return spiRead((unsigned)handle, buffer, length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    spiWrite
@@ -1755,6 +2120,23 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiWrite
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    spiWriteDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiWriteDirect
+  (JNIEnv *env, jclass class, jint handle, jobject data, jint offset, jint count)
+{
+    // resolve the native address of the direct buffer at the given offset
+    unsigned length;
+    char *buffer = directBufferAddress(env, data, offset, count, &length);
+    if (buffer == NULL) return PI_BAD_PARAM;
+
+    // perform the actual SPI write operation directly from the buffer memory
+    return spiWrite((unsigned)handle, buffer, length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    spiXfer
@@ -1799,6 +2181,25 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiXfer
 // *****************************************************************************************************
 // *****************************************************************************************************
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    spiXferDirect
+ * Signature: (ILjava/nio/ByteBuffer;ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiXferDirect
+  (JNIEnv *env, jclass class, jint handle, jobject writeData, jint writeOffset, jobject readData, jint readOffset, jint count)
+{
+    // resolve the native addresses of both direct buffers at their offsets; the transfer
+    // length is bounded by the space available in either buffer
+    unsigned writeLength, readLength;
+    char *writeBuffer = directBufferAddress(env, writeData, writeOffset, count, &writeLength);
+    char *readBuffer = directBufferAddress(env, readData, readOffset, count, &readLength);
+    if (writeBuffer == NULL || readBuffer == NULL) return PI_BAD_PARAM;
+
+    // perform the actual SPI transfer directly between the buffer memories
+    return spiXfer((unsigned)handle, writeBuffer, readBuffer, (writeLength < readLength) ? writeLength : readLength);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    serOpen
@@ -1890,6 +2291,23 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serWrite
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    serWriteDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serWriteDirect
+  (JNIEnv *env, jclass class, jint handle, jobject data, jint offset, jint count)
+{
+    // resolve the native address of the direct buffer at the given offset
+    unsigned length;
+    char *buffer = directBufferAddress(env, data, offset, count, &length);
+    if (buffer == NULL) return PI_BAD_PARAM;
+
+    // perform the actual serial write operation directly from the buffer memory
+    return serWrite((unsigned)handle, buffer, length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    serRead
@@ -1920,6 +2338,23 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serRead
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    serReadDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serReadDirect
+  (JNIEnv *env, jclass class, jint handle, jobject data, jint offset, jint count)
+{
+    // resolve the native address of the direct buffer at the given offset
+    unsigned length;
+    char *buffer = directBufferAddress(env, data, offset, count, &length);
+    if (buffer == NULL) return PI_BAD_PARAM;
+
+    // perform the actual serial read operation directly into the buffer memory
+    return serRead((unsigned)handle, buffer, length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    serDataAvailable
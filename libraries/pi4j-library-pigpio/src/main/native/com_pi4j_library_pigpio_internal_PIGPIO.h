@@ -178,6 +178,38 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSetAlert
 JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSetAlertFuncEx
   (JNIEnv *, jclass, jint, jobject, jobject);
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    eventRingOpen
+ * Signature: (I)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_eventRingOpen
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    eventRingWait
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_eventRingWait
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    eventRingWake
+ * Signature: ()V
+ */
+JNIEXPORT void JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_eventRingWake
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioSetAlertRing
+ * Signature: (IZ)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSetAlertRing
+  (JNIEnv *, jclass, jint, jboolean);
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    gpioSetISRFunc
@@ -354,6 +386,14 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cProcessCa
 JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteBlockData
   (JNIEnv *, jclass, jint, jint, jbyteArray, jint, jint);
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cWriteBlockDataDirect
+ * Signature: (IILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteBlockDataDirect
+  (JNIEnv *, jclass, jint, jint, jobject, jint, jint);
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cReadBlockData
@@ -362,6 +402,14 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteBloc
 JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadBlockData
   (JNIEnv *, jclass, jint, jint, jbyteArray, jint);
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cReadBlockDataDirect
+ * Signature: (IILjava/nio/ByteBuffer;I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadBlockDataDirect
+  (JNIEnv *, jclass, jint, jint, jobject, jint);
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cBlockProcessCall
@@ -378,6 +426,14 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cBlockProc
 JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadI2CBlockData
   (JNIEnv *, jclass, jint, jint, jbyteArray, jint, jint);
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cReadI2CBlockDataDirect
+ * Signature: (IILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadI2CBlockDataDirect
+  (JNIEnv *, jclass, jint, jint, jobject, jint, jint);
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cWriteI2CBlockData
@@ -386,6 +442,14 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadI2CBl
 JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteI2CBlockData
   (JNIEnv *, jclass, jint, jint, jbyteArray, jint, jint);
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cWriteI2CBlockDataDirect
+ * Signature: (IILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteI2CBlockDataDirect
+  (JNIEnv *, jclass, jint, jint, jobject, jint, jint);
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cReadDevice
@@ -394,6 +458,14 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteI2CB
 JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadDevice
   (JNIEnv *, jclass, jint, jbyteArray, jint, jint);
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cReadDeviceDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadDeviceDirect
+  (JNIEnv *, jclass, jint, jobject, jint, jint);
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cWriteDevice
@@ -402,6 +474,14 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadDevic
 JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteDevice
   (JNIEnv *, jclass, jint, jbyteArray, jint, jint);
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cWriteDeviceDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteDeviceDirect
+  (JNIEnv *, jclass, jint, jobject, jint, jint);
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cSwitchCombined
@@ -490,6 +570,14 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiClose
 JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiRead
   (JNIEnv *, jclass, jint, jbyteArray, jint, jint);
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    spiReadDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiReadDirect
+  (JNIEnv *, jclass, jint, jobject, jint, jint);
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    spiWrite
@@ -498,6 +586,14 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiRead
 JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiWrite
   (JNIEnv *, jclass, jint, jbyteArray, jint, jint);
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    spiWriteDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiWriteDirect
+  (JNIEnv *, jclass, jint, jobject, jint, jint);
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    spiXfer
@@ -506,6 +602,14 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiWrite
 JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiXfer
   (JNIEnv *, jclass, jint, jbyteArray, jint, jbyteArray, jint, jint);
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    spiXferDirect
+ * Signature: (ILjava/nio/ByteBuffer;ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiXferDirect
+  (JNIEnv *, jclass, jint, jobject, jint, jobject, jint, jint);
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    serOpen
@@ -546,6 +650,14 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serReadByte
 JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serWrite
   (JNIEnv *, jclass, jint, jbyteArray, jint, jint);
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    serWriteDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serWriteDirect
+  (JNIEnv *, jclass, jint, jobject, jint, jint);
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    serRead
@@ -554,6 +666,14 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serWrite
 JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serRead
   (JNIEnv *, jclass, jint, jbyteArray, jint, jint);
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    serReadDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serReadDirect
+  (JNIEnv *, jclass, jint, jobject, jint, jint);
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    serDataAvailable
@@ -666,22 +786,22 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSetSigna
 JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSetSignalFuncEx
   (JNIEnv *, jclass, jint, jobject, jobject);
 
-///*
-// * Class:     com_pi4j_library_pigpio_internal_PIGPIO
-// * Method:    gpioRead_Bits_0_31
-// * Signature: ()I
-// */
-//JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_10_131
-//  (JNIEnv *, jclass);
-//
-///*
-// * Class:     com_pi4j_library_pigpio_internal_PIGPIO
-// * Method:    gpioRead_Bits_32_53
-// * Signature: ()I
-// */
-//JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_132_153
-//  (JNIEnv *, jclass);
-//
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRead_Bits_0_31
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_10_131
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRead_Bits_32_53
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_132_153
+  (JNIEnv *, jclass);
+
 ///*
 // * Class:     com_pi4j_library_pigpio_internal_PIGPIO
 // * Method:    gpioWrite_Bits_0_31_Clear
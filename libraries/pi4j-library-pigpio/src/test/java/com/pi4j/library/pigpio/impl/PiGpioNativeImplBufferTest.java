@@ -0,0 +1,159 @@
+package com.pi4j.library.pigpio.impl;
+
+import com.pi4j.library.pigpio.PiGpioException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Direct buffers go to the native library in place; all other buffers fall back to the byte array
+ * functions, which are replaced here by a loopback device.  Without a native library, the direct path
+ * stops at the readiness check of the (uninitialized) library.
+ */
+class PiGpioNativeImplBufferTest {
+
+    private static final byte[] DATA = {1, 2, 3, 4, 5, 6, 7, 8};
+
+    @Test
+    void testHeapBuffers() {
+        LoopbackNativeImpl piGpio = new LoopbackNativeImpl();
+
+        ByteBuffer write = ByteBuffer.wrap(DATA);
+        ByteBuffer read = ByteBuffer.allocate(8);
+        assertEquals(4, piGpio.spiXfer(0, write, 2, read, 1, 4));
+        assertArrayEquals(new byte[]{0, 3, 4, 5, 6, 0, 0, 0}, read.array());
+        assertEquals(5, read.position());
+
+        // a buffer sliced from a larger array
+        piGpio.written.reset();
+        ByteBuffer slice = ByteBuffer.wrap(DATA.clone(), 4, 4).slice();
+        assertEquals(4, piGpio.spiXfer(0, slice, 0, 4));
+        assertArrayEquals(new byte[]{5, 6, 7, 8}, piGpio.written.toByteArray());
+        assertEquals(4, slice.position());
+
+        piGpio.written.reset();
+        piGpio.spiWrite(0, slice, 1, 10);
+        piGpio.serWrite(0, slice, 2, 2);
+        piGpio.i2cWriteDevice(0, slice, 3, 1);
+        assertArrayEquals(new byte[]{6, 7, 8, 7, 8, 8}, piGpio.written.toByteArray());
+
+        ByteBuffer serial = ByteBuffer.allocate(4);
+        assertEquals(3, piGpio.serRead(0, serial, 1, 3));
+        assertArrayEquals(new byte[]{0, 1, 2, 3}, serial.array());
+        assertEquals(6, piGpio.arrayCalls);
+    }
+
+    @Test
+    void testReadOnlyBuffers() {
+        LoopbackNativeImpl piGpio = new LoopbackNativeImpl();
+        ByteBuffer heap = ByteBuffer.wrap(DATA).asReadOnlyBuffer();
+        ByteBuffer direct = ByteBuffer.allocateDirect(8).put(DATA).asReadOnlyBuffer();
+
+        piGpio.spiWrite(0, heap, 6, 2);
+        piGpio.serWrite(0, heap, 0, 1);
+        piGpio.i2cWriteDevice(0, heap, 7, 1);
+        assertArrayEquals(new byte[]{7, 8, 1, 8}, piGpio.written.toByteArray());
+
+        // a direct buffer paired with a heap buffer is copied as well
+        ByteBuffer read = ByteBuffer.allocate(3);
+        assertEquals(3, piGpio.spiXfer(0, direct, 1, read, 0, 3));
+        assertArrayEquals(new byte[]{2, 3, 4}, read.array());
+        assertEquals(8, direct.position());
+
+        // the data read can not be stored in a read-only buffer
+        assertThrows(ReadOnlyBufferException.class, () -> piGpio.spiRead(0, direct, 0, 2));
+        assertThrows(ReadOnlyBufferException.class, () -> piGpio.spiXfer(0, heap, 0, 2));
+
+        // the fallback leaves the position and limit of the source buffer alone
+        assertEquals(0, heap.position());
+        assertEquals(8, heap.limit());
+    }
+
+    @Test
+    void testDirectBuffers() {
+        LoopbackNativeImpl piGpio = new LoopbackNativeImpl();
+        ByteBuffer write = ByteBuffer.allocateDirect(8).put(DATA);
+        ByteBuffer read = ByteBuffer.allocateDirect(8);
+
+        assertThrows(PiGpioException.class, () -> piGpio.spiXfer(0, write, 0, read, 0, 8));
+        assertThrows(PiGpioException.class, () -> piGpio.spiXfer(0, read, 0, 8));
+        assertThrows(PiGpioException.class, () -> piGpio.spiWrite(0, write, 0, 8));
+        assertThrows(PiGpioException.class, () -> piGpio.spiRead(0, read, 0, 8));
+        assertThrows(PiGpioException.class, () -> piGpio.serWrite(0, write, 0, 8));
+        assertThrows(PiGpioException.class, () -> piGpio.serRead(0, read, 0, 8));
+        assertThrows(PiGpioException.class, () -> piGpio.i2cWriteDevice(0, write, 0, 8));
+        assertThrows(PiGpioException.class, () -> piGpio.i2cReadDevice(0, read, 0, 8));
+
+        // the bounds are checked against the buffer before any native call
+        assertThrows(IndexOutOfBoundsException.class, () -> piGpio.spiWrite(0, write, 9, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> piGpio.spiXfer(0, write, 0, ByteBuffer.allocateDirect(4), 0, 8));
+        assertEquals(0, piGpio.arrayCalls);
+    }
+
+    /**
+     * Replaces the native byte array functions: SPI transfers echo the bytes written, reads return
+     * 1, 2, 3, ... and all written bytes are recorded.
+     */
+    private static class LoopbackNativeImpl extends PiGpioNativeImpl {
+
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        int arrayCalls;
+
+        @Override
+        public int spiXfer(int handle, byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
+            arrayCalls++;
+            written.write(write, writeOffset, numberOfBytes);
+            System.arraycopy(write, writeOffset, read, readOffset, numberOfBytes);
+            return numberOfBytes;
+        }
+
+        @Override
+        public int spiWrite(int handle, byte[] data, int offset, int length) {
+            return write(data, offset, length);
+        }
+
+        @Override
+        public int spiRead(int handle, byte[] buffer, int offset, int length) {
+            return read(buffer, offset, length);
+        }
+
+        @Override
+        public int serWrite(int handle, byte[] data, int offset, int length) {
+            write(data, offset, length);
+            return 0;
+        }
+
+        @Override
+        public int serRead(int handle, byte[] buffer, int offset, int length) {
+            return read(buffer, offset, length);
+        }
+
+        @Override
+        public int i2cWriteDevice(int handle, byte[] data, int offset, int length) {
+            write(data, offset, length);
+            return 0;
+        }
+
+        @Override
+        public int i2cReadDevice(int handle, byte[] buffer, int offset, int length) {
+            return read(buffer, offset, length);
+        }
+
+        private int write(byte[] data, int offset, int length) {
+            arrayCalls++;
+            written.write(data, offset, length);
+            return length;
+        }
+
+        private int read(byte[] buffer, int offset, int length) {
+            arrayCalls++;
+            for (int i = 0; i < length; i++)
+                buffer[offset + i] = (byte) (i + 1);
+            return length;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.pi4j.library.pigpio.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.pi4j.library.pigpio.internal.PiGpioEventRing.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PiGpioEventRingTest {
+
+    @Test
+    void testDecodeRecords() {
+        ByteBuffer ring = ring(8, 0);
+        publish(ring, 8, 0, 17, 1, 1000);
+        publish(ring, 8, 1, 18, 0, 0xFFFFFFF0L);
+        assertEquals(2, new PiGpioEventRing(ring, 16).pending());
+
+        PiGpioEventRing events = new PiGpioEventRing(ring, 16);
+        List<long[]> drained = new ArrayList<>();
+        assertEquals(2, events.drain(collect(drained)));
+        assertArrayEquals(new long[]{17, 1, 1000}, drained.get(0));
+        assertArrayEquals(new long[]{18, 0, 0xFFFFFFF0L}, drained.get(1));
+
+        // the slots are handed back to the producers
+        assertEquals(2, ring.getInt(READ_OFFSET));
+        assertEquals(0, events.pending());
+        assertEquals(0, events.drain(collect(drained)));
+    }
+
+    @Test
+    void testBatches() {
+        ByteBuffer ring = ring(8, 0);
+        for (int i = 0; i < 5; i++)
+            publish(ring, 8, i, i, 1, i);
+
+        List<Integer> batches = new ArrayList<>();
+        PiGpioEventRing events = new PiGpioEventRing(ring, 2);
+        assertEquals(5, events.drain((count, pins, states, ticks) -> batches.add(count)));
+        assertEquals(List.of(2, 2, 1), batches);
+    }
+
+    @Test
+    void testUnpublishedRecord() {
+        ByteBuffer ring = ring(8, 0);
+        publish(ring, 8, 0, 4, 1, 10);
+        // reserved by a producer that has not published it yet
+        ring.putInt(WRITE_OFFSET, 2);
+        publish(ring, 8, 2, 6, 1, 30);
+        ring.putInt(WRITE_OFFSET, 3);
+
+        PiGpioEventRing events = new PiGpioEventRing(ring, 16);
+        List<long[]> drained = new ArrayList<>();
+        assertEquals(1, events.drain(collect(drained)));
+        assertEquals(2, events.pending());
+
+        publish(ring, 8, 1, 5, 0, 20);
+        ring.putInt(WRITE_OFFSET, 3);
+        assertEquals(2, events.drain(collect(drained)));
+        assertEquals(List.of(4L, 5L, 6L), List.of(drained.get(0)[0], drained.get(1)[0], drained.get(2)[0]));
+    }
+
+    @Test
+    void testWraparound() {
+        // the sequences wrap around the int range while the slots wrap around the ring
+        int start = Integer.MAX_VALUE - 2;
+        ByteBuffer ring = ring(4, start);
+        PiGpioEventRing events = new PiGpioEventRing(ring, 3);
+        List<long[]> drained = new ArrayList<>();
+        int sequence = start;
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 3; i++, sequence++)
+                publish(ring, 4, sequence, round * 3 + i, i & 1, sequence & 0xFFFFFFFFL);
+            assertEquals(3, events.pending());
+            assertEquals(3, events.drain(collect(drained)));
+            assertEquals(sequence, ring.getInt(READ_OFFSET));
+        }
+        assertEquals(9, drained.size());
+        for (int i = 0; i < drained.size(); i++) {
+            assertEquals(i, drained.get(i)[0]);
+            assertEquals(Integer.toUnsignedLong(start + i), drained.get(i)[2]);
+        }
+    }
+
+    @Test
+    void testOverflows() {
+        ByteBuffer ring = ring(4, 0);
+        PiGpioEventRing events = new PiGpioEventRing(ring, 1);
+        assertEquals(0, events.overflows());
+        ring.putInt(OVERFLOWS_OFFSET, 3);
+        assertEquals(3, events.overflows());
+        ring.putInt(OVERFLOWS_OFFSET, -1);
+        assertEquals(0xFFFFFFFFL, events.overflows());
+    }
+
+    @Test
+    void testInvalidRing() {
+        assertThrows(IllegalArgumentException.class, () -> new PiGpioEventRing(ring(4, 0), 0));
+        ByteBuffer ring = ring(4, 0);
+        ring.putInt(CAPACITY_OFFSET, 3);
+        assertThrows(IllegalArgumentException.class, () -> new PiGpioEventRing(ring, 1));
+        ring.putInt(CAPACITY_OFFSET, 8);
+        assertThrows(IllegalArgumentException.class, () -> new PiGpioEventRing(ring, 1));
+        ring.putInt(CAPACITY_OFFSET, 4).putInt(RECORD_SIZE_OFFSET, 12);
+        assertThrows(IllegalArgumentException.class, () -> new PiGpioEventRing(ring, 1));
+    }
+
+    private static ByteBuffer ring(int capacity, int sequence) {
+        ByteBuffer ring = ByteBuffer.allocateDirect(HEADER_SIZE + capacity * RECORD_SIZE).order(ByteOrder.nativeOrder());
+        ring.putInt(CAPACITY_OFFSET, capacity)
+            .putInt(RECORD_SIZE_OFFSET, RECORD_SIZE)
+            .putInt(WRITE_OFFSET, sequence)
+            .putInt(READ_OFFSET, sequence);
+        return ring;
+    }
+
+    /**
+     * Publish a record the way the native producer does: fill in the record, then its sequence.
+     */
+    private static void publish(ByteBuffer ring, int capacity, int sequence, int gpio, int level, long tick) {
+        int offset = HEADER_SIZE + (sequence & (capacity - 1)) * RECORD_SIZE;
+        ring.putInt(offset + 4, gpio).putInt(offset + 8, level).putInt(offset + 12, (int) tick);
+        ring.putInt(offset, sequence + 1);
+        ring.putInt(WRITE_OFFSET, sequence + 1);
+    }
+
+    private static PiGpioAlertBatchCallback collect(List<long[]> drained) {
+        return (count, pins, states, ticks) -> {
+            for (int i = 0; i < count; i++)
+                drained.add(new long[]{pins[i], states[i], ticks[i]});
+        };
+    }
+}
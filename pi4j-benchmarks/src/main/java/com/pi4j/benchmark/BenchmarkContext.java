@@ -0,0 +1,57 @@
+package com.pi4j.benchmark;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: BENCHMARKS :: JMH Benchmarks
+ * FILENAME      :  BenchmarkContext.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalOutputProvider;
+import com.pi4j.plugin.mock.provider.i2c.MockI2CProvider;
+import com.pi4j.plugin.mock.provider.spi.MockSpiProvider;
+
+/**
+ * <p>Creates the Pi4J contexts the benchmarks run against.</p>
+ *
+ * <p>The mock providers are added explicitly rather than auto-detected, so that the benchmarks do not
+ * depend on the plugins found on the class path and never touch real hardware.</p>
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * @return a new context with the mock digital I/O, I2C and SPI providers
+     */
+    static Context newMockContext() {
+        return Pi4J.newContextBuilder()
+            .add(MockDigitalInputProvider.newInstance())
+            .add(MockDigitalOutputProvider.newInstance())
+            .add(MockI2CProvider.newInstance())
+            .add(MockSpiProvider.newInstance())
+            .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.pi4j.benchmark;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: BENCHMARKS :: JMH Benchmarks
+ * FILENAME      :  ContextCreateBenchmark.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalInputConfig;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Creating and removing an I/O instance with {@link Context#create}, which covers the provider lookup,
+ * the registry and the initialization of the instance.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+@State(Scope.Thread)
+public class ContextCreateBenchmark {
+
+    private Context pi4j;
+    private DigitalInputConfig inputConfig;
+    private DigitalOutputConfig outputConfig;
+
+    @Setup
+    public void setup() {
+        pi4j = BenchmarkContext.newMockContext();
+        inputConfig = DigitalInput.newConfigBuilder(pi4j).id("input").address(5).build();
+        outputConfig = DigitalOutput.newConfigBuilder(pi4j).id("output").address(6).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pi4j.shutdown();
+    }
+
+    @Benchmark
+    public DigitalInput createInput() {
+        DigitalInput input = pi4j.create(inputConfig);
+        pi4j.registry().remove(input.id());
+        return input;
+    }
+
+    @Benchmark
+    public DigitalOutput createOutput() {
+        DigitalOutput output = pi4j.create(outputConfig);
+        pi4j.registry().remove(output.id());
+        return output;
+    }
+}
@@ -0,0 +1,76 @@
+package com.pi4j.benchmark;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: BENCHMARKS :: JMH Benchmarks
+ * FILENAME      :  DigitalOutputBenchmark.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Setting the state of a mock digital output, which includes dispatching the state change event.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+@State(Scope.Thread)
+public class DigitalOutputBenchmark {
+
+    @Param({"0", "1"})
+    public int listeners;
+
+    private Context pi4j;
+    private DigitalOutput output;
+    private boolean high;
+
+    @Setup
+    public void setup() {
+        pi4j = BenchmarkContext.newMockContext();
+        output = pi4j.dout().create(5);
+        for (int i = 0; i < listeners; i++)
+            output.addListener(event -> { });
+    }
+
+    @TearDown
+    public void tearDown() {
+        pi4j.shutdown();
+    }
+
+    @Benchmark
+    public DigitalOutput toggle() {
+        return output.toggle();
+    }
+
+    @Benchmark
+    public DigitalOutput state() {
+        high = !high;
+        return output.state(high ? DigitalState.HIGH : DigitalState.LOW);
+    }
+}
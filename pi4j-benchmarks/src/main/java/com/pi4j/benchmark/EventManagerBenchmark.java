@@ -0,0 +1,77 @@
+package com.pi4j.benchmark;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: BENCHMARKS :: JMH Benchmarks
+ * FILENAME      :  EventManagerBenchmark.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.event.EventManager;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.DigitalStateChangeEvent;
+import com.pi4j.io.gpio.digital.DigitalStateChangeListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Dispatching an event to inline listeners through an {@link EventManager}.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+@State(Scope.Thread)
+public class EventManagerBenchmark {
+
+    @Param({"0", "1", "4"})
+    public int listeners;
+
+    private Context pi4j;
+    private EventManager<DigitalOutput, DigitalStateChangeListener, DigitalStateChangeEvent> manager;
+    private DigitalStateChangeEvent<DigitalOutput> event;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        pi4j = BenchmarkContext.newMockContext();
+        DigitalOutput output = pi4j.dout().create(5);
+        manager = new EventManager<>(output, DigitalStateChangeListener::onDigitalStateChange);
+        for (int i = 0; i < listeners; i++)
+            manager.add(blackhole::consume);
+        event = new DigitalStateChangeEvent<>(output, DigitalState.HIGH);
+    }
+
+    @TearDown
+    public void tearDown() {
+        manager.clear();
+        pi4j.shutdown();
+    }
+
+    @Benchmark
+    public DigitalOutput dispatch() {
+        return manager.dispatch(event);
+    }
+}
@@ -0,0 +1,110 @@
+package com.pi4j.benchmark;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: BENCHMARKS :: JMH Benchmarks
+ * FILENAME      :  FakePiGpioDaemon.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>A minimal stand-in for the pigpio daemon on the loopback interface.</p>
+ *
+ * <p>It answers every command with a successful (zero) result, reading and discarding any extension data
+ * of the command.  It is only meant to measure the client side of the socket protocol; it does not
+ * emulate any GPIO state.</p>
+ */
+final class FakePiGpioDaemon implements Closeable, Runnable {
+
+    private final ServerSocket server;
+    private final Thread thread;
+
+    FakePiGpioDaemon() throws IOException {
+        this.server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        this.thread = new Thread(this, "fake-pigpiod");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * @return host the daemon listens on
+     */
+    String host() {
+        return server.getInetAddress().getHostAddress();
+    }
+
+    /**
+     * @return TCP port the daemon listens on
+     */
+    int port() {
+        return server.getLocalPort();
+    }
+
+    @Override
+    public void run() {
+        while (!server.isClosed()) {
+            try (Socket socket = server.accept()) {
+                socket.setTcpNoDelay(true);
+                serve(socket);
+            } catch (IOException e) {
+                // client disconnected or daemon closed
+            }
+        }
+    }
+
+    private void serve(Socket socket) throws IOException {
+        DataInputStream in = new DataInputStream(socket.getInputStream());
+        OutputStream out = socket.getOutputStream();
+        byte[] header = new byte[16];
+        byte[] response = new byte[16];
+        ByteBuffer rx = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer tx = ByteBuffer.wrap(response).order(ByteOrder.LITTLE_ENDIAN);
+        while (true) {
+            in.readFully(header);
+            int cmd = rx.getInt(0);
+            int p1 = rx.getInt(4);
+            int p2 = rx.getInt(8);
+            int extension = rx.getInt(12);
+            if (extension > 0)
+                in.readFully(new byte[extension]);
+
+            // the response repeats the command and parameters, with the result in place of P3
+            tx.putInt(0, cmd).putInt(4, p1).putInt(8, p2).putInt(12, 0);
+            out.write(response);
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+}
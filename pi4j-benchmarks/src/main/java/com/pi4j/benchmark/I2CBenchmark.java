@@ -0,0 +1,141 @@
+package com.pi4j.benchmark;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: BENCHMARKS :: JMH Benchmarks
+ * FILENAME      :  I2CBenchmark.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.io.i2c.I2C;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>The {@code readRegister} overloads of {@link com.pi4j.io.i2c.I2CRegisterDataReader} and
+ * {@link com.pi4j.io.IODataReader#read(ByteBuffer)} on a mock I2C device.</p>
+ *
+ * <p>The mock device hands out data that was written to it only once, so every read benchmark first writes
+ * the data it reads back; {@link #writeRegister()} and {@link #write()} measure these writes alone.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+@State(Scope.Thread)
+public class I2CBenchmark {
+
+    private static final int REGISTER = 0x10;
+
+    @Param({"1", "16", "64"})
+    public int length;
+
+    private Context pi4j;
+    private I2C i2c;
+    private byte[] data;
+    private byte[] buffer;
+    private char[] chars;
+    private ByteBuffer heapBuffer;
+    private ByteBuffer directBuffer;
+
+    @Setup
+    public void setup() {
+        pi4j = BenchmarkContext.newMockContext();
+        i2c = pi4j.i2c().create(I2C.newConfigBuilder(pi4j).id("i2c").bus(1).device(0x40).build());
+        data = new byte[length];
+        for (int i = 0; i < length; i++)
+            data[i] = (byte) ('A' + i % 26);
+        buffer = new byte[length];
+        chars = new char[length];
+        heapBuffer = ByteBuffer.allocate(length);
+        directBuffer = ByteBuffer.allocateDirect(length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pi4j.shutdown();
+    }
+
+    @Benchmark
+    public int writeRegister() {
+        i2c.writeRegister(REGISTER, data);
+        // drain the register again, so that it does not grow
+        return i2c.readRegister(REGISTER, buffer);
+    }
+
+    @Benchmark
+    public int readRegisterByte() {
+        i2c.writeRegister(REGISTER, data, 0, 1);
+        return i2c.readRegister(REGISTER);
+    }
+
+    @Benchmark
+    public int readRegisterArray() {
+        i2c.writeRegister(REGISTER, data);
+        return i2c.readRegister(REGISTER, buffer, 0, length);
+    }
+
+    @Benchmark
+    public int readRegisterHeapBuffer() {
+        i2c.writeRegister(REGISTER, data);
+        heapBuffer.clear();
+        return i2c.readRegister(REGISTER, heapBuffer);
+    }
+
+    @Benchmark
+    public int readRegisterDirectBuffer() {
+        i2c.writeRegister(REGISTER, data);
+        directBuffer.clear();
+        return i2c.readRegister(REGISTER, directBuffer);
+    }
+
+    @Benchmark
+    public int readRegisterChars() {
+        i2c.writeRegister(REGISTER, data);
+        return i2c.readRegister(REGISTER, StandardCharsets.US_ASCII, chars);
+    }
+
+    @Benchmark
+    public int write() {
+        i2c.write(data);
+        // drain the device again, so that it does not grow
+        return i2c.read(buffer);
+    }
+
+    @Benchmark
+    public int readHeapBuffer() {
+        i2c.write(data);
+        heapBuffer.clear();
+        return i2c.read(heapBuffer);
+    }
+
+    @Benchmark
+    public int readDirectBuffer() {
+        i2c.write(data);
+        directBuffer.clear();
+        return i2c.read(directBuffer);
+    }
+}
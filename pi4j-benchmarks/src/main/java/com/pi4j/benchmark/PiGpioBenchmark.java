@@ -0,0 +1,109 @@
+package com.pi4j.benchmark;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: BENCHMARKS :: JMH Benchmarks
+ * FILENAME      :  PiGpioBenchmark.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioState;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Encoding and decoding of {@link PiGpioPacket}s, and a full command round trip of the pigpio socket
+ * client against a {@link FakePiGpioDaemon} on the loopback interface.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+@State(Scope.Thread)
+public class PiGpioBenchmark {
+
+    private PiGpioPacket command;
+    private PiGpioPacket extended;
+    private byte[] encoded;
+    private byte[] encodedExtended;
+    private ByteArrayInputStream stream;
+    private ByteArrayInputStream extendedStream;
+
+    private FakePiGpioDaemon daemon;
+    private PiGpio pigpio;
+    private boolean high;
+
+    @Setup
+    public void setup() throws IOException {
+        command = new PiGpioPacket(PiGpioCmd.WRITE, 17, 1);
+        extended = new PiGpioPacket(PiGpioCmd.I2CWD, 0, 0, new byte[32]);
+        encoded = PiGpioPacket.encode(command);
+        encodedExtended = PiGpioPacket.encode(extended);
+        stream = new ByteArrayInputStream(encoded);
+        extendedStream = new ByteArrayInputStream(encodedExtended);
+
+        daemon = new FakePiGpioDaemon();
+        pigpio = PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        pigpio.initialize();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pigpio.shutdown();
+        daemon.close();
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return PiGpioPacket.encode(command);
+    }
+
+    @Benchmark
+    public byte[] encodeExtended() {
+        return PiGpioPacket.encode(extended);
+    }
+
+    @Benchmark
+    public PiGpioPacket decode() throws IOException {
+        stream.reset();
+        return PiGpioPacket.decode(stream);
+    }
+
+    @Benchmark
+    public PiGpioPacket decodeExtended() throws IOException {
+        extendedStream.reset();
+        return PiGpioPacket.decode(extendedStream);
+    }
+
+    @Benchmark
+    public boolean socketWrite() {
+        high = !high;
+        pigpio.gpioWrite(17, high ? PiGpioState.HIGH : PiGpioState.LOW);
+        return high;
+    }
+}
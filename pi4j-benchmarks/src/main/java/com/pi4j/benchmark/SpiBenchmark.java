@@ -0,0 +1,76 @@
+package com.pi4j.benchmark;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: BENCHMARKS :: JMH Benchmarks
+ * FILENAME      :  SpiBenchmark.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.io.spi.Spi;
+import com.pi4j.io.spi.SpiBus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Full-duplex {@link Spi#transfer} on a mock SPI device.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+@State(Scope.Thread)
+public class SpiBenchmark {
+
+    @Param({"3", "32", "256"})
+    public int length;
+
+    private Context pi4j;
+    private Spi spi;
+    private byte[] write;
+    private byte[] read;
+
+    @Setup
+    public void setup() {
+        pi4j = BenchmarkContext.newMockContext();
+        spi = pi4j.spi().create(Spi.newConfigBuilder(pi4j).id("spi").bus(SpiBus.BUS_0).channel(0).build());
+        write = new byte[length];
+        read = new byte[length];
+    }
+
+    @TearDown
+    public void tearDown() {
+        pi4j.shutdown();
+    }
+
+    @Benchmark
+    public int transfer() {
+        return spi.transfer(write, read);
+    }
+
+    @Benchmark
+    public int transferInPlace() {
+        return spi.transfer(read, length);
+    }
+}
@@ -0,0 +1,158 @@
+package com.pi4j.boardinfo.datareader;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  CachedFileReader.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.boardinfo.util.command.CommandResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import static com.pi4j.boardinfo.util.command.CommandResult.failure;
+import static com.pi4j.boardinfo.util.command.CommandResult.success;
+
+/**
+ * This class reads a small sysfs or procfs attribute file, such as
+ * `/sys/class/thermal/thermal_zone0/temp` or `/proc/uptime`.
+ *
+ * <p>The file is opened once and kept open; every read is a positional read from offset 0
+ * (pread), which makes the kernel regenerate the attribute's content without reopening the file.
+ * The last value is cached for the configured time-to-live, so frequent callers share a single read.</p>
+ */
+public class CachedFileReader implements Closeable {
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final Path path;
+    private final long ttlNanos;
+
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private FileChannel channel;
+    private CommandResult cached;
+    private long expires;
+
+    /**
+     * Creates a reader for the given file.
+     *
+     * @param path The file to read.
+     * @param ttl  How long a value is cached; {@code 0} reads the file on every call and
+     *             {@link Long#MAX_VALUE} reads it only once.
+     * @param unit The time unit of the time-to-live.
+     */
+    public CachedFileReader(Path path, long ttl, TimeUnit unit) {
+        this.path = path;
+        this.ttlNanos = unit.toNanos(ttl);
+    }
+
+    /**
+     * @return The file read by this reader.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return {@code true} if the file exists and can be read.
+     */
+    public boolean exists() {
+        return Files.isReadable(path);
+    }
+
+    /**
+     * Returns the content of the file, trimmed of surrounding whitespace and NUL characters,
+     * reading it only if the cached value has expired.
+     *
+     * @return A {@link CommandResult} containing:
+     *         - {@code success}: true if the file was read successfully, false otherwise.
+     *         - {@code outputMessage}: the content of the file (trimmed).
+     *         - {@code errorMessage}: any error message encountered during the process.
+     */
+    public synchronized CommandResult read() {
+        long now = System.nanoTime();
+        if (cached != null && (ttlNanos == Long.MAX_VALUE || now - expires < 0)) {
+            return cached;
+        }
+
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(path, StandardOpenOption.READ);
+            }
+
+            // read the whole attribute from offset 0, growing the buffer if needed
+            int length;
+            while ((length = readFully()) == buffer.capacity()) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+
+            cached = success(new String(buffer.array(), 0, length, StandardCharsets.UTF_8).trim());
+            expires = now + ttlNanos;
+            return cached;
+        } catch (IOException ex) {
+            // reopen the file on the next read
+            close();
+            return failure("IOException: " + ex.getMessage());
+        }
+    }
+
+    private int readFully() throws IOException {
+        buffer.clear();
+        long position = 0;
+        int count;
+        while (buffer.hasRemaining() && (count = channel.read(buffer, position)) > 0) {
+            position += count;
+        }
+        return buffer.position();
+    }
+
+    /**
+     * Drops the cached value so that the next {@link #read()} reads the file again.
+     */
+    public synchronized void invalidate() {
+        cached = null;
+    }
+
+    /**
+     * Closes the underlying file; a subsequent {@link #read()} reopens it.
+     */
+    @Override
+    public synchronized void close() {
+        cached = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // nothing to do
+            }
+            channel = null;
+        }
+    }
+}
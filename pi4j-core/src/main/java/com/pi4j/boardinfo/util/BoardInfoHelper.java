@@ -27,7 +27,6 @@ package com.pi4j.boardinfo.util;
 
 import com.pi4j.boardinfo.datareader.BoardCodeReader;
 import com.pi4j.boardinfo.datareader.CpuInfoReader;
-import com.pi4j.boardinfo.datareader.MemInfoReader;
 import com.pi4j.boardinfo.definition.BoardModel;
 import com.pi4j.boardinfo.model.BoardInfo;
 import com.pi4j.boardinfo.model.BoardReading;
@@ -38,9 +37,6 @@ import com.pi4j.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static com.pi4j.boardinfo.util.Command.CORE_VOLTAGE_COMMAND;
-import static com.pi4j.boardinfo.util.Command.TEMPERATURE_COMMAND;
-import static com.pi4j.boardinfo.util.Command.UPTIME_COMMAND;
 import static com.pi4j.boardinfo.util.SystemProperties.ARCHITECTURE_DATA_MODEL;
 import static com.pi4j.boardinfo.util.SystemProperties.JAVA_RUNTIME_VERSION;
 import static com.pi4j.boardinfo.util.SystemProperties.JAVA_VENDOR;
@@ -49,7 +45,6 @@ import static com.pi4j.boardinfo.util.SystemProperties.JAVA_VERSION;
 import static com.pi4j.boardinfo.util.SystemProperties.OS_ARCH;
 import static com.pi4j.boardinfo.util.SystemProperties.OS_NAME;
 import static com.pi4j.boardinfo.util.SystemProperties.OS_VERSION;
-import static com.pi4j.boardinfo.util.command.CommandExecutor.execute;
 
 /**
  * The {@code BoardInfoHelper} class provides utility methods for detecting system and board information.
@@ -230,56 +225,30 @@ public class BoardInfoHelper {
     }
 
     /**
-     * Retrieves a collection of readings about the board, including name, version code,
-     * temperature, uptime, core voltage, and memory total.
+     * Returns the shared {@link BoardReadingSource} that reads the board readings from sysfs and procfs.
      *
-     * @return a {@link BoardReading} object containing the board readings
+     * @return the shared {@link BoardReadingSource}
      */
-    public static BoardReading getBoardReading() {
-        return new BoardReading(
-            getBoardName(),
-            getBoardVersionCode(),
-            getTemperature(),
-            getUptime(),
-            getCoreVoltage(),
-            getMemTotal()
-        );
+    public static BoardReadingSource getBoardReadingSource() {
+        return ReadingSourceHolder.INSTANCE;
     }
 
     /**
-     * Retrieves the total memory information from the system.
-     *
-     * @return a string representing the total memory
-     */
-    private static String getMemTotal() {
-        return MemInfoReader.getMemTotal().getOutputMessage();
-    }
-
-    /**
-     * Retrieves the core voltage reading of the board.
-     *
-     * @return a string representing the core voltage
-     */
-    private static String getCoreVoltage() {
-        return execute(CORE_VOLTAGE_COMMAND).getOutputMessage();
-    }
-
-    /**
-     * Retrieves the system uptime.
+     * Retrieves a collection of readings about the board, including name, version code,
+     * temperature, uptime, core voltage, and memory total.
+     * The values are read from sysfs and procfs through the shared {@link BoardReadingSource}
+     * and cached for {@link BoardReadingSource#DEFAULT_TTL_MILLIS} milliseconds.
      *
-     * @return a string representing the uptime
+     * @return a {@link BoardReading} object containing the board readings
      */
-    private static String getUptime() {
-        return execute(UPTIME_COMMAND).getOutputMessage();
+    public static BoardReading getBoardReading() {
+        return getBoardReadingSource().getBoardReading();
     }
 
     /**
-     * Retrieves the system temperature reading.
-     *
-     * @return a string representing the temperature
+     * Inner static class holding the shared {@link BoardReadingSource}, created on first use.
      */
-    private static String getTemperature() {
-        return execute(TEMPERATURE_COMMAND).getOutputMessage();
+    private static class ReadingSourceHolder {
+        private static final BoardReadingSource INSTANCE = new BoardReadingSource();
     }
 }
-
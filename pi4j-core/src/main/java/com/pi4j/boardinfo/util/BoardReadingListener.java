@@ -0,0 +1,42 @@
+package com.pi4j.boardinfo.util;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  BoardReadingListener.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.boardinfo.model.BoardReading;
+
+/**
+ * Listener notified by a {@link BoardReadingMonitor} with every new {@link BoardReading}.
+ */
+@FunctionalInterface
+public interface BoardReadingListener {
+
+    /**
+     * Called on the monitor's thread with each new sample.
+     *
+     * @param reading the board reading
+     */
+    void onBoardReading(BoardReading reading);
+}
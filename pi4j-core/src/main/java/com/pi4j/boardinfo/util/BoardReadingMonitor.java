@@ -0,0 +1,155 @@
+package com.pi4j.boardinfo.util;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  BoardReadingMonitor.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.boardinfo.model.BoardReading;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code BoardReadingMonitor} class samples a {@link BoardReadingSource} periodically on a single
+ * background (daemon) thread and publishes every {@link BoardReading} to its listeners.
+ *
+ * <pre>
+ *     BoardReadingMonitor monitor = new BoardReadingMonitor(BoardInfoHelper.getBoardReadingSource());
+ *     monitor.addListener(reading -&gt; logger.info("{}", reading.getTemperatureInCelsius()));
+ *     monitor.start(1, TimeUnit.SECONDS);
+ * </pre>
+ */
+public class BoardReadingMonitor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardReadingMonitor.class);
+
+    private final BoardReadingSource source;
+    private final List<BoardReadingListener> listeners = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService executor;
+    private volatile BoardReading last;
+
+    /**
+     * Creates a monitor for the given source.
+     *
+     * @param source the source to sample
+     */
+    public BoardReadingMonitor(BoardReadingSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Adds listeners to be notified with every sample.
+     *
+     * @param listener the listeners to add
+     * @return this monitor
+     */
+    public BoardReadingMonitor addListener(BoardReadingListener... listener) {
+        listeners.addAll(List.of(listener));
+        return this;
+    }
+
+    /**
+     * Removes listeners.
+     *
+     * @param listener the listeners to remove
+     * @return this monitor
+     */
+    public BoardReadingMonitor removeListener(BoardReadingListener... listener) {
+        listeners.removeAll(List.of(listener));
+        return this;
+    }
+
+    /**
+     * Starts sampling at a fixed rate; the first sample is taken immediately.
+     *
+     * @param period the period between samples
+     * @param unit   the time unit of the period
+     * @return this monitor
+     */
+    public synchronized BoardReadingMonitor start(long period, TimeUnit unit) {
+        stop();
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "pi4j-board-reading");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::sample, 0, period, unit);
+        return this;
+    }
+
+    /**
+     * Stops sampling.
+     *
+     * @return this monitor
+     */
+    public synchronized BoardReadingMonitor stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        return this;
+    }
+
+    /**
+     * @return {@code true} if the monitor is sampling
+     */
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+    /**
+     * @return the most recent sample, or {@code null} if no sample was taken yet
+     */
+    public BoardReading last() {
+        return last;
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    private void sample() {
+        BoardReading reading;
+        try {
+            reading = source.getBoardReading();
+        } catch (Exception e) {
+            logger.warn("Failed to sample the board readings: {}", e.getMessage());
+            return;
+        }
+        last = reading;
+        for (BoardReadingListener listener : listeners) {
+            try {
+                listener.onBoardReading(reading);
+            } catch (Exception e) {
+                logger.error("Board reading listener failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+}
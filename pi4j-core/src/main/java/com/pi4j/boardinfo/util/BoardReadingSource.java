@@ -0,0 +1,318 @@
+package com.pi4j.boardinfo.util;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  BoardReadingSource.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.boardinfo.datareader.CachedFileReader;
+import com.pi4j.boardinfo.model.BoardReading;
+import com.pi4j.boardinfo.util.command.CommandResult;
+import com.pi4j.util.StringUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.pi4j.boardinfo.util.Command.CORE_VOLTAGE_COMMAND;
+import static com.pi4j.boardinfo.util.command.CommandExecutor.execute;
+
+/**
+ * The {@code BoardReadingSource} class provides the values of a {@link BoardReading} by reading the
+ * kernel's sysfs and procfs files directly instead of forking external commands; only the core voltage
+ * still requires a command.
+ *
+ * <ul>
+ *     <li>temperature: {@code /sys/class/thermal/thermal_zone*}{@code /temp} (the CPU zone if one is present)</li>
+ *     <li>core voltage: {@code vcgencmd measure_volts}, but at most once per time-to-live; the kernel
+ *     does not report it (the {@code rpi_volt} hwmon device only provides the undervoltage alarm
+ *     {@code in0_lcrit_alarm})</li>
+ *     <li>uptime: {@code /proc/uptime}</li>
+ *     <li>board name: {@code /proc/device-tree/model}</li>
+ *     <li>board version code and total memory: {@code /proc/cpuinfo} and {@code /proc/meminfo}</li>
+ * </ul>
+ *
+ * <p>All files are kept open and re-read with a positional read; values are cached for the
+ * configured time-to-live. Static values (board name, version code and total memory) are read once.
+ * Use a {@link BoardReadingMonitor} to sample the readings periodically.</p>
+ */
+public class BoardReadingSource implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardReadingSource.class);
+
+    /**
+     * Default time-to-live of cached readings in milliseconds.
+     */
+    public static final long DEFAULT_TTL_MILLIS = 500;
+
+    private final Path root;
+    private final long ttl;
+    private final TimeUnit unit;
+
+    private final CachedFileReader uptime;
+    private final CachedFileReader model;
+    private final CachedFileReader cpuInfo;
+    private final CachedFileReader memInfo;
+    private final Supplier<CommandResult> voltageSource;
+    private CachedFileReader temperature;
+    private boolean resolved = false;
+
+    // cached output of the voltage command
+    private CommandResult voltageCommand;
+    private long voltageCommandExpires;
+
+    /**
+     * Creates a source reading the files of the running system with the default time-to-live.
+     */
+    public BoardReadingSource() {
+        this("/", DEFAULT_TTL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a source reading the files below the given root directory.
+     *
+     * @param root The root directory of the file system, {@code /} for the running system
+     *             (another directory can be used for testing purposes).
+     * @param ttl  How long readings are cached.
+     * @param unit The time unit of the time-to-live.
+     */
+    public BoardReadingSource(String root, long ttl, TimeUnit unit) {
+        this(root, ttl, unit, () -> execute(CORE_VOLTAGE_COMMAND));
+    }
+
+    BoardReadingSource(String root, long ttl, TimeUnit unit, Supplier<CommandResult> voltageSource) {
+        this.root = Paths.get(root);
+        this.ttl = ttl;
+        this.unit = unit;
+        this.voltageSource = voltageSource;
+        this.uptime = new CachedFileReader(this.root.resolve("proc/uptime"), ttl, unit);
+        this.model = new CachedFileReader(this.root.resolve("proc/device-tree/model"), Long.MAX_VALUE, unit);
+        this.cpuInfo = new CachedFileReader(this.root.resolve("proc/cpuinfo"), Long.MAX_VALUE, unit);
+        this.memInfo = new CachedFileReader(this.root.resolve("proc/meminfo"), Long.MAX_VALUE, unit);
+    }
+
+    /**
+     * Returns the CPU temperature.
+     *
+     * @return the temperature in degrees Celsius, or {@link Double#NaN} if it is not available.
+     */
+    public double getTemperature() {
+        resolve();
+        return temperature == null ? Double.NaN : parse(temperature.read(), 1000.0);
+    }
+
+    /**
+     * Returns the core voltage.
+     *
+     * @return the voltage in volts, or {@link Double#NaN} if it is not available.
+     */
+    public double getCoreVoltage() {
+        CommandResult result = getVoltageCommand();
+        if (result.isSuccess() && result.getOutputMessage().contains("volt=")) {
+            try {
+                return Double.parseDouble(result.getOutputMessage().replace("volt=", "").replace("V", "").trim());
+            } catch (NumberFormatException e) {
+                logger.debug("Can't convert volt value: {}", e.getMessage());
+            }
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Returns the time since the system was booted.
+     *
+     * @return the uptime in seconds, or {@link Double#NaN} if it is not available.
+     */
+    public double getUptime() {
+        CommandResult result = uptime.read();
+        if (result.isSuccess()) {
+            String value = result.getOutputMessage();
+            int space = value.indexOf(' ');
+            try {
+                return Double.parseDouble(space < 0 ? value : value.substring(0, space));
+            } catch (NumberFormatException e) {
+                logger.debug("Can't convert uptime value: {}", e.getMessage());
+            }
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * @return the board name from the device tree, or an empty string if not found.
+     */
+    public String getBoardName() {
+        CommandResult result = model.read();
+        return result.isSuccess() ? result.getOutputMessage() : StringUtil.EMPTY;
+    }
+
+    /**
+     * @return the board version code (CPU revision), or an empty string if not found.
+     */
+    public String getBoardVersionCode() {
+        String line = findLine(cpuInfo, "Revision");
+        int colon = line.indexOf(':');
+        return colon < 0 ? StringUtil.EMPTY : line.substring(colon + 1).trim();
+    }
+
+    /**
+     * @return the "MemTotal" entry of the memory information, or an empty string if not found.
+     */
+    public String getMemTotal() {
+        return findLine(memInfo, "MemTotal:");
+    }
+
+    /**
+     * Returns a {@link BoardReading} with the current values, formatted like the output of the commands
+     * that were previously used to obtain them (e.g. {@code temp=45.3'C} and {@code volt=0.8500V}).
+     *
+     * @return a {@link BoardReading} object containing the board readings
+     */
+    public BoardReading getBoardReading() {
+        double temperature = getTemperature();
+        double volt = getCoreVoltage();
+        double uptime = getUptime();
+        return new BoardReading(
+            getBoardName(),
+            getBoardVersionCode(),
+            Double.isNaN(temperature) ? StringUtil.EMPTY : String.format(Locale.ROOT, "temp=%.1f'C", temperature),
+            Double.isNaN(uptime) ? StringUtil.EMPTY : formatUptime((long) uptime),
+            Double.isNaN(volt) ? StringUtil.EMPTY : String.format(Locale.ROOT, "volt=%.4fV", volt),
+            getMemTotal()
+        );
+    }
+
+    /**
+     * Closes all open files; they are reopened when read again.
+     */
+    @Override
+    public synchronized void close() {
+        uptime.close();
+        model.close();
+        cpuInfo.close();
+        memInfo.close();
+        if (temperature != null) temperature.close();
+    }
+
+    /**
+     * Locates the thermal zone file once.
+     */
+    private synchronized void resolve() {
+        if (resolved) {
+            return;
+        }
+        resolved = true;
+
+        // prefer the CPU thermal zone, fall back to the first zone
+        Path zone = null;
+        for (Path candidate : list(root.resolve("sys/class/thermal"), "thermal_zone*")) {
+            if (!Files.isReadable(candidate.resolve("temp"))) {
+                continue;
+            }
+            if (zone == null) {
+                zone = candidate;
+            }
+            if (readFile(candidate, "type").contains("cpu")) {
+                zone = candidate;
+                break;
+            }
+        }
+        if (zone != null) {
+            temperature = new CachedFileReader(zone.resolve("temp"), ttl, unit);
+            logger.debug("Reading temperature from {}", temperature.getPath());
+        }
+    }
+
+    private synchronized CommandResult getVoltageCommand() {
+        long now = System.nanoTime();
+        if (voltageCommand == null || now - voltageCommandExpires >= 0) {
+            voltageCommand = voltageSource.get();
+            voltageCommandExpires = now + unit.toNanos(ttl);
+        }
+        return voltageCommand;
+    }
+
+    private static List<Path> list(Path directory, String glob) {
+        List<Path> paths = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return paths;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+            stream.forEach(paths::add);
+        } catch (IOException e) {
+            logger.debug("Can't list {}: {}", directory, e.getMessage());
+        }
+        paths.sort(null);
+        return paths;
+    }
+
+    private static String readFile(Path directory, String name) {
+        try {
+            return new String(Files.readAllBytes(directory.resolve(name))).trim();
+        } catch (IOException e) {
+            return StringUtil.EMPTY;
+        }
+    }
+
+    private static String findLine(CachedFileReader reader, String prefix) {
+        CommandResult result = reader.read();
+        if (result.isSuccess()) {
+            for (String line : result.getOutputMessage().split("\n")) {
+                if (line.startsWith(prefix)) {
+                    return line.trim();
+                }
+            }
+        }
+        return StringUtil.EMPTY;
+    }
+
+    private static double parse(CommandResult result, double scale) {
+        if (result.isSuccess()) {
+            try {
+                return Long.parseLong(result.getOutputMessage()) / scale;
+            } catch (NumberFormatException e) {
+                logger.debug("Can't convert value '{}': {}", result.getOutputMessage(), e.getMessage());
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static String formatUptime(long seconds) {
+        long days = seconds / 86400;
+        long hours = (seconds % 86400) / 3600;
+        long minutes = (seconds % 3600) / 60;
+        if (days > 0) {
+            return String.format(Locale.ROOT, "up %d day%s, %d:%02d", days, days == 1 ? "" : "s", hours, minutes);
+        }
+        return String.format(Locale.ROOT, "up %d:%02d", hours, minutes);
+    }
+}
@@ -0,0 +1,53 @@
+package com.pi4j.config.exception;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  ConfigInvalidValueException.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>
+ * This exception is thrown if a configuration key holds a value that is
+ * outside of its permitted range.
+ * </p>
+ *
+ * @see <a href="http://www.pi4j.com/">http://www.pi4j.com/</a>
+ */
+public class ConfigInvalidValueException extends ConfigException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Constant <code>MESSAGE="Configuration contains an invalid value for key"{trunked}</code> */
+    public static String MESSAGE =  "Configuration contains an invalid value for key: ";
+
+    /**
+     * Default Constructor
+     *
+     * @param key a {@link java.lang.String} object.
+     * @param value the invalid value
+     * @param reason description of the permitted values
+     */
+    public ConfigInvalidValueException(String key, Object value, String reason){
+        super(MESSAGE + key + "=[" + value + "]; " + reason);
+    }
+}
@@ -28,7 +28,6 @@ package com.pi4j.config.impl;
 import com.pi4j.config.Config;
 import com.pi4j.config.ConfigBuilder;
 import com.pi4j.context.Context;
-import com.pi4j.util.PropertiesUtil;
 import com.pi4j.util.StringUtil;
 
 import java.io.*;
@@ -187,7 +186,7 @@ public abstract class ConfigBuilderBase<BUILDER_TYPE extends ConfigBuilder, CONF
 
             // get property candidates from context properties that may
             // be applicable/eligible for this IO instance (by 'id')
-            Map<String,String> candidateProperties = PropertiesUtil.subProperties(context.properties().all(), id());
+            Map<String,String> candidateProperties = context.properties().subProperties(id());
 
             // make sure there are eligible candidate and then iterate over the candidates
             // and check each one to make sure the property is not already defined for this
@@ -45,6 +45,7 @@ import com.pi4j.io.exception.IOException;
 import com.pi4j.io.exception.IOInvalidIDException;
 import com.pi4j.io.exception.IONotFoundException;
 import com.pi4j.io.exception.IOShutdownException;
+import com.pi4j.metrics.Metrics;
 import com.pi4j.platform.Platform;
 import com.pi4j.platform.Platforms;
 import com.pi4j.platform.exception.PlatformNotFoundException;
@@ -53,11 +54,14 @@ import com.pi4j.provider.Providers;
 import com.pi4j.provider.exception.ProviderInterfaceException;
 import com.pi4j.provider.exception.ProviderNotFoundException;
 import com.pi4j.registry.Registry;
-import com.pi4j.util.PropertiesUtil;
+import com.pi4j.util.ExecutorPool;
 import com.pi4j.util.StringUtil;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>Context interface.</p>
@@ -112,6 +116,67 @@ public interface Context extends Describable, IOCreator, ProviderProvider, Initi
      */
     Future<?> submitTask(Runnable task);
 
+    /**
+     * Submits a long-running task, such as the event loop of an input, on a dedicated pool of platform threads
+     *
+     * @param task the task to execute until it is cancelled
+     *
+     * @return the task to cancel later
+     * @throws java.util.concurrent.RejectedExecutionException if the maximum number of monitor threads is reached
+     */
+    Future<?> submitMonitor(Runnable task);
+
+    /**
+     * Submits the given task for periodic execution at a fixed rate on the shared Pi4J scheduler
+     *
+     * @param task the task to execute periodically
+     * @param period the period between successive executions
+     * @param unit the time unit of the period
+     *
+     * @return the scheduled task to cancel later
+     */
+    ScheduledFuture<?> scheduleTask(Runnable task, long period, TimeUnit unit);
+
+    /**
+     * Submits the given task for a single execution after the given delay on the shared Pi4J scheduler
+     *
+     * @param task the task to execute once
+     * @param delay the delay before the execution
+     * @param unit the time unit of the delay
+     *
+     * @return the scheduled task to cancel later
+     */
+    ScheduledFuture<?> scheduleDelayedTask(Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * Return the timings of the startup phases of this context; see {@link StartupReport}
+     *
+     * @return the {@link StartupReport} of this context
+     */
+    StartupReport startupReport();
+
+    /**
+     * Return the timings of the shutdown phases of this context; see {@link ShutdownReport}
+     *
+     * @return the {@link ShutdownReport} of this context, empty until the context is shut down
+     */
+    ShutdownReport shutdownReport();
+
+    /**
+     * Return the current utilization of the executor pools of this context
+     *
+     * @return a {@link ExecutorPool.Statistics} object for every pool created so far
+     */
+    List<ExecutorPool.Statistics> executorStatistics();
+
+    /**
+     * Return the operation counts, latencies and errors of the I/O instances of this context;
+     * see {@link Metrics}
+     *
+     * @return the {@link Metrics} of this context, recording nothing unless metrics are enabled
+     */
+    Metrics metrics();
+
     /**
      * <p>shutdown.</p>
      *
@@ -361,7 +426,7 @@ public interface Context extends Describable, IOCreator, ProviderProvider, Initi
         Provider provider = null;
 
         // resolve inheritable properties from the context based on the provided 'id' for this IO instance
-        Map<String, String> inheritedProperties = PropertiesUtil.subProperties(this.properties().all(), id);
+        Map<String, String> inheritedProperties = this.properties().subProperties(id);
 
         // create by explicitly configured IO <PLATFORM> from IO inheritable properties
         if (inheritedProperties.containsKey("platform")) {
@@ -404,7 +469,7 @@ public interface Context extends Describable, IOCreator, ProviderProvider, Initi
         Provider provider = null;
 
         // resolve inheritable properties from the context based on the provided 'id' for this IO instance
-        Map<String, String> inheritedProperties = PropertiesUtil.subProperties(this.properties().all(), id);
+        Map<String, String> inheritedProperties = this.properties().subProperties(id);
 
         // create by explicitly configured IO <PLATFORM> from IO inheritable properties
         if (inheritedProperties.containsKey("platform")) {
@@ -27,8 +27,10 @@ package com.pi4j.context;
 
 import com.pi4j.config.Builder;
 import com.pi4j.context.impl.DefaultContextBuilder;
+import com.pi4j.metrics.MetricsExporter;
 import com.pi4j.platform.Platform;
 import com.pi4j.provider.Provider;
+import com.pi4j.util.ExecutorModel;
 
 import java.io.File;
 import java.io.IOException;
@@ -36,6 +38,7 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>ContextBuilder interface.</p>
@@ -175,6 +178,133 @@ public interface ContextBuilder extends Builder<Context> {
             return disableShutdownHook();
     }
 
+    /**
+     * Initialize independent plugins and providers in parallel on a bounded pool
+     *
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder parallelInitialization();
+
+    /**
+     * Initialize plugins and providers one after the other (default)
+     *
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder noParallelInitialization();
+
+    /**
+     * Defer the initialization of each provider until its first use, e.g. through
+     * {@link Context#provider(com.pi4j.io.IOType)} or {@link Context#create(String)}
+     *
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder lazyProviders();
+
+    /**
+     * Initialize all providers during startup (default)
+     *
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder noLazyProviders();
+
+    /**
+     * Shut down I/O instances and providers in parallel, each bounded by the I/O shutdown timeout
+     *
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder parallelShutdown();
+
+    /**
+     * Shut down I/O instances and providers one after the other (default)
+     *
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder noParallelShutdown();
+
+    /**
+     * Set the overall time budget of the shutdown; steps that have not started when it is spent are
+     * skipped and the remaining executor pools are not waited for
+     *
+     * @param timeout the time budget
+     * @param unit the time unit of the time budget
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder shutdownTimeout(long timeout, TimeUnit unit);
+
+    /**
+     * Set the time after which the shutdown of a single I/O instance, provider or plugin is abandoned
+     *
+     * @param timeout the timeout
+     * @param unit the time unit of the timeout
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder ioShutdownTimeout(long timeout, TimeUnit unit);
+
+    /**
+     * Set the threading model of the runtime's executor pools; see {@link ExecutorModel}
+     *
+     * @param model the threading model
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder executorModel(ExecutorModel model);
+
+    /**
+     * Set the maximum number of threads and the queue capacity of the task pool of the
+     * {@link ExecutorModel#BOUNDED} model
+     *
+     * @param maxThreads the maximum number of threads
+     * @param queueCapacity the maximum number of queued tasks, beyond which the submitting thread runs the task
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder maxThreads(int maxThreads, int queueCapacity);
+
+    /**
+     * Set the maximum number of long-running monitor tasks, such as the event loops of digital inputs;
+     * ignored with the {@link ExecutorModel#CACHED} model
+     *
+     * @param maxMonitorThreads the maximum number of monitor threads
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder maxMonitorThreads(int maxMonitorThreads);
+
+    /**
+     * Set the number of threads running periodic tasks
+     *
+     * @param schedulerThreads the number of scheduler threads
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder schedulerThreads(int schedulerThreads);
+
+    /**
+     * Set the priority of the runtime's platform threads
+     *
+     * @param priority the thread priority, between {@link Thread#MIN_PRIORITY} and {@link Thread#MAX_PRIORITY}
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder threadPriority(int priority);
+
+    /**
+     * Measure the operations of the I/O instances; see {@link com.pi4j.metrics.Metrics}
+     *
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder enableMetrics();
+
+    /**
+     * Do not measure the operations of the I/O instances (default)
+     *
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder disableMetrics();
+
+    /**
+     * Publish the metrics with the given exporters; enables metrics
+     *
+     * @param exporter the exporters, e.g. a {@link com.pi4j.metrics.JmxMetricsExporter}
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder add(MetricsExporter ... exporter);
+
     /**
      * <p>toConfig.</p>
      *
@@ -25,10 +25,13 @@ package com.pi4j.context;
  * #L%
  */
 
+import com.pi4j.metrics.MetricsExporter;
 import com.pi4j.platform.Platform;
 import com.pi4j.provider.Provider;
+import com.pi4j.util.ExecutorModel;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -161,6 +164,110 @@ public interface ContextConfig {
      */
     default boolean isAutoDetectProviders() { return autoDetectProviders(); };
 
+    // **************************************************
+    // STARTUP
+    // **************************************************
+
+    /**
+     * <p>parallelInitialization.</p>
+     *
+     * @return true if independent plugins and providers are initialized in parallel on a bounded pool
+     */
+    default boolean parallelInitialization() { return false; };
+
+    /**
+     * <p>lazyProviders.</p>
+     *
+     * @return true if providers are only initialized on their first use
+     */
+    default boolean lazyProviders() { return false; };
+
+    // **************************************************
+    // SHUTDOWN OPTIONS
+    // **************************************************
+
+    /**
+     * <p>parallelShutdown.</p>
+     *
+     * @return true if I/O instances and providers are shut down in parallel
+     */
+    default boolean parallelShutdown() { return false; };
+
+    /**
+     * <p>shutdownTimeout.</p>
+     *
+     * @return the overall time budget of the runtime shutdown in milliseconds
+     */
+    default long shutdownTimeout() { return 15000; };
+
+    /**
+     * <p>ioShutdownTimeout.</p>
+     *
+     * @return the time in milliseconds after which the shutdown of a single I/O instance, provider or
+     * plugin is abandoned
+     */
+    default long ioShutdownTimeout() { return 5000; };
+
+    // **************************************************
+    // EXECUTOR OPTIONS
+    // **************************************************
+
+    /**
+     * <p>executorModel.</p>
+     *
+     * @return the threading model of the runtime's executor pools
+     */
+    default ExecutorModel executorModel() { return ExecutorModel.CACHED; };
+
+    /**
+     * <p>maxThreads.</p>
+     *
+     * @return the maximum number of threads of the task pool with the {@link ExecutorModel#BOUNDED} model
+     */
+    default int maxThreads() { return 16; };
+
+    /**
+     * <p>taskQueueCapacity.</p>
+     *
+     * @return the capacity of the task queue with the {@link ExecutorModel#BOUNDED} model
+     */
+    default int taskQueueCapacity() { return 256; };
+
+    /**
+     * <p>maxMonitorThreads.</p>
+     *
+     * @return the maximum number of long-running monitor tasks, unless the model is {@link ExecutorModel#CACHED}
+     */
+    default int maxMonitorThreads() { return 64; };
+
+    /**
+     * <p>schedulerThreads.</p>
+     *
+     * @return the number of threads running periodic tasks
+     */
+    default int schedulerThreads() { return 4; };
+
+    /**
+     * <p>threadPriority.</p>
+     *
+     * @return the priority of the runtime's platform threads
+     */
+    default int threadPriority() { return Thread.NORM_PRIORITY; };
+
+    /**
+     * <p>enableMetrics.</p>
+     *
+     * @return true if the operations of the I/O instances are measured; see {@link com.pi4j.metrics.Metrics}
+     */
+    default boolean enableMetrics() { return false; };
+
+    /**
+     * <p>metricsExporters.</p>
+     *
+     * @return the exporters publishing the metrics
+     */
+    default Collection<MetricsExporter> metricsExporters() { return Collections.emptyList(); };
+
     // **************************************************
     // PROPERTIES
     // **************************************************
@@ -27,6 +27,7 @@ package com.pi4j.context;
 
 import com.pi4j.common.Describable;
 import com.pi4j.common.Descriptor;
+import com.pi4j.util.PropertiesUtil;
 import com.pi4j.util.StringUtil;
 
 import java.util.Map;
@@ -67,6 +68,27 @@ public interface ContextProperties extends Describable {
      */
     int count();
 
+    /**
+     * Get all properties below the given key prefix (e.g. an I/O instance id), with the prefix
+     * removed from the keys.
+     *
+     * @param prefix key prefix
+     * @return read-only map of the matching properties
+     */
+    default Map<String,String> subProperties(String prefix){
+        return PropertiesUtil.subProperties(all(), prefix);
+    }
+
+    /**
+     * Get all properties whose keys end with the given suffix, with the suffix removed from the keys.
+     *
+     * @param suffix key suffix
+     * @return map of the matching properties
+     */
+    default Map<String,String> keysEndsWith(String suffix){
+        return PropertiesUtil.keysEndsWith(all(), suffix);
+    }
+
     /**
      * <p>get.</p>
      *
@@ -0,0 +1,223 @@
+package com.pi4j.context;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  ShutdownReport.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>Timings of the phases of the Pi4J runtime shutdown.</p>
+ *
+ * <p>The runtime records a phase for the I/O registry, the platforms, the providers, the plugins and
+ * the executor pools, plus one nested phase for each I/O instance, provider and plugin (named e.g.
+ * {@code "io:button"}).  Each nested step is bounded by the context's I/O shutdown timeout and the whole
+ * shutdown by the context's shutdown timeout; steps that exceeded their deadline are flagged as
+ * {@link Outcome#TIMED_OUT}, steps that could not start before the shutdown budget was spent as
+ * {@link Outcome#SKIPPED}.</p>
+ *
+ * <pre>
+ *     pi4j.shutdown();
+ *     logger.info("{}", pi4j.shutdownReport());
+ * </pre>
+ */
+public class ShutdownReport {
+
+    /**
+     * <p>Outcome of a shutdown phase.</p>
+     */
+    public enum Outcome {
+        /** the phase completed */
+        COMPLETED,
+        /** the phase failed with an exception */
+        FAILED,
+        /** the phase did not complete before its deadline and was abandoned */
+        TIMED_OUT,
+        /** the phase was not started because the shutdown budget was spent */
+        SKIPPED
+    }
+
+    private final List<Phase> phases = new ArrayList<>();
+    private volatile long origin = -1;
+    private volatile long completed = -1;
+
+    /**
+     * <p>Constructor for ShutdownReport; offsets are measured once the shutdown is started.</p>
+     */
+    public ShutdownReport() {
+    }
+
+    /**
+     * Mark the start of the shutdown; phase offsets are measured from this instant
+     */
+    public void start() {
+        if (origin < 0)
+            origin = System.nanoTime();
+    }
+
+    /**
+     * Record a phase that started at the given time and ends now
+     *
+     * @param name name of the phase
+     * @param start start of the phase ({@link System#nanoTime()} domain)
+     * @param outcome outcome of the phase
+     * @return the recorded phase
+     */
+    public Phase record(String name, long start, Outcome outcome) {
+        long end = System.nanoTime();
+        Phase phase = new Phase(name, start - origin, end - start, outcome);
+        synchronized (phases) {
+            phases.add(phase);
+        }
+        return phase;
+    }
+
+    /**
+     * Mark the end of the shutdown
+     */
+    public void complete() {
+        if (origin >= 0 && completed < 0)
+            completed = System.nanoTime() - origin;
+    }
+
+    /**
+     * @return true once the runtime has been shut down
+     */
+    public boolean isComplete() {
+        return completed >= 0;
+    }
+
+    /**
+     * @return total shutdown time in nanoseconds, the time elapsed so far if the shutdown has not
+     * completed, or 0 if it has not started
+     */
+    public long duration() {
+        long completed = this.completed;
+        if (completed >= 0)
+            return completed;
+        return origin >= 0 ? System.nanoTime() - origin : 0;
+    }
+
+    /**
+     * @return all recorded phases in the order they completed
+     */
+    public List<Phase> phases() {
+        synchronized (phases) {
+            return Collections.unmodifiableList(new ArrayList<>(phases));
+        }
+    }
+
+    /**
+     * @param name name of the phase
+     * @return the most recently recorded phase with the given name, or null if no such phase was recorded
+     */
+    public Phase phase(String name) {
+        synchronized (phases) {
+            for (int i = phases.size() - 1; i >= 0; i--) {
+                if (phases.get(i).name().equals(name))
+                    return phases.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param outcome outcome of the phases
+     * @return all recorded phases with the given outcome
+     */
+    public List<Phase> phases(Outcome outcome) {
+        List<Phase> result = new ArrayList<>();
+        synchronized (phases) {
+            for (Phase phase : phases) {
+                if (phase.outcome() == outcome)
+                    result.add(phase);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Pi4J shutdown: %.3f ms", duration() / 1e6));
+        for (Phase phase : phases()) {
+            sb.append(System.lineSeparator()).append("  ").append(phase);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * <p>A single timed phase of the shutdown.</p>
+     */
+    public static class Phase {
+
+        private final String name;
+        private final long offset;
+        private final long duration;
+        private final Outcome outcome;
+
+        private Phase(String name, long offset, long duration, Outcome outcome) {
+            this.name = name;
+            this.offset = offset;
+            this.duration = duration;
+            this.outcome = outcome;
+        }
+
+        /**
+         * @return name of the phase
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * @return start of the phase in nanoseconds, relative to the start of the shutdown
+         */
+        public long offset() {
+            return offset;
+        }
+
+        /**
+         * @return duration of the phase in nanoseconds; for abandoned phases the time until they were abandoned
+         */
+        public long duration() {
+            return duration;
+        }
+
+        /**
+         * @return outcome of the phase
+         */
+        public Outcome outcome() {
+            return outcome;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-48s +%9.3f ms %9.3f ms%s", name, offset / 1e6, duration / 1e6,
+                outcome == Outcome.COMPLETED ? "" : " (" + outcome.name().toLowerCase().replace('_', ' ') + ")");
+        }
+    }
+}
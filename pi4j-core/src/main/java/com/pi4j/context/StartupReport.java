@@ -0,0 +1,182 @@
+package com.pi4j.context;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  StartupReport.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>Timings of the phases of the Pi4J runtime startup.</p>
+ *
+ * <p>The runtime records a phase for plugin discovery and initialization, the I/O registry, the
+ * providers, the platforms and the auto-injection of I/O instances, plus one nested phase for each
+ * plugin, provider and platform (named e.g. {@code "provider:pigpio-digital-input"}).  Phases that
+ * ran on the startup pool overlap each other when parallel initialization is enabled.  Providers that
+ * are initialized lazily record their phase on first use and are flagged as {@link Phase#deferred()}.</p>
+ *
+ * <pre>
+ *     Context pi4j = Pi4J.newContextBuilder().autoDetect().parallelInitialization().lazyProviders().build();
+ *     logger.info("{}", pi4j.startupReport());
+ * </pre>
+ */
+public class StartupReport {
+
+    private final long origin;
+    private final List<Phase> phases = new ArrayList<>();
+    private volatile long completed = -1;
+
+    /**
+     * <p>Constructor for StartupReport; startup offsets are measured from this instant.</p>
+     */
+    public StartupReport() {
+        this.origin = System.nanoTime();
+    }
+
+    /**
+     * Record a phase that started at the given time and ends now
+     *
+     * @param name name of the phase
+     * @param start start of the phase ({@link System#nanoTime()} domain)
+     * @return the recorded phase
+     */
+    public Phase record(String name, long start) {
+        long end = System.nanoTime();
+        Phase phase = new Phase(name, start - origin, end - start, completed >= 0);
+        synchronized (phases) {
+            phases.add(phase);
+        }
+        return phase;
+    }
+
+    /**
+     * Mark the end of the startup; phases recorded afterwards are flagged as deferred
+     */
+    public void complete() {
+        if (completed < 0)
+            completed = System.nanoTime() - origin;
+    }
+
+    /**
+     * @return true once the runtime has completed its startup
+     */
+    public boolean isComplete() {
+        return completed >= 0;
+    }
+
+    /**
+     * @return total startup time in nanoseconds, or the time elapsed so far if startup has not completed
+     */
+    public long duration() {
+        long completed = this.completed;
+        return completed >= 0 ? completed : System.nanoTime() - origin;
+    }
+
+    /**
+     * @return all recorded phases in the order they completed
+     */
+    public List<Phase> phases() {
+        synchronized (phases) {
+            return Collections.unmodifiableList(new ArrayList<>(phases));
+        }
+    }
+
+    /**
+     * @param name name of the phase
+     * @return the most recently recorded phase with the given name, or null if no such phase was recorded
+     */
+    public Phase phase(String name) {
+        synchronized (phases) {
+            for (int i = phases.size() - 1; i >= 0; i--) {
+                if (phases.get(i).name().equals(name))
+                    return phases.get(i);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Pi4J startup: %.3f ms", duration() / 1e6));
+        for (Phase phase : phases()) {
+            sb.append(System.lineSeparator()).append("  ").append(phase);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * <p>A single timed phase of the startup.</p>
+     */
+    public static class Phase {
+
+        private final String name;
+        private final long offset;
+        private final long duration;
+        private final boolean deferred;
+
+        private Phase(String name, long offset, long duration, boolean deferred) {
+            this.name = name;
+            this.offset = offset;
+            this.duration = duration;
+            this.deferred = deferred;
+        }
+
+        /**
+         * @return name of the phase
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * @return start of the phase in nanoseconds, relative to the start of the runtime
+         */
+        public long offset() {
+            return offset;
+        }
+
+        /**
+         * @return duration of the phase in nanoseconds
+         */
+        public long duration() {
+            return duration;
+        }
+
+        /**
+         * @return true if the phase ran after startup completed (e.g. a lazily initialized provider)
+         */
+        public boolean deferred() {
+            return deferred;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-48s +%9.3f ms %9.3f ms%s", name, offset / 1e6, duration / 1e6,
+                deferred ? " (deferred)" : "");
+        }
+    }
+}
@@ -30,11 +30,14 @@ import com.pi4j.boardinfo.util.BoardInfoHelper;
 import com.pi4j.context.Context;
 import com.pi4j.context.ContextConfig;
 import com.pi4j.context.ContextProperties;
+import com.pi4j.context.ShutdownReport;
+import com.pi4j.context.StartupReport;
 import com.pi4j.event.InitializedListener;
 import com.pi4j.event.ShutdownListener;
 import com.pi4j.exception.LifecycleException;
 import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.IO;
+import com.pi4j.metrics.Metrics;
 import com.pi4j.platform.Platforms;
 import com.pi4j.platform.impl.DefaultPlatforms;
 import com.pi4j.provider.Providers;
@@ -43,10 +46,14 @@ import com.pi4j.registry.Registry;
 import com.pi4j.registry.impl.DefaultRegistry;
 import com.pi4j.runtime.Runtime;
 import com.pi4j.runtime.impl.DefaultRuntime;
+import com.pi4j.util.ExecutorPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>DefaultContext class.</p>
@@ -104,7 +111,9 @@ public class DefaultContext implements Context {
         this.platforms = DefaultPlatforms.newInstance(this.runtime.platforms());
 
         // detect the board model
+        long start = System.nanoTime();
         this.boardInfo = BoardInfoHelper.current();
+        this.runtime.startupReport().record("board", start);
         logger.info("Detected board model: {}", boardInfo.getBoardModel().getLabel());
         logger.info("Running on: {}", boardInfo.getOperatingSystem());
         logger.info("With Java version: {}", boardInfo.getJavaInfo());
@@ -147,6 +156,48 @@ public class DefaultContext implements Context {
         return this.runtime.submitTask(task);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Future<?> submitMonitor(Runnable task) {
+        return this.runtime.submitMonitor(task);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ScheduledFuture<?> scheduleTask(Runnable task, long period, TimeUnit unit) {
+        return this.runtime.scheduleTask(task, period, unit);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ScheduledFuture<?> scheduleDelayedTask(Runnable task, long delay, TimeUnit unit) {
+        return this.runtime.scheduleDelayedTask(task, delay, unit);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public StartupReport startupReport() {
+        return this.runtime.startupReport();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ShutdownReport shutdownReport() {
+        return this.runtime.shutdownReport();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ExecutorPool.Statistics> executorStatistics() {
+        return this.runtime.executorStatistics();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Metrics metrics() {
+        return this.runtime.metrics();
+    }
+
     /** {@inheritDoc} */
     @Override
     public Context shutdown() throws ShutdownException {
@@ -30,14 +30,17 @@ import com.pi4j.context.Context;
 import com.pi4j.context.ContextBuilder;
 import com.pi4j.context.ContextConfig;
 import com.pi4j.exception.Pi4JException;
+import com.pi4j.metrics.MetricsExporter;
 import com.pi4j.platform.Platform;
 import com.pi4j.provider.Provider;
+import com.pi4j.util.ExecutorModel;
 import com.pi4j.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -57,6 +60,27 @@ public class DefaultContextBuilder implements ContextBuilder {
     protected boolean autoInject = false;
     protected boolean enableShutdownHook = false;
 
+    // startup options
+    protected boolean parallelInitialization = false;
+    protected boolean lazyProviders = false;
+
+    // shutdown options
+    protected boolean parallelShutdown = false;
+    protected long shutdownTimeout = 15000;
+    protected long ioShutdownTimeout = 5000;
+
+    // executor options
+    protected ExecutorModel executorModel = ExecutorModel.CACHED;
+    protected int maxThreads = 16;
+    protected int taskQueueCapacity = 256;
+    protected int maxMonitorThreads = 64;
+    protected int schedulerThreads = 4;
+    protected int threadPriority = Thread.NORM_PRIORITY;
+
+    // metrics options
+    protected boolean enableMetrics = false;
+    protected Collection<MetricsExporter> metricsExporters = Collections.synchronizedList(new ArrayList<>());
+
     // default platform identifier
     protected String defaultPlatformId = null;
 
@@ -173,6 +197,130 @@ public class DefaultContextBuilder implements ContextBuilder {
         return this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder parallelInitialization() {
+        this.parallelInitialization = true;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder noParallelInitialization() {
+        this.parallelInitialization = false;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder lazyProviders() {
+        this.lazyProviders = true;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder noLazyProviders() {
+        this.lazyProviders = false;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder parallelShutdown() {
+        this.parallelShutdown = true;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder noParallelShutdown() {
+        this.parallelShutdown = false;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder shutdownTimeout(long timeout, TimeUnit unit) {
+        this.shutdownTimeout = unit.toMillis(timeout);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder ioShutdownTimeout(long timeout, TimeUnit unit) {
+        this.ioShutdownTimeout = unit.toMillis(timeout);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder executorModel(ExecutorModel model) {
+        this.executorModel = model != null ? model : ExecutorModel.CACHED;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder maxThreads(int maxThreads, int queueCapacity) {
+        if (maxThreads < 1 || queueCapacity < 1)
+            throw new IllegalArgumentException("maxThreads and queueCapacity must be at least 1");
+        this.maxThreads = maxThreads;
+        this.taskQueueCapacity = queueCapacity;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder maxMonitorThreads(int maxMonitorThreads) {
+        if (maxMonitorThreads < 1)
+            throw new IllegalArgumentException("maxMonitorThreads must be at least 1");
+        this.maxMonitorThreads = maxMonitorThreads;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder schedulerThreads(int schedulerThreads) {
+        if (schedulerThreads < 1)
+            throw new IllegalArgumentException("schedulerThreads must be at least 1");
+        this.schedulerThreads = schedulerThreads;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder threadPriority(int priority) {
+        if (priority < Thread.MIN_PRIORITY || priority > Thread.MAX_PRIORITY)
+            throw new IllegalArgumentException("priority must be between " + Thread.MIN_PRIORITY + " and " + Thread.MAX_PRIORITY);
+        this.threadPriority = priority;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder enableMetrics() {
+        this.enableMetrics = true;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder disableMetrics() {
+        this.enableMetrics = false;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder add(MetricsExporter... exporter) {
+        if(exporter != null && exporter.length > 0) {
+            this.metricsExporters.addAll(List.of(exporter));
+            this.enableMetrics = true;
+        }
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public ContextBuilder property(String key, String value){
@@ -293,6 +441,71 @@ public class DefaultContextBuilder implements ContextBuilder {
                 return builder.autoDetectProviders;
             }
 
+            @Override
+            public boolean parallelInitialization() {
+                return builder.parallelInitialization;
+            }
+
+            @Override
+            public boolean lazyProviders() {
+                return builder.lazyProviders;
+            }
+
+            @Override
+            public boolean parallelShutdown() {
+                return builder.parallelShutdown;
+            }
+
+            @Override
+            public long shutdownTimeout() {
+                return builder.shutdownTimeout;
+            }
+
+            @Override
+            public long ioShutdownTimeout() {
+                return builder.ioShutdownTimeout;
+            }
+
+            @Override
+            public ExecutorModel executorModel() {
+                return builder.executorModel;
+            }
+
+            @Override
+            public int maxThreads() {
+                return builder.maxThreads;
+            }
+
+            @Override
+            public int taskQueueCapacity() {
+                return builder.taskQueueCapacity;
+            }
+
+            @Override
+            public int maxMonitorThreads() {
+                return builder.maxMonitorThreads;
+            }
+
+            @Override
+            public int schedulerThreads() {
+                return builder.schedulerThreads;
+            }
+
+            @Override
+            public int threadPriority() {
+                return builder.threadPriority;
+            }
+
+            @Override
+            public boolean enableMetrics() {
+                return builder.enableMetrics;
+            }
+
+            @Override
+            public Collection<MetricsExporter> metricsExporters() {
+                return Collections.unmodifiableCollection(builder.metricsExporters);
+            }
+
             @Override
             public Map<String, String> properties() {
                 return Collections.unmodifiableMap(builder.properties);
@@ -77,4 +77,16 @@ public class DefaultContextProperties implements ContextProperties {
     public int count() {
         return this.properties.count();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, String> subProperties(String prefix) {
+        return this.properties.subProperties(prefix);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, String> keysEndsWith(String suffix) {
+        return this.properties.keysEndsWith(suffix);
+    }
 }
@@ -0,0 +1,54 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DispatchMode.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Defines on which thread an {@link EventManager} delivers events to a registered listener.</p>
+ *
+ * @see ListenerOptions
+ */
+public enum DispatchMode {
+
+    /**
+     * Deliver the event synchronously on the thread that dispatched the event.
+     * This is the default mode and has the lowest latency, but a slow listener
+     * blocks the event producer (for example a GPIO monitoring loop).
+     */
+    INLINE,
+
+    /**
+     * Deliver events in order on a dedicated executor.  Events are never dropped
+     * but the executor queue is unbounded.
+     */
+    ORDERED,
+
+    /**
+     * Hand events off to a bounded ring buffer that is drained in order by a
+     * dedicated thread.  When the buffer is full the configured
+     * {@link OverflowPolicy} decides what happens to the event.
+     */
+    BUFFERED
+}
@@ -28,58 +28,193 @@ package com.pi4j.event;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
 
+/**
+ * <p>Manages the listeners of an event producer and dispatches events to them.</p>
+ *
+ * <p>Listeners are kept in an immutable array snapshot that is replaced on every add/remove,
+ * so dispatching an event neither locks nor allocates an iterator.  Each listener is delivered
+ * according to its {@link ListenerOptions}: inline on the dispatching thread (the default), on a
+ * dedicated ordered executor, or through a bounded ring buffer drained by its own thread.
+ * Per-listener delivery counters are available through {@link #statistics(Listener)}.</p>
+ *
+ * @param <SOURCE_TYPE> the event producer returned by the fluent methods
+ * @param <LISTENER_TYPE> listener type
+ * @param <EVENT_TYPE> event type
+ */
 public class EventManager<SOURCE_TYPE, LISTENER_TYPE extends Listener, EVENT_TYPE> {
+    private static final ListenerEntry<?, ?>[] EMPTY = new ListenerEntry<?, ?>[0];
+
     private Logger logger = LoggerFactory.getLogger(this.getClass());
     private final SOURCE_TYPE source;
-    private final Set<LISTENER_TYPE> listeners = new CopyOnWriteArraySet<>();
     private final EventDelegate<LISTENER_TYPE,EVENT_TYPE> delegate;
+    private final Object lock = new Object();
+    private volatile ListenerEntry<LISTENER_TYPE, EVENT_TYPE>[] listeners = empty();
+    private volatile boolean inlineOnly = true;
 
     public EventManager(SOURCE_TYPE source, EventDelegate<LISTENER_TYPE,EVENT_TYPE> delegate){
         this.source = source;
         this.delegate = delegate;
     }
 
+    /**
+     * Add listeners that receive events inline on the dispatching thread.
+     * Listeners that are already registered keep their current options.
+     *
+     * @param listener listeners to add
+     * @return the event source
+     */
     public SOURCE_TYPE add(LISTENER_TYPE ... listener){
-        listeners.addAll(List.of(listener));
+        synchronized (this.lock) {
+            for (LISTENER_TYPE l : listener) {
+                if (indexOf(this.listeners, l) < 0)
+                    update(append(this.listeners, new ListenerEntry<>(l, ListenerOptions.inline(), logger)));
+            }
+        }
+        return this.source;
+    }
+
+    /**
+     * Add listeners using the given dispatch options.  Listeners that are already
+     * registered are re-registered with the new options.
+     *
+     * @param options dispatch options for the listeners
+     * @param listener listeners to add
+     * @return the event source
+     */
+    public SOURCE_TYPE add(ListenerOptions options, LISTENER_TYPE ... listener){
+        synchronized (this.lock) {
+            for (LISTENER_TYPE l : listener) {
+                ListenerEntry<LISTENER_TYPE, EVENT_TYPE>[] current = this.listeners;
+                int index = indexOf(current, l);
+                ListenerEntry<LISTENER_TYPE, EVENT_TYPE> entry = new ListenerEntry<>(l, options, logger);
+                if (index < 0) {
+                    update(append(current, entry));
+                } else {
+                    ListenerEntry<LISTENER_TYPE, EVENT_TYPE>[] updated = current.clone();
+                    updated[index] = entry;
+                    update(updated);
+                    current[index].shutdown();
+                }
+            }
+        }
         return this.source;
     }
 
     public SOURCE_TYPE remove(LISTENER_TYPE ... listener){
-        listeners.removeAll(List.of(listener));
+        synchronized (this.lock) {
+            for (LISTENER_TYPE l : listener) {
+                ListenerEntry<LISTENER_TYPE, EVENT_TYPE>[] current = this.listeners;
+                int index = indexOf(current, l);
+                if (index < 0)
+                    continue;
+                ListenerEntry<LISTENER_TYPE, EVENT_TYPE>[] updated = Arrays.copyOf(current, current.length - 1);
+                System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+                update(updated);
+                current[index].shutdown();
+            }
+        }
         return this.source;
     }
 
     public SOURCE_TYPE clear(){
-        this.listeners.clear();
+        ListenerEntry<LISTENER_TYPE, EVENT_TYPE>[] removed;
+        synchronized (this.lock) {
+            removed = this.listeners;
+            update(empty());
+        }
+        for (ListenerEntry<LISTENER_TYPE, EVENT_TYPE> entry : removed) {
+            entry.shutdown();
+        }
         return this.source;
     }
 
+    /**
+     * @return TRUE if every registered listener receives events inline on the dispatching thread,
+     *         i.e. an event instance is no longer referenced once {@link #dispatch(Object)} returns
+     */
+    public boolean isInlineOnly(){
+        return this.inlineOnly;
+    }
+
+    /**
+     * @return TRUE if at least one listener is registered
+     */
+    public boolean hasListeners(){
+        return this.listeners.length > 0;
+    }
+
+    /**
+     * Get the delivery statistics of a registered listener.
+     *
+     * @param listener registered listener
+     * @return the listener statistics, or NULL if the listener is not registered
+     */
+    public ListenerStatistics statistics(LISTENER_TYPE listener){
+        ListenerEntry<LISTENER_TYPE, EVENT_TYPE>[] current = this.listeners;
+        int index = indexOf(current, listener);
+        return index < 0 ? null : current[index].statistics;
+    }
+
+    /**
+     * @return the delivery statistics of all registered listeners
+     */
+    public List<ListenerStatistics> statistics(){
+        ListenerEntry<LISTENER_TYPE, EVENT_TYPE>[] current = this.listeners;
+        List<ListenerStatistics> result = new ArrayList<>(current.length);
+        for (ListenerEntry<LISTENER_TYPE, EVENT_TYPE> entry : current) {
+            result.add(entry.statistics);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
     public SOURCE_TYPE dispatch(EVENT_TYPE event){
-        listeners.forEach(listener->{
-            try {
-                this.delegate.dispatch(listener, event);
-            }
-            catch (Exception e){
-                logger.error(e.getMessage(), e);
-            }
-        });
-        return this.source;
+        return dispatch(event, this.delegate);
     }
 
     public SOURCE_TYPE dispatch(EVENT_TYPE event, EventDelegate<LISTENER_TYPE,EVENT_TYPE> delegate){
-        listeners.forEach(listener->{
-            try {
-                delegate.dispatch(listener, event);
-            }
-            catch (Exception e){
-                logger.error(e.getMessage(), e);
-            }
-        });
+        final ListenerEntry<LISTENER_TYPE, EVENT_TYPE>[] snapshot = this.listeners;
+        if (snapshot.length == 0)
+            return this.source;
+
+        final long timestamp = System.nanoTime();
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i].dispatch(delegate, event, timestamp);
+        }
         return this.source;
     }
 
+    private void update(ListenerEntry<LISTENER_TYPE, EVENT_TYPE>[] entries){
+        boolean inline = true;
+        for (ListenerEntry<LISTENER_TYPE, EVENT_TYPE> entry : entries) {
+            inline &= entry.options.mode() == DispatchMode.INLINE;
+        }
+        this.listeners = entries;
+        this.inlineOnly = inline;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <L extends Listener, E> ListenerEntry<L, E>[] empty(){
+        // holds no elements, so it is an array of any entry type
+        return (ListenerEntry<L, E>[]) EMPTY;
+    }
+
+    private static <L extends Listener, E> int indexOf(ListenerEntry<L, E>[] entries, Object listener){
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i].listener.equals(listener))
+                return i;
+        }
+        return -1;
+    }
+
+    private static <L extends Listener, E> ListenerEntry<L, E>[] append(ListenerEntry<L, E>[] entries,
+                                                                        ListenerEntry<L, E> entry){
+        ListenerEntry<L, E>[] updated = Arrays.copyOf(entries, entries.length + 1);
+        updated[entries.length] = entry;
+        return updated;
+    }
 }
@@ -0,0 +1,124 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  EventRingBuffer.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>Bounded, lock-free multi-producer/multi-consumer ring buffer used to hand events
+ * off from the dispatching thread to a listener thread.</p>
+ *
+ * <p>Each slot holds the event, the delegate used to deliver it and the dispatch timestamp in
+ * parallel arrays, so offering and polling do not allocate.  Slot ownership is tracked with a
+ * per-slot sequence number (D. Vyukov's bounded queue algorithm).</p>
+ */
+final class EventRingBuffer {
+
+    /**
+     * Receives the contents of a polled slot.
+     */
+    interface Sink {
+        void accept(Object event, Object delegate, long timestamp);
+    }
+
+    private final int mask;
+    private final Object[] events;
+    private final Object[] delegates;
+    private final long[] timestamps;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    EventRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.mask = size - 1;
+        this.events = new Object[size];
+        this.delegates = new Object[size];
+        this.timestamps = new long[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            this.sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return this.mask + 1;
+    }
+
+    long size() {
+        return Math.max(0, this.tail.get() - this.head.get());
+    }
+
+    boolean offer(Object event, Object delegate, long timestamp) {
+        long position = this.tail.get();
+        for (;;) {
+            int index = (int) (position & this.mask);
+            long difference = this.sequences.get(index) - position;
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.events[index] = event;
+                    this.delegates[index] = delegate;
+                    this.timestamps[index] = timestamp;
+                    this.sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = this.tail.get();
+            } else if (difference < 0) {
+                // buffer is full
+                return false;
+            } else {
+                position = this.tail.get();
+            }
+        }
+    }
+
+    boolean poll(Sink sink) {
+        long position = this.head.get();
+        for (;;) {
+            int index = (int) (position & this.mask);
+            long difference = this.sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (this.head.compareAndSet(position, position + 1)) {
+                    Object event = this.events[index];
+                    Object delegate = this.delegates[index];
+                    long timestamp = this.timestamps[index];
+                    this.events[index] = null;
+                    this.delegates[index] = null;
+                    this.sequences.lazySet(index, position + this.mask + 1);
+                    sink.accept(event, delegate, timestamp);
+                    return true;
+                }
+                position = this.head.get();
+            } else if (difference < 0) {
+                // buffer is empty
+                return false;
+            } else {
+                position = this.head.get();
+            }
+        }
+    }
+}
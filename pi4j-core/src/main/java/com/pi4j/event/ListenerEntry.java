@@ -0,0 +1,349 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  ListenerEntry.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.slf4j.Logger;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>A listener registered with an {@link EventManager} together with its dispatch strategy and statistics.</p>
+ *
+ * @param <LISTENER_TYPE> listener type
+ * @param <EVENT_TYPE> event type
+ */
+final class ListenerEntry<LISTENER_TYPE extends Listener, EVENT_TYPE> implements EventRingBuffer.Sink, Runnable {
+
+    private static final AtomicInteger threadNumber = new AtomicInteger(1);
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final EventRingBuffer.Sink DISCARD = (event, delegate, timestamp) -> { };
+    private static final int ORDERED_BATCH = 256;
+
+    final LISTENER_TYPE listener;
+    final ListenerOptions options;
+    final ListenerStatistics statistics;
+    private final Logger logger;
+
+    // ORDERED mode; queued events are delivered by a single task, which is on the executor while scheduled
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final EventQueue queue;
+    private final Runnable drain = this::drain;
+    private boolean scheduled;
+
+    // BUFFERED mode
+    private final EventRingBuffer ring;
+    private final Thread worker;
+    private volatile boolean running;
+    private volatile boolean parked;
+
+    ListenerEntry(LISTENER_TYPE listener, ListenerOptions options, Logger logger) {
+        this.listener = listener;
+        this.options = options;
+        this.logger = logger;
+        this.statistics = new ListenerStatistics(listener, options);
+
+        switch (options.mode()) {
+            case ORDERED: {
+                this.ownsExecutor = options.executor() == null;
+                this.executor = this.ownsExecutor
+                    ? Executors.newSingleThreadExecutor(r -> newThread(r))
+                    : options.executor();
+                this.queue = new EventQueue();
+                this.statistics.pending(this::queued);
+                this.ring = null;
+                this.worker = null;
+                break;
+            }
+            case BUFFERED: {
+                this.executor = null;
+                this.ownsExecutor = false;
+                this.queue = null;
+                this.ring = new EventRingBuffer(options.capacity());
+                this.statistics.pending(this.ring::size);
+                this.running = true;
+                this.worker = newThread(this);
+                this.worker.start();
+                break;
+            }
+            default: {
+                this.executor = null;
+                this.ownsExecutor = false;
+                this.queue = null;
+                this.ring = null;
+                this.worker = null;
+                break;
+            }
+        }
+    }
+
+    private static Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "Pi4J.EVENTS-" + threadNumber.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Dispatch an event to this listener according to its dispatch mode.
+     *
+     * @param delegate delegate used to invoke the listener
+     * @param event event to deliver
+     * @param timestamp {@link System#nanoTime()} at which the event was dispatched
+     */
+    void dispatch(EventDelegate<LISTENER_TYPE, EVENT_TYPE> delegate, EVENT_TYPE event, long timestamp) {
+        switch (this.options.mode()) {
+            case ORDERED: {
+                if (this.executor instanceof ExecutorService && ((ExecutorService) this.executor).isShutdown()) {
+                    // a delivery task still scheduled on the executor will never run
+                    discardQueued();
+                    this.statistics.recordDropped();
+                    return;
+                }
+                synchronized (this.queue) {
+                    this.queue.offer(event, delegate, timestamp);
+                    if (this.scheduled)
+                        return;
+                    this.scheduled = true;
+                }
+                schedule();
+                break;
+            }
+            case BUFFERED: {
+                if (!this.running) {
+                    this.statistics.recordDropped();
+                    return;
+                }
+                if (!this.ring.offer(event, delegate, timestamp)) {
+                    switch (this.options.overflowPolicy()) {
+                        case DROP_OLDEST: {
+                            this.ring.poll(DISCARD);
+                            this.statistics.recordDropped();
+                            if (!this.ring.offer(event, delegate, timestamp))
+                                this.statistics.recordDropped();
+                            break;
+                        }
+                        case CALLER_RUNS: {
+                            deliver(delegate, event, timestamp);
+                            return;
+                        }
+                        default: {
+                            this.statistics.recordDropped();
+                            return;
+                        }
+                    }
+                }
+                if (this.parked)
+                    LockSupport.unpark(this.worker);
+                break;
+            }
+            default: {
+                deliver(delegate, event, timestamp);
+                break;
+            }
+        }
+    }
+
+    private void deliver(EventDelegate<LISTENER_TYPE, EVENT_TYPE> delegate, EVENT_TYPE event, long timestamp) {
+        try {
+            delegate.dispatch(this.listener, event);
+        } catch (Exception e) {
+            this.statistics.recordFailed();
+            this.logger.error(e.getMessage(), e);
+        }
+        this.statistics.recordDelivered(System.nanoTime() - timestamp);
+    }
+
+    private void schedule() {
+        try {
+            this.executor.execute(this.drain);
+        } catch (RejectedExecutionException e) {
+            discardQueued();
+        }
+    }
+
+    private void discardQueued() {
+        synchronized (this.queue) {
+            for (int i = this.queue.size(); i > 0; i--)
+                this.statistics.recordDropped();
+            this.queue.clear();
+            this.scheduled = false;
+        }
+    }
+
+    /**
+     * Delivery task of {@link DispatchMode#ORDERED} listeners; delivers the queued events in order and
+     * yields the executor after a batch, so that a busy listener does not monopolize a shared executor.
+     */
+    private void drain() {
+        EventQueue queue = this.queue;
+        for (int i = 0; i < ORDERED_BATCH; i++) {
+            synchronized (queue) {
+                if (!queue.take()) {
+                    this.scheduled = false;
+                    return;
+                }
+            }
+            deliver(queue.delegate(), queue.event(), queue.timestamp);
+            queue.release();
+        }
+        schedule();
+    }
+
+    private long queued() {
+        synchronized (this.queue) {
+            return this.queue.size();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void accept(Object event, Object delegate, long timestamp) {
+        deliver((EventDelegate<LISTENER_TYPE, EVENT_TYPE>) delegate, (EVENT_TYPE) event, timestamp);
+    }
+
+    /**
+     * Ring buffer drain loop for {@link DispatchMode#BUFFERED} listeners.
+     */
+    @Override
+    public void run() {
+        while (this.running) {
+            if (this.ring.poll(this))
+                continue;
+
+            // nothing to deliver; announce that we are about to park and re-check
+            // the buffer to avoid missing an event offered in between
+            this.parked = true;
+            if (this.ring.size() == 0 && this.running)
+                LockSupport.parkNanos(this, PARK_NANOS);
+            this.parked = false;
+        }
+    }
+
+    /**
+     * Stop delivering events and release any threads owned by this entry.
+     * Events still queued are discarded.
+     */
+    void shutdown() {
+        if (this.ownsExecutor)
+            ((ExecutorService) this.executor).shutdownNow();
+        if (this.worker != null) {
+            this.running = false;
+            LockSupport.unpark(this.worker);
+        }
+    }
+
+    /**
+     * Unbounded FIFO of events for {@link DispatchMode#ORDERED} listeners, stored in parallel arrays that
+     * only grow, so queueing an event does not allocate.  Guarded by its own monitor, except for the
+     * taken event, which is only accessed by the delivery task.
+     */
+    private final class EventQueue {
+        private Object[] events = new Object[16];
+        private Object[] delegates = new Object[16];
+        private long[] timestamps = new long[16];
+        private int head;
+        private int size;
+
+        // the event taken by the delivery task
+        private Object event;
+        private Object delegate;
+        private long timestamp;
+
+        void offer(Object event, Object delegate, long timestamp) {
+            if (this.size == this.events.length)
+                grow();
+            int index = (this.head + this.size) & (this.events.length - 1);
+            this.events[index] = event;
+            this.delegates[index] = delegate;
+            this.timestamps[index] = timestamp;
+            this.size++;
+        }
+
+        boolean take() {
+            if (this.size == 0)
+                return false;
+            this.event = this.events[this.head];
+            this.delegate = this.delegates[this.head];
+            this.timestamp = this.timestamps[this.head];
+            this.events[this.head] = null;
+            this.delegates[this.head] = null;
+            this.head = (this.head + 1) & (this.events.length - 1);
+            this.size--;
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        EVENT_TYPE event() {
+            return (EVENT_TYPE) this.event;
+        }
+
+        @SuppressWarnings("unchecked")
+        EventDelegate<LISTENER_TYPE, EVENT_TYPE> delegate() {
+            return (EventDelegate<LISTENER_TYPE, EVENT_TYPE>) this.delegate;
+        }
+
+        void release() {
+            this.event = null;
+            this.delegate = null;
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        void clear() {
+            Arrays.fill(this.events, null);
+            Arrays.fill(this.delegates, null);
+            this.head = 0;
+            this.size = 0;
+        }
+
+        private void grow() {
+            int length = this.events.length;
+            Object[] events = new Object[length << 1];
+            Object[] delegates = new Object[length << 1];
+            long[] timestamps = new long[length << 1];
+            for (int i = 0; i < this.size; i++) {
+                int index = (this.head + i) & (length - 1);
+                events[i] = this.events[index];
+                delegates[i] = this.delegates[index];
+                timestamps[i] = this.timestamps[index];
+            }
+            this.events = events;
+            this.delegates = delegates;
+            this.timestamps = timestamps;
+            this.head = 0;
+        }
+    }
+}
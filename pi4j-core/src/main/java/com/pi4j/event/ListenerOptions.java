@@ -0,0 +1,138 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  ListenerOptions.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>Immutable options describing how an {@link EventManager} delivers events to a single listener.</p>
+ *
+ * <p>Use one of the static factory methods to create an instance, e.g.:</p>
+ * <pre>
+ *     input.addListener(ListenerOptions.buffered(1024, OverflowPolicy.DROP_OLDEST), listener);
+ * </pre>
+ */
+public final class ListenerOptions {
+
+    /** Default ring buffer capacity used for {@link DispatchMode#BUFFERED} listeners. */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private static final ListenerOptions INLINE = new ListenerOptions(DispatchMode.INLINE, 0, OverflowPolicy.DROP_NEWEST, null);
+
+    private final DispatchMode mode;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor executor;
+
+    private ListenerOptions(DispatchMode mode, int capacity, OverflowPolicy overflowPolicy, Executor executor) {
+        this.mode = mode;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.executor = executor;
+    }
+
+    /**
+     * Events are delivered synchronously on the dispatching thread.
+     *
+     * @return inline listener options
+     */
+    public static ListenerOptions inline() {
+        return INLINE;
+    }
+
+    /**
+     * Events are delivered in order on a dedicated single thread owned by the event manager.
+     *
+     * @return ordered listener options
+     */
+    public static ListenerOptions ordered() {
+        return new ListenerOptions(DispatchMode.ORDERED, 0, OverflowPolicy.DROP_NEWEST, null);
+    }
+
+    /**
+     * Events are delivered on the given executor, in order and one at a time even if the executor
+     * has several threads.  The caller is responsible for the lifecycle of the executor; the event
+     * manager never shuts it down.
+     *
+     * @param executor executor used to deliver events
+     * @return ordered listener options
+     */
+    public static ListenerOptions ordered(Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        return new ListenerOptions(DispatchMode.ORDERED, 0, OverflowPolicy.DROP_NEWEST, executor);
+    }
+
+    /**
+     * Events are handed off to a bounded ring buffer of {@link #DEFAULT_CAPACITY} and
+     * the newest event is dropped on overflow.
+     *
+     * @return buffered listener options
+     */
+    public static ListenerOptions buffered() {
+        return buffered(DEFAULT_CAPACITY, OverflowPolicy.DROP_NEWEST);
+    }
+
+    /**
+     * Events are handed off to a bounded ring buffer drained by a dedicated thread.
+     *
+     * @param capacity minimum number of events that can be buffered (rounded up to a power of two)
+     * @param overflowPolicy what to do with an event when the buffer is full
+     * @return buffered listener options
+     */
+    public static ListenerOptions buffered(int capacity, OverflowPolicy overflowPolicy) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("capacity must be greater than zero");
+        Objects.requireNonNull(overflowPolicy, "overflowPolicy");
+        return new ListenerOptions(DispatchMode.BUFFERED, capacity, overflowPolicy, null);
+    }
+
+    public DispatchMode mode() {
+        return mode;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public OverflowPolicy overflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public Executor executor() {
+        return executor;
+    }
+
+    @Override
+    public String toString() {
+        switch (mode) {
+            case BUFFERED:
+                return "BUFFERED[capacity=" + capacity + ", overflow=" + overflowPolicy + "]";
+            default:
+                return mode.name();
+        }
+    }
+}
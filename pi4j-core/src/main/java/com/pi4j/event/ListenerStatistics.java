@@ -0,0 +1,159 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  ListenerStatistics.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Live delivery counters for a single listener registered with an {@link EventManager}.</p>
+ *
+ * <p>Latency is measured from the moment the event was dispatched until the listener
+ * returned, so for asynchronous listeners it includes the time spent queued.</p>
+ */
+public final class ListenerStatistics {
+
+    private final Listener listener;
+    private final ListenerOptions options;
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+    private volatile PendingCounter pending;
+
+    ListenerStatistics(Listener listener, ListenerOptions options) {
+        this.listener = listener;
+        this.options = options;
+    }
+
+    void pending(PendingCounter pending) {
+        this.pending = pending;
+    }
+
+    void recordDelivered(long latencyNanos) {
+        this.delivered.incrementAndGet();
+        this.totalLatency.addAndGet(latencyNanos);
+        long max = this.maxLatency.get();
+        while (latencyNanos > max && !this.maxLatency.compareAndSet(max, latencyNanos)) {
+            max = this.maxLatency.get();
+        }
+    }
+
+    void recordDropped() {
+        this.dropped.incrementAndGet();
+    }
+
+    void recordFailed() {
+        this.failed.incrementAndGet();
+    }
+
+    /**
+     * @return the listener these statistics belong to
+     */
+    public Listener listener() {
+        return listener;
+    }
+
+    /**
+     * @return the options the listener was registered with
+     */
+    public ListenerOptions options() {
+        return options;
+    }
+
+    /**
+     * @return number of events delivered to the listener (including deliveries that threw an exception)
+     */
+    public long delivered() {
+        return delivered.get();
+    }
+
+    /**
+     * @return number of events discarded because the listener's buffer was full or its executor rejected them
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * @return number of deliveries where the listener threw an exception
+     */
+    public long failed() {
+        return failed.get();
+    }
+
+    /**
+     * @return number of events currently waiting to be delivered
+     */
+    public long pending() {
+        PendingCounter counter = this.pending;
+        return counter == null ? 0 : counter.pending();
+    }
+
+    /**
+     * @return average dispatch-to-completion latency in nanoseconds
+     */
+    public long averageLatencyNanos() {
+        long count = delivered.get();
+        return count == 0 ? 0 : totalLatency.get() / count;
+    }
+
+    /**
+     * @return maximum dispatch-to-completion latency in nanoseconds
+     */
+    public long maxLatencyNanos() {
+        return maxLatency.get();
+    }
+
+    /**
+     * Reset all counters to zero.
+     */
+    public void reset() {
+        delivered.set(0);
+        dropped.set(0);
+        failed.set(0);
+        totalLatency.set(0);
+        maxLatency.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "ListenerStatistics{" +
+            "listener=" + listener +
+            ", options=" + options +
+            ", delivered=" + delivered() +
+            ", dropped=" + dropped() +
+            ", failed=" + failed() +
+            ", pending=" + pending() +
+            ", avgLatencyNs=" + averageLatencyNanos() +
+            ", maxLatencyNs=" + maxLatencyNanos() +
+            '}';
+    }
+
+    interface PendingCounter {
+        long pending();
+    }
+}
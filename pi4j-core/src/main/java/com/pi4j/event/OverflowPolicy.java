@@ -0,0 +1,50 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  OverflowPolicy.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Defines what a {@link DispatchMode#BUFFERED} listener does with an event when its ring buffer is full.</p>
+ *
+ * @see ListenerOptions
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Discard the new event; events already buffered are kept.
+     */
+    DROP_NEWEST,
+
+    /**
+     * Discard the oldest buffered event to make room for the new event.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Deliver the new event synchronously on the dispatching thread.
+     * No events are lost, but the producer is throttled to the listener speed.
+     */
+    CALLER_RUNS
+}
@@ -30,6 +30,7 @@ import com.pi4j.common.IdentityBase;
 import com.pi4j.context.Context;
 import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
+import com.pi4j.metrics.OperationMetrics;
 import com.pi4j.provider.Provider;
 
 
@@ -94,6 +95,18 @@ public abstract class IOBase<IO_TYPE extends IO, CONFIG_TYPE extends IOConfig, P
         return this.context;
     }
 
+    /**
+     * Get the metrics of an operation of this I/O instance; instrumented subclasses look up their
+     * operations once when they are initialized.
+     *
+     * @param operation name of the operation
+     * @return the metrics of the operation, or {@link OperationMetrics#DISABLED} if metrics are disabled
+     *         or this instance has not been initialized
+     */
+    protected OperationMetrics metrics(String operation) {
+        return this.context != null ? this.context.metrics().operation(this.id, operation) : OperationMetrics.DISABLED;
+    }
+
     /** {@inheritDoc} */
     @Override
     public IO_TYPE initialize(Context context) throws InitializeException {
@@ -40,4 +40,17 @@ public interface Binding<BINDING_TYPE extends Binding, MEMBER_TYPE> {
     BINDING_TYPE remove(MEMBER_TYPE ... member);
     BINDING_TYPE removeAll();
     Collection<MEMBER_TYPE> members();
+
+    /**
+     * Set how source changes are propagated to the members
+     *
+     * @param options the propagation options
+     * @return this binding
+     */
+    BINDING_TYPE options(BindingOptions options);
+
+    /**
+     * @return how source changes are propagated to the members
+     */
+    BindingOptions options();
 }
@@ -25,6 +25,8 @@ package com.pi4j.io.binding;
  * #L%
  */
 
+import com.pi4j.io.IO;
+import com.pi4j.io.binding.impl.BindingBase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +50,10 @@ public class BindingManager<SOURCE_TYPE, BINDING_TYPE extends Binding, EVENT_TYP
         return this.source;
     }
 
+    public boolean hasBindings(){
+        return !this.bindings.isEmpty();
+    }
+
     public SOURCE_TYPE process(EVENT_TYPE event){
         bindings.forEach(binding->{
             try {
@@ -62,6 +68,12 @@ public class BindingManager<SOURCE_TYPE, BINDING_TYPE extends Binding, EVENT_TYP
 
     @Override
     public SOURCE_TYPE bind(BINDING_TYPE... binding) {
+        if (source instanceof IO && ((IO) source).provider() != null) {
+            for (BINDING_TYPE b : binding) {
+                if (b instanceof BindingBase)
+                    ((BindingBase) b).bound(((IO) source).provider().context());
+            }
+        }
         bindings.addAll(List.of(binding));
         return this.source;
     }
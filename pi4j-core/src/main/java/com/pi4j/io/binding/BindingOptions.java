@@ -0,0 +1,152 @@
+package com.pi4j.io.binding;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  BindingOptions.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>Immutable options describing how a binding propagates source changes to its members.</p>
+ *
+ * <p>By default changes are propagated inline, i.e. every member is updated on the thread that
+ * dispatched the source's event.  Coalescing bindings hand the change off instead: only the latest
+ * pending value is kept and written to the members on a propagation thread, optionally no more often
+ * than a maximum rate, so a chattering source does not flood slow members nor block its event thread.
+ * Batched bindings write digital members sharing a provider that implements
+ * {@link com.pi4j.io.gpio.digital.DigitalBankWriter} with a single bank write per bank.</p>
+ *
+ * <pre>
+ *     input.bind(DigitalOutputBinding.newInstance(output)
+ *         .options(BindingOptions.coalescing().maxRate(50).batched(true)));
+ * </pre>
+ */
+public final class BindingOptions {
+
+    private static final BindingOptions INLINE = new BindingOptions(false, null, 0, false);
+
+    private final boolean coalescing;
+    private final Executor executor;
+    private final long minInterval;
+    private final boolean batched;
+
+    private BindingOptions(boolean coalescing, Executor executor, long minInterval, boolean batched) {
+        this.coalescing = coalescing;
+        this.executor = executor;
+        this.minInterval = minInterval;
+        this.batched = batched;
+    }
+
+    /**
+     * Changes are propagated synchronously on the dispatching thread.
+     *
+     * @return inline binding options
+     */
+    public static BindingOptions inline() {
+        return INLINE;
+    }
+
+    /**
+     * Changes are coalesced to the latest value and propagated on the task pool of the Pi4J context the
+     * binding is bound in; pending propagations are stopped when the context shuts down.
+     *
+     * @return coalescing binding options
+     */
+    public static BindingOptions coalescing() {
+        return new BindingOptions(true, null, 0, false);
+    }
+
+    /**
+     * Changes are coalesced to the latest value and propagated on the given executor.  The caller is
+     * responsible for the lifecycle of the executor; a binding never shuts it down.
+     *
+     * @param executor executor used to propagate changes
+     * @return coalescing binding options
+     */
+    public static BindingOptions coalescing(Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        return new BindingOptions(true, executor, 0, false);
+    }
+
+    /**
+     * Limit the rate at which members are updated; changes arriving faster are coalesced.
+     *
+     * @param updatesPerSecond maximum number of member updates per second; 0 for no limit
+     * @return a copy of these options with the rate limit
+     */
+    public BindingOptions maxRate(double updatesPerSecond) {
+        if (!coalescing)
+            throw new IllegalStateException("only coalescing bindings can be rate limited");
+        if (updatesPerSecond < 0 || Double.isNaN(updatesPerSecond))
+            throw new IllegalArgumentException("rate must not be negative; got " + updatesPerSecond);
+        long interval = updatesPerSecond == 0 ? 0 : (long) (1_000_000_000L / updatesPerSecond);
+        return new BindingOptions(true, executor, interval, batched);
+    }
+
+    /**
+     * Write digital members sharing a bank-capable provider with a single bank write per bank.
+     *
+     * @param batched true to batch member writes
+     * @return a copy of these options with the batching mode
+     */
+    public BindingOptions batched(boolean batched) {
+        return new BindingOptions(coalescing, executor, minInterval, batched);
+    }
+
+    /**
+     * @return true if changes are coalesced and propagated off the dispatching thread
+     */
+    public boolean isCoalescing() {
+        return coalescing;
+    }
+
+    /**
+     * @return the executor propagating changes, or null if the task pool of the context is used
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * @return minimum interval between member updates in nanoseconds; 0 for no limit
+     */
+    public long minInterval() {
+        return minInterval;
+    }
+
+    /**
+     * @return true if member writes are batched per provider bank
+     */
+    public boolean isBatched() {
+        return batched;
+    }
+
+    @Override
+    public String toString() {
+        if (!coalescing)
+            return batched ? "INLINE[batched]" : "INLINE";
+        return "COALESCING[minInterval=" + minInterval + "ns, batched=" + batched + "]";
+    }
+}
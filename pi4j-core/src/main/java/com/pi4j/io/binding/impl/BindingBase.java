@@ -25,13 +25,16 @@ package com.pi4j.io.binding.impl;
  * #L%
  */
 
+import com.pi4j.context.Context;
 import com.pi4j.io.binding.Binding;
+import com.pi4j.io.binding.BindingOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 
@@ -40,6 +43,9 @@ public class BindingBase<BINDING_TYPE extends Binding, MEMBER_TYPE> implements B
     protected Logger logger = LoggerFactory.getLogger(this.getClass());
     protected boolean state = false;
     protected Set<MEMBER_TYPE> members = new CopyOnWriteArraySet<>();
+    private volatile BindingOptions options = BindingOptions.inline();
+    private volatile CoalescingPropagator propagator;
+    private volatile Context context;
 
     public BindingBase(MEMBER_TYPE ... member){
         add(member);
@@ -48,18 +54,21 @@ public class BindingBase<BINDING_TYPE extends Binding, MEMBER_TYPE> implements B
     @Override
     public BINDING_TYPE add(MEMBER_TYPE... member) {
         members.addAll(List.of(member));
+        membersChanged();
         return (BINDING_TYPE)this;
     }
 
     @Override
     public BINDING_TYPE remove(MEMBER_TYPE... member) {
-        members.removeAll(List.of(members));
+        members.removeAll(List.of(member));
+        membersChanged();
         return (BINDING_TYPE)this;
     }
 
     @Override
     public BINDING_TYPE removeAll() {
         members.clear();
+        membersChanged();
         return (BINDING_TYPE)this;
     }
 
@@ -67,4 +76,61 @@ public class BindingBase<BINDING_TYPE extends Binding, MEMBER_TYPE> implements B
     public Collection<MEMBER_TYPE> members() {
         return Collections.unmodifiableSet(members);
     }
+
+    @Override
+    public synchronized BINDING_TYPE options(BindingOptions options) {
+        Objects.requireNonNull(options, "options");
+        this.options = options;
+        this.propagator = options.isCoalescing()
+            ? new CoalescingPropagator(options, () -> this.context, this::apply, logger) : null;
+        membersChanged();
+        return (BINDING_TYPE)this;
+    }
+
+    @Override
+    public BindingOptions options() {
+        return this.options;
+    }
+
+    /**
+     * Called when this binding is bound to a source; coalescing bindings without an executor of their
+     * own propagate changes on the task pool of the first context they are bound in, and rate limited
+     * ones wait for their next slot on its scheduler.
+     *
+     * @param context the context of the source
+     */
+    public void bound(Context context) {
+        if (context != null && this.context == null)
+            this.context = context;
+    }
+
+    /**
+     * Propagate a source change to the members according to the binding options.  The change must be
+     * encoded as a primitive, so that a pooled source event is no longer referenced afterwards.
+     *
+     * @param value the change, as encoded by the binding; never {@link Long#MIN_VALUE}
+     */
+    protected void propagate(long value) {
+        CoalescingPropagator propagator = this.propagator;
+        if (propagator == null) {
+            apply(value);
+        } else {
+            propagator.offer(value);
+        }
+    }
+
+    /**
+     * Write a propagated change to the members; called on the dispatching thread by inline bindings
+     * and on the propagation thread by coalescing ones
+     *
+     * @param value the change, as encoded by the binding
+     */
+    protected void apply(long value) {
+    }
+
+    /**
+     * Called whenever the members or the options of this binding change
+     */
+    protected void membersChanged() {
+    }
 }
@@ -0,0 +1,155 @@
+package com.pi4j.io.binding.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  CoalescingPropagator.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.io.binding.BindingOptions;
+import org.slf4j.Logger;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * <p>Propagates the changes of a coalescing binding off the dispatching thread.</p>
+ *
+ * <p>Only the latest offered value is kept; at most one propagation task is queued at any time, and it
+ * keeps writing until no value is pending.  With a minimum interval a change offered before the next
+ * slot is not written right away: the task is resubmitted by the scheduler of the context once the slot
+ * is reached, so no thread blocks in between and changes arriving during the wait are coalesced as
+ * well.</p>
+ *
+ * <p>Without an executor in the binding options, the task pool of the context the binding is bound
+ * to is used, so that the propagation tasks are stopped with the context.  A binding that is not bound
+ * in a context has no scheduler and waits for its next slot on the propagating thread.</p>
+ */
+final class CoalescingPropagator implements Runnable {
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final Executor executor;
+    private final Supplier<Context> context;
+    private final long minInterval;
+    private final LongConsumer sink;
+    private final Logger logger;
+    private final AtomicLong pending = new AtomicLong(NONE);
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Runnable resume = this::submit;
+
+    // only accessed by the propagation task; ordered by the scheduled flag
+    private long lastWrite;
+    private boolean written;
+
+    CoalescingPropagator(BindingOptions options, Supplier<Context> context, LongConsumer sink, Logger logger) {
+        this.executor = options.executor();
+        this.context = context;
+        this.minInterval = options.minInterval();
+        this.sink = sink;
+        this.logger = logger;
+    }
+
+    /**
+     * Offer a value, replacing any value that has not been propagated yet
+     *
+     * @param value the value; never {@link Long#MIN_VALUE}
+     */
+    void offer(long value) {
+        pending.set(value);
+        if (scheduled.compareAndSet(false, true))
+            submit();
+    }
+
+    // hand the scheduled task to its executor
+    private void submit() {
+        Context context = this.context.get();
+        if (executor == null && context == null) {
+            // not bound to a source of a context; propagate on the dispatching thread
+            run();
+            return;
+        }
+        try {
+            if (executor != null)
+                executor.execute(this);
+            else
+                context.submitTask(this);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+            logger.warn("Binding propagation rejected by its executor; {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void run() {
+        do {
+            if (written && minInterval > 0) {
+                long wait = lastWrite + minInterval - System.nanoTime();
+                if (wait > 0 && delay(wait))
+                    return;
+            }
+            long value = pending.getAndSet(NONE);
+            if (value != NONE) {
+                try {
+                    sink.accept(value);
+                } catch (Exception e) {
+                    logger.error(e.getMessage(), e);
+                }
+                lastWrite = System.nanoTime();
+                written = true;
+            }
+            scheduled.set(false);
+            // a value offered after the pending value was taken may have found the task still scheduled
+        } while (pending.get() != NONE && scheduled.compareAndSet(false, true));
+    }
+
+    /**
+     * Wait until the next slot; the task stays scheduled while it waits
+     *
+     * @param wait the time to the next slot in nanoseconds
+     * @return true if the task has been handed to the scheduler and must return, false if the slot
+     *         has been waited for on this thread
+     */
+    private boolean delay(long wait) {
+        Context context = this.context.get();
+        if (context == null) {
+            do {
+                LockSupport.parkNanos(this, wait);
+            } while ((wait = lastWrite + minInterval - System.nanoTime()) > 0);
+            return false;
+        }
+        try {
+            context.scheduleDelayedTask(resume, wait, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+            logger.warn("Binding propagation rejected by the scheduler; {}", e.getMessage());
+        }
+        return true;
+    }
+}
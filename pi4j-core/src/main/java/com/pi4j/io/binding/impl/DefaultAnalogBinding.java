@@ -53,9 +53,15 @@ public class DefaultAnalogBinding
     /** {@inheritDoc} */
     @Override
     public void process(AnalogValueChangeEvent event) {
+        propagate(event.intValue());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void apply(long value) {
         members.forEach((output)->{
             try {
-                ((AnalogOutput)output).value(event.value());
+                ((AnalogOutput)output).value((int) value);
             } catch (IOIllegalValueException | IOBoundsException e) {
                 logger.error(e.getMessage(), e);
             }
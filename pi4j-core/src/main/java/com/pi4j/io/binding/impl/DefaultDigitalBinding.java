@@ -27,15 +27,25 @@ package com.pi4j.io.binding.impl;
 
 import com.pi4j.io.binding.DigitalOutputBinding;
 import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.DigitalBankWriter;
 import com.pi4j.io.gpio.digital.DigitalOutput;
 import com.pi4j.io.gpio.digital.DigitalState;
 import com.pi4j.io.gpio.digital.DigitalStateChangeEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * <p>DigitalBindingSync class.</p>
  *
+ * <p>With batched {@link com.pi4j.io.binding.BindingOptions options}, members of providers implementing
+ * {@link DigitalBankWriter} are written with one bank write per provider and bank; the grouping is
+ * computed once whenever the members change.</p>
+ *
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
@@ -43,9 +53,14 @@ public class DefaultDigitalBinding
         extends BindingBase<DigitalOutputBinding, DigitalOutput>
         implements DigitalOutputBinding {
 
+    private static final DigitalState[] STATES = DigitalState.values();
+
     private Logger logger = LoggerFactory.getLogger(this.getClass());
     private boolean inverted = false;
 
+    // members grouped for batched writes; rebuilt whenever the members or the options change
+    private volatile Batch batch;
+
     /**
      * Default Constructor
      *
@@ -58,17 +73,38 @@ public class DefaultDigitalBinding
     /** {@inheritDoc} */
     @Override
     public void process(DigitalStateChangeEvent event) {
-        members.forEach((target)->{
-            try {
-                if(inverted){
-                    ((DigitalOutput)target).state(DigitalState.getInverseState(event.state()));
-                } else {
-                    ((DigitalOutput)target).state(event.state());
-                }
-            } catch (IOException e) {
-                logger.error(e.getMessage(), e);
+        // take the state now; a pooled event is reused once this method returns
+        DigitalState state = inverted ? DigitalState.getInverseState(event.state()) : event.state();
+        propagate(state.ordinal());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void apply(long value) {
+        DigitalState state = STATES[(int) value];
+        if (options().isBatched() && (state == DigitalState.HIGH || state == DigitalState.LOW)) {
+            Batch batch = this.batch;
+            if (batch != null) {
+                batch.write(state == DigitalState.HIGH);
+                return;
             }
-        });
+        }
+        members.forEach((target)->write(target, state));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected synchronized void membersChanged() {
+        // serialized, so that the grouping of the last change is also the last one published
+        this.batch = options().isBatched() ? new Batch(members) : null;
+    }
+
+    private void write(DigitalOutput target, DigitalState state) {
+        try {
+            target.state(state);
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+        }
     }
 
     @Override
@@ -81,4 +117,57 @@ public class DefaultDigitalBinding
     public boolean invertedState() {
         return this.inverted;
     }
+
+    /**
+     * Members grouped into bank writes, plus the members that are written one by one.
+     */
+    private final class Batch {
+        private final DigitalBankWriter[] writers;
+        private final int[] banks;
+        private final int[] masks;
+        private final DigitalOutput[] singles;
+
+        Batch(Iterable<DigitalOutput> members) {
+            Map<DigitalBankWriter, Map<Integer, Integer>> groups = new LinkedHashMap<>();
+            List<DigitalOutput> singles = new ArrayList<>();
+            for (DigitalOutput member : members) {
+                Integer address = member.config().address();
+                if (member.provider() instanceof DigitalBankWriter && address != null && address >= 0) {
+                    groups.computeIfAbsent((DigitalBankWriter) member.provider(), w -> new LinkedHashMap<>())
+                        .merge(address / DigitalBankWriter.BANK_SIZE, 1 << (address % DigitalBankWriter.BANK_SIZE),
+                            (a, b) -> a | b);
+                } else {
+                    singles.add(member);
+                }
+            }
+            int count = groups.values().stream().mapToInt(Map::size).sum();
+            this.writers = new DigitalBankWriter[count];
+            this.banks = new int[count];
+            this.masks = new int[count];
+            int i = 0;
+            for (Map.Entry<DigitalBankWriter, Map<Integer, Integer>> group : groups.entrySet()) {
+                for (Map.Entry<Integer, Integer> bank : group.getValue().entrySet()) {
+                    writers[i] = group.getKey();
+                    banks[i] = bank.getKey();
+                    masks[i] = bank.getValue();
+                    i++;
+                }
+            }
+            this.singles = singles.toArray(new DigitalOutput[0]);
+        }
+
+        void write(boolean high) {
+            for (int i = 0; i < writers.length; i++) {
+                try {
+                    writers[i].writeBank(banks[i], masks[i], high ? masks[i] : 0);
+                } catch (Exception e) {
+                    logger.error(e.getMessage(), e);
+                }
+            }
+            DigitalState state = high ? DigitalState.HIGH : DigitalState.LOW;
+            for (DigitalOutput single : singles) {
+                DefaultDigitalBinding.this.write(single, state);
+            }
+        }
+    }
 }
@@ -59,18 +59,7 @@ public class DefaultOnOffBinding
     /** {@inheritDoc} */
     @Override
     public void process(DigitalStateChangeEvent event) {
-        boolean on = event.source().isOn();
-        members.forEach((target)->{
-            try {
-                if(on){
-                    if(target.isOff()) target.on();
-                } else {
-                    if(target.isOn()) target.off();
-                }
-            } catch (IOException e) {
-                logger.error(e.getMessage(), e);
-            }
-        });
+        propagate(event.source().isOn() ? 1 : 0);
     }
 
     /** {@inheritDoc} */
@@ -85,20 +74,20 @@ public class DefaultOnOffBinding
 
         if(onValueThreshold > offValueThreshold){
             // greater than or equals
-            if(event.value() >= onValueThreshold) {
+            if(event.intValue() >= onValueThreshold) {
                 state = true;
             }
-            else if(event.value() <= offValueThreshold) {
+            else if(event.intValue() <= offValueThreshold) {
                 state = false;
             }
         }
         // handle inverted on/off values
         else {
             // less than or equals
-            if(event.value() <= onValueThreshold) {
+            if(event.intValue() <= onValueThreshold) {
                 state = true;
             }
-            else if(event.value() >= offValueThreshold) {
+            else if(event.intValue() >= offValueThreshold) {
                 state = false;
             }
         }
@@ -107,7 +96,13 @@ public class DefaultOnOffBinding
         if(state == null) return;
 
         // update all target ON/OFF I/O instances based on the determined state
-        final boolean onState = state;
+        propagate(state ? 1 : 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void apply(long value) {
+        final boolean onState = value != 0;
         members.forEach((target)->{
             try {
                 if(onState){
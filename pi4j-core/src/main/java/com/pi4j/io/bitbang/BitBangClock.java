@@ -0,0 +1,99 @@
+package com.pi4j.io.bitbang;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  BitBangClock.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Paces the edges of a bit-banged protocol with busy-wait loops.</p>
+ *
+ * <p>Edges are scheduled against absolute deadlines, so the time spent accessing the pins is
+ * subtracted from the waits instead of being added to them.  If the thread falls behind by more than
+ * one period (e.g. because it was preempted), the clock resynchronizes instead of emitting a burst of
+ * short phases.  A clock without period runs as fast as the pins can be accessed.</p>
+ */
+public final class BitBangClock {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long period;
+    private long next;
+
+    private BitBangClock(long period) {
+        this.period = period;
+    }
+
+    /**
+     * Create a clock with the given frequency
+     *
+     * @param frequency the frequency in Hz; 0 to run as fast as possible
+     * @return a clock with two ticks per cycle
+     */
+    public static BitBangClock ofFrequency(long frequency) {
+        if (frequency < 0)
+            throw new IllegalArgumentException("frequency must not be negative: " + frequency);
+        return new BitBangClock(frequency == 0 ? 0 : Math.max(1, NANOS_PER_SECOND / frequency / 2));
+    }
+
+    /**
+     * @return the time between two ticks in nanoseconds, i.e. half a clock cycle
+     */
+    public long period() {
+        return period;
+    }
+
+    /**
+     * Start a transfer; the first tick is due one period from now
+     */
+    public void start() {
+        next = System.nanoTime();
+    }
+
+    /**
+     * Wait until the next tick is due
+     */
+    public void tick() {
+        if (period == 0)
+            return;
+        next += period;
+        long now = System.nanoTime();
+        if (now - next > period) {
+            next = now;
+            return;
+        }
+        while (System.nanoTime() - next < 0)
+            Thread.onSpinWait();
+    }
+
+    /**
+     * Busy-wait for the given time; used for the fixed timings of protocols such as 1-Wire
+     *
+     * @param nanos the time to wait in nanoseconds
+     */
+    public static void delay(long nanos) {
+        long until = System.nanoTime() + nanos;
+        while (System.nanoTime() - until < 0)
+            Thread.onSpinWait();
+    }
+}
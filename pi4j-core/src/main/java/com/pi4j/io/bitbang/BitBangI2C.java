@@ -0,0 +1,235 @@
+package com.pi4j.io.bitbang;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  BitBangI2C.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+
+/**
+ * <p>Software I2C master on two bidirectional pins with external pull-up resistors.</p>
+ *
+ * <p>Both lines are open-drain: they are driven low or released.  A slave may stretch the clock by
+ * holding SCL low; the master waits up to {@link #STRETCH_TIMEOUT_NANOS} for it to be released.  A
+ * transfer to a slave that does not acknowledge its address or data fails with an {@link IOException}.</p>
+ */
+public class BitBangI2C extends BitBangProtocol {
+
+    /** Maximum time a slave may stretch the clock, in nanoseconds */
+    public static final long STRETCH_TIMEOUT_NANOS = 25_000_000L;
+
+    private final BitBangPin sda;
+    private final BitBangPin scl;
+    private final BitBangClock timer;
+
+    /**
+     * <p>Constructor for BitBangI2C.</p>
+     *
+     * @param sda the data pin
+     * @param scl the clock pin
+     * @param frequency the clock frequency in Hz, e.g. 100000; 0 to clock as fast as the pins can be accessed
+     */
+    public BitBangI2C(BitBangPin sda, BitBangPin scl, long frequency) {
+        if (!sda.isBidirectional() || !scl.isBidirectional())
+            throw new IllegalArgumentException("I2C requires bidirectional pins");
+        this.sda = sda;
+        this.scl = scl;
+        this.timer = BitBangClock.ofFrequency(frequency);
+        sda.release();
+        scl.release();
+    }
+
+    /**
+     * Write bytes to a device
+     *
+     * @param address the 7-bit device address
+     * @param data the bytes to write
+     * @param offset the offset of the first byte to write
+     * @param length the number of bytes to write
+     */
+    public synchronized void write(int address, byte[] data, int offset, int length) {
+        long start = System.nanoTime();
+        timer.start();
+        try {
+            start();
+            address(address, false);
+            for (int i = 0; i < length; i++)
+                writeByte(data[offset + i], address);
+        } catch (RuntimeException e) {
+            abort(e);
+            throw e;
+        }
+        stop();
+        record((length + 1) * 9 + 2, start);
+    }
+
+    /**
+     * Read bytes from a device
+     *
+     * @param address the 7-bit device address
+     * @param buffer the buffer receiving the bytes
+     * @param offset the offset of the first byte to read
+     * @param length the number of bytes to read
+     */
+    public synchronized void read(int address, byte[] buffer, int offset, int length) {
+        long start = System.nanoTime();
+        timer.start();
+        try {
+            start();
+            address(address, true);
+            for (int i = 0; i < length; i++)
+                buffer[offset + i] = (byte) readByte(i < length - 1);
+        } catch (RuntimeException e) {
+            abort(e);
+            throw e;
+        }
+        stop();
+        record((length + 1) * 9 + 2, start);
+    }
+
+    /**
+     * Write bytes to a device and read its response after a repeated start, e.g. to read a register
+     *
+     * @param address the 7-bit device address
+     * @param write the bytes to write, e.g. a register address
+     * @param read the buffer receiving the bytes read
+     */
+    public synchronized void writeRead(int address, byte[] write, byte[] read) {
+        long start = System.nanoTime();
+        timer.start();
+        try {
+            start();
+            address(address, false);
+            for (byte value : write)
+                writeByte(value, address);
+            start();
+            address(address, true);
+            for (int i = 0; i < read.length; i++)
+                read[i] = (byte) readByte(i < read.length - 1);
+        } catch (RuntimeException e) {
+            abort(e);
+            throw e;
+        }
+        stop();
+        record((write.length + read.length + 2) * 9 + 3, start);
+    }
+
+    private void start() {
+        // also a repeated start: SDA falls while SCL is high
+        sda.release();
+        timer.tick();
+        sclRelease();
+        timer.tick();
+        sda.low();
+        timer.tick();
+        scl.low();
+    }
+
+    private void stop() {
+        // SDA rises while SCL is high
+        sda.low();
+        timer.tick();
+        sclRelease();
+        timer.tick();
+        sda.release();
+        timer.tick();
+    }
+
+    private void abort(RuntimeException error) {
+        // release the bus; a failure to do so must not hide the error of the transfer
+        try {
+            stop();
+        } catch (RuntimeException e) {
+            error.addSuppressed(e);
+        }
+    }
+
+    private void address(int address, boolean read) {
+        if (!writeBits((address << 1) | (read ? 1 : 0)))
+            throw new IOException(String.format("No ACK from I2C device 0x%02X", address));
+    }
+
+    private void writeByte(byte value, int address) {
+        if (!writeBits(value & 0xFF))
+            throw new IOException(String.format("No ACK for data from I2C device 0x%02X", address));
+    }
+
+    private boolean writeBits(int value) {
+        for (int bit = 7; bit >= 0; bit--) {
+            if (((value >> bit) & 1) != 0)
+                sda.release();
+            else
+                sda.low();
+            clockPulse();
+        }
+        // the slave acknowledges by pulling SDA low during the ninth clock
+        sda.release();
+        timer.tick();
+        sclRelease();
+        boolean ack = !sda.read();
+        timer.tick();
+        scl.low();
+        return ack;
+    }
+
+    private int readByte(boolean ack) {
+        int value = 0;
+        sda.release();
+        for (int bit = 7; bit >= 0; bit--) {
+            timer.tick();
+            sclRelease();
+            if (sda.read())
+                value |= 1 << bit;
+            timer.tick();
+            scl.low();
+        }
+        // acknowledge all but the last byte
+        if (ack)
+            sda.low();
+        clockPulse();
+        sda.release();
+        return value;
+    }
+
+    private void clockPulse() {
+        timer.tick();
+        sclRelease();
+        timer.tick();
+        scl.low();
+    }
+
+    private void sclRelease() {
+        scl.release();
+        if (scl.read())
+            return;
+        // the slave is stretching the clock
+        long deadline = System.nanoTime() + STRETCH_TIMEOUT_NANOS;
+        while (!scl.read()) {
+            if (System.nanoTime() - deadline > 0)
+                throw new IOException("I2C clock held low for more than " + STRETCH_TIMEOUT_NANOS / 1_000_000 + " ms");
+            Thread.onSpinWait();
+        }
+        timer.start();
+    }
+}
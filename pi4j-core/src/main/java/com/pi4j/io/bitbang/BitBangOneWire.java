@@ -0,0 +1,166 @@
+package com.pi4j.io.bitbang;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  BitBangOneWire.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Software 1-Wire master at standard speed on a bidirectional pin with an external pull-up
+ * resistor.</p>
+ *
+ * <pre>
+ *     BitBangOneWire bus = new BitBangOneWire(pin);
+ *     if (bus.reset()) {
+ *         bus.write(SKIP_ROM, 0x44);  // start a temperature conversion on all DS18B20
+ *     }
+ * </pre>
+ *
+ * <p>The slots are timed with busy-wait loops; a preempted thread may corrupt a slot, so transfers
+ * should be verified with {@link #crc8(byte[], int, int)}.</p>
+ */
+public class BitBangOneWire extends BitBangProtocol {
+
+    /** ROM command addressing all devices on the bus */
+    public static final int SKIP_ROM = 0xCC;
+    /** ROM command reading the ROM code of the only device on the bus */
+    public static final int READ_ROM = 0x33;
+    /** ROM command addressing the device with the following ROM code */
+    public static final int MATCH_ROM = 0x55;
+
+    // standard speed timings in nanoseconds
+    private static final long RESET_LOW = 480_000;
+    private static final long PRESENCE_SAMPLE = 70_000;
+    private static final long PRESENCE_RECOVERY = 410_000;
+    private static final long WRITE_1_LOW = 6_000;
+    private static final long WRITE_1_RELEASE = 64_000;
+    private static final long WRITE_0_LOW = 60_000;
+    private static final long WRITE_0_RELEASE = 10_000;
+    private static final long READ_LOW = 6_000;
+    private static final long READ_SAMPLE = 9_000;
+    private static final long READ_RELEASE = 55_000;
+
+    private final BitBangPin pin;
+
+    /**
+     * <p>Constructor for BitBangOneWire.</p>
+     *
+     * @param pin the data pin
+     */
+    public BitBangOneWire(BitBangPin pin) {
+        if (!pin.isBidirectional())
+            throw new IllegalArgumentException("1-Wire requires a bidirectional pin");
+        this.pin = pin;
+        pin.release();
+    }
+
+    /**
+     * Reset the bus
+     *
+     * @return true if at least one device answered with a presence pulse
+     */
+    public synchronized boolean reset() {
+        pin.low();
+        BitBangClock.delay(RESET_LOW);
+        pin.release();
+        BitBangClock.delay(PRESENCE_SAMPLE);
+        boolean present = !pin.read();
+        BitBangClock.delay(PRESENCE_RECOVERY);
+        return present;
+    }
+
+    /**
+     * Write bytes, least significant bit first
+     *
+     * @param bytes the bytes to write; only the lower 8 bits of every value are used
+     */
+    public synchronized void write(int... bytes) {
+        long start = System.nanoTime();
+        for (int value : bytes)
+            for (int bit = 0; bit < 8; bit++)
+                writeBit(((value >> bit) & 1) != 0);
+        record(bytes.length * 8, start);
+    }
+
+    /**
+     * Read bytes, least significant bit first
+     *
+     * @param buffer the buffer receiving the bytes
+     */
+    public synchronized void read(byte[] buffer) {
+        long start = System.nanoTime();
+        for (int i = 0; i < buffer.length; i++) {
+            int value = 0;
+            for (int bit = 0; bit < 8; bit++)
+                if (readBit())
+                    value |= 1 << bit;
+            buffer[i] = (byte) value;
+        }
+        record(buffer.length * 8, start);
+    }
+
+    /**
+     * Write a single bit slot
+     *
+     * @param bit the bit to write
+     */
+    public synchronized void writeBit(boolean bit) {
+        pin.low();
+        BitBangClock.delay(bit ? WRITE_1_LOW : WRITE_0_LOW);
+        pin.release();
+        BitBangClock.delay(bit ? WRITE_1_RELEASE : WRITE_0_RELEASE);
+    }
+
+    /**
+     * Read a single bit slot
+     *
+     * @return the bit read
+     */
+    public synchronized boolean readBit() {
+        pin.low();
+        BitBangClock.delay(READ_LOW);
+        pin.release();
+        BitBangClock.delay(READ_SAMPLE);
+        boolean bit = pin.read();
+        BitBangClock.delay(READ_RELEASE);
+        return bit;
+    }
+
+    /**
+     * Calculate the Dallas/Maxim CRC-8 used for ROM codes and scratchpads
+     *
+     * @param data the data
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     * @return the CRC; 0 if the data ends with its own valid CRC
+     */
+    public static int crc8(byte[] data, int offset, int length) {
+        int crc = 0;
+        for (int i = offset; i < offset + length; i++) {
+            crc ^= data[i] & 0xFF;
+            for (int bit = 0; bit < 8; bit++)
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0x8C : crc >>> 1;
+        }
+        return crc;
+    }
+}
@@ -0,0 +1,161 @@
+package com.pi4j.io.bitbang;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  BitBangPin.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+
+/**
+ * <p>A single GPIO pin as used by the bit-banged protocols, reduced to the primitives they need.</p>
+ *
+ * <p>Pins obtained with {@link #of(DigitalOutput)} and {@link #of(DigitalInput)} use the fastest access
+ * path of the I/O's provider: if the provider implements {@link BitBangProvider} its pins are used,
+ * otherwise the pin falls back to the I/O's regular state methods.</p>
+ *
+ * <p>Protocols with open-drain lines (I2C, 1-Wire) drive them low with {@link #low()} and let them float
+ * high with {@link #release()}; they require {@link #isBidirectional() bidirectional} pins, which switch
+ * to input when released.  Other pins simply drive the line high when released.</p>
+ */
+public interface BitBangPin {
+
+    /**
+     * Drive the pin high
+     */
+    void high();
+
+    /**
+     * Drive the pin low
+     */
+    void low();
+
+    /**
+     * Drive the pin high or low
+     *
+     * @param high true to drive the pin high
+     */
+    default void state(boolean high) {
+        if (high)
+            high();
+        else
+            low();
+    }
+
+    /**
+     * Stop driving the pin, so that a pull-up resistor pulls the line high; pins that are not
+     * bidirectional drive it high instead
+     */
+    default void release() {
+        high();
+    }
+
+    /**
+     * @return the level of the pin
+     */
+    boolean read();
+
+    /**
+     * @return true if the pin switches to input when released, as required for open-drain lines
+     */
+    default boolean isBidirectional() {
+        return false;
+    }
+
+    /**
+     * @return false if the pin can only be read, like the fallback pin of a digital input
+     */
+    default boolean isDrivable() {
+        return true;
+    }
+
+    /**
+     * Return a pin driving a digital output
+     *
+     * @param output the digital output
+     * @return the provider's bit-bang pin for the output's address, or a pin using the output's state methods
+     */
+    static BitBangPin of(DigitalOutput output) {
+        if (output.provider() instanceof BitBangProvider)
+            return ((BitBangProvider) output.provider()).bitBangPin(output.config().address());
+
+        return new BitBangPin() {
+            @Override
+            public void high() {
+                output.state(DigitalState.HIGH);
+            }
+
+            @Override
+            public void low() {
+                output.state(DigitalState.LOW);
+            }
+
+            @Override
+            public boolean read() {
+                return output.state().isHigh();
+            }
+        };
+    }
+
+    /**
+     * Return a pin reading a digital input
+     *
+     * @param input the digital input
+     * @return the provider's bit-bang pin for the input's address, or a read-only pin using the input's state,
+     *         which is not {@link #isDrivable() drivable}
+     */
+    static BitBangPin of(DigitalInput input) {
+        if (input.provider() instanceof BitBangProvider)
+            return ((BitBangProvider) input.provider()).bitBangPin(input.config().address());
+
+        return new BitBangPin() {
+            @Override
+            public void high() {
+                throw new IOException("Digital input [" + input.id() + "] can not be driven");
+            }
+
+            @Override
+            public void low() {
+                throw new IOException("Digital input [" + input.id() + "] can not be driven");
+            }
+
+            @Override
+            public void release() {
+                // an input is always released
+            }
+
+            @Override
+            public boolean isDrivable() {
+                return false;
+            }
+
+            @Override
+            public boolean read() {
+                return input.state().isHigh();
+            }
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package com.pi4j.io.bitbang;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  BitBangProtocol.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Base class of the bit-banged protocols; records the bit rate achieved by the transfers.</p>
+ */
+public abstract class BitBangProtocol {
+
+    private volatile double bitRate;
+    private volatile long bits;
+
+    /**
+     * Check that a pin the protocol drives can be driven
+     *
+     * @param pin the pin, or null if it is optional and not used
+     * @param name the name of the pin in the protocol, for the error message
+     * @throws IllegalArgumentException if the pin can only be read
+     */
+    protected static void requireDrivable(BitBangPin pin, String name) {
+        if (pin != null && !pin.isDrivable())
+            throw new IllegalArgumentException("The " + name + " pin must be drivable");
+    }
+
+    /**
+     * Record a completed transfer
+     *
+     * @param bits the number of bits transferred, including protocol overhead such as acknowledges
+     * @param start the value of {@link System#nanoTime()} at the start of the transfer
+     */
+    protected void record(int bits, long start) {
+        long elapsed = System.nanoTime() - start;
+        this.bitRate = elapsed <= 0 ? 0 : bits * 1e9 / elapsed;
+        this.bits += bits;
+    }
+
+    /**
+     * @return the bit rate of the last transfer in bits per second
+     */
+    public double bitRate() {
+        return bitRate;
+    }
+
+    /**
+     * @return the total number of bits transferred
+     */
+    public long bits() {
+        return bits;
+    }
+}
@@ -0,0 +1,44 @@
+package com.pi4j.io.bitbang;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  BitBangProvider.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Optional capability of a digital input or output provider to hand out pins for the bit-banged
+ * protocols that bypass the state tracking and event dispatching of its I/O instances.</p>
+ *
+ * <p>{@link BitBangPin#of(com.pi4j.io.gpio.digital.DigitalOutput)} uses the pins of providers that
+ * implement this interface, e.g. pins that write memory mapped GPIO registers directly.</p>
+ */
+public interface BitBangProvider {
+
+    /**
+     * Return a pin for bit-banging
+     *
+     * @param address the pin address (GPIO number)
+     * @return a pin accessing the address through the provider's fastest access path
+     */
+    BitBangPin bitBangPin(int address);
+}
@@ -0,0 +1,121 @@
+package com.pi4j.io.bitbang;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  BitBangShiftRegister.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Shifts bytes out to, or in from, a chain of shift registers such as the 74HC595 (serial in,
+ * parallel out) or the 74HC165 (parallel in, serial out).</p>
+ *
+ * <p>{@link #shiftOut(byte...)} clocks the bits out and then pulses the latch high to transfer them to
+ * the outputs.  {@link #shiftIn(byte[])} pulses the latch low to load the inputs and then reads the
+ * bits, each before the rising clock edge that shifts in the next one.</p>
+ */
+public class BitBangShiftRegister extends BitBangProtocol {
+
+    private final BitBangPin data;
+    private final BitBangPin clock;
+    private final BitBangPin latch;
+    private final boolean lsbFirst;
+    private final BitBangClock timer;
+
+    /**
+     * <p>Constructor for BitBangShiftRegister.</p>
+     *
+     * @param data the data pin; must be readable to shift in
+     * @param clock the clock pin (SH_CP of a 74HC595, CP of a 74HC165)
+     * @param latch the latch pin (ST_CP of a 74HC595, PL of a 74HC165), or null if there is none
+     * @param frequency the clock frequency in Hz; 0 to clock as fast as the pins can be accessed
+     * @param lsbFirst true to shift the least significant bit of every byte first
+     * @throws IllegalArgumentException if the clock or latch pin can not be driven
+     */
+    public BitBangShiftRegister(BitBangPin data, BitBangPin clock, BitBangPin latch, long frequency, boolean lsbFirst) {
+        requireDrivable(clock, "clock");
+        requireDrivable(latch, "latch");
+        this.data = data;
+        this.clock = clock;
+        this.latch = latch;
+        this.lsbFirst = lsbFirst;
+        this.timer = BitBangClock.ofFrequency(frequency);
+        clock.low();
+    }
+
+    /**
+     * Shift bytes out and latch them; the first byte ends up in the last register of the chain
+     *
+     * @param bytes the bytes to shift out
+     */
+    public synchronized void shiftOut(byte... bytes) {
+        long start = System.nanoTime();
+        timer.start();
+        if (latch != null)
+            latch.low();
+        for (byte value : bytes) {
+            for (int bit = 0; bit < 8; bit++) {
+                data.state(((lsbFirst ? value >> bit : value >> (7 - bit)) & 1) != 0);
+                timer.tick();
+                clock.high();
+                timer.tick();
+                clock.low();
+            }
+        }
+        if (latch != null) {
+            timer.tick();
+            latch.high();
+            timer.tick();
+            latch.low();
+        }
+        record(bytes.length * 8, start);
+    }
+
+    /**
+     * Load the inputs and shift them in
+     *
+     * @param buffer the buffer receiving the bytes; the first byte is read from the last register of the chain
+     */
+    public synchronized void shiftIn(byte[] buffer) {
+        long start = System.nanoTime();
+        timer.start();
+        if (latch != null) {
+            latch.low();
+            timer.tick();
+            latch.high();
+            timer.tick();
+        }
+        for (int i = 0; i < buffer.length; i++) {
+            int value = 0;
+            for (int bit = 0; bit < 8; bit++) {
+                if (data.read())
+                    value |= lsbFirst ? 1 << bit : 0x80 >> bit;
+                clock.high();
+                timer.tick();
+                clock.low();
+                timer.tick();
+            }
+            buffer[i] = (byte) value;
+        }
+        record(buffer.length * 8, start);
+    }
+}
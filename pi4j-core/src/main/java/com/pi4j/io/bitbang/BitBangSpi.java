@@ -0,0 +1,153 @@
+package com.pi4j.io.bitbang;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  BitBangSpi.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.spi.SpiMode;
+
+/**
+ * <p>Software SPI master on arbitrary pins.</p>
+ *
+ * <pre>
+ *     BitBangSpi spi = new BitBangSpi(BitBangPin.of(sclk), BitBangPin.of(mosi), BitBangPin.of(miso),
+ *                                     BitBangPin.of(cs), SpiMode.MODE_0, 1_000_000, false);
+ *     spi.transfer(tx, rx, tx.length);
+ * </pre>
+ */
+public class BitBangSpi extends BitBangProtocol {
+
+    private final BitBangPin clock;
+    private final BitBangPin mosi;
+    private final BitBangPin miso;
+    private final BitBangPin chipSelect;
+    private final boolean idleHigh;
+    private final boolean samplingOnLeadingEdge;
+    private final boolean lsbFirst;
+    private final BitBangClock timer;
+
+    /**
+     * <p>Constructor for BitBangSpi.</p>
+     *
+     * @param clock the clock pin (SCLK)
+     * @param mosi the data output pin, or null for read-only transfers
+     * @param miso the data input pin, or null for write-only transfers
+     * @param chipSelect the active-low chip select pin, or null if it is controlled by the caller
+     * @param mode the SPI mode, defining the clock polarity and phase
+     * @param frequency the clock frequency in Hz; 0 to clock as fast as the pins can be accessed
+     * @param lsbFirst true to transfer the least significant bit of every byte first
+     * @throws IllegalArgumentException if the clock, MOSI or chip select pin can not be driven
+     */
+    public BitBangSpi(BitBangPin clock, BitBangPin mosi, BitBangPin miso, BitBangPin chipSelect,
+                      SpiMode mode, long frequency, boolean lsbFirst) {
+        requireDrivable(clock, "SCLK");
+        requireDrivable(mosi, "MOSI");
+        requireDrivable(chipSelect, "chip select");
+        this.clock = clock;
+        this.mosi = mosi;
+        this.miso = miso;
+        this.chipSelect = chipSelect;
+        this.idleHigh = mode == SpiMode.MODE_2 || mode == SpiMode.MODE_3;
+        this.samplingOnLeadingEdge = mode == SpiMode.MODE_0 || mode == SpiMode.MODE_2;
+        this.lsbFirst = lsbFirst;
+        this.timer = BitBangClock.ofFrequency(frequency);
+
+        clock.state(idleHigh);
+        if (chipSelect != null)
+            chipSelect.high();
+    }
+
+    /**
+     * Write and read bytes in a single transfer
+     *
+     * @param write the bytes to write, or null to write zeros
+     * @param read the buffer receiving the bytes read, or null to discard them
+     * @param length the number of bytes to transfer
+     */
+    public synchronized void transfer(byte[] write, byte[] read, int length) {
+        long start = System.nanoTime();
+        if (chipSelect != null)
+            chipSelect.low();
+        try {
+            timer.start();
+            for (int i = 0; i < length; i++) {
+                int value = transfer(write == null ? 0 : write[i] & 0xFF);
+                if (read != null)
+                    read[i] = (byte) value;
+            }
+            timer.tick();
+        } finally {
+            // deselect the device even if a pin failed, so that the next transfer starts a new frame
+            if (chipSelect != null)
+                chipSelect.high();
+        }
+        record(length * 8, start);
+    }
+
+    /**
+     * Write bytes, discarding the bytes read
+     *
+     * @param data the bytes to write
+     */
+    public void write(byte... data) {
+        transfer(data, null, data.length);
+    }
+
+    /**
+     * Read bytes, writing zeros
+     *
+     * @param buffer the buffer receiving the bytes read
+     */
+    public void read(byte[] buffer) {
+        transfer(null, buffer, buffer.length);
+    }
+
+    private int transfer(int value) {
+        int result = 0;
+        for (int bit = 0; bit < 8; bit++) {
+            boolean out = ((lsbFirst ? value >> bit : value >> (7 - bit)) & 1) != 0;
+            boolean in;
+            if (samplingOnLeadingEdge) {
+                // data is set up before the leading edge and sampled on it
+                if (mosi != null) mosi.state(out);
+                timer.tick();
+                clock.state(!idleHigh);
+                in = miso != null && miso.read();
+                timer.tick();
+                clock.state(idleHigh);
+            } else {
+                // data is changed on the leading edge and sampled on the trailing edge
+                clock.state(!idleHigh);
+                if (mosi != null) mosi.state(out);
+                timer.tick();
+                clock.state(idleHigh);
+                in = miso != null && miso.read();
+                timer.tick();
+            }
+            if (in)
+                result |= lsbFirst ? 1 << bit : 0x80 >> bit;
+        }
+        return result;
+    }
+}
@@ -47,4 +47,14 @@ public class IONotFoundException extends IOException {
     public IONotFoundException(String id){
         super("IO instance [" + id + "] not found in Pi4J Registry.");
     }
+
+    /**
+     * Constructor for an I/O instance looked up by its address
+     *
+     * @param bus the bus of the address (see {@link com.pi4j.registry.Registry#exists(String, int)})
+     * @param address the address on the bus
+     */
+    public IONotFoundException(String bus, int address){
+        super("IO instance with address [" + bus + ":" + address + "] not found in Pi4J Registry.");
+    }
 }
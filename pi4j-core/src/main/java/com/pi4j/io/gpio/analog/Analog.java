@@ -53,6 +53,25 @@ public interface Analog<ANALOG_TYPE
      */
     Integer value();
 
+    /**
+     * Return the value as a primitive; implementations holding the value as a primitive override
+     * this method, so that reading it does not box
+     *
+     * @return the value
+     */
+    default int intValue() {
+        return value();
+    }
+
+    /**
+     * <p>doubleValue.</p>
+     *
+     * @return the value widened to a double
+     */
+    default double doubleValue() {
+        return intValue();
+    }
+
     /**
      * <p>addListener.</p>
      *
@@ -75,7 +94,17 @@ public interface Analog<ANALOG_TYPE
      * @return a boolean.
      */
     default boolean equals(Number value) {
-        return this.value().intValue() == value.intValue();
+        return this.intValue() == value.intValue();
+    }
+
+    /**
+     * <p>equals.</p>
+     *
+     * @param value the value to compare
+     * @return a boolean.
+     */
+    default boolean equals(int value) {
+        return this.intValue() == value;
     }
     /**
      * <p>getValue.</p>
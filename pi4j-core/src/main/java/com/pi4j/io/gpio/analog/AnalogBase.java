@@ -115,6 +115,18 @@ public abstract class AnalogBase<ANALOG_TYPE
         bindings.process(event);
     }
 
+    /**
+     * Dispatch a value change; no event is allocated if there are no listeners or bindings
+     *
+     * @param value the new value
+     * @param oldValue the value before the change
+     */
+    protected void dispatch(int value, int oldValue){
+        if (!valueChangeEventManager.hasListeners() && !bindings.hasBindings())
+            return;
+        dispatch(new AnalogValueChangeEvent<>((ANALOG_TYPE) this, value, oldValue));
+    }
+
     /** {@inheritDoc} */
     @Override
     public ANALOG_TYPE shutdown(Context context){
@@ -57,6 +57,32 @@ public interface AnalogOutput extends Analog<AnalogOutput, AnalogOutputConfig, A
      * @throws com.pi4j.io.exception.IOBoundsException if any.
      */
     AnalogOutput value(Integer value) throws IOIllegalValueException, IOBoundsException;
+
+    /**
+     * Set the value without boxing it
+     *
+     * @param value the new value
+     * @return a {@link com.pi4j.io.gpio.analog.AnalogOutput} object.
+     * @throws com.pi4j.io.exception.IOBoundsException if the value is outside the configured range
+     */
+    default AnalogOutput value(int value) throws IOBoundsException {
+        return value(Integer.valueOf(value));
+    }
+
+    /**
+     * Set the value, rounded to the nearest integer
+     *
+     * @param value the new value
+     * @return a {@link com.pi4j.io.gpio.analog.AnalogOutput} object.
+     * @throws com.pi4j.io.exception.IOIllegalValueException if the value is NaN
+     * @throws com.pi4j.io.exception.IOBoundsException if the value is outside the configured range
+     */
+    default AnalogOutput value(double value) throws IOIllegalValueException, IOBoundsException {
+        if (Double.isNaN(value))
+            throw new IOIllegalValueException();
+        long rounded = Math.round(value);
+        return value((int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, rounded)));
+    }
     /**
      * <p>stepUp.</p>
      *
@@ -78,6 +104,17 @@ public interface AnalogOutput extends Analog<AnalogOutput, AnalogOutputConfig, A
      * @throws com.pi4j.io.exception.IOBoundsException if any.
      */
     AnalogOutput step(Integer value) throws IOIllegalValueException, IOBoundsException;
+
+    /**
+     * Step the value without boxing it; the result is limited to the configured range
+     *
+     * @param value the increment, negative to step down
+     * @return a {@link com.pi4j.io.gpio.analog.AnalogOutput} object.
+     * @throws com.pi4j.io.exception.IOBoundsException if the result is outside the configured range
+     */
+    default AnalogOutput step(int value) throws IOBoundsException {
+        return step(Integer.valueOf(value));
+    }
     /**
      * <p>setValue.</p>
      *
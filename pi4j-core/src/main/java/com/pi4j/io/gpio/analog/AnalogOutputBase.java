@@ -42,7 +42,7 @@ import org.slf4j.LoggerFactory;
 public abstract class AnalogOutputBase extends AnalogBase<AnalogOutput, AnalogOutputConfig, AnalogOutputProvider> implements AnalogOutput {
 
     protected Logger logger = LoggerFactory.getLogger(this.getClass());
-    protected Integer value = 0;
+    protected int value = 0;
 
     /**
      * <p>Constructor for AnalogOutputBase.</p>
@@ -95,8 +95,13 @@ public abstract class AnalogOutputBase extends AnalogBase<AnalogOutput, AnalogOu
         if(value == null)
             throw new IOIllegalValueException();
 
-        Integer oldValue = this.value();
-        Integer newValue = value + oldValue; // increment value by step increment
+        return this.step(value.intValue());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AnalogOutput step(int value) throws IOBoundsException {
+        int newValue = value + this.value; // increment value by step increment
         if(config().range() != null){
             newValue = config().range().sanitize(newValue);
         }
@@ -112,24 +117,32 @@ public abstract class AnalogOutputBase extends AnalogBase<AnalogOutput, AnalogOu
         if(value == null)
             throw new IOIllegalValueException();
 
+        return this.value(value.intValue());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AnalogOutput value(int value) throws IOBoundsException {
+
         // validate value bounds
-        if(config().range() != null) {
-            if(!config().range().validate(value)){
-                throw new IOBoundsException(value, config().range().min(), config().range().max());
+        AnalogRange range = config().range();
+        if(range != null) {
+            if(!range.validate(value)){
+                throw new IOBoundsException(value, range.min(), range.max());
             }
         }
 
         // check to see of there is a value change; if there is then we need
         // to update the internal value variable and dispatch the change event
-        if(this.value().intValue() != value.intValue()){
+        if(this.value != value){
             // cache copy of old value for change event
-            Integer oldValue = this.value();
+            int oldValue = this.value;
 
             // update current/new value
             this.value = value;
 
             // dispatch value change event
-            this.dispatch(new AnalogValueChangeEvent<AnalogOutputBase>(this, this.value(), oldValue));
+            this.dispatch(value, oldValue);
         }
         return this;
     }
@@ -153,4 +166,10 @@ public abstract class AnalogOutputBase extends AnalogBase<AnalogOutput, AnalogOu
     public Integer value() {
         return this.value;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public int intValue() {
+        return this.value;
+    }
 }
@@ -72,14 +72,23 @@ public interface AnalogRange{
     default boolean validate(Integer value){
         if(value == null)
             return false;
+        return validate(value.intValue());
+    }
 
+    /**
+     * Bounds check the provided value against the range (min, max) without boxing it
+     *
+     * @param value value to test
+     * @return 'true' if the provided value is inside the defined range
+     */
+    default boolean validate(int value){
         // perform minimum bounds checking in range
-        if(min() != null)
-            if(value < min()) return false;
+        Integer min = min();
+        if(min != null && value < min) return false;
 
         // perform maximum bounds checking in range
-        if(max() != null)
-            if(value > max()) return false;
+        Integer max = max();
+        if(max != null && value > max) return false;
 
         // success
         return true;
@@ -106,4 +115,22 @@ public interface AnalogRange{
 
         return value;
     }
+
+    /**
+     * Limit the provided value to the range (min, max) without boxing it
+     *
+     * @param value value to limit
+     * @return the value, or the nearest bound if it is outside the range
+     */
+    default int sanitize(int value){
+        // perform minimum bounds checking in range
+        Integer min = min();
+        if(min != null && value < min) return min;
+
+        // perform maximum bounds checking in range
+        Integer max = max();
+        if(max != null && value > max) return max;
+
+        return value;
+    }
 }
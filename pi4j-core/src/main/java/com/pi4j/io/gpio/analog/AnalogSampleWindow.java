@@ -0,0 +1,118 @@
+package com.pi4j.io.gpio.analog;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  AnalogSampleWindow.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Immutable aggregates of the readings of an {@link AnalogSamplerChannel} within a window.  For an
+ * empty window the minimum and maximum are 0 and the mean and RMS are {@link Double#NaN}.</p>
+ */
+public class AnalogSampleWindow {
+
+    private final long windowStart;
+    private final long windowEnd;
+    private final int count;
+    private final int min;
+    private final int max;
+    private final double mean;
+    private final double rms;
+
+    /**
+     * <p>Constructor for AnalogSampleWindow.</p>
+     *
+     * @param windowStart timestamp of the oldest reading in nanoseconds
+     * @param windowEnd timestamp of the newest reading in nanoseconds
+     * @param count number of readings
+     * @param min minimum reading
+     * @param max maximum reading
+     * @param mean arithmetic mean of the readings
+     * @param rms root mean square of the readings
+     */
+    public AnalogSampleWindow(long windowStart, long windowEnd, int count, int min, int max, double mean, double rms) {
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+        this.rms = rms;
+    }
+
+    /**
+     * @return timestamp of the oldest reading in nanoseconds ({@link System#nanoTime()} domain)
+     */
+    public long windowStart() {
+        return windowStart;
+    }
+
+    /**
+     * @return timestamp of the newest reading in nanoseconds ({@link System#nanoTime()} domain)
+     */
+    public long windowEnd() {
+        return windowEnd;
+    }
+
+    /**
+     * @return number of readings in the window
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * @return minimum reading
+     */
+    public int min() {
+        return min;
+    }
+
+    /**
+     * @return maximum reading
+     */
+    public int max() {
+        return max;
+    }
+
+    /**
+     * @return arithmetic mean of the readings
+     */
+    public double mean() {
+        return mean;
+    }
+
+    /**
+     * @return root mean square of the readings
+     */
+    public double rms() {
+        return rms;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "<<ANALOG SAMPLE WINDOW>> [COUNT: " + count + ", MIN: " + min + ", MAX: " + max
+            + ", MEAN: " + mean + ", RMS: " + rms + "]";
+    }
+}
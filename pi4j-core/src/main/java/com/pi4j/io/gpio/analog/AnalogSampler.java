@@ -0,0 +1,115 @@
+package com.pi4j.io.gpio.analog;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  AnalogSampler.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.analog.impl.DefaultAnalogSampler;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Samples many analog inputs at configured rates from the context's shared scheduler.</p>
+ *
+ * <p>Channels with the same sampling interval share one periodic task.  Every reading is stored with
+ * its timestamp in a per-channel circular buffer of primitive {@code int} values and {@code long}
+ * timestamps, so sampling does not allocate; windowed aggregates are computed on demand by
+ * {@link AnalogSamplerChannel#window(long, TimeUnit)}.  Value change events are dispatched to the
+ * sampler's listeners only once a reading leaves the channel's deadband around the last reported value.</p>
+ *
+ * <pre>
+ *     AnalogSampler sampler = AnalogSampler.newInstance(pi4j);
+ *     AnalogSamplerChannel channel = sampler.add(input, 10, TimeUnit.MILLISECONDS, 1000, 8);
+ *     ...
+ *     double rms = channel.window(1, TimeUnit.SECONDS).rms();
+ * </pre>
+ */
+public interface AnalogSampler extends AutoCloseable {
+
+    /**
+     * Create a sampler scheduling its tasks on the given context
+     *
+     * @param context the context providing the shared scheduler
+     * @return a new {@link AnalogSampler} without channels
+     */
+    static AnalogSampler newInstance(Context context) {
+        return new DefaultAnalogSampler(context);
+    }
+
+    /**
+     * Start sampling an analog input
+     *
+     * @param input the analog input to sample
+     * @param interval the sampling interval
+     * @param unit the unit of the sampling interval
+     * @param capacity the number of readings kept in the channel's buffer
+     * @param deadband the change from the last reported value a reading must exceed to dispatch an event;
+     *                 0 to report every change
+     * @return the channel holding the readings of the input
+     */
+    AnalogSamplerChannel add(AnalogInput input, long interval, TimeUnit unit, int capacity, int deadband);
+
+    /**
+     * Stop sampling an analog input
+     *
+     * @param input the analog input
+     * @return this sampler
+     */
+    AnalogSampler remove(AnalogInput input);
+
+    /**
+     * @param input an analog input
+     * @return the channel of the input, or null if the input is not sampled
+     */
+    AnalogSamplerChannel channel(AnalogInput input);
+
+    /**
+     * @return the channels of all sampled inputs
+     */
+    Collection<AnalogSamplerChannel> channels();
+
+    /**
+     * Add listeners receiving the value change events of all channels; the event source is the input
+     *
+     * @param listener the listeners to add
+     * @return this sampler
+     */
+    AnalogSampler addListener(AnalogValueChangeListener... listener);
+
+    /**
+     * Remove listeners
+     *
+     * @param listener the listeners to remove
+     * @return this sampler
+     */
+    AnalogSampler removeListener(AnalogValueChangeListener... listener);
+
+    /**
+     * Stop sampling all inputs and remove all listeners
+     */
+    @Override
+    void close();
+}
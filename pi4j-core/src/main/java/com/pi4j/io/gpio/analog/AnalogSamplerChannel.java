@@ -0,0 +1,101 @@
+package com.pi4j.io.gpio.analog;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  AnalogSamplerChannel.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>The readings of a single analog input sampled by an {@link AnalogSampler}, kept in a circular
+ * buffer of fixed capacity; once it is full, every reading replaces the oldest one.</p>
+ */
+public interface AnalogSamplerChannel {
+
+    /**
+     * @return the sampled analog input
+     */
+    AnalogInput input();
+
+    /**
+     * @return the sampling interval in nanoseconds
+     */
+    long interval();
+
+    /**
+     * @return the deadband of value change events
+     */
+    int deadband();
+
+    /**
+     * @return the maximum number of readings kept
+     */
+    int capacity();
+
+    /**
+     * @return the number of readings currently kept
+     */
+    int size();
+
+    /**
+     * @return the total number of readings taken
+     */
+    long count();
+
+    /**
+     * @return the most recent reading; 0 if no reading was taken yet
+     */
+    int latest();
+
+    /**
+     * @return the timestamp of the most recent reading in nanoseconds ({@link System#nanoTime()} domain)
+     */
+    long latestTimestamp();
+
+    /**
+     * Copy the most recent readings, oldest first
+     *
+     * @param values the array receiving the values
+     * @param timestamps the array receiving the timestamps in nanoseconds, or null
+     * @return the number of readings copied; at most the length of the values array
+     */
+    int copy(int[] values, long[] timestamps);
+
+    /**
+     * Aggregate the readings taken within the given period up to now
+     *
+     * @param period the length of the window
+     * @param unit the unit of the period
+     * @return the aggregates of the readings in the window
+     */
+    AnalogSampleWindow window(long period, TimeUnit unit);
+
+    /**
+     * Aggregate the most recent readings
+     *
+     * @param samples the maximum number of readings to aggregate
+     * @return the aggregates of the readings in the window
+     */
+    AnalogSampleWindow window(int samples);
+}
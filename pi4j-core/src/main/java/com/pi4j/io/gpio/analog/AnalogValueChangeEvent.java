@@ -36,8 +36,8 @@ package com.pi4j.io.gpio.analog;
 public class AnalogValueChangeEvent<ANALOG_TYPE extends Analog> implements AnalogEvent {
 
     // internal event copy of the changed analog values and analog I/O source
-    protected Integer oldValue;
-    protected Integer value;
+    protected int oldValue;
+    protected int value;
     protected ANALOG_TYPE source;
 
     /**
@@ -48,6 +48,17 @@ public class AnalogValueChangeEvent<ANALOG_TYPE extends Analog> implements Analo
      * @param oldValue a {@link java.lang.Integer} object.
      */
     public AnalogValueChangeEvent(ANALOG_TYPE source, Integer newValue, Integer oldValue){
+        this(source, newValue.intValue(), oldValue.intValue());
+    }
+
+    /**
+     * Constructor taking the values as primitives
+     *
+     * @param source a ANALOG_TYPE object.
+     * @param newValue the value changed for this event instance
+     * @param oldValue the value before the change
+     */
+    public AnalogValueChangeEvent(ANALOG_TYPE source, int newValue, int oldValue){
         this.value = newValue; // cache a copy of the event instance new value
         this.oldValue = oldValue; // cache a copy of the event instance old value
         this.source = source; // cache analog I/O source
@@ -71,6 +82,24 @@ public class AnalogValueChangeEvent<ANALOG_TYPE extends Analog> implements Analo
         return this.value;
     }
 
+    /**
+     * The old/prior value change for this event instance, without boxing it
+     *
+     * @return the old value
+     */
+    public int oldIntValue() {
+        return this.oldValue;
+    }
+
+    /**
+     * The current/new value change for this event instance, without boxing it
+     *
+     * @return the new value
+     */
+    public int intValue() {
+        return this.value;
+    }
+
     /** {@inheritDoc} */
     @Override
     public ANALOG_TYPE source() {
@@ -85,9 +114,9 @@ public class AnalogValueChangeEvent<ANALOG_TYPE extends Analog> implements Analo
         result.append("<<ANALOG CHANGE EVENT>> [");
         result.append(source());
         result.append("] VALUE: [");
-        result.append(this.oldValue().toString());
+        result.append(this.oldValue);
         result.append(" -> ");
-        result.append(this.value().toString());
+        result.append(this.value);
         result.append("]");
         return result.toString();
     }
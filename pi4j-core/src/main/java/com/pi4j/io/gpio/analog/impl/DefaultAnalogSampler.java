@@ -0,0 +1,343 @@
+package com.pi4j.io.gpio.analog.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DefaultAnalogSampler.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.event.EventDelegate;
+import com.pi4j.event.EventManager;
+import com.pi4j.io.gpio.analog.AnalogInput;
+import com.pi4j.io.gpio.analog.AnalogSampleWindow;
+import com.pi4j.io.gpio.analog.AnalogSampler;
+import com.pi4j.io.gpio.analog.AnalogSamplerChannel;
+import com.pi4j.io.gpio.analog.AnalogValueChangeEvent;
+import com.pi4j.io.gpio.analog.AnalogValueChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>DefaultAnalogSampler class.</p>
+ *
+ * <p>The readings of a channel are guarded by the channel's monitor, which the sampling task only
+ * holds to store a single reading.</p>
+ */
+public class DefaultAnalogSampler implements AnalogSampler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DefaultAnalogSampler.class);
+
+    private final Context context;
+    private final Map<AnalogInput, Channel> channels = new LinkedHashMap<>();
+    private final Map<Long, Group> groups = new HashMap<>();
+    private final EventManager<AnalogSampler, AnalogValueChangeListener, AnalogValueChangeEvent> events;
+
+    /**
+     * <p>Constructor for DefaultAnalogSampler.</p>
+     *
+     * @param context the context providing the shared scheduler
+     */
+    public DefaultAnalogSampler(Context context) {
+        this.context = context;
+        this.events = new EventManager<>(this,
+            (EventDelegate<AnalogValueChangeListener, AnalogValueChangeEvent>)
+                (listener, event) -> listener.onAnalogValueChange(event));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized AnalogSamplerChannel add(AnalogInput input, long interval, TimeUnit unit, int capacity, int deadband) {
+        if (interval <= 0)
+            throw new IllegalArgumentException("sampling interval must be positive; got " + interval);
+        if (capacity <= 0)
+            throw new IllegalArgumentException("buffer capacity must be positive; got " + capacity);
+        if (deadband < 0)
+            throw new IllegalArgumentException("deadband must not be negative; got " + deadband);
+
+        remove(input);
+        Channel channel = new Channel(input, unit.toNanos(interval), capacity, deadband);
+        channels.put(input, channel);
+        Group group = groups.get(channel.interval);
+        if (group == null) {
+            group = new Group();
+            groups.put(channel.interval, group);
+            group.add(channel);
+            group.future = context.scheduleTask(group, channel.interval, TimeUnit.NANOSECONDS);
+        } else {
+            group.add(channel);
+        }
+        return channel;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized AnalogSampler remove(AnalogInput input) {
+        Channel channel = channels.remove(input);
+        if (channel != null) {
+            Group group = groups.get(channel.interval);
+            if (group != null && group.remove(channel) == 0) {
+                group.future.cancel(false);
+                groups.remove(channel.interval);
+            }
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized AnalogSamplerChannel channel(AnalogInput input) {
+        return channels.get(input);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized Collection<AnalogSamplerChannel> channels() {
+        return Collections.unmodifiableList(new ArrayList<>(channels.values()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AnalogSampler addListener(AnalogValueChangeListener... listener) {
+        return events.add(listener);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AnalogSampler removeListener(AnalogValueChangeListener... listener) {
+        return events.remove(listener);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() {
+        for (Group group : groups.values()) {
+            group.future.cancel(false);
+        }
+        groups.clear();
+        channels.clear();
+        events.clear();
+    }
+
+    /**
+     * Readings of a single input; written by the group's task only.
+     */
+    private final class Channel implements AnalogSamplerChannel {
+        private final AnalogInput input;
+        private final long interval;
+        private final int deadband;
+        private final int[] values;
+        private final long[] timestamps;
+        private int head;
+        private int size;
+        private long count;
+
+        // last value reported by an event; only accessed from the group's task
+        private boolean reported;
+        private int reportedValue;
+
+        Channel(AnalogInput input, long interval, int capacity, int deadband) {
+            this.input = input;
+            this.interval = interval;
+            this.deadband = deadband;
+            this.values = new int[capacity];
+            this.timestamps = new long[capacity];
+        }
+
+        void sample() {
+            int value = input.intValue();
+            long timestamp = System.nanoTime();
+            synchronized (this) {
+                values[head] = value;
+                timestamps[head] = timestamp;
+                head = head + 1 == values.length ? 0 : head + 1;
+                if (size < values.length) size++;
+                count++;
+            }
+
+            if (!reported) {
+                // the first reading is the reference of the deadband; nothing changed yet
+                reported = true;
+                reportedValue = value;
+            } else if (Math.abs(value - reportedValue) > deadband) {
+                int oldValue = reportedValue;
+                reportedValue = value;
+                if (events.hasListeners())
+                    events.dispatch(new AnalogValueChangeEvent<>(input, value, oldValue));
+            }
+        }
+
+        @Override
+        public AnalogInput input() {
+            return input;
+        }
+
+        @Override
+        public long interval() {
+            return interval;
+        }
+
+        @Override
+        public int deadband() {
+            return deadband;
+        }
+
+        @Override
+        public int capacity() {
+            return values.length;
+        }
+
+        @Override
+        public synchronized int size() {
+            return size;
+        }
+
+        @Override
+        public synchronized long count() {
+            return count;
+        }
+
+        @Override
+        public synchronized int latest() {
+            return size == 0 ? 0 : values[index(0)];
+        }
+
+        @Override
+        public synchronized long latestTimestamp() {
+            return size == 0 ? 0 : timestamps[index(0)];
+        }
+
+        @Override
+        public synchronized int copy(int[] values, long[] timestamps) {
+            int n = Math.min(size, values.length);
+            for (int i = 0; i < n; i++) {
+                // the i-th reading of the result is the (n - 1 - i)-th most recent one
+                int index = index(n - 1 - i);
+                values[i] = this.values[index];
+                if (timestamps != null)
+                    timestamps[i] = this.timestamps[index];
+            }
+            return n;
+        }
+
+        @Override
+        public AnalogSampleWindow window(long period, TimeUnit unit) {
+            return aggregate(System.nanoTime() - unit.toNanos(period), Integer.MAX_VALUE);
+        }
+
+        @Override
+        public AnalogSampleWindow window(int samples) {
+            return aggregate(Long.MIN_VALUE, samples);
+        }
+
+        private synchronized AnalogSampleWindow aggregate(long since, int samples) {
+            int n = 0;
+            int min = 0;
+            int max = 0;
+            long sum = 0;
+            double squares = 0;
+            long start = 0;
+            long end = 0;
+            int limit = Math.min(size, samples);
+            for (int i = 0; i < limit; i++) {
+                int index = index(i);
+                long timestamp = timestamps[index];
+                if (since != Long.MIN_VALUE && timestamp - since < 0)
+                    break;
+                int value = values[index];
+                if (n == 0) {
+                    min = max = value;
+                    end = timestamp;
+                } else {
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+                start = timestamp;
+                sum += value;
+                squares += (double) value * value;
+                n++;
+            }
+            return new AnalogSampleWindow(start, end, n, min, max,
+                n == 0 ? Double.NaN : (double) sum / n,
+                n == 0 ? Double.NaN : Math.sqrt(squares / n));
+        }
+
+        /**
+         * @param age 0 for the most recent reading, 1 for the one before, ...
+         * @return the buffer index of the reading
+         */
+        private int index(int age) {
+            int index = head - 1 - age;
+            return index < 0 ? index + values.length : index;
+        }
+
+        @Override
+        public String toString() {
+            return "AnalogSamplerChannel[" + input.id() + "]";
+        }
+    }
+
+    /**
+     * All channels sampled at the same interval. The channel array is copied on write, so the sampling task
+     * never holds a lock while it reads inputs or notifies listeners; a listener may add or remove channels.
+     */
+    private static final class Group implements Runnable {
+        private volatile Channel[] channels = new Channel[0];
+        private ScheduledFuture<?> future;
+
+        synchronized void add(Channel channel) {
+            List<Channel> list = new ArrayList<>(Arrays.asList(channels));
+            list.add(channel);
+            channels = list.toArray(new Channel[0]);
+        }
+
+        synchronized int remove(Channel channel) {
+            List<Channel> list = new ArrayList<>(Arrays.asList(channels));
+            list.remove(channel);
+            channels = list.toArray(new Channel[0]);
+            return channels.length;
+        }
+
+        @Override
+        public void run() {
+            for (Channel channel : channels) {
+                try {
+                    channel.sample();
+                } catch (Exception e) {
+                    // never let a failing input cancel the periodic task
+                    logger.error("Unable to sample analog input [{}]; {}", channel.input.id(), e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -25,11 +25,15 @@ package com.pi4j.io.gpio.digital;
  * #L%
  */
 
+import com.pi4j.event.ListenerOptions;
+import com.pi4j.event.ListenerStatistics;
 import com.pi4j.io.OnOffRead;
 import com.pi4j.io.binding.Bindable;
 import com.pi4j.io.binding.DigitalBinding;
 import com.pi4j.io.gpio.Gpio;
 
+import java.util.List;
+
 /**
  * <p>Digital interface.</p>
  *
@@ -61,6 +65,16 @@ public interface Digital<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CONFIG_TYPE,
      * @return a DIGITAL_TYPE object.
      */
     DIGITAL_TYPE addListener(DigitalStateChangeListener... listener);
+
+    /**
+     * <p>addListener.</p>
+     *
+     * @param options a {@link ListenerOptions} object defining how events are delivered to the listeners.
+     * @param listener a {@link DigitalStateChangeListener} object.
+     * @return a DIGITAL_TYPE object.
+     */
+    DIGITAL_TYPE addListener(ListenerOptions options, DigitalStateChangeListener... listener);
+
     /**
      * <p>removeListener.</p>
      *
@@ -69,6 +83,28 @@ public interface Digital<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CONFIG_TYPE,
      */
     DIGITAL_TYPE removeListener(DigitalStateChangeListener... listener);
 
+    /**
+     * <p>listenerStatistics.</p>
+     *
+     * @return the delivery statistics of all registered {@link DigitalStateChangeListener} instances.
+     */
+    List<ListenerStatistics> listenerStatistics();
+
+    /**
+     * <p>addEdgeHandler.</p>
+     *
+     * @param handler a {@link DigitalEdgeHandler} invoked on the provider thread for every state change.
+     * @return a DIGITAL_TYPE object.
+     */
+    DIGITAL_TYPE addEdgeHandler(DigitalEdgeHandler... handler);
+    /**
+     * <p>removeEdgeHandler.</p>
+     *
+     * @param handler a {@link DigitalEdgeHandler} object.
+     * @return a DIGITAL_TYPE object.
+     */
+    DIGITAL_TYPE removeEdgeHandler(DigitalEdgeHandler... handler);
+
     /**
      * <p>equals.</p>
      *
@@ -0,0 +1,48 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalBankReader.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Optional capability of a digital input provider to read the states of a whole bank of GPIO
+ * pins in a single operation.</p>
+ *
+ * <p>The polling scheduler uses bank reads for polled inputs of providers that implement this
+ * interface, so each bank is read once per sample instead of once per input.</p>
+ */
+public interface DigitalBankReader {
+
+    /** Number of pins per bank */
+    int BANK_SIZE = 32;
+
+    /**
+     * Read the states of all pins in a bank
+     *
+     * @param bank bank number; bank {@code n} covers the addresses {@code n * BANK_SIZE} to
+     *             {@code n * BANK_SIZE + BANK_SIZE - 1}
+     * @return a bit mask with bit {@code i} set if the pin at address {@code bank * BANK_SIZE + i} is HIGH
+     */
+    int readBank(int bank);
+}
@@ -0,0 +1,54 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalBankWriter.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Optional capability of a digital output provider to write the states of several pins of a bank
+ * in a single operation.</p>
+ *
+ * <p>Batched bindings use bank writes for member outputs of providers that implement this interface,
+ * so each bank is written once per change instead of once per output.  Implementations update the
+ * states of the affected outputs and dispatch their change events as {@link DigitalOutput#state(DigitalState)}
+ * would.</p>
+ */
+public interface DigitalBankWriter {
+
+    /** Number of pins per bank */
+    int BANK_SIZE = DigitalBankReader.BANK_SIZE;
+
+    /**
+     * Write the states of the selected pins in a bank; selected pins that are not (or no longer) outputs
+     * of this provider are not written
+     *
+     * @param bank bank number; bank {@code n} covers the addresses {@code n * BANK_SIZE} to
+     *             {@code n * BANK_SIZE + BANK_SIZE - 1}
+     * @param mask a bit mask selecting the pins to write; bit {@code i} selects the pin at address
+     *             {@code bank * BANK_SIZE + i}
+     * @param states a bit mask with bit {@code i} set if the selected pin at address
+     *               {@code bank * BANK_SIZE + i} is to be driven HIGH
+     */
+    void writeBank(int bank, int mask, int states);
+}
@@ -28,12 +28,21 @@ package com.pi4j.io.gpio.digital;
 import com.pi4j.context.Context;
 import com.pi4j.event.EventDelegate;
 import com.pi4j.event.EventManager;
+import com.pi4j.event.ListenerOptions;
+import com.pi4j.event.ListenerStatistics;
+import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.binding.Bindable;
 import com.pi4j.io.binding.BindingDelegate;
 import com.pi4j.io.binding.BindingManager;
 import com.pi4j.io.binding.DigitalBinding;
 import com.pi4j.io.gpio.GpioBase;
+import com.pi4j.metrics.OperationMetrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>Abstract DigitalBase class.</p>
@@ -57,6 +66,18 @@ public abstract class DigitalBase<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CON
     // internal bindings collection
     protected BindingManager<DIGITAL_TYPE, DigitalBinding, DigitalStateChangeEvent> bindings;
 
+    // per-source event sequence counter
+    private final AtomicLong eventSequence = new AtomicLong();
+
+    // reusable event instance; only set when event pooling is enabled
+    protected DigitalStateChangeEvent<DIGITAL_TYPE> pooledEvent;
+
+    // primitive edge handlers (copy-on-write snapshot)
+    private volatile DigitalEdgeHandler[] edgeHandlers = new DigitalEdgeHandler[0];
+
+    // time taken to dispatch state changes to edge handlers, listeners and bindings
+    protected OperationMetrics dispatchMetrics = OperationMetrics.DISABLED;
+
     /**
      * <p>Constructor for DigitalBase.</p>
      *
@@ -83,6 +104,13 @@ public abstract class DigitalBase<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CON
         return (DIGITAL_TYPE)this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public DIGITAL_TYPE addListener(ListenerOptions options, DigitalStateChangeListener... listener) {
+        stateChangeEventManager.add(options, listener);
+        return (DIGITAL_TYPE)this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public DIGITAL_TYPE removeListener(DigitalStateChangeListener... listener) {
@@ -90,6 +118,33 @@ public abstract class DigitalBase<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CON
         return (DIGITAL_TYPE)this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<ListenerStatistics> listenerStatistics() {
+        return stateChangeEventManager.statistics();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized DIGITAL_TYPE addEdgeHandler(DigitalEdgeHandler... handler) {
+        List<DigitalEdgeHandler> handlers = new ArrayList<>(Arrays.asList(this.edgeHandlers));
+        for (DigitalEdgeHandler h : handler) {
+            if (!handlers.contains(h))
+                handlers.add(h);
+        }
+        this.edgeHandlers = handlers.toArray(new DigitalEdgeHandler[0]);
+        return (DIGITAL_TYPE)this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized DIGITAL_TYPE removeEdgeHandler(DigitalEdgeHandler... handler) {
+        List<DigitalEdgeHandler> handlers = new ArrayList<>(Arrays.asList(this.edgeHandlers));
+        handlers.removeAll(Arrays.asList(handler));
+        this.edgeHandlers = handlers.toArray(new DigitalEdgeHandler[0]);
+        return (DIGITAL_TYPE)this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public DIGITAL_TYPE bind(DigitalBinding ... binding) {
@@ -113,10 +168,70 @@ public abstract class DigitalBase<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CON
      * @param event DigitalChangeEvent
      */
     protected void dispatch(DigitalStateChangeEvent event){
+        long start = dispatchMetrics.start();
+        notifyEdgeHandlers(event.state(), event.timestamp());
+        notifyListeners(event);
+        dispatchMetrics.stop(start);
+    }
+
+    /**
+     * Dispatch a state change that occurred at the given (monotonic, nanosecond) timestamp.
+     * <p>
+     * Edge handlers are always invoked.  No event is allocated if there are no listeners or
+     * bindings, and the pooled event instance is reused if event pooling is enabled and all
+     * listeners are invoked inline.
+     *
+     * @param state the new state
+     * @param timestamp timestamp of the state change in nanoseconds
+     */
+    @SuppressWarnings("unchecked")
+    protected void dispatch(DigitalState state, long timestamp){
+        long start = dispatchMetrics.start();
+        notifyEdgeHandlers(state, timestamp);
+
+        if (!stateChangeEventManager.hasListeners() && !bindings.hasBindings()) {
+            // keep sequence numbers gap-free from the source's point of view
+            eventSequence.incrementAndGet();
+            dispatchMetrics.stop(start);
+            return;
+        }
+
+        DigitalStateChangeEvent<DIGITAL_TYPE> event = this.pooledEvent;
+        if (event != null && stateChangeEventManager.isInlineOnly()) {
+            event.update(state, timestamp);
+        } else {
+            event = new DigitalStateChangeEvent<>((DIGITAL_TYPE) this, state, timestamp);
+        }
+        notifyListeners(event);
+        dispatchMetrics.stop(start);
+    }
+
+    private void notifyEdgeHandlers(DigitalState state, long timestamp){
+        final DigitalEdgeHandler[] handlers = this.edgeHandlers;
+        for (int i = 0; i < handlers.length; i++) {
+            try {
+                handlers[i].onEdge(state, timestamp);
+            } catch (Exception e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+    }
+
+    private void notifyListeners(DigitalStateChangeEvent<?> event){
+        if (event.sequence == 0)
+            event.sequence = eventSequence.incrementAndGet();
         stateChangeEventManager.dispatch(event);
         bindings.process(event);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public DIGITAL_TYPE initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        this.dispatchMetrics = metrics("dispatch");
+        return (DIGITAL_TYPE) this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public DIGITAL_TYPE shutdown(Context context) throws ShutdownException {
@@ -126,6 +241,9 @@ public abstract class DigitalBase<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CON
         // remove all bindings
         bindings.clear();
 
+        // remove all edge handlers
+        this.edgeHandlers = new DigitalEdgeHandler[0];
+
         // return this instance
         return (DIGITAL_TYPE) this;
     }
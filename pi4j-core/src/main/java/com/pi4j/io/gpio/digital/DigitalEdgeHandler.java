@@ -0,0 +1,47 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalEdgeHandler.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Low level, allocation-free hook for digital state changes.</p>
+ *
+ * <p>Edge handlers are invoked synchronously on the provider's event thread for every state change
+ * of a digital I/O, before (and independent of) the creation of any {@link DigitalStateChangeEvent}.
+ * They are intended for high-rate consumers such as {@link PulseCounter} and must return quickly.</p>
+ *
+ * @see Digital#addEdgeHandler(DigitalEdgeHandler...)
+ */
+@FunctionalInterface
+public interface DigitalEdgeHandler {
+
+    /**
+     * Called for every state change
+     *
+     * @param state the new state
+     * @param timestamp monotonic timestamp of the state change in nanoseconds
+     */
+    void onEdge(DigitalState state, long timestamp);
+}
@@ -25,6 +25,13 @@ package com.pi4j.io.gpio.digital;
  * #L%
  */
 
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.ShutdownException;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
 /**
  * <p>Abstract DigitalInputBase class.</p>
  *
@@ -32,6 +39,16 @@ package com.pi4j.io.gpio.digital;
  * @version $Id: $Id
  */
 public abstract class DigitalInputBase extends DigitalBase<DigitalInput, DigitalInputConfig, DigitalInputProvider> implements DigitalInput {
+
+    // software edge filter; only set for providers that route their raw edges through it
+    protected DigitalInputFilter filter;
+
+    // scheduled confirmation of pending filter changes for providers without an event loop
+    private final Object filterLock = new Object();
+    private boolean filterTimed;
+    private long filterPeriod;
+    private ScheduledFuture<?> filterTimer;
+
     /**
      * <p>Constructor for DigitalInputBase.</p>
      *
@@ -40,5 +57,151 @@ public abstract class DigitalInputBase extends DigitalBase<DigitalInput, Digital
      */
     public DigitalInputBase(DigitalInputProvider provider, DigitalInputConfig config){
         super(provider, config);
+
+        // reuse a single event instance for all state changes of this input
+        if (config.eventPooling() != null && config.eventPooling())
+            this.pooledEvent = new DigitalStateChangeEvent<>(this, DigitalState.UNKNOWN);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInput initialize(Context context) throws InitializeException {
+        super.initialize(context);
+
+        // register polled inputs with the provider's sampler
+        if (config.isPolled()) {
+            if (!(provider instanceof DigitalInputProviderBase))
+                throw new InitializeException("Digital input provider [" + provider.id() + "] does not support polled inputs");
+            ((DigitalInputProviderBase) provider).sampler().add(this);
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInput shutdown(Context context) throws ShutdownException {
+        if (config.isPolled() && provider instanceof DigitalInputProviderBase)
+            ((DigitalInputProviderBase) provider).sampler().remove(this);
+        synchronized (filterLock) {
+            if (filterTimer != null) {
+                filterTimer.cancel(false);
+                filterTimer = null;
+            }
+        }
+        return super.shutdown(context);
+    }
+
+    /**
+     * Route raw edges reported by the provider through a software edge filter configured from the
+     * input's debounce and minimum pulse width.
+     *
+     * @param eventLoop true if the provider's event loop confirms pending changes itself
+     *                  (see {@link #filterDeadline()} and {@link #expireFilter(long)})
+     */
+    protected void enableFilter(boolean eventLoop) {
+        long debounce = config.debounce() != null ? config.debounce() : 0;
+        long minPulse = config.minPulse() != null ? config.minPulse() : 0;
+
+        // the minimum pulse width applies to the configured ON state
+        if (config.onState() == DigitalState.LOW)
+            enableFilter(debounce, Math.max(debounce, minPulse), eventLoop);
+        else
+            enableFilter(Math.max(debounce, minPulse), debounce, eventLoop);
+    }
+
+    /**
+     * Route raw edges reported by the provider through a software edge filter.
+     *
+     * @param riseMicros time in microseconds a HIGH state must be stable before it is dispatched
+     * @param fallMicros time in microseconds a LOW state must be stable before it is dispatched
+     * @param eventLoop true if the provider's event loop confirms pending changes itself
+     *                  (see {@link #filterDeadline()} and {@link #expireFilter(long)})
+     */
+    protected void enableFilter(long riseMicros, long fallMicros, boolean eventLoop) {
+        if (riseMicros <= 0 && fallMicros <= 0) {
+            this.filter = null;
+            return;
+        }
+
+        DigitalInputFilter filter = new DigitalInputFilter(riseMicros * 1000, fallMicros * 1000, this::sampled);
+        try {
+            DigitalState initial = state();
+            if (initial == DigitalState.HIGH || initial == DigitalState.LOW)
+                filter.reset(initial);
+        } catch (Exception e) {
+            logger.warn("Unable to read initial state of input [{}]; {}", id, e.getMessage());
+        }
+
+        // confirm pending changes a few times per stable period
+        long shortest = riseMicros <= 0 ? fallMicros : (fallMicros <= 0 ? riseMicros : Math.min(riseMicros, fallMicros));
+        this.filterPeriod = Math.max(100, shortest / 4);
+        this.filterTimed = !eventLoop;
+        this.filter = filter;
+    }
+
+    /**
+     * @return time (in nanoseconds) at which a pending filter change becomes stable, or {@link Long#MAX_VALUE}
+     */
+    protected long filterDeadline() {
+        DigitalInputFilter filter = this.filter;
+        return filter != null ? filter.deadline() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Dispatch a pending filter change if it has been stable until the given time
+     *
+     * @param now current time in nanoseconds
+     */
+    protected void expireFilter(long now) {
+        DigitalInputFilter filter = this.filter;
+        if (filter != null) filter.expire(now);
+    }
+
+    private void checkFilter() {
+        DigitalInputFilter filter = this.filter;
+        if (filter != null) filter.expire(System.nanoTime());
+        synchronized (filterLock) {
+            if ((filter == null || !filter.isPending()) && filterTimer != null) {
+                filterTimer.cancel(false);
+                filterTimer = null;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * State changes reported by the provider are ignored for polled inputs; their events are
+     * derived from the filtered samples instead.  If a software edge filter is enabled, state
+     * changes are dispatched once they pass the filter.
+     */
+    @Override
+    protected void dispatch(DigitalState state, long timestamp) {
+        if (config.isPolled())
+            return;
+
+        DigitalInputFilter filter = this.filter;
+        if (filter == null) {
+            super.dispatch(state, timestamp);
+            return;
+        }
+
+        filter.edge(state, timestamp);
+        if (filterTimed) {
+            synchronized (filterLock) {
+                if (filter.isPending() && filterTimer == null)
+                    filterTimer = context().scheduleTask(this::checkFilter, filterPeriod, TimeUnit.MICROSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Dispatch a filtered state change of a polled or filtered input
+     *
+     * @param state the new state
+     * @param timestamp timestamp of the sample in nanoseconds
+     */
+    void sampled(DigitalState state, long timestamp) {
+        super.dispatch(state, timestamp);
     }
 }
@@ -40,6 +40,18 @@ public interface DigitalInputConfig extends DigitalConfig<DigitalInputConfig> {
     String PULL_RESISTANCE_KEY = "pull";
     /** Constant <code>DEBOUNCE_RESISTANCE_KEY="debounce"</code> */
     String DEBOUNCE_RESISTANCE_KEY = "debounce";
+    /** Constant <code>MIN_PULSE_KEY="minpulse"</code> */
+    String MIN_PULSE_KEY = "minpulse";
+    /** Constant <code>EVENT_POOLING_KEY="eventpooling"</code> */
+    String EVENT_POOLING_KEY = "eventpooling";
+    /** Constant <code>POLL_INTERVAL_KEY="pollinterval"</code> */
+    String POLL_INTERVAL_KEY = "pollinterval";
+    /** Constant <code>POLL_SAMPLES_KEY="pollsamples"</code> */
+    String POLL_SAMPLES_KEY = "pollsamples";
+    /** Constant <code>POLL_THRESHOLD_KEY="pollthreshold"</code> */
+    String POLL_THRESHOLD_KEY = "pollthreshold";
+    /** Constant <code>OVERSAMPLE_KEY="oversample"</code> */
+    String OVERSAMPLE_KEY = "oversample";
 
     /**
      * <p>pull.</p>
@@ -69,6 +81,111 @@ public interface DigitalInputConfig extends DigitalConfig<DigitalInputConfig> {
      */
     default Long getDebounce(){ return debounce(); }
 
+    /**
+     * <p>minPulse.</p>
+     * <p>
+     * Minimum width (in microseconds) of a pulse to the configured ON state; shorter pulses are
+     * rejected by the software edge filter.
+     *
+     * @return a {@link java.lang.Long} object.
+     */
+    Long minPulse();
+    /**
+     * <p>getMinPulse.</p>
+     *
+     * @return a {@link java.lang.Long} object.
+     */
+    default Long getMinPulse(){ return minPulse(); }
+
+    /**
+     * <p>eventPooling.</p>
+     * <p>
+     * If enabled, a single {@link DigitalStateChangeEvent} instance is reused for every state change
+     * dispatched to inline listeners instead of allocating a new event per edge.
+     *
+     * @return a {@link java.lang.Boolean} object.
+     */
+    Boolean eventPooling();
+    /**
+     * <p>getEventPooling.</p>
+     *
+     * @return a {@link java.lang.Boolean} object.
+     */
+    default Boolean getEventPooling(){ return eventPooling(); }
+
+    /**
+     * <p>pollInterval.</p>
+     * <p>
+     * If set to a positive value, the input is sampled by the shared polling scheduler at this
+     * interval (in microseconds) and state change events are derived from the filtered samples
+     * instead of from the provider's interrupts.
+     *
+     * @return a {@link java.lang.Long} object.
+     */
+    Long pollInterval();
+    /**
+     * <p>getPollInterval.</p>
+     *
+     * @return a {@link java.lang.Long} object.
+     */
+    default Long getPollInterval(){ return pollInterval(); }
+
+    /**
+     * <p>pollSamples.</p>
+     * <p>
+     * Number of most recent samples (M) considered by the N-of-M debounce filter of a polled input.
+     *
+     * @return a {@link java.lang.Integer} object.
+     */
+    Integer pollSamples();
+    /**
+     * <p>getPollSamples.</p>
+     *
+     * @return a {@link java.lang.Integer} object.
+     */
+    default Integer getPollSamples(){ return pollSamples(); }
+
+    /**
+     * <p>pollThreshold.</p>
+     * <p>
+     * Number of samples (N) out of the most recent {@link #pollSamples()} that must agree on a
+     * new state before a polled input changes state.
+     *
+     * @return a {@link java.lang.Integer} object.
+     */
+    Integer pollThreshold();
+    /**
+     * <p>getPollThreshold.</p>
+     *
+     * @return a {@link java.lang.Integer} object.
+     */
+    default Integer getPollThreshold(){ return pollThreshold(); }
+
+    /**
+     * <p>oversample.</p>
+     * <p>
+     * Number of reads per polling interval; a polled input takes the majority vote of these
+     * reads as the sample for the interval.
+     *
+     * @return a {@link java.lang.Integer} object.
+     */
+    Integer oversample();
+    /**
+     * <p>getOversample.</p>
+     *
+     * @return a {@link java.lang.Integer} object.
+     */
+    default Integer getOversample(){ return oversample(); }
+
+    /**
+     * <p>isPolled.</p>
+     *
+     * @return true if this input is sampled by the polling scheduler
+     */
+    default boolean isPolled(){
+        return pollInterval() != null && pollInterval() > 0;
+    }
+
     /**
      * <p>newBuilder.</p>
      *
@@ -63,6 +63,65 @@ public interface DigitalInputConfigBuilder extends DigitalConfigBuilder<DigitalI
      */
     DigitalInputConfigBuilder debounce(Long interval, TimeUnit units);
 
+    /**
+     * <p>minPulse.</p>
+     *
+     * @param microseconds minimum width of a pulse to the ON state
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalInputConfigBuilder} object.
+     */
+    DigitalInputConfigBuilder minPulse(Long microseconds);
+
+    /**
+     * <p>minPulse.</p>
+     *
+     * @param interval minimum width of a pulse to the ON state
+     * @param units a {@link java.util.concurrent.TimeUnit} object.
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalInputConfigBuilder} object.
+     */
+    DigitalInputConfigBuilder minPulse(Long interval, TimeUnit units);
+
+    /**
+     * <p>eventPooling.</p>
+     *
+     * @param enabled reuse a single state change event instance for inline listeners
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalInputConfigBuilder} object.
+     */
+    DigitalInputConfigBuilder eventPooling(boolean enabled);
+
+    /**
+     * <p>poll.</p>
+     *
+     * @param microseconds sampling interval of the polled input; zero disables polling
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalInputConfigBuilder} object.
+     */
+    DigitalInputConfigBuilder poll(Long microseconds);
+
+    /**
+     * <p>poll.</p>
+     *
+     * @param interval sampling interval of the polled input; zero disables polling
+     * @param units a {@link java.util.concurrent.TimeUnit} object.
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalInputConfigBuilder} object.
+     */
+    DigitalInputConfigBuilder poll(Long interval, TimeUnit units);
+
+    /**
+     * <p>pollFilter.</p>
+     *
+     * @param threshold number of samples (N) that must agree on a new state
+     * @param samples number of most recent samples (M) to consider, at most 64
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalInputConfigBuilder} object.
+     */
+    DigitalInputConfigBuilder pollFilter(int threshold, int samples);
+
+    /**
+     * <p>oversample.</p>
+     *
+     * @param reads number of reads per polling interval to take the majority vote of
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalInputConfigBuilder} object.
+     */
+    DigitalInputConfigBuilder oversample(int reads);
+
     /**
      * <p>newInstance.</p>
      *
@@ -0,0 +1,185 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalInputFilter.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Software edge filter for digital inputs.</p>
+ *
+ * <p>The filter consumes raw, timestamped edges on the provider's event thread and forwards a state
+ * change to its sink only once the new state has been stable for the configured time.  Separate
+ * stable times for rising and falling edges cover debounce/glitch suppression (equal times),
+ * hysteresis and minimum pulse width (unequal times).  All state is kept in primitive fields and no
+ * objects are allocated per edge.</p>
+ *
+ * <p>A change that is still pending when no further edges arrive is confirmed by {@link #expire(long)};
+ * providers with an event loop call it when their wait for the next edge times out at {@link #deadline()}.
+ * Timestamps passed to the filter must be in the {@link System#nanoTime()} time base.</p>
+ *
+ * <p>Edges and expirations may come from different threads, e.g. the provider's event thread and a
+ * scheduler; accepted changes are delivered to the sink one at a time and in the order they were accepted.</p>
+ */
+public class DigitalInputFilter {
+
+    private final long riseNanos;
+    private final long fallNanos;
+    private final DigitalEdgeHandler sink;
+
+    // held while a change is accepted and delivered; the filter's monitor guards the state only
+    private final Object delivery = new Object();
+
+    // filtered state and pending (not yet stable) change
+    private DigitalState state = DigitalState.UNKNOWN;
+    private DigitalState pending;
+    private long pendingTimestamp;
+    private long deadline = Long.MAX_VALUE;
+
+    /**
+     * <p>Constructor for DigitalInputFilter.</p>
+     *
+     * @param riseNanos time in nanoseconds a HIGH state must be stable before it is accepted
+     * @param fallNanos time in nanoseconds a LOW state must be stable before it is accepted
+     * @param sink receives the accepted state changes (with the timestamp of the original edge)
+     */
+    public DigitalInputFilter(long riseNanos, long fallNanos, DigitalEdgeHandler sink) {
+        this.riseNanos = Math.max(0, riseNanos);
+        this.fallNanos = Math.max(0, fallNanos);
+        this.sink = sink;
+    }
+
+    /**
+     * Set the filtered state without notifying the sink, discarding any pending change
+     *
+     * @param state the current state of the input
+     */
+    public synchronized void reset(DigitalState state) {
+        this.state = state;
+        this.pending = null;
+        this.deadline = Long.MAX_VALUE;
+    }
+
+    /**
+     * @return the filtered state
+     */
+    public synchronized DigitalState state() {
+        return this.state;
+    }
+
+    /**
+     * @return true if a state change is waiting to become stable
+     */
+    public synchronized boolean isPending() {
+        return this.pending != null;
+    }
+
+    /**
+     * @return time (in nanoseconds) at which the pending change becomes stable, or {@link Long#MAX_VALUE}
+     */
+    public synchronized long deadline() {
+        return this.deadline;
+    }
+
+    /**
+     * Process a raw edge
+     *
+     * @param state the raw state after the edge
+     * @param timestamp timestamp of the edge in nanoseconds
+     */
+    public void edge(DigitalState state, long timestamp) {
+        synchronized (delivery) {
+            deliverEdge(state, timestamp);
+        }
+    }
+
+    private void deliverEdge(DigitalState state, long timestamp) {
+        DigitalState confirmed = null, accepted = null;
+        long confirmedTimestamp = 0;
+
+        synchronized (this) {
+            // a pending change that lasted until this edge may already be stable
+            if (this.pending != null && timestamp >= this.deadline) {
+                confirmed = this.pending;
+                confirmedTimestamp = this.pendingTimestamp;
+                this.state = confirmed;
+                this.pending = null;
+                this.deadline = Long.MAX_VALUE;
+            }
+
+            if (state == this.pending) {
+                // repeated edge for the same pending state; keep the original timestamp
+            } else if (state == this.state) {
+                // back to the filtered state before the pending change became stable (glitch)
+                this.pending = null;
+                this.deadline = Long.MAX_VALUE;
+            } else {
+                long stable = (state == DigitalState.HIGH) ? this.riseNanos : this.fallNanos;
+                if (stable == 0) {
+                    accepted = state;
+                    this.state = state;
+                    this.pending = null;
+                    this.deadline = Long.MAX_VALUE;
+                } else {
+                    this.pending = state;
+                    this.pendingTimestamp = timestamp;
+                    this.deadline = timestamp + stable;
+                }
+            }
+        }
+
+        // notify outside of the state lock, but in order
+        if (confirmed != null) this.sink.onEdge(confirmed, confirmedTimestamp);
+        if (accepted != null) this.sink.onEdge(accepted, timestamp);
+    }
+
+    /**
+     * Accept the pending change if it has been stable until the given time
+     *
+     * @param now current time in nanoseconds
+     * @return true if nothing is pending anymore
+     */
+    public boolean expire(long now) {
+        synchronized (this) {
+            // nothing to deliver; do not wait for a delivery in progress
+            if (this.pending == null) return true;
+            if (now < this.deadline) return false;
+        }
+
+        DigitalState confirmed;
+        long confirmedTimestamp;
+        synchronized (delivery) {
+            synchronized (this) {
+                if (this.pending == null) return true;
+                if (now < this.deadline) return false;
+                confirmed = this.pending;
+                confirmedTimestamp = this.pendingTimestamp;
+                this.state = confirmed;
+                this.pending = null;
+                this.deadline = Long.MAX_VALUE;
+            }
+            this.sink.onEdge(confirmed, confirmedTimestamp);
+        }
+        return true;
+    }
+}
@@ -24,6 +24,10 @@ package com.pi4j.io.gpio.digital;
  * limitations under the License.
  * #L%
  */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
+
 /**
  * <p>Abstract DigitalInputProviderBase class.</p>
  *
@@ -34,6 +38,9 @@ public abstract class DigitalInputProviderBase
         extends DigitalProviderBase<DigitalInputProvider, DigitalInput, DigitalInputConfig>
         implements DigitalInputProvider {
 
+    // shared sampler for polled inputs of this provider (created on demand)
+    private DigitalInputSampler sampler;
+
     /**
      * <p>Constructor for DigitalInputProviderBase.</p>
      */
@@ -59,4 +66,28 @@ public abstract class DigitalInputProviderBase
     public DigitalInputProviderBase(String id, String name){
         super(id, name);
     }
+
+    /**
+     * <p>sampler.</p>
+     *
+     * @return the sampler for polled inputs of this provider
+     */
+    synchronized DigitalInputSampler sampler() {
+        if (this.sampler == null)
+            this.sampler = new DigitalInputSampler(this.context, this);
+        return this.sampler;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputProvider shutdown(Context context) throws ShutdownException {
+        super.shutdown(context);
+        synchronized (this) {
+            if (this.sampler != null) {
+                this.sampler.shutdown();
+                this.sampler = null;
+            }
+        }
+        return this;
+    }
 }
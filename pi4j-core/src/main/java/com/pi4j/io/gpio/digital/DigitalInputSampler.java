@@ -0,0 +1,270 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalInputSampler.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Samples the polled digital inputs of a single provider.</p>
+ *
+ * <p>Inputs with the same poll interval share one periodic task on the context's scheduler.  Each
+ * tick takes {@code oversample} reads per input (as bank reads if the provider is a
+ * {@link DigitalBankReader}), reduces them to one sample by majority vote and feeds the sample into
+ * an N-of-M debounce filter.  State change events are dispatched only when the filtered state changes.</p>
+ */
+class DigitalInputSampler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DigitalInputSampler.class);
+
+    private final Context context;
+    private final DigitalBankReader bankReader;
+    private final Map<Long, Group> groups = new HashMap<>();
+
+    /**
+     * <p>Constructor for DigitalInputSampler.</p>
+     *
+     * @param context the context providing the shared scheduler
+     * @param provider the provider of the sampled inputs
+     */
+    DigitalInputSampler(Context context, DigitalInputProvider provider) {
+        this.context = context;
+        this.bankReader = (provider instanceof DigitalBankReader) ? (DigitalBankReader) provider : null;
+    }
+
+    /**
+     * Start sampling the given input
+     *
+     * @param input the polled input
+     */
+    synchronized void add(DigitalInputBase input) {
+        long interval = input.config().pollInterval();
+        Channel channel = new Channel(input);
+        channel.seed();
+        Group group = groups.get(interval);
+        if (group == null) {
+            group = new Group();
+            groups.put(interval, group);
+            group.add(channel);
+            group.future = context.scheduleTask(group, interval, TimeUnit.MICROSECONDS);
+        } else {
+            group.add(channel);
+        }
+    }
+
+    /**
+     * Stop sampling the given input
+     *
+     * @param input the polled input
+     */
+    synchronized void remove(DigitalInputBase input) {
+        Long interval = input.config().pollInterval();
+        Group group = groups.get(interval);
+        if (group != null && group.remove(input) == 0) {
+            group.future.cancel(false);
+            groups.remove(interval);
+        }
+    }
+
+    /**
+     * Stop sampling all inputs
+     */
+    synchronized void shutdown() {
+        for (Group group : groups.values()) {
+            group.future.cancel(false);
+        }
+        groups.clear();
+    }
+
+    /**
+     * Sampling state of a single input; only accessed from the group's task.
+     */
+    private static final class Channel {
+        final DigitalInputBase input;
+        final int oversample;
+        final int threshold;
+        final long window;
+        final int bit;
+        int bankIndex;
+        long history;
+        int count;
+        DigitalState state = DigitalState.UNKNOWN;
+
+        Channel(DigitalInputBase input) {
+            DigitalInputConfig config = input.config();
+            this.input = input;
+            this.oversample = config.oversample();
+            this.threshold = config.pollThreshold();
+            int samples = config.pollSamples();
+            this.window = samples == 64 ? -1L : (1L << samples) - 1;
+            this.bit = config.address() % DigitalBankReader.BANK_SIZE;
+        }
+
+        void seed() {
+            // start the filter from the state at registration so no transition is lost
+            try {
+                DigitalState initial = input.state();
+                if (initial == DigitalState.HIGH || initial == DigitalState.LOW) {
+                    state = initial;
+                    history = initial == DigitalState.HIGH ? window : 0;
+                    count = Long.bitCount(window);
+                }
+            } catch (Exception e) {
+                logger.warn("Unable to read initial state of polled input [{}]; {}", input.id(), e.getMessage());
+            }
+        }
+
+        int bank() {
+            return input.config().address() / DigitalBankReader.BANK_SIZE;
+        }
+
+        void sample(boolean high, long timestamp) {
+            history = ((history << 1) | (high ? 1 : 0)) & window;
+            if (count < Long.bitCount(window)) count++;
+
+            int highs = Long.bitCount(history);
+            int lows = count - highs;
+
+            if (state == DigitalState.UNKNOWN) {
+                // no initial state could be read; adopt the first sample without dispatching an event
+                state = high ? DigitalState.HIGH : DigitalState.LOW;
+            } else if (state == DigitalState.LOW && highs >= threshold) {
+                state = DigitalState.HIGH;
+                input.sampled(state, timestamp);
+            } else if (state == DigitalState.HIGH && lows >= threshold) {
+                state = DigitalState.LOW;
+                input.sampled(state, timestamp);
+            }
+        }
+    }
+
+    /**
+     * All inputs sampled at the same interval; changes to the channels are serialized with the sampling task.
+     */
+    private final class Group implements Runnable {
+        private Channel[] channels = new Channel[0];
+        private int[] banks = new int[0];
+        private int[][] reads = new int[0][0];
+        private ScheduledFuture<?> future;
+
+        synchronized void add(Channel channel) {
+            List<Channel> list = new ArrayList<>(Arrays.asList(channels));
+            list.add(channel);
+            update(list);
+        }
+
+        synchronized int remove(DigitalInputBase input) {
+            List<Channel> list = new ArrayList<>(Arrays.asList(channels));
+            list.removeIf(c -> c.input == input);
+            update(list);
+            return list.size();
+        }
+
+        private void update(List<Channel> list) {
+            // collect the distinct banks and the maximum oversampling of all channels
+            List<Integer> bankList = new ArrayList<>();
+            int oversample = 1;
+            for (Channel channel : list) {
+                int bank = channel.bank();
+                if (!bankList.contains(bank)) bankList.add(bank);
+                channel.bankIndex = bankList.indexOf(bank);
+                oversample = Math.max(oversample, channel.oversample);
+            }
+            int[] banks = new int[bankList.size()];
+            for (int i = 0; i < banks.length; i++) banks[i] = bankList.get(i);
+
+            this.reads = new int[oversample][banks.length];
+            this.banks = banks;
+            this.channels = list.toArray(new Channel[0]);
+        }
+
+        @Override
+        public synchronized void run() {
+            try {
+                if (bankReader != null) {
+                    sampleBanks();
+                } else {
+                    sampleInputs();
+                }
+            } catch (Exception e) {
+                // never let an exception cancel the periodic task
+                logger.error(e.getMessage(), e);
+            }
+        }
+
+        private void sampleBanks() {
+            final Channel[] channels = this.channels;
+            final int[] banks = this.banks;
+            final int[][] reads = this.reads;
+
+            for (int r = 0; r < reads.length; r++) {
+                for (int b = 0; b < banks.length; b++) {
+                    reads[r][b] = bankReader.readBank(banks[b]);
+                }
+            }
+            long timestamp = System.nanoTime();
+
+            for (Channel channel : channels) {
+                int highs = 0;
+                for (int r = 0; r < channel.oversample; r++) {
+                    highs += (reads[r][channel.bankIndex] >>> channel.bit) & 1;
+                }
+                channel.sample(vote(channel, highs), timestamp);
+            }
+        }
+
+        private void sampleInputs() {
+            for (Channel channel : this.channels) {
+                int highs = 0;
+                try {
+                    for (int r = 0; r < channel.oversample; r++) {
+                        if (channel.input.state() == DigitalState.HIGH) highs++;
+                    }
+                } catch (Exception e) {
+                    logger.error(e.getMessage(), e);
+                    continue;
+                }
+                channel.sample(vote(channel, highs), System.nanoTime());
+            }
+        }
+
+        private boolean vote(Channel channel, int highs) {
+            int lows = channel.oversample - highs;
+            // ties keep the current state
+            if (highs == lows) return channel.state == DigitalState.HIGH;
+            return highs > lows;
+        }
+    }
+}
@@ -77,7 +77,7 @@ public abstract class DigitalOutputBase extends DigitalBase<DigitalOutput, Digit
 
         if(!this.state.equals(state)){
             this.state = state;
-            this.dispatch(new DigitalStateChangeEvent<>(this, this.state));
+            this.dispatch(this.state, System.nanoTime());
         }
         return this;
     }
@@ -30,6 +30,16 @@ package com.pi4j.io.gpio.digital;
 /**
  * <p>DigitalChangeEvent class.</p>
  *
+ * <p>Besides the new state, each event carries a monotonic nanosecond timestamp and a per-source
+ * sequence number.  Providers that receive hardware/kernel timestamps (e.g. gpiod line events or
+ * pigpio ticks) use those; otherwise the timestamp is taken from {@link System#nanoTime()} when the
+ * event was created.  Timestamps are only comparable between events of the same source.  Gaps in
+ * the sequence number indicate edges that were filtered or not delivered.</p>
+ *
+ * <p>If event pooling is enabled for a digital input (see {@link DigitalInputConfig#eventPooling()})
+ * the same event instance is reused for every state change, so listeners must not keep a reference
+ * to the event after returning; use {@link #copy()} if the event has to be retained.</p>
+ *
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  * @param <DIGITAL_TYPE>
@@ -41,6 +51,12 @@ public class DigitalStateChangeEvent<DIGITAL_TYPE extends Digital> implements Di
 
     protected DIGITAL_TYPE source;
 
+    // monotonic timestamp (nanoseconds) of the state change
+    protected long timestamp;
+
+    // sequence number of this event for the source; assigned when the event is dispatched
+    protected long sequence;
+
     /**
      * Default constructor
      *
@@ -48,8 +64,20 @@ public class DigitalStateChangeEvent<DIGITAL_TYPE extends Digital> implements Di
      * @param source a DIGITAL_TYPE object.
      */
     public DigitalStateChangeEvent(DIGITAL_TYPE source, DigitalState state){
+        this(source, state, System.nanoTime());
+    }
+
+    /**
+     * Constructor for an event with a timestamp provided by the source
+     *
+     * @param source a DIGITAL_TYPE object.
+     * @param state the value changed for this event instance
+     * @param timestamp monotonic timestamp of the state change in nanoseconds
+     */
+    public DigitalStateChangeEvent(DIGITAL_TYPE source, DigitalState state, long timestamp){
         this.state = state; // cache a copy of the event instance state
         this.source = source; // cache digital I/O source
+        this.timestamp = timestamp;
     }
 
     /**
@@ -67,6 +95,41 @@ public class DigitalStateChangeEvent<DIGITAL_TYPE extends Digital> implements Di
         return this.source;
     }
 
+    /**
+     * The monotonic timestamp of the state change in nanoseconds
+     *
+     * @return timestamp in nanoseconds
+     */
+    public long timestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * The sequence number of this event for its source, starting at 1
+     *
+     * @return the event sequence number
+     */
+    public long sequence() {
+        return this.sequence;
+    }
+
+    /**
+     * Create a detached copy of this event, e.g. to retain a pooled event instance
+     *
+     * @return a new event instance with the same state, timestamp and sequence number
+     */
+    public DigitalStateChangeEvent<DIGITAL_TYPE> copy() {
+        DigitalStateChangeEvent<DIGITAL_TYPE> copy = new DigitalStateChangeEvent<>(this.source, this.state, this.timestamp);
+        copy.sequence = this.sequence;
+        return copy;
+    }
+
+    // update a pooled event instance prior to dispatching it again
+    void update(DigitalState state, long timestamp) {
+        this.state = state;
+        this.timestamp = timestamp;
+        this.sequence = 0;
+    }
 
     /** {@inheritDoc} */
     @Override
@@ -78,6 +141,8 @@ public class DigitalStateChangeEvent<DIGITAL_TYPE extends Digital> implements Di
         result.append(DigitalState.getInverseState(this.state()));
         result.append(" -> ");
         result.append(this.state());
+        result.append("] SEQ: [");
+        result.append(this.sequence);
         result.append("]");
         return result.toString();
     }
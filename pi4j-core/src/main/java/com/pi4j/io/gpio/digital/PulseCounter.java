@@ -0,0 +1,93 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  PulseCounter.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.impl.DefaultPulseCounter;
+
+/**
+ * <p>Counts pulses and measures frequency, period and duty cycle of a digital input.</p>
+ *
+ * <p>A pulse counter attaches to a digital I/O as a {@link DigitalEdgeHandler}, so edges are
+ * accumulated in primitive counters on the provider's event thread (the gpiod line event loop,
+ * the pigpio alert callback or the linuxfs monitor) without allocating any event objects.
+ * Readers obtain windowed measurements through {@link #snapshot()}.</p>
+ *
+ * <pre>
+ *     PulseCounter counter = PulseCounter.newInstance(input);
+ *     ...
+ *     PulseCounterSnapshot snapshot = counter.snapshot();
+ *     double rpm = snapshot.frequency() * 60;
+ * </pre>
+ */
+public interface PulseCounter extends DigitalEdgeHandler, AutoCloseable {
+
+    /**
+     * Create a pulse counter and attach it to the given digital I/O
+     *
+     * @param digital the digital input (or output) to count pulses on
+     * @return a new {@link PulseCounter} attached to the digital I/O
+     */
+    static PulseCounter newInstance(Digital<?, ?, ?> digital) {
+        PulseCounter counter = new DefaultPulseCounter(digital);
+        digital.addEdgeHandler(counter);
+        return counter;
+    }
+
+    /**
+     * @return the digital I/O this counter is attached to
+     */
+    Digital<?, ?, ?> digital();
+
+    /**
+     * @return total number of rising edges (pulses) since creation or the last {@link #reset()}
+     */
+    long count();
+
+    /**
+     * @return total number of falling edges since creation or the last {@link #reset()}
+     */
+    long fallingEdges();
+
+    /**
+     * Return the measurements accumulated since the previous snapshot and start a new window.
+     *
+     * @return measurements for the window that ended with this call
+     */
+    PulseCounterSnapshot snapshot();
+
+    /**
+     * Reset all counters and start a new measurement window
+     *
+     * @return this pulse counter
+     */
+    PulseCounter reset();
+
+    /**
+     * Detach this counter from its digital I/O
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,132 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  PulseCounterSnapshot.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Immutable pulse measurements of a {@link PulseCounter} for a single measurement window.</p>
+ *
+ * <p>Frequency and period are derived from the rising edges in the window (measured against the last
+ * rising edge of the previous window, if any), duty cycle from the completed rise-fall-rise cycles.
+ * Values that cannot be computed from the edges in the window are reported as {@link Double#NaN}.</p>
+ */
+public class PulseCounterSnapshot {
+
+    private final long windowStart;
+    private final long windowEnd;
+    private final long pulses;
+    private final long totalPulses;
+    private final double frequency;
+    private final double dutyCycle;
+
+    /**
+     * <p>Constructor for PulseCounterSnapshot.</p>
+     *
+     * @param windowStart start of the window in nanoseconds
+     * @param windowEnd end of the window in nanoseconds
+     * @param pulses number of rising edges in the window
+     * @param totalPulses number of rising edges since the counter was created or reset
+     * @param frequency measured frequency in hertz
+     * @param dutyCycle measured duty cycle in the range 0..1
+     */
+    public PulseCounterSnapshot(long windowStart, long windowEnd, long pulses, long totalPulses,
+                                double frequency, double dutyCycle) {
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.pulses = pulses;
+        this.totalPulses = totalPulses;
+        this.frequency = frequency;
+        this.dutyCycle = dutyCycle;
+    }
+
+    /**
+     * @return start of the window in nanoseconds ({@link System#nanoTime()} domain)
+     */
+    public long windowStart() {
+        return windowStart;
+    }
+
+    /**
+     * @return end of the window in nanoseconds ({@link System#nanoTime()} domain)
+     */
+    public long windowEnd() {
+        return windowEnd;
+    }
+
+    /**
+     * @return number of rising edges (pulses) counted in this window
+     */
+    public long pulses() {
+        return pulses;
+    }
+
+    /**
+     * @return number of rising edges since the counter was created or reset
+     */
+    public long totalPulses() {
+        return totalPulses;
+    }
+
+    /**
+     * @return pulse rate in this window in pulses per second, averaged over the whole window
+     */
+    public double rate() {
+        long elapsed = windowEnd - windowStart;
+        return elapsed <= 0 ? Double.NaN : pulses * 1e9 / elapsed;
+    }
+
+    /**
+     * @return measured edge-to-edge frequency in hertz
+     */
+    public double frequency() {
+        return frequency;
+    }
+
+    /**
+     * @return measured period in nanoseconds
+     */
+    public double period() {
+        return frequency > 0 ? 1e9 / frequency : Double.NaN;
+    }
+
+    /**
+     * @return measured duty cycle (fraction of time high) in the range 0..1
+     */
+    public double dutyCycle() {
+        return dutyCycle;
+    }
+
+    @Override
+    public String toString() {
+        return "PulseCounterSnapshot{" +
+            "pulses=" + pulses +
+            ", totalPulses=" + totalPulses +
+            ", rate=" + rate() +
+            ", frequency=" + frequency +
+            ", period=" + period() +
+            ", dutyCycle=" + dutyCycle +
+            '}';
+    }
+}
@@ -25,6 +25,7 @@ package com.pi4j.io.gpio.digital.impl;
  * #L%
  */
 
+import com.pi4j.config.exception.ConfigInvalidValueException;
 import com.pi4j.io.gpio.digital.DigitalInput;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
 import com.pi4j.io.gpio.digital.DigitalState;
@@ -54,7 +55,13 @@ public class DefaultDigitalInputConfig
     // private configuration properties
     protected PullResistance pullResistance = PullResistance.OFF;
     protected Long debounce = DigitalInput.DEFAULT_DEBOUNCE;
+    protected Long minPulse = 0L;
     protected DigitalState onState = DigitalState.HIGH;
+    protected Boolean eventPooling = false;
+    protected Long pollInterval = 0L;
+    protected Integer pollSamples = 1;
+    protected Integer pollThreshold = null;
+    protected Integer oversample = 1;
 
     /**
      * PRIVATE CONSTRUCTOR
@@ -79,6 +86,46 @@ public class DefaultDigitalInputConfig
             this.debounce = Long.parseLong(properties.get(DEBOUNCE_RESISTANCE_KEY));
         }
 
+        // load optional minimum pulse width from properties
+        if(properties.containsKey(MIN_PULSE_KEY)){
+            this.minPulse = Long.parseLong(properties.get(MIN_PULSE_KEY));
+        }
+
+        // load optional event pooling from properties
+        if(properties.containsKey(EVENT_POOLING_KEY)){
+            this.eventPooling = Boolean.parseBoolean(properties.get(EVENT_POOLING_KEY));
+        }
+
+        // load optional polling properties
+        if(properties.containsKey(POLL_INTERVAL_KEY)){
+            this.pollInterval = Long.parseLong(properties.get(POLL_INTERVAL_KEY));
+        }
+        if(properties.containsKey(POLL_SAMPLES_KEY)){
+            this.pollSamples = Integer.parseInt(properties.get(POLL_SAMPLES_KEY));
+        }
+        if(properties.containsKey(POLL_THRESHOLD_KEY)){
+            this.pollThreshold = Integer.parseInt(properties.get(POLL_THRESHOLD_KEY));
+        }
+        if(properties.containsKey(OVERSAMPLE_KEY)){
+            this.oversample = Integer.parseInt(properties.get(OVERSAMPLE_KEY));
+        }
+
+        // by default all samples in the debounce window must agree
+        if(this.pollThreshold == null){
+            this.pollThreshold = this.pollSamples;
+        }
+
+        // validate polling properties
+        if(this.pollSamples < 1 || this.pollSamples > 64){
+            throw new ConfigInvalidValueException(POLL_SAMPLES_KEY, this.pollSamples, "must be between 1 and 64");
+        }
+        if(this.pollThreshold < 1 || this.pollThreshold > this.pollSamples){
+            throw new ConfigInvalidValueException(POLL_THRESHOLD_KEY, this.pollThreshold, "must be between 1 and " + this.pollSamples);
+        }
+        if(this.oversample < 1){
+            throw new ConfigInvalidValueException(OVERSAMPLE_KEY, this.oversample, "must be at least 1");
+        }
+
         // load on-state value property
         if(properties.containsKey(ON_STATE_KEY)){
             this.onState = DigitalState.parse(properties.get(ON_STATE_KEY));
@@ -95,6 +142,30 @@ public class DefaultDigitalInputConfig
     @Override
     public Long debounce() { return this.debounce; }
 
+    /** {@inheritDoc} */
+    @Override
+    public Long minPulse() { return this.minPulse; }
+
+    /** {@inheritDoc} */
+    @Override
+    public Boolean eventPooling() { return this.eventPooling; }
+
+    /** {@inheritDoc} */
+    @Override
+    public Long pollInterval() { return this.pollInterval; }
+
+    /** {@inheritDoc} */
+    @Override
+    public Integer pollSamples() { return this.pollSamples; }
+
+    /** {@inheritDoc} */
+    @Override
+    public Integer pollThreshold() { return this.pollThreshold; }
+
+    /** {@inheritDoc} */
+    @Override
+    public Integer oversample() { return this.oversample; }
+
     @Override
     public DigitalState onState() {
         return this.onState;
@@ -87,4 +87,56 @@ public class DefaultDigitalInputConfigBuilder
     public DigitalInputConfigBuilder debounce(Long interval, TimeUnit units) {
         return debounce(units.toMicros(interval));
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputConfigBuilder minPulse(Long microseconds) {
+        if(microseconds != null) {
+            this.properties.put(DigitalInputConfig.MIN_PULSE_KEY, microseconds.toString());
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputConfigBuilder minPulse(Long interval, TimeUnit units) {
+        return minPulse(units.toMicros(interval));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputConfigBuilder eventPooling(boolean enabled) {
+        this.properties.put(DigitalInputConfig.EVENT_POOLING_KEY, Boolean.toString(enabled));
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputConfigBuilder poll(Long microseconds) {
+        if(microseconds != null) {
+            this.properties.put(DigitalInputConfig.POLL_INTERVAL_KEY, microseconds.toString());
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputConfigBuilder poll(Long interval, TimeUnit units) {
+        return poll(units.toMicros(interval));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputConfigBuilder pollFilter(int threshold, int samples) {
+        this.properties.put(DigitalInputConfig.POLL_THRESHOLD_KEY, Integer.toString(threshold));
+        this.properties.put(DigitalInputConfig.POLL_SAMPLES_KEY, Integer.toString(samples));
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputConfigBuilder oversample(int reads) {
+        this.properties.put(DigitalInputConfig.OVERSAMPLE_KEY, Integer.toString(reads));
+        return this;
+    }
 }
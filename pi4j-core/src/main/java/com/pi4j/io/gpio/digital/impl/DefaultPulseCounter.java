@@ -0,0 +1,159 @@
+package com.pi4j.io.gpio.digital.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DefaultPulseCounter.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.Digital;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.PulseCounter;
+import com.pi4j.io.gpio.digital.PulseCounterSnapshot;
+
+/**
+ * <p>DefaultPulseCounter class.</p>
+ *
+ * <p>All state is kept in primitive fields guarded by this instance's monitor; the
+ * provider thread only takes the (uncontended) lock for a handful of arithmetic operations.</p>
+ */
+public class DefaultPulseCounter implements PulseCounter {
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final Digital<?, ?, ?> digital;
+
+    // totals
+    private long rising;
+    private long falling;
+
+    // timestamps of the last edges (source clock)
+    private long lastRise = NONE;
+    private long lastFall = NONE;
+
+    // current window
+    private long windowStart;
+    private long windowPulses;
+    private long windowIntervals;
+    private long windowIntervalNanos;
+    private long windowCycleHigh;
+    private long windowCycleNanos;
+
+    /**
+     * <p>Constructor for DefaultPulseCounter.</p>
+     *
+     * @param digital the digital I/O this counter is attached to
+     */
+    public DefaultPulseCounter(Digital<?, ?, ?> digital) {
+        this.digital = digital;
+        this.windowStart = System.nanoTime();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void onEdge(DigitalState state, long timestamp) {
+        if (state == DigitalState.HIGH) {
+            this.rising++;
+            this.windowPulses++;
+            if (this.lastRise != NONE) {
+                // rise-to-rise interval for frequency/period
+                long period = timestamp - this.lastRise;
+                this.windowIntervals++;
+                this.windowIntervalNanos += period;
+                if (this.lastFall != NONE && this.lastFall > this.lastRise) {
+                    // completed high/low cycle for duty cycle
+                    this.windowCycleHigh += this.lastFall - this.lastRise;
+                    this.windowCycleNanos += period;
+                }
+            }
+            this.lastRise = timestamp;
+        } else if (state == DigitalState.LOW) {
+            this.falling++;
+            this.lastFall = timestamp;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Digital<?, ?, ?> digital() {
+        return this.digital;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long count() {
+        return this.rising;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long fallingEdges() {
+        return this.falling;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PulseCounterSnapshot snapshot() {
+        long now = System.nanoTime();
+        long start, pulses, total, intervals, intervalNanos, cycleHigh, cycleNanos;
+        synchronized (this) {
+            start = this.windowStart;
+            pulses = this.windowPulses;
+            total = this.rising;
+            intervals = this.windowIntervals;
+            intervalNanos = this.windowIntervalNanos;
+            cycleHigh = this.windowCycleHigh;
+            cycleNanos = this.windowCycleNanos;
+            clearWindow(now);
+        }
+
+        double frequency = intervalNanos > 0 ? intervals * 1e9 / intervalNanos : Double.NaN;
+        double duty = cycleNanos > 0 ? (double) cycleHigh / cycleNanos : Double.NaN;
+        return new PulseCounterSnapshot(start, now, pulses, total, frequency, duty);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized PulseCounter reset() {
+        this.rising = 0;
+        this.falling = 0;
+        this.lastRise = NONE;
+        this.lastFall = NONE;
+        clearWindow(System.nanoTime());
+        return this;
+    }
+
+    private void clearWindow(long start) {
+        this.windowStart = start;
+        this.windowPulses = 0;
+        this.windowIntervals = 0;
+        this.windowIntervalNanos = 0;
+        this.windowCycleHigh = 0;
+        this.windowCycleNanos = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        this.digital.removeEdgeHandler(this);
+    }
+}
@@ -26,9 +26,11 @@ package com.pi4j.io.i2c;
  */
 
 import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.IOBase;
 import com.pi4j.io.i2c.impl.DefaultI2CRegister;
+import com.pi4j.metrics.OperationMetrics;
 
 import java.util.concurrent.Callable;
 
@@ -44,6 +46,9 @@ public abstract class I2CBase<T extends I2CBus> extends IOBase<I2C, I2CConfig, I
     protected boolean isOpen;
     protected final T i2CBus;
 
+    // time taken by the actions executed on the bus, including the wait for the bus lock
+    OperationMetrics executeMetrics = OperationMetrics.DISABLED;
+
     /**
      * <p>Constructor for I2CBase.</p>
      *
@@ -82,6 +87,16 @@ public abstract class I2CBase<T extends I2CBus> extends IOBase<I2C, I2CConfig, I
         return new DefaultI2CRegister(this, address);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public I2C initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        this.executeMetrics = metrics("execute");
+        return this;
+    }
+
     @Override
     public <V> V execute(Callable<V> action) {
         if (action == null)
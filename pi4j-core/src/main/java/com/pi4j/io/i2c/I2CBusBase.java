@@ -1,6 +1,7 @@
 package com.pi4j.io.i2c;
 
 import com.pi4j.exception.Pi4JException;
+import com.pi4j.metrics.OperationMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,14 +39,22 @@ public abstract class I2CBusBase implements I2CBus {
             throw new NullPointerException("Parameter 'i2c' is mandatory!");
         if (action == null)
             throw new NullPointerException("Parameter 'action' is mandatory!");
+        OperationMetrics metrics = i2c instanceof I2CBase ? ((I2CBase<?>) i2c).executeMetrics : OperationMetrics.DISABLED;
+        long start = metrics.start();
         try {
             if (this.lock.tryLock() || this.lock.tryLock(this.lockAquireTimeout, this.lockAquireTimeoutUnit)) {
                 try {
-                    return action.call();
+                    R result = action.call();
+                    metrics.stop(start);
+                    return result;
+                } catch (Exception e) {
+                    metrics.error(start);
+                    throw e;
                 } finally {
                     this.lock.unlock();
                 }
             } else {
+                metrics.error(start);
                 throw new Pi4JException(
                     format("Failed to get I2C lock on bus {0} after {1} {2}", this.bus, this.lockAquireTimeout,
                         this.lockAquireTimeoutUnit));
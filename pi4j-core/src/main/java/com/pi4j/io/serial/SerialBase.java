@@ -25,7 +25,10 @@ package com.pi4j.io.serial;
  * #L%
  */
 
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
 import com.pi4j.io.IOBase;
+import com.pi4j.metrics.OperationMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +43,10 @@ public abstract class SerialBase extends IOBase<Serial, SerialConfig, SerialProv
     Logger logger = LoggerFactory.getLogger(this.getClass());
     protected boolean isOpen = false;
 
+    // operation metrics of the provider's implementation; disabled unless metrics are enabled for the context
+    protected OperationMetrics readMetrics = OperationMetrics.DISABLED;
+    protected OperationMetrics writeMetrics = OperationMetrics.DISABLED;
+
     /**
      * <p>Constructor for SerialBase.</p>
      *
@@ -69,4 +76,13 @@ public abstract class SerialBase extends IOBase<Serial, SerialConfig, SerialProv
         logger.trace("invoked 'closed()'");
         this.isOpen = false;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public Serial initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        this.readMetrics = metrics("read");
+        this.writeMetrics = metrics("write");
+        return this;
+    }
 }
@@ -25,7 +25,10 @@ package com.pi4j.io.spi;
  * #L%
  */
 
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
 import com.pi4j.io.IOBase;
+import com.pi4j.metrics.OperationMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +43,11 @@ public abstract class SpiBase extends IOBase<Spi, SpiConfig, SpiProvider> implem
     Logger logger = LoggerFactory.getLogger(this.getClass());
     protected boolean isOpen = false;
 
+    // operation metrics of the provider's implementation; disabled unless metrics are enabled for the context
+    protected OperationMetrics transferMetrics = OperationMetrics.DISABLED;
+    protected OperationMetrics readMetrics = OperationMetrics.DISABLED;
+    protected OperationMetrics writeMetrics = OperationMetrics.DISABLED;
+
     /**
      * <p>Constructor for SpiBase.</p>
      *
@@ -68,4 +76,14 @@ public abstract class SpiBase extends IOBase<Spi, SpiConfig, SpiProvider> implem
         logger.trace("invoked 'closed()'");
         this.isOpen = false;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public Spi initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        this.transferMetrics = metrics("transfer");
+        this.readMetrics = metrics("read");
+        this.writeMetrics = metrics("write");
+        return this;
+    }
 }
@@ -0,0 +1,194 @@
+package com.pi4j.metrics;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  JmxMetricsExporter.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Registers an {@link OperationMetricsMXBean} for every operation with the platform MBean server,
+ * named {@code com.pi4j:type=Metrics,id=<id>,operation=<operation>} (the domain is configurable).</p>
+ */
+public class JmxMetricsExporter implements MetricsExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JmxMetricsExporter.class);
+
+    /**
+     * Default domain of the MBean names.
+     */
+    public static final String DEFAULT_DOMAIN = "com.pi4j";
+
+    private final String domain;
+    private final MBeanServer server;
+    private final Map<OperationMetrics, ObjectName> registered = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an exporter registering the MBeans with the platform MBean server in the default domain.
+     */
+    public JmxMetricsExporter() {
+        this(DEFAULT_DOMAIN, ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Creates an exporter registering the MBeans with the given MBean server.
+     *
+     * @param domain the domain of the MBean names
+     * @param server the MBean server
+     */
+    public JmxMetricsExporter(String domain, MBeanServer server) {
+        this.domain = domain;
+        this.server = server;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void open(Metrics metrics) {
+        metrics.operations().forEach(this::added);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void added(OperationMetrics operation) {
+        try {
+            ObjectName name = new ObjectName(domain + ":type=Metrics,id=" + ObjectName.quote(operation.id())
+                + ",operation=" + ObjectName.quote(operation.operation()));
+            if (registered.putIfAbsent(operation, name) == null) {
+                if (server.isRegistered(name))
+                    server.unregisterMBean(name);
+                server.registerMBean(new StandardMBean(new Bean(operation), OperationMetricsMXBean.class, true), name);
+            }
+        } catch (JMException e) {
+            registered.remove(operation);
+            logger.warn("Failed to register MBean for {}/{}; {}", operation.id(), operation.operation(), e.getMessage());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void removed(OperationMetrics operation) {
+        ObjectName name = registered.remove(operation);
+        if (name == null)
+            return;
+        try {
+            server.unregisterMBean(name);
+        } catch (JMException e) {
+            logger.debug("Failed to unregister MBean {}; {}", name, e.getMessage());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        registered.keySet().forEach(this::removed);
+    }
+
+    private static class Bean implements OperationMetricsMXBean {
+
+        private final OperationMetrics metrics;
+
+        private Bean(OperationMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public String getId() {
+            return metrics.id();
+        }
+
+        @Override
+        public String getOperation() {
+            return metrics.operation();
+        }
+
+        @Override
+        public long getCount() {
+            return metrics.count();
+        }
+
+        @Override
+        public long getErrors() {
+            return metrics.errors();
+        }
+
+        @Override
+        public long getBytes() {
+            return metrics.bytes();
+        }
+
+        @Override
+        public double getThroughput() {
+            return metrics.throughput();
+        }
+
+        @Override
+        public double getMeanLatency() {
+            return metrics.latency().mean() / 1e3;
+        }
+
+        @Override
+        public double getMinLatency() {
+            return metrics.latency().min() / 1e3;
+        }
+
+        @Override
+        public double getMaxLatency() {
+            return metrics.latency().max() / 1e3;
+        }
+
+        @Override
+        public double getP50Latency() {
+            return metrics.latency().percentile(50) / 1e3;
+        }
+
+        @Override
+        public double getP90Latency() {
+            return metrics.latency().percentile(90) / 1e3;
+        }
+
+        @Override
+        public double getP99Latency() {
+            return metrics.latency().percentile(99) / 1e3;
+        }
+
+        @Override
+        public double getP999Latency() {
+            return metrics.latency().percentile(99.9) / 1e3;
+        }
+
+        @Override
+        public void reset() {
+            metrics.reset();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.pi4j.metrics;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  LatencyHistogram.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>A lock-free latency histogram with a fixed relative precision, in the style of HdrHistogram.</p>
+ *
+ * <p>Values (in nanoseconds) below 128 are counted exactly; larger values are counted in log-linear
+ * buckets of 64 sub-buckets per power of two, so that every recorded value is reported within 1.6% of
+ * its actual value.  Values of more than {@link #HIGHEST_TRACKABLE_VALUE} (about 73 minutes) are
+ * counted in the highest bucket.  The histogram occupies a fixed 19 KB and recording a value never
+ * allocates.</p>
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Highest value in nanoseconds that is counted with the histogram's precision.
+     */
+    public static final long HIGHEST_TRACKABLE_VALUE = (1L << 42) - 1;
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final int BUCKET_COUNT = indexOf(HIGHEST_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+    }
+
+    /**
+     * Record a single value
+     *
+     * @param nanos the value in nanoseconds; negative values are counted as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(Math.min(value, HIGHEST_TRACKABLE_VALUE)));
+        count.increment();
+        sum.add(value);
+
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) { }
+        while (value < (current = min.get()) && !min.compareAndSet(current, value)) { }
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @return the smallest recorded value in nanoseconds, or 0 if no value was recorded
+     */
+    public long min() {
+        long min = this.min.get();
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+    /**
+     * @return the largest recorded value in nanoseconds, or 0 if no value was recorded
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * @return the mean of the recorded values in nanoseconds, or 0 if no value was recorded
+     */
+    public double mean() {
+        long count = this.count.sum();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * Return the value at the given percentile
+     *
+     * @param percentile the percentile, between 0 and 100 (e.g. 99.9)
+     * @return the largest value in nanoseconds that is equivalent (within the histogram's precision)
+     *         to the value at the percentile, or 0 if no value was recorded
+     */
+    public long percentile(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++)
+            total += (snapshot[i] = counts.get(i));
+        if (total == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank)
+                return Math.min(highestEquivalentValue(i), max());
+        }
+        return max();
+    }
+
+    /**
+     * Clear all recorded values
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++)
+            counts.set(i, 0);
+        count.reset();
+        sum.reset();
+        min.set(Long.MAX_VALUE);
+        max.set(0);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT)
+            return (int) value;
+        // shift the value into [64, 128) and count the shifts as the bucket's exponent
+        int exponent = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKET_COUNT + (exponent - 1) * SUB_BUCKET_HALF_COUNT
+            + (int) (value >>> exponent) - SUB_BUCKET_HALF_COUNT;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT)
+            return index;
+        int exponent = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << exponent) - 1;
+    }
+}
@@ -0,0 +1,97 @@
+package com.pi4j.metrics;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  Metrics.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collection;
+
+/**
+ * <p>The operation metrics of a Pi4J context.</p>
+ *
+ * <p>Metrics are disabled by default; they are enabled with
+ * {@link com.pi4j.context.ContextBuilder#enableMetrics()} or by adding a {@link MetricsExporter}.  While
+ * disabled, {@link #operation(String, String)} returns {@link OperationMetrics#DISABLED} and the
+ * instrumented I/O paths do not even read the clock.</p>
+ *
+ * <p>Operations are keyed by the id of the I/O instance and the name of the operation, e.g.
+ * {@code ("my-spi", "transfer")}.  The built-in instrumentation records:</p>
+ * <ul>
+ *     <li>{@code "execute"} of I2C devices (every action run on the I2C bus, including the wait for the bus lock)</li>
+ *     <li>{@code "transfer"}, {@code "read"} and {@code "write"} of SPI devices</li>
+ *     <li>{@code "read"} and {@code "write"} of serial ports</li>
+ *     <li>{@code "dispatch"} of digital inputs and outputs (the time taken by the listeners of a state change)</li>
+ *     <li>the round trips to the pigpio daemon, per command, with the id {@code "pigpio"}</li>
+ * </ul>
+ *
+ * <pre>
+ *     Context pi4j = Pi4J.newContextBuilder().autoDetect().add(new JmxMetricsExporter()).build();
+ *     ...
+ *     logger.info("{}", TextMetricsExporter.format(pi4j.metrics()));
+ * </pre>
+ */
+public interface Metrics {
+
+    /**
+     * @return true if metrics are recorded
+     */
+    boolean isEnabled();
+
+    /**
+     * Get or create the metrics of an operation
+     *
+     * @param id the id of the I/O instance (or other source) performing the operation
+     * @param operation the name of the operation
+     * @return the metrics of the operation, or {@link OperationMetrics#DISABLED} if metrics are disabled
+     */
+    OperationMetrics operation(String id, String operation);
+
+    /**
+     * @return the metrics of all operations recorded so far
+     */
+    Collection<OperationMetrics> operations();
+
+    /**
+     * @param id the id of the I/O instance
+     * @return the metrics of all operations of the given I/O instance
+     */
+    Collection<OperationMetrics> operations(String id);
+
+    /**
+     * Drop the metrics of all operations of the given I/O instance
+     *
+     * @param id the id of the I/O instance
+     */
+    void remove(String id);
+
+    /**
+     * Clear the counters and histograms of all operations
+     */
+    void reset();
+
+    /**
+     * Close all exporters; called when the context is shut down
+     */
+    void close();
+}
@@ -0,0 +1,63 @@
+package com.pi4j.metrics;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  MetricsExporter.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Publishes the {@link Metrics} of a context, e.g. as JMX MBeans ({@link JmxMetricsExporter})
+ * or as plain text ({@link TextMetricsExporter}).</p>
+ *
+ * <p>Exporters are added to a context with {@link com.pi4j.context.ContextBuilder#add(MetricsExporter...)}.
+ * They are opened when the context is created, notified of every operation added or removed, and
+ * closed when the context is shut down.  Notifications may arrive on any thread.</p>
+ */
+public interface MetricsExporter {
+
+    /**
+     * Start publishing the given metrics
+     *
+     * @param metrics the metrics of the context
+     */
+    void open(Metrics metrics);
+
+    /**
+     * The first value of a new operation is about to be recorded
+     *
+     * @param operation the metrics of the new operation
+     */
+    default void added(OperationMetrics operation) { }
+
+    /**
+     * An operation has been removed, e.g. because its I/O instance was shut down
+     *
+     * @param operation the metrics of the removed operation
+     */
+    default void removed(OperationMetrics operation) { }
+
+    /**
+     * Stop publishing
+     */
+    void close();
+}
@@ -0,0 +1,214 @@
+package com.pi4j.metrics;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  OperationMetrics.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Counters and a latency histogram for a single operation (e.g. {@code "transfer"}) of a single
+ * I/O instance.</p>
+ *
+ * <p>Instrumented code brackets the operation with {@link #start()} and {@link #stop(long)}, or
+ * {@link #error(long)} if it failed.  The {@link #DISABLED} instance, which is handed out when metrics
+ * are not enabled for the context, neither reads the clock nor records anything.</p>
+ *
+ * <pre>
+ *     long start = transferMetrics.start();
+ *     ... perform the transfer ...
+ *     transferMetrics.stop(start, length);
+ * </pre>
+ */
+public final class OperationMetrics {
+
+    /**
+     * An instance that records nothing; returned for all operations if metrics are disabled.
+     */
+    public static final OperationMetrics DISABLED = new OperationMetrics(null, null, false);
+
+    private final String id;
+    private final String operation;
+    private final boolean enabled;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private volatile long since = System.nanoTime();
+
+    /**
+     * <p>Constructor for OperationMetrics.</p>
+     *
+     * @param id the id of the I/O instance (or other source) performing the operation
+     * @param operation the name of the operation
+     */
+    public OperationMetrics(String id, String operation) {
+        this(id, operation, true);
+    }
+
+    private OperationMetrics(String id, String operation, boolean enabled) {
+        this.id = id;
+        this.operation = operation;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Mark the start of an operation
+     *
+     * @return the start time to pass to {@link #stop(long)} or {@link #error(long)}
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Record a successful operation
+     *
+     * @param start the value returned by {@link #start()}
+     */
+    public void stop(long start) {
+        if (enabled) {
+            latency.record(System.nanoTime() - start);
+            count.increment();
+        }
+    }
+
+    /**
+     * Record a successful operation that transferred the given number of bytes
+     *
+     * @param start the value returned by {@link #start()}
+     * @param bytes the number of bytes read, written or transferred
+     */
+    public void stop(long start, int bytes) {
+        if (enabled) {
+            latency.record(System.nanoTime() - start);
+            count.increment();
+            if (bytes > 0)
+                this.bytes.add(bytes);
+        }
+    }
+
+    /**
+     * Record a failed operation; its latency is recorded as well
+     *
+     * @param start the value returned by {@link #start()}
+     */
+    public void error(long start) {
+        if (enabled) {
+            latency.record(System.nanoTime() - start);
+            count.increment();
+            errors.increment();
+        }
+    }
+
+    /**
+     * Record an operation whose latency was measured by the caller
+     *
+     * @param nanos the latency in nanoseconds
+     * @param failed true if the operation failed
+     */
+    public void record(long nanos, boolean failed) {
+        if (enabled) {
+            latency.record(nanos);
+            count.increment();
+            if (failed)
+                errors.increment();
+        }
+    }
+
+    /**
+     * @return the id of the I/O instance performing the operation
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * @return the name of the operation
+     */
+    public String operation() {
+        return operation;
+    }
+
+    /**
+     * @return false for the {@link #DISABLED} instance
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the number of operations, including failed ones, since the last reset
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @return the number of failed operations since the last reset
+     */
+    public long errors() {
+        return errors.sum();
+    }
+
+    /**
+     * @return the number of bytes transferred since the last reset
+     */
+    public long bytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * @return the latency histogram of the operation
+     */
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    /**
+     * @return the average number of operations per second since the last reset
+     */
+    public double throughput() {
+        long elapsed = System.nanoTime() - since;
+        return elapsed <= 0 ? 0 : count.sum() * 1e9 / elapsed;
+    }
+
+    /**
+     * Clear all counters and the latency histogram
+     */
+    public void reset() {
+        count.reset();
+        errors.reset();
+        bytes.reset();
+        latency.reset();
+        since = System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s/%s: %d ops, %d errors, %d bytes, %.1f ops/s, mean %.3f us, p99 %.3f us, max %.3f us",
+            id, operation, count(), errors(), bytes(), throughput(),
+            latency.mean() / 1e3, latency.percentile(99) / 1e3, latency.max() / 1e3);
+    }
+}
@@ -0,0 +1,64 @@
+package com.pi4j.metrics;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  OperationMetricsMXBean.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>The JMX view of an {@link OperationMetrics} instance, registered by the {@link JmxMetricsExporter}.
+ * Latencies are given in microseconds.</p>
+ */
+public interface OperationMetricsMXBean {
+
+    String getId();
+
+    String getOperation();
+
+    long getCount();
+
+    long getErrors();
+
+    long getBytes();
+
+    double getThroughput();
+
+    double getMeanLatency();
+
+    double getMinLatency();
+
+    double getMaxLatency();
+
+    double getP50Latency();
+
+    double getP90Latency();
+
+    double getP99Latency();
+
+    double getP999Latency();
+
+    /**
+     * Clear the counters and the latency histogram
+     */
+    void reset();
+}
@@ -0,0 +1,136 @@
+package com.pi4j.metrics;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  TextMetricsExporter.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <p>Formats metrics as a plain text table, one line per operation that has been performed, sorted by
+ * the total time spent in the operation so that the most expensive device comes first.  Latencies are
+ * given in microseconds.</p>
+ *
+ * <p>As an exporter it logs the final report when the context is shut down; the current report is
+ * available at any time through {@link #report()}, e.g. from a task scheduled with
+ * {@link com.pi4j.context.Context#scheduleTask(Runnable, long, java.util.concurrent.TimeUnit)}.</p>
+ *
+ * <pre>
+ * id                       operation          count   errors        bytes      ops/s     mean      p50      p99    p99.9      max
+ * bme280                   execute             1200        0         9600       40.0   61.204   60.927   88.063  101.887  103.423
+ * </pre>
+ */
+public class TextMetricsExporter implements MetricsExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TextMetricsExporter.class);
+
+    private static final String HEADER = String.format("%-24s %-16s %8s %8s %12s %10s %8s %8s %8s %8s %8s",
+        "id", "operation", "count", "errors", "bytes", "ops/s", "mean", "p50", "p99", "p99.9", "max");
+
+    private volatile Metrics metrics;
+
+    /**
+     * Creates an exporter; the metrics are set when it is opened by the context.
+     */
+    public TextMetricsExporter() {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void open(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        Metrics metrics = this.metrics;
+        if (metrics != null && !metrics.operations().isEmpty())
+            logger.info("Pi4J metrics{}{}", System.lineSeparator(), format(metrics));
+        this.metrics = null;
+    }
+
+    /**
+     * @return the current report of the metrics this exporter was opened with, or an empty string
+     */
+    public String report() {
+        Metrics metrics = this.metrics;
+        return metrics == null ? "" : format(metrics);
+    }
+
+    /**
+     * Format all operations of the given metrics
+     *
+     * @param metrics the metrics to format
+     * @return the report
+     */
+    public static String format(Metrics metrics) {
+        return format(metrics.operations());
+    }
+
+    /**
+     * Format the given operations
+     *
+     * @param operations the operations to format
+     * @return the report
+     */
+    public static String format(Collection<OperationMetrics> operations) {
+        StringBuilder sb = new StringBuilder();
+        write(operations, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Write a report of the given operations
+     *
+     * @param operations the operations to report
+     * @param out where to write the report
+     */
+    public static void write(Collection<OperationMetrics> operations, Appendable out) {
+        List<OperationMetrics> sorted = new ArrayList<>(operations);
+        sorted.removeIf(m -> m.count() == 0);
+        sorted.sort(Comparator.comparingDouble((OperationMetrics m) -> m.latency().mean() * m.latency().count()).reversed());
+        try {
+            out.append(HEADER);
+            for (OperationMetrics m : sorted) {
+                LatencyHistogram latency = m.latency();
+                out.append(System.lineSeparator()).append(String.format(
+                    "%-24s %-16s %8d %8d %12d %10.1f %8.3f %8.3f %8.3f %8.3f %8.3f",
+                    m.id(), m.operation(), m.count(), m.errors(), m.bytes(), m.throughput(),
+                    latency.mean() / 1e3, latency.percentile(50) / 1e3, latency.percentile(99) / 1e3,
+                    latency.percentile(99.9) / 1e3, latency.max() / 1e3));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.pi4j.metrics.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DefaultMetrics.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.metrics.Metrics;
+import com.pi4j.metrics.MetricsExporter;
+import com.pi4j.metrics.OperationMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>DefaultMetrics class.</p>
+ */
+public class DefaultMetrics implements Metrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(DefaultMetrics.class);
+
+    private final boolean enabled;
+    private final List<MetricsExporter> exporters;
+    private final Map<String, Map<String, OperationMetrics>> operations = new ConcurrentHashMap<>();
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param enabled true to record metrics
+     * @param exporters the exporters to publish the metrics with
+     * @return a new {@link Metrics} instance
+     */
+    public static Metrics newInstance(boolean enabled, Collection<MetricsExporter> exporters) {
+        return new DefaultMetrics(enabled, exporters);
+    }
+
+    private DefaultMetrics(boolean enabled, Collection<MetricsExporter> exporters) {
+        this.enabled = enabled;
+        this.exporters = enabled ? new ArrayList<>(exporters) : Collections.emptyList();
+        for (MetricsExporter exporter : this.exporters) {
+            try {
+                exporter.open(this);
+            } catch (Exception e) {
+                logger.error("Failed to open metrics exporter {}; {}", exporter.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public OperationMetrics operation(String id, String operation) {
+        if (!enabled)
+            return OperationMetrics.DISABLED;
+
+        Map<String, OperationMetrics> ops = operations.computeIfAbsent(id, k -> new ConcurrentHashMap<>());
+        OperationMetrics metrics = ops.get(operation);
+        if (metrics != null)
+            return metrics;
+
+        OperationMetrics created = new OperationMetrics(id, operation);
+        metrics = ops.putIfAbsent(operation, created);
+        if (metrics != null)
+            return metrics;
+        for (MetricsExporter exporter : exporters) {
+            try {
+                exporter.added(created);
+            } catch (Exception e) {
+                logger.warn("Failed to export metrics of {}/{}; {}", id, operation, e.getMessage());
+            }
+        }
+        return created;
+    }
+
+    @Override
+    public Collection<OperationMetrics> operations() {
+        List<OperationMetrics> all = new ArrayList<>();
+        operations.values().forEach(ops -> all.addAll(ops.values()));
+        return Collections.unmodifiableList(all);
+    }
+
+    @Override
+    public Collection<OperationMetrics> operations(String id) {
+        Map<String, OperationMetrics> ops = operations.get(id);
+        return ops == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(ops.values()));
+    }
+
+    @Override
+    public void remove(String id) {
+        Map<String, OperationMetrics> ops = operations.remove(id);
+        if (ops == null)
+            return;
+        for (OperationMetrics metrics : ops.values()) {
+            for (MetricsExporter exporter : exporters) {
+                try {
+                    exporter.removed(metrics);
+                } catch (Exception e) {
+                    logger.warn("Failed to remove exported metrics of {}/{}; {}", id, metrics.operation(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        operations.values().forEach(ops -> ops.values().forEach(OperationMetrics::reset));
+    }
+
+    @Override
+    public void close() {
+        for (MetricsExporter exporter : exporters) {
+            try {
+                exporter.close();
+            } catch (Exception e) {
+                logger.warn("Failed to close metrics exporter {}; {}", exporter.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+}
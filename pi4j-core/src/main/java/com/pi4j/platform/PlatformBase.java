@@ -39,7 +39,6 @@ import com.pi4j.provider.Provider;
 import com.pi4j.provider.exception.ProviderException;
 import com.pi4j.provider.exception.ProviderInterfaceException;
 import com.pi4j.provider.exception.ProviderNotFoundException;
-import com.pi4j.util.PropertiesUtil;
 import com.pi4j.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -118,7 +117,7 @@ public abstract class PlatformBase<PLATFORM extends Platform>
 
         for (Provider p : providers.values()) {
             if (providerClass.isAssignableFrom(p.getClass()))
-                return (T) p;
+                return activate((T) p);
         }
 
         if (providerClass.isInterface()) {
@@ -163,7 +162,7 @@ public abstract class PlatformBase<PLATFORM extends Platform>
         if(this.context == null) throw new IllegalStateException("Unable to create IO instance; this platform has not been 'initialized()' with a Pi4J context.");
 
         // resolve inheritable properties from the context based on the provided 'id' for this IO instance
-        Map<String,String> inheritedProperties = PropertiesUtil.subProperties(this.context.properties().all(), id);
+        Map<String,String> inheritedProperties = this.context.properties().subProperties(id);
 
         // create by explicitly configured IO <PROVIDER> from IO config
         if(inheritedProperties.containsKey("provider")){
@@ -202,7 +201,7 @@ public abstract class PlatformBase<PLATFORM extends Platform>
         if(this.context == null) throw new IllegalStateException("Unable to create IO instance; this platform has not been 'initialized()' with a Pi4J context.");
 
         // resolve inheritable properties from the context based on the provided 'id' for this IO instance
-        Map<String,String> inheritedProperties = PropertiesUtil.subProperties(this.context.properties().all(), id);
+        Map<String,String> inheritedProperties = this.context.properties().subProperties(id);
 
         // create by explicitly configured IO <PROVIDER> from IO config
         if(inheritedProperties.containsKey("provider")){
@@ -234,6 +233,34 @@ public abstract class PlatformBase<PLATFORM extends Platform>
         return (T)provider.create((Config) builder.build());
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Provider> T provider(IOType ioType) throws ProviderNotFoundException {
+        return activate(Platform.super.provider(ioType));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Provider> T provider(String providerId, Class<T> providerClass) throws ProviderNotFoundException {
+        return activate(Platform.super.provider(providerId, providerClass));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Provider> T provider(String providerId) throws ProviderNotFoundException {
+        return activate(Platform.super.provider(providerId));
+    }
+
+    /**
+     * Resolve the provider through the context so that a provider whose initialization
+     * was deferred is initialized on its first use through this platform
+     */
+    private <T extends Provider> T activate(T provider) throws ProviderNotFoundException {
+        if (provider == null || context == null)
+            return provider;
+        return (T) context.providers().get(provider.id());
+    }
+
     /** {@inheritDoc} */
     @Override
     public abstract int priority();
@@ -280,7 +307,10 @@ public abstract class PlatformBase<PLATFORM extends Platform>
      * @throws com.pi4j.provider.exception.ProviderException if any.
      */
     protected void addProvider(Context context, String providerId) throws ProviderException {
-        var provider = context.providers().get(providerId);
+        // look up the provider without initializing it if its initialization is deferred
+        Provider provider = context.providers().all().get(providerId);
+        if (provider == null)
+            provider = context.providers().get(providerId);
         this.providers.put(IOType.getByProviderClass(provider.getClass()), provider);
     }
 }
@@ -286,6 +286,7 @@ public class DefaultRuntimePlatforms implements RuntimePlatforms {
         if(platform == null) return;
 
         // attempt to initialize the platform instance
+        long start = System.nanoTime();
         try {
             logger.trace("calling 'initialize' platform [id={}; name={}; class={}]",
                     platform.id(), platform.name(), platform.getClass().getName());
@@ -295,6 +296,8 @@ public class DefaultRuntimePlatforms implements RuntimePlatforms {
                     platform.id(), platform.name(), e.getMessage());
             logger.error(e.getMessage(), e);
             throw new PlatformInitializeException(platform.id(), e);
+        } finally {
+            runtime.startupReport().record("platform:" + platform.id(), start);
         }
     }
 
@@ -109,6 +109,10 @@ public interface Providers extends Describable {
     /**
      * Get all providers
      *
+     * <p>When provider initialization is deferred, the result includes providers that have not been
+     * initialized yet; these are initialized on their first lookup through {@link #get(String)} or one
+     * of the typed lookups.</p>
+     *
      * @return a {@link java.util.Map} object.
      */
     Map<String, Provider> all();
@@ -49,6 +49,9 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * <p>
@@ -68,6 +71,9 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
     // all detected/available providers
     private Map<String, Provider> providers = new ConcurrentHashMap<>();
 
+    // providers whose initialization is deferred until their first use
+    private Map<String, Provider> pending = new ConcurrentHashMap<>();
+
     private ProviderGroup<AnalogInputProvider> _analogInput = new ProviderGroup<>(this, IOType.ANALOG_INPUT);
     private ProviderGroup<AnalogOutputProvider> _analogOutput = new ProviderGroup<>(this, IOType.ANALOG_OUTPUT);
     private ProviderGroup<DigitalInputProvider> _digitalInput = new ProviderGroup<>(this, IOType.DIGITAL_INPUT);
@@ -129,7 +135,7 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
     /**
      * {@inheritDoc}
      *
-     * Get all providers
+     * Get all providers, including deferred providers that have not been initialized yet.
      */
     @Override
     public Map<String, Provider> all(){
@@ -157,6 +163,7 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
                 result.put(p.id(), (T) p);
             }
         });
+        result.values().forEach(this::activate);
         return Collections.unmodifiableMap(result);
     }
 
@@ -173,6 +180,7 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
         providers.values().stream().filter(provider -> provider.isType(ioType)).forEach(provider -> {
             result.put(provider.id(), (T) provider);
         });
+        result.values().forEach(this::activate);
         return Collections.unmodifiableMap(result);
     }
 
@@ -203,19 +211,27 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
     /** {@inheritDoc} */
     @Override
     public Provider get(String providerId) throws ProviderNotFoundException {
+        return activate(find(providerId));
+    }
+
+    /**
+     * Look up a provider by its id or class name without initializing it.
+     */
+    private Provider find(String providerId) throws ProviderNotFoundException {
 
         // return the io instance from the managed io map that contains the given io-id
-        if(providers.containsKey(providerId)){
-            return providers.get(providerId);
+        Provider provider = providers.get(providerId);
+        if(provider != null){
+            return provider;
         }
 
         // additionally attempt to resolve the provider by its class name
         try {
             Class providerClass = Class.forName(providerId);
             if (providerClass != null && Provider.class.isAssignableFrom(providerClass)) {
-                for(Provider provider : providers.values()){
-                    if(providerClass.isInstance(provider)) {
-                        return provider;
+                for(Provider candidate : providers.values()){
+                    if(providerClass.isInstance(candidate)) {
+                        return candidate;
                     }
                 }
             }
@@ -267,6 +283,7 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
         if(provider == null) return;
 
         // attempt to initialize the io instance
+        long start = System.nanoTime();
         try {
             logger.trace("initializing provider [id={}; name={}; class={}]",
                     provider.id(), provider.name(), provider.getClass().getName());
@@ -276,7 +293,34 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
                     provider.id(), provider.name(), e.getMessage());
             logger.error(e.getMessage(), e);
             throw new ProviderInitializeException(provider.id(), e);
+        } finally {
+            runtime.startupReport().record("provider:" + provider.id(), start);
+        }
+    }
+
+    /**
+     * Initialize a provider whose initialization was deferred on its first use.  A provider that fails
+     * to initialize is removed, just like a provider that fails to initialize during startup.
+     */
+    private <T extends Provider> T activate(T provider) throws ProviderInitializeException {
+        if (provider == null || !pending.containsKey(provider.id()))
+            return provider;
+
+        synchronized (provider) {
+            if (pending.get(provider.id()) == provider) {
+                try {
+                    initializeProvider(provider);
+                } catch (ProviderInitializeException e) {
+                    providers.remove(provider.id());
+                    throw e;
+                } finally {
+                    pending.remove(provider.id());
+                }
+                logger.debug("initialized deferred provider [id={}; name={}; class={}]",
+                        provider.id(), provider.name(), provider.getClass().getName());
+            }
         }
+        return provider;
     }
 
     private void shutdownProvider(Provider provider) throws ShutdownException {
@@ -297,21 +341,32 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
         }
     }
 
-    private <T extends Provider> void remove(String providerId) throws ProviderNotFoundException, ShutdownException {
+    /** {@inheritDoc} */
+    @Override
+    public RuntimeProviders remove(String providerId) throws ProviderNotFoundException, ShutdownException {
         logger.trace("invoked 'remove() provider' [id={}]", providerId);
 
         // get existing io instance
-        var oldProvider = get(providerId);
+        var oldProvider = find(providerId);
+
+        // serialized with 'activate()', so that a provider is never initialized after it is no longer managed
+        boolean deferred;
+        synchronized (oldProvider) {
+            // providers that were never used have not been initialized and need no shutdown
+            deferred = pending.remove(oldProvider.id()) != null;
+
+            // remove from managed set first, so that a provider whose shutdown is abandoned is not shut down again
+            var removedProvider = providers.remove(oldProvider.id());
+            if(removedProvider != null) {
+                logger.debug("removed provider from managed provider map [id={}; name={}; class={}]",
+                        removedProvider.id(), removedProvider.name(), removedProvider.getClass().getName());
+            }
+        }
 
         // attempt to shutdown old io instance
-        shutdownProvider(oldProvider);
-
-        // remove from managed set
-        var removedProvider = providers.remove(providerId);
-        if(removedProvider != null) {
-            logger.debug("removed provider from managed provider map [id={}; name={}; class={}]",
-                    removedProvider.id(), removedProvider.name(), removedProvider.getClass().getName());
-        }
+        if (!deferred)
+            shutdownProvider(oldProvider);
+        return this;
     }
 
     /** {@inheritDoc} */
@@ -332,6 +387,7 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
 
         // clear all providers
         providers.clear();
+        pending.clear();
 
         // throw exception if
         if(shutdownException != null) throw shutdownException;
@@ -341,6 +397,64 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
     /** {@inheritDoc} */
     @Override
     public RuntimeProviders initialize(Collection<Provider> providers) throws InitializeException {
+        return initialize(providers, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RuntimeProviders initialize(Collection<Provider> providers, ExecutorService executor) throws InitializeException {
+
+        // register providers without initializing them; they are initialized on first use
+        if(providers != null && !providers.isEmpty() && runtime.context().config().lazyProviders()) {
+            logger.trace("adding deferred providers: [count={}]", providers.size());
+            for (Provider provider : providers) {
+                if (provider == null)
+                    continue;
+                if (exists(provider.id())) {
+                    logger.error("unable to 'initialize()' provider: [id={}; name={}]; {}",
+                            provider.id(), provider.name(), new ProviderAlreadyExistsException(provider.id()).getMessage());
+                    continue;
+                }
+                this.pending.put(provider.id(), provider);
+                this.providers.put(provider.id(), provider);
+            }
+            logger.debug("providers registered for deferred initialization [{}]", this.pending.size());
+            return this;
+        }
+
+        // initialize the providers concurrently; registration happens once all of them are done
+        if(providers != null && providers.size() > 1 && executor != null) {
+            logger.trace("initializing providers in parallel: [count={}]", providers.size());
+            Set<String> ids = new HashSet<>();
+            Map<Provider, Future<?>> tasks = new LinkedHashMap<>();
+            for (Provider provider : providers) {
+                if (provider == null)
+                    continue;
+                if (exists(provider.id()) || !ids.add(provider.id())) {
+                    logger.error("unable to 'initialize()' provider: [id={}; name={}]; {}",
+                            provider.id(), provider.name(), new ProviderAlreadyExistsException(provider.id()).getMessage());
+                    continue;
+                }
+                tasks.put(provider, executor.submit(() -> initializeProvider(provider)));
+            }
+            for (Map.Entry<Provider, Future<?>> task : tasks.entrySet()) {
+                Provider provider = task.getKey();
+                try {
+                    task.getValue().get();
+                    this.providers.put(provider.id(), provider);
+                    logger.debug("added io to managed provider map [id={}; name={}; class={}]",
+                            provider.id(), provider.name(), provider.getClass().getName());
+                } catch (ExecutionException e) {
+                    // unable to initialize this provider instance (already logged)
+                    continue;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InitializeException(e);
+                }
+            }
+            logger.debug("providers loaded [{}]", this.providers.size());
+            return this;
+        }
 
         // iterate over all defined platforms and initialize each
         if(providers != null && !providers.isEmpty()) {
@@ -29,8 +29,10 @@ import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
 import com.pi4j.provider.Provider;
 import com.pi4j.provider.Providers;
+import com.pi4j.provider.exception.ProviderNotFoundException;
 
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
 
 /**
  * <p>
@@ -51,6 +53,15 @@ public interface RuntimeProviders extends Providers {
      * @throws com.pi4j.exception.ShutdownException if any.
      */
     RuntimeProviders shutdown() throws ShutdownException;
+    /**
+     * <p>Shut down a single provider and remove it; a provider that was never initialized is only removed.</p>
+     *
+     * @param providerId a {@link java.lang.String} object.
+     * @return a {@link com.pi4j.provider.impl.RuntimeProviders} object.
+     * @throws com.pi4j.provider.exception.ProviderNotFoundException if the provider does not exist.
+     * @throws com.pi4j.exception.ShutdownException if any.
+     */
+    RuntimeProviders remove(String providerId) throws ProviderNotFoundException, ShutdownException;
     /**
      * <p>initialize.</p>
      *
@@ -59,4 +70,18 @@ public interface RuntimeProviders extends Providers {
      * @throws com.pi4j.exception.InitializeException if any.
      */
     RuntimeProviders initialize(Collection<Provider> providers) throws InitializeException;
+
+    /**
+     * Initialize the given providers, concurrently on the given executor if one is provided.  If the
+     * context is configured for lazy providers, the providers are only registered and each is
+     * initialized on its first use.
+     *
+     * @param providers a {@link java.util.Collection} object.
+     * @param executor executor to initialize the providers on, or null to initialize them one by one
+     * @return a {@link com.pi4j.provider.impl.RuntimeProviders} object.
+     * @throws com.pi4j.exception.InitializeException if any.
+     */
+    default RuntimeProviders initialize(Collection<Provider> providers, ExecutorService executor) throws InitializeException {
+        return initialize(providers);
+    }
 }
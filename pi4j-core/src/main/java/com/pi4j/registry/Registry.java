@@ -47,6 +47,17 @@ import java.util.stream.Collectors;
  * @version $Id: $Id
  */
 public interface Registry extends Describable {
+
+    /**
+     * Bus of the GPIO pins; digital, analog and PWM I/O instances share the addresses of this bus.
+     */
+    String GPIO_BUS = "gpio";
+
+    /**
+     * Prefix of the bus of SPI channels; the bus is named after the {@link com.pi4j.io.spi.SpiBus},
+     * e.g. {@code "spi.BUS_0"}.
+     */
+    String SPI_BUS_PREFIX = "spi.";
     /**
      * <p>exists.</p>
      *
@@ -63,6 +74,15 @@ public interface Registry extends Describable {
      */
     boolean exists(int address);
 
+    /**
+     * <p>exists.</p>
+     *
+     * @param bus the bus of the address, {@link #GPIO_BUS} or an SPI bus ({@link #SPI_BUS_PREFIX})
+     * @param address the address on the bus
+     * @return true if an I/O instance is registered (or being registered) at the given address
+     */
+    boolean exists(String bus, int address);
+
     /**
      * <p>all.</p>
      *
@@ -92,6 +112,17 @@ public interface Registry extends Describable {
      */
     <T extends IO> T get(String id, Class<T> type) throws IOInvalidIDException, IONotFoundException;
 
+    /**
+     * <p>get.</p>
+     *
+     * @param bus the bus of the address, {@link #GPIO_BUS} or an SPI bus ({@link #SPI_BUS_PREFIX})
+     * @param address the address on the bus
+     * @param <T> a T object.
+     * @return the I/O instance registered at the given address
+     * @throws com.pi4j.io.exception.IONotFoundException if any.
+     */
+    <T extends IO> T get(String bus, int address) throws IONotFoundException;
+
     /**
      * <p>allByType.</p>
      *
@@ -26,10 +26,12 @@ package com.pi4j.registry.impl;
  */
 
 import com.pi4j.io.IO;
+import com.pi4j.io.IOType;
 import com.pi4j.io.exception.IOAlreadyExistsException;
 import com.pi4j.io.exception.IOInvalidIDException;
 import com.pi4j.io.exception.IONotFoundException;
 import com.pi4j.io.exception.IOShutdownException;
+import com.pi4j.provider.Provider;
 import com.pi4j.registry.Registry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,6 +76,11 @@ public class DefaultRegistry implements Registry {
         return registry.exists(address);
     }
 
+    @Override
+    public boolean exists(String bus, int address) {
+        return registry.exists(bus, address);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Map<String, ? extends IO> all() {
@@ -92,6 +99,26 @@ public class DefaultRegistry implements Registry {
         return registry.get(id, type);
     }
 
+    @Override
+    public <T extends IO> T get(String bus, int address) throws IONotFoundException {
+        return registry.get(bus, address);
+    }
+
+    @Override
+    public Map<String, ? extends IO> allByIoType(IOType ioType) {
+        return registry.allByIoType(ioType);
+    }
+
+    @Override
+    public Map<String, ? extends IO> allByProvider(String providerId) {
+        return registry.allByProvider(providerId);
+    }
+
+    @Override
+    public <P extends Provider, T extends IO> Map<String, T> allByProvider(String providerId, Class<T> ioClass) {
+        return registry.allByProvider(providerId, ioClass);
+    }
+
     @Override
     public Registry add(IO instance) throws IOAlreadyExistsException, IOInvalidIDException {
         return this.registry.add(instance);
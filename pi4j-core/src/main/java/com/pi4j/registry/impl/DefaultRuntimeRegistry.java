@@ -29,19 +29,28 @@ import com.pi4j.config.AddressConfig;
 import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.LifecycleException;
 import com.pi4j.io.IO;
+import com.pi4j.io.IOType;
 import com.pi4j.io.exception.*;
+import com.pi4j.io.spi.SpiConfig;
+import com.pi4j.provider.Provider;
 import com.pi4j.runtime.Runtime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>DefaultRuntimeRegistry class.</p>
  *
+ * <p>All lookups are lock-free reads of concurrent maps: instances are indexed by id, by {@link IOType},
+ * by provider id and by (bus, address).  Adding an instance first reserves its id and address, then
+ * initializes it without holding any registry lock, and only publishes it once it is initialized; a
+ * failed initialization releases the reservations.  Removal is serialized per instance.</p>
+ *
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
@@ -49,8 +58,15 @@ public class DefaultRuntimeRegistry implements RuntimeRegistry {
 
     private static final Logger logger = LoggerFactory.getLogger(DefaultRuntimeRegistry.class);
     private Runtime runtime;
-    private final Map<String, IO> instances;
-    private final Set<Integer> usedAddresses;
+
+    // initialized instances by id and their secondary indexes
+    private final Map<String, IO> instances = new ConcurrentHashMap<>();
+    private final Map<IOType, Map<String, IO>> byType = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, IO>> byProvider = new ConcurrentHashMap<>();
+    private final Map<Address, IO> byAddress = new ConcurrentHashMap<>();
+
+    // ids of all registered and reserved (initializing) instances
+    private final Set<String> reservedIds = ConcurrentHashMap.newKeySet();
 
     // static singleton instance
 
@@ -68,103 +84,134 @@ public class DefaultRuntimeRegistry implements RuntimeRegistry {
     // private constructor
     private DefaultRuntimeRegistry(Runtime runtime) {
         // set local runtime reference
-        this.instances = new HashMap<>();
-        this.usedAddresses = new HashSet<>();
         this.runtime = runtime;
     }
 
     @Override
-    public synchronized RuntimeRegistry add(IO instance) throws IOInvalidIDException, IOAlreadyExistsException {
+    public RuntimeRegistry add(IO instance) throws IOInvalidIDException, IOAlreadyExistsException {
 
         // validate target I/O instance id
         String _id = validateId(instance.id());
 
-        // first test to make sure this id does not already exist in the registry
-        if (instances.containsKey(_id))
+        // reserve the id; this fails if the id is registered or currently being initialized
+        if (!reservedIds.add(_id))
             throw new IOAlreadyExistsException(_id);
-        if (instance.config() instanceof AddressConfig<?>) {
-            AddressConfig<?> addressConfig = (AddressConfig<?>) instance.config();
-            if (exists(addressConfig.address())) {
-                throw new IOAlreadyExistsException(addressConfig.address());
-            }
-            this.usedAddresses.add(addressConfig.address());
+
+        // reserve the address
+        Address address = addressOf(instance);
+        if (address != null && byAddress.putIfAbsent(address, instance) != null) {
+            reservedIds.remove(_id);
+            throw new IOAlreadyExistsException(address.address);
         }
 
-        // add instance to collection
+        // initialize the instance outside of any registry lock, then publish it
         try {
             instance.initialize(this.runtime.context());
-            instances.put(_id, instance);
         } catch (InitializeException e) {
-            if (instance.config() instanceof AddressConfig<?>) {
-                AddressConfig<?> addressConfig = (AddressConfig<?>) instance.config();
-                this.usedAddresses.remove(addressConfig.address());
-            }
+            release(_id, address, instance);
             throw new IllegalStateException("Failed to initialize IO " + instance.getId(), e);
+        } catch (RuntimeException e) {
+            release(_id, address, instance);
+            throw e;
         }
 
+        IOType type = instance.type();
+        if (type != null)
+            byType.computeIfAbsent(type, t -> new ConcurrentHashMap<>()).put(_id, instance);
+        String providerId = providerIdOf(instance);
+        if (providerId != null)
+            byProvider.computeIfAbsent(providerId, p -> new ConcurrentHashMap<>()).put(_id, instance);
+        instances.put(_id, instance);
+
         return this;
     }
 
+    // release the reservations of an instance that failed to initialize, so that it can be added again
+    private void release(String id, Address address, IO instance) {
+        if (address != null)
+            byAddress.remove(address, instance);
+        reservedIds.remove(id);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized <T extends IO> T get(String id, Class<T> type)
+    public <T extends IO> T get(String id, Class<T> type)
         throws IOInvalidIDException, IONotFoundException {
-        String _id = validateId(id);
-
-        // first test to make sure this id is included in the registry
-        if (!instances.containsKey(_id))
-            throw new IONotFoundException(_id);
-        return (T) instances.get(_id);
+        return get(id);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized <T extends IO> T get(String id) throws IOInvalidIDException, IONotFoundException {
+    public <T extends IO> T get(String id) throws IOInvalidIDException, IONotFoundException {
         String _id = validateId(id);
 
         // first test to make sure this id is included in the registry
-        if (!instances.containsKey(_id))
+        IO instance = instances.get(_id);
+        if (instance == null)
             throw new IONotFoundException(_id);
 
-        return (T) instances.get(_id);
+        return (T) instance;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends IO> T get(String bus, int address) throws IONotFoundException {
+        IO instance = byAddress.get(new Address(bus, address));
+        if (instance == null || !instances.containsKey(instance.id()))
+            throw new IONotFoundException(bus, address);
+        return (T) instance;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized <T extends IO> T remove(String id)
+    public <T extends IO> T remove(String id)
         throws IONotFoundException, IOInvalidIDException, IOShutdownException {
         String _id = validateId(id);
-        IO shutdownInstance = null;
 
         // first test to make sure this id is included in the registry
-        if (!exists(_id))
+        IO shutdownInstance = instances.get(_id);
+        if (shutdownInstance == null)
             throw new IONotFoundException(_id);
 
-        // shutdown instance
-        try {
-            long start = System.currentTimeMillis();
-            shutdownInstance = instances.get(_id);
-            shutdownInstance.shutdown(runtime.context());
-            long took = System.currentTimeMillis() - start;
-            if (took > 10)
-                logger.info("Shutting down of IO {} took {}ms", shutdownInstance.getId(), took);
-        } catch (LifecycleException e) {
-            logger.error(e.getMessage(), e);
-            throw new IOShutdownException(shutdownInstance, e);
-        }
+        // serialize concurrent removals of the same instance
+        synchronized (shutdownInstance) {
+            if (instances.get(_id) != shutdownInstance)
+                throw new IONotFoundException(_id);
 
-        // remove the shutdown instance from the registry
-        if (shutdownInstance.config() instanceof AddressConfig<?>) {
-            AddressConfig<?> addressConfig = (AddressConfig<?>) shutdownInstance.config();
-            this.usedAddresses.remove(addressConfig.address());
+            // shutdown instance
+            try {
+                long start = System.currentTimeMillis();
+                shutdownInstance.shutdown(runtime.context());
+                long took = System.currentTimeMillis() - start;
+                if (took > 10)
+                    logger.info("Shutting down of IO {} took {}ms", shutdownInstance.getId(), took);
+            } catch (LifecycleException e) {
+                logger.error(e.getMessage(), e);
+                throw new IOShutdownException(shutdownInstance, e);
+            }
+
+            // remove the shutdown instance from the registry and its indexes
+            this.instances.remove(_id);
+            runtime.metrics().remove(_id);
+            IOType type = shutdownInstance.type();
+            if (type != null && byType.containsKey(type))
+                byType.get(type).remove(_id);
+            String providerId = providerIdOf(shutdownInstance);
+            if (providerId != null && byProvider.containsKey(providerId))
+                byProvider.get(providerId).remove(_id);
+            Address address = addressOf(shutdownInstance);
+            if (address != null)
+                byAddress.remove(address, shutdownInstance);
+            reservedIds.remove(_id);
         }
-        this.instances.remove(_id);
 
         // return the shutdown I/O provider instances
         return (T) shutdownInstance;
@@ -174,7 +221,7 @@ public class DefaultRuntimeRegistry implements RuntimeRegistry {
      * {@inheritDoc}
      */
     @Override
-    public synchronized boolean exists(String id) {
+    public boolean exists(String id) {
         String _id = null;
         try {
             _id = validateId(id);
@@ -187,16 +234,51 @@ public class DefaultRuntimeRegistry implements RuntimeRegistry {
     }
 
     @Override
-    public synchronized boolean exists(int address) {
-        return usedAddresses.contains(address);
+    public boolean exists(int address) {
+        return exists(GPIO_BUS, address);
+    }
+
+    @Override
+    public boolean exists(String bus, int address) {
+        return byAddress.containsKey(new Address(bus, address));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized Map<String, ? extends IO> all() {
-        return new HashMap<>(this.instances);
+    public Map<String, ? extends IO> all() {
+        return Collections.unmodifiableMap(this.instances);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, ? extends IO> allByIoType(IOType ioType) {
+        Map<String, IO> result = byType.get(ioType);
+        return result == null ? Collections.emptyMap() : Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, ? extends IO> allByProvider(String providerId) {
+        Map<String, IO> result = providerId == null ? null : byProvider.get(providerId.toLowerCase());
+        return result == null ? Collections.emptyMap() : Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <P extends Provider, T extends IO> Map<String, T> allByProvider(String providerId, Class<T> ioClass) {
+        var result = new ConcurrentHashMap<String, T>();
+        allByProvider(providerId).values().stream().filter(ioClass::isInstance).forEach(p -> {
+            result.put(p.id(), ioClass.cast(p));
+        });
+        return Collections.unmodifiableMap(result);
     }
 
     private String validateId(String id) throws IOInvalidIDException {
@@ -208,11 +290,27 @@ public class DefaultRuntimeRegistry implements RuntimeRegistry {
         return validatedId;
     }
 
+    private static String providerIdOf(IO instance) {
+        return instance.provider() == null || instance.provider().id() == null
+            ? null : instance.provider().id().toLowerCase();
+    }
+
+    private static Address addressOf(IO instance) {
+        if (!(instance.config() instanceof AddressConfig<?>))
+            return null;
+        Integer address = ((AddressConfig<?>) instance.config()).address();
+        if (address == null)
+            return null;
+        if (instance.config() instanceof SpiConfig)
+            return new Address(SPI_BUS_PREFIX + ((SpiConfig) instance.config()).bus(), address);
+        return new Address(GPIO_BUS, address);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized RuntimeRegistry shutdown() {
+    public RuntimeRegistry shutdown() {
         all().values().forEach(instance -> {
             try {
                 remove(instance.id());
@@ -231,4 +329,28 @@ public class DefaultRuntimeRegistry implements RuntimeRegistry {
         // NOTHING TO INITIALIZE
         return this;
     }
+
+    // key of the (bus, address) index
+    private static final class Address {
+        private final String bus;
+        private final int address;
+
+        private Address(String bus, int address) {
+            this.bus = bus;
+            this.address = address;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Address)) return false;
+            Address other = (Address) o;
+            return address == other.address && Objects.equals(bus, other.bus);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(bus) + address;
+        }
+    }
 }
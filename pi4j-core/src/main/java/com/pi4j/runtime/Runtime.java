@@ -26,15 +26,22 @@ package com.pi4j.runtime;
  */
 
 import com.pi4j.context.Context;
+import com.pi4j.context.ShutdownReport;
+import com.pi4j.context.StartupReport;
 import com.pi4j.event.InitializedEventProducer;
 import com.pi4j.event.ShutdownEventProducer;
 import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
+import com.pi4j.metrics.Metrics;
 import com.pi4j.platform.impl.RuntimePlatforms;
 import com.pi4j.provider.impl.RuntimeProviders;
 import com.pi4j.registry.impl.RuntimeRegistry;
+import com.pi4j.util.ExecutorPool;
 
+import java.util.List;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>Runtime interface.</p>
@@ -80,6 +87,40 @@ public interface Runtime extends InitializedEventProducer<Runtime>, ShutdownEven
 
     Future<?> submitTask(Runnable task);
 
+    Future<?> submitMonitor(Runnable task);
+
+    ScheduledFuture<?> scheduleTask(Runnable task, long period, TimeUnit unit);
+
+    ScheduledFuture<?> scheduleDelayedTask(Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * <p>startupReport.</p>
+     *
+     * @return the {@link com.pi4j.context.StartupReport} with the timings of the startup phases
+     */
+    StartupReport startupReport();
+
+    /**
+     * <p>shutdownReport.</p>
+     *
+     * @return the {@link com.pi4j.context.ShutdownReport} with the timings of the shutdown phases
+     */
+    ShutdownReport shutdownReport();
+
+    /**
+     * <p>executorStatistics.</p>
+     *
+     * @return the current utilization of the runtime's executor pools
+     */
+    List<ExecutorPool.Statistics> executorStatistics();
+
+    /**
+     * <p>metrics.</p>
+     *
+     * @return the {@link com.pi4j.metrics.Metrics} of the I/O operations
+     */
+    Metrics metrics();
+
     /**
      * <p>shutdown.</p>
      *
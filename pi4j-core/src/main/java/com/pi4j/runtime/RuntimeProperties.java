@@ -62,4 +62,12 @@ public interface RuntimeProperties extends ContextProperties {
      * @param value a {@link java.util.Map.Entry} object.
      */
     void put(Map.Entry<String,String> ... value);
+
+    /**
+     * Reload all properties from their sources (environment variables, properties files, system
+     * properties and the context configuration) and atomically replace the current properties.
+     * Readers observe either the complete previous or the complete new set of properties.
+     * Properties added at runtime via {@code put} are discarded.
+     */
+    void reload();
 }
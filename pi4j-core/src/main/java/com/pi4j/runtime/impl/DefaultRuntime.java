@@ -27,6 +27,8 @@ package com.pi4j.runtime.impl;
 
 import com.pi4j.context.Context;
 import com.pi4j.context.ContextConfig;
+import com.pi4j.context.ShutdownReport;
+import com.pi4j.context.StartupReport;
 import com.pi4j.event.*;
 import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
@@ -34,6 +36,8 @@ import com.pi4j.extension.Plugin;
 import com.pi4j.extension.impl.DefaultPluginService;
 import com.pi4j.extension.impl.PluginStore;
 import com.pi4j.io.IOType;
+import com.pi4j.metrics.Metrics;
+import com.pi4j.metrics.impl.DefaultMetrics;
 import com.pi4j.platform.Platform;
 import com.pi4j.platform.impl.DefaultRuntimePlatforms;
 import com.pi4j.platform.impl.RuntimePlatforms;
@@ -45,14 +49,18 @@ import com.pi4j.registry.impl.RuntimeRegistry;
 import com.pi4j.runtime.Runtime;
 import com.pi4j.runtime.RuntimeProperties;
 import com.pi4j.util.ExecutorPool;
-import com.pi4j.util.PropertiesUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>DefaultRuntime class.</p>
@@ -74,6 +82,9 @@ public class DefaultRuntime implements Runtime {
     private final EventManager<Runtime, InitializedListener, InitializedEvent> initializedEventManager;
     private final ExecutorPool executorPool;
     private final ExecutorService runtimeExecutor;
+    private final StartupReport startupReport;
+    private final ShutdownReport shutdownReport;
+    private final Metrics metrics;
 
     /**
      * <p>newInstance.</p>
@@ -90,7 +101,10 @@ public class DefaultRuntime implements Runtime {
     private DefaultRuntime(Context context) {
 
         // set local references
+        this.startupReport = new StartupReport();
+        this.shutdownReport = new ShutdownReport();
         this.context = context;
+        this.metrics = DefaultMetrics.newInstance(context.config().enableMetrics(), context.config().metricsExporters());
         plugins = new ArrayList<>();
         this.properties = DefaultRuntimeProperties.newInstance(context);
         this.registry = DefaultRuntimeRegistry.newInstance(this);
@@ -103,7 +117,9 @@ public class DefaultRuntime implements Runtime {
             (EventDelegate<InitializedListener, InitializedEvent>) (listener, event) -> listener.onInitialized(event));
 
         // initialize executor pool and runtime executor
-        this.executorPool = new ExecutorPool();
+        ContextConfig config = context.config();
+        this.executorPool = new ExecutorPool(config.executorModel(), config.maxThreads(), config.taskQueueCapacity(),
+            config.maxMonitorThreads(), config.schedulerThreads(), config.threadPriority());
         this.runtimeExecutor = this.executorPool.getExecutor("Pi4J.RUNTIME");
 
         logger.debug("Pi4J runtime context successfully created & initialized.'");
@@ -168,6 +184,41 @@ public class DefaultRuntime implements Runtime {
         return this.runtimeExecutor.submit(task);
     }
 
+    @Override
+    public Future<?> submitMonitor(Runnable task) {
+        return this.executorPool.getMonitorExecutor("Pi4J.MONITOR").submit(task);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleTask(Runnable task, long period, TimeUnit unit) {
+        return this.executorPool.getScheduledExecutor("Pi4J.SCHEDULER").scheduleAtFixedRate(task, 0, period, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleDelayedTask(Runnable task, long delay, TimeUnit unit) {
+        return this.executorPool.getScheduledExecutor("Pi4J.SCHEDULER").schedule(task, delay, unit);
+    }
+
+    @Override
+    public StartupReport startupReport() {
+        return this.startupReport;
+    }
+
+    @Override
+    public ShutdownReport shutdownReport() {
+        return this.shutdownReport;
+    }
+
+    @Override
+    public List<ExecutorPool.Statistics> executorStatistics() {
+        return this.executorPool.statistics();
+    }
+
+    @Override
+    public Metrics metrics() {
+        return this.metrics;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -184,37 +235,64 @@ public class DefaultRuntime implements Runtime {
         // notify before shutdown event listeners (requires custom delegate to invoke appropriate listener method)
         shutdownEventManager.dispatch(new ShutdownEvent(this.context), ShutdownListener::beforeShutdown);
 
+        ContextConfig config = this.context.config();
+        shutdownReport.start();
         try {
 
             // remove shutdown monitoring thread
             //java.lang.Runtime.getRuntime().removeShutdownHook(this.shutdownThread);
 
+            // each step is bounded by the I/O shutdown timeout and all of them by the shutdown budget
+            ShutdownOrchestrator orchestrator = new ShutdownOrchestrator(this.executorPool.getMonitorExecutor("Pi4J.SHUTDOWN"),
+                shutdownReport, config.ioShutdownTimeout(), config.shutdownTimeout());
+            int parallelism = config.parallelShutdown()
+                ? Math.max(4, 2 * java.lang.Runtime.getRuntime().availableProcessors()) : 1;
+
+            // close the metrics exporters while the metrics of all I/O instances are still available
+            this.metrics.close();
+
             // remove all I/O instances
-            this.registry.shutdown();
+            Map<String, Callable<?>> steps = new LinkedHashMap<>();
+            for (String id : new ArrayList<>(this.registry.all().keySet()))
+                steps.put("io:" + id, () -> this.registry.remove(id));
+            orchestrator.run("registry", steps, parallelism);
 
             // shutdown platforms
-            this.platforms.shutdown();
+            orchestrator.run("platforms", Map.of("platforms", () -> this.platforms.shutdown()), 1);
 
             // shutdown all providers
-            this.providers.shutdown();
+            steps = new LinkedHashMap<>();
+            for (String id : new ArrayList<>(this.providers.all().keySet()))
+                steps.put("provider:" + id, () -> this.providers.remove(id));
+            orchestrator.run("providers", steps, parallelism);
 
             // shutdown all plugins
+            steps = new LinkedHashMap<>();
             for (Plugin plugin : this.plugins) {
-                try {
+                steps.put("plugin:" + plugin.getClass().getSimpleName(), () -> {
                     plugin.shutdown(this.context);
-                } catch (Exception e) {
-                    logger.error(e.getMessage(), e);
-                }
+                    return null;
+                });
             }
+            orchestrator.run("plugins", steps, 1);
 
-            // shutdown executor pool
-            this.executorPool.destroy();
+            // shutdown executor pool, waiting for the pools no longer than the remaining budget
+            long start = System.nanoTime();
+            this.executorPool.destroy(orchestrator.remaining(), TimeUnit.NANOSECONDS);
+            shutdownReport.record("executors", start, ShutdownReport.Outcome.COMPLETED);
 
         } catch (Exception e) {
             logger.error("failed to 'shutdown(); '", e);
             throw new ShutdownException(e);
+        } finally {
+            shutdownReport.complete();
         }
 
+        if (shutdownReport.phases(ShutdownReport.Outcome.COMPLETED).size() < shutdownReport.phases().size())
+            logger.warn("{}", shutdownReport);
+        else
+            logger.debug("{}", shutdownReport);
+
         logger.info("Pi4J context/runtime successfully shutdown. Dispatching shutdown event.");
 
         // notify shutdown event listeners
@@ -259,9 +337,12 @@ public class DefaultRuntime implements Runtime {
 
             // only attempt to load platforms and providers from the classpath if an auto detect option is enabled
             ContextConfig config = context.config();
+            ExecutorService executor = config.parallelInitialization() ? startupExecutor() : null;
             if (config.autoDetectPlatforms() || config.autoDetectProviders()) {
+                long start = System.nanoTime();
 
                 // detect available Pi4J Plugins by scanning the classpath looking for plugin instances
+                List<Plugin> detected = new ArrayList<>();
                 ServiceLoader<Plugin> plugins = ServiceLoader.load(Plugin.class);
                 for (Plugin plugin : plugins) {
                     if (plugin == null)
@@ -272,14 +353,26 @@ public class DefaultRuntime implements Runtime {
                         continue;
                     }
 
-                    logger.trace("detected plugin: [{}] in classpath; calling 'initialize()'",
-                        plugin.getClass().getName());
-                    try {
-                        // add plugin to internal cache
-                        this.plugins.add(plugin);
+                    // add plugin to internal cache
+                    this.plugins.add(plugin);
+                    detected.add(plugin);
+                }
 
-                        PluginStore store = new PluginStore();
-                        plugin.initialize(DefaultPluginService.newInstance(this.context(), store));
+                // initialize the plugins (concurrently if enabled); their results are collected in classpath order
+                List<Future<PluginStore>> stores = new ArrayList<>();
+                for (Plugin plugin : detected) {
+                    FutureTask<PluginStore> task = new FutureTask<>(() -> initializePlugin(plugin));
+                    if (executor != null)
+                        executor.execute(task);
+                    else
+                        task.run();
+                    stores.add(task);
+                }
+
+                for (int i = 0; i < detected.size(); i++) {
+                    Plugin plugin = detected.get(i);
+                    try {
+                        PluginStore store = stores.get(i).get();
 
                         // if auto-detect providers is enabled,
                         //    OR
@@ -289,19 +382,23 @@ public class DefaultRuntime implements Runtime {
                             store.providers.forEach(provider -> addProvider(provider, providers));
                         }
 
-                   
                         // if auto-detect platforms is enabled,
                         // then add any detected platforms to the collection to load
                         if (config.autoDetectPlatforms()) {
                             platforms.addAll(store.platforms);
                         }
 
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InitializeException(e);
                     } catch (Exception ex) {
                         // unable to initialize this provider instance
+                        Throwable cause = ex instanceof ExecutionException ? ex.getCause() : ex;
                         logger.error("unable to 'initialize()' plugin: [{}]; {}", plugin.getClass().getName(),
-                            ex.getMessage(), ex);
+                            cause.getMessage(), cause);
                     }
                 }
+                startupReport.record("plugins", start);
             }
 
             // now add the explicit platforms and providers
@@ -315,22 +412,28 @@ public class DefaultRuntime implements Runtime {
             });
 
             // initialize I/O registry
+            long start = System.nanoTime();
             this.registry.initialize();
+            startupReport.record("registry", start);
 
             // initialize all providers
-            this.providers.initialize(providers.values());
+            start = System.nanoTime();
+            this.providers.initialize(providers.values(), executor);
+            startupReport.record("providers", start);
 
             // initialize all platforms
+            start = System.nanoTime();
             this.platforms.initialize(platforms);
+            startupReport.record("platforms", start);
 
             // now auto-load any defined I/O injection instances available in the context config
+            start = System.nanoTime();
             try {
                 // ensure that the auto-injection option is enabled for this context
                 if (this.context().config().autoInject()) {
 
                     // get potential injection candidates
-                    Map<String, String> candidates = PropertiesUtil.keysEndsWith(this.context().properties().all(),
-                        "inject");
+                    Map<String, String> candidates = this.context().properties().keysEndsWith("inject");
 
                     // iterate over injection candidate and determine if it is configured/enabled for injection and perform injection
                     for (String candidateKey : candidates.keySet()) {
@@ -349,13 +452,16 @@ public class DefaultRuntime implements Runtime {
             } catch (Exception e) {
                 logger.error(e.getMessage(), e);
             }
+            startupReport.record("inject", start);
 
         } catch (Exception e) {
             logger.error("failed to 'initialize(); '", e);
             throw new InitializeException(e);
         }
 
+        startupReport.complete();
         logger.info("Pi4J context/runtime successfully initialized.");
+        logger.debug("{}", startupReport);
 
         // notify initialized event listeners
         notifyInitListeners();
@@ -363,6 +469,32 @@ public class DefaultRuntime implements Runtime {
         return this;
     }
 
+    /**
+     * <p>Initializes a plugin and collects the providers and platforms it registers.</p>
+     *
+     * @param plugin the plugin to initialize
+     * @return the providers and platforms registered by the plugin
+     */
+    private PluginStore initializePlugin(Plugin plugin) {
+        logger.trace("detected plugin: [{}] in classpath; calling 'initialize()'", plugin.getClass().getName());
+        long start = System.nanoTime();
+        try {
+            PluginStore store = new PluginStore();
+            plugin.initialize(DefaultPluginService.newInstance(this.context(), store));
+            return store;
+        } finally {
+            startupReport.record("plugin:" + plugin.getClass().getSimpleName(), start);
+        }
+    }
+
+    /**
+     * @return bounded pool to initialize plugins and providers concurrently on
+     */
+    private ExecutorService startupExecutor() {
+        int threads = Math.max(2, java.lang.Runtime.getRuntime().availableProcessors());
+        return this.executorPool.getExecutor("Pi4J.STARTUP", threads);
+    }
+
     /**
      * <p>Adds providers to the given collection, to later be used in the runtime after initialization.</p>
      * <p>This method validates the priority of a {@link Provider}, and guarantees, that we don't have multiple
@@ -27,6 +27,7 @@ package com.pi4j.runtime.impl;
 
 import com.pi4j.context.Context;
 import com.pi4j.runtime.RuntimeProperties;
+import com.pi4j.util.PropertyTree;
 import com.pi4j.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,7 +38,6 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
@@ -54,7 +54,11 @@ public class DefaultRuntimeProperties implements RuntimeProperties {
     /** Constant <code>PI4J_PROPERTIES_FILE_NAME="pi4j.properties"</code> */
     public static String PI4J_PROPERTIES_FILE_NAME = "pi4j.properties";
 
-    protected Map<String,String> properties = Collections.synchronizedMap(new HashMap<>());
+    // mutable property values (guarded by 'this') and the immutable snapshot served to readers;
+    // the snapshot is rebuilt on the first read after a change
+    protected Map<String,String> properties = new HashMap<>();
+    private volatile PropertyTree snapshot = PropertyTree.EMPTY;
+    private final Context context;
     private Logger logger = LoggerFactory.getLogger(this.getClass());
 
     // static singleton instance
@@ -69,6 +73,25 @@ public class DefaultRuntimeProperties implements RuntimeProperties {
     }
 
     private DefaultRuntimeProperties(Context context){
+        this.context = context;
+        load();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void reload() {
+        // readers keep using the current snapshot (or wait for this lock) until the reload completes
+        PropertyTree current = this.snapshot();
+        this.properties = new HashMap<>();
+        try {
+            load();
+        } finally {
+            this.snapshot = PropertyTree.of(this.properties);
+        }
+        logger.debug("reloaded Pi4J properties; {} -> {} entries", current.size(), this.snapshot.size());
+    }
+
+    private synchronized void load(){
         // now lets load optional Pi4J.properties files from the file system
 
         // first; load any default Pi4J properties defined in the Environment Variables
@@ -162,6 +185,20 @@ public class DefaultRuntimeProperties implements RuntimeProperties {
         this.put(context.config().properties());
     }
 
+    private PropertyTree snapshot(){
+        PropertyTree tree = this.snapshot;
+        if (tree == null) {
+            synchronized (this) {
+                tree = this.snapshot;
+                if (tree == null) {
+                    tree = PropertyTree.of(this.properties);
+                    this.snapshot = tree;
+                }
+            }
+        }
+        return tree;
+    }
+
     /**
      * <p>sanitizeKey.</p>
      *
@@ -175,61 +212,71 @@ public class DefaultRuntimeProperties implements RuntimeProperties {
     /** {@inheritDoc} */
     @Override
     public boolean has(String key) {
-        return properties.containsKey(sanitizeKey(key));
+        return snapshot().has(sanitizeKey(key));
     }
 
     /** {@inheritDoc} */
     @Override
     public String get(String key) {
-        String k = sanitizeKey(key);
-
-        // first, attempt to get property for internal cache
-        if(properties.containsKey(k)){
-            return properties.get(k);
-        }
-        return null;
+        return snapshot().get(sanitizeKey(key));
     }
 
     /** {@inheritDoc} */
     @Override
-    public void put(String key, String value) {
+    public synchronized void put(String key, String value) {
         properties.put(sanitizeKey(key), value);
+        snapshot = null;
     }
 
     /** {@inheritDoc} */
     @Override
-    public void put(Properties properties) {
+    public synchronized void put(Properties properties) {
         properties.forEach((key,value)->{
             this.properties.put(sanitizeKey(key.toString()), value.toString());
         });
+        snapshot = null;
     }
 
     /** {@inheritDoc} */
     @Override
-    public void put(Map<String, String> values) {
+    public synchronized void put(Map<String, String> values) {
         values.forEach((key,value)->{
             this.properties.put(sanitizeKey(key), value);
         });
+        snapshot = null;
     }
 
     /** {@inheritDoc} */
     @Override
-    public void put(Map.Entry<String, String>... value) {
+    public synchronized void put(Map.Entry<String, String>... value) {
         for(Map.Entry e : value){
             this.properties.put(sanitizeKey(e.getKey().toString()), e.getValue().toString());
         }
+        snapshot = null;
     }
 
     /** {@inheritDoc} */
     @Override
     public Map<String, String> all() {
-        return Collections.unmodifiableMap(this.properties);
+        return snapshot().all();
     }
 
     /** {@inheritDoc} */
     @Override
     public int count() {
-        return this.properties.size();
+        return snapshot().size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, String> subProperties(String prefix) {
+        return snapshot().subProperties(prefix);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, String> keysEndsWith(String suffix) {
+        return snapshot().keysEndsWith(suffix);
     }
 
 
@@ -0,0 +1,191 @@
+package com.pi4j.runtime.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  ShutdownOrchestrator.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.context.ShutdownReport;
+import com.pi4j.context.ShutdownReport.Outcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Runs the steps of the runtime shutdown on a pool, each step bounded by a timeout and all steps
+ * together by the overall shutdown budget.</p>
+ *
+ * <p>A step that exceeds its deadline is interrupted and abandoned, so that it no longer holds up the
+ * remaining steps; steps that could not start before the budget was spent are skipped.  All steps are
+ * recorded in the {@link ShutdownReport}.</p>
+ */
+class ShutdownOrchestrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShutdownOrchestrator.class);
+
+    private final ExecutorService executor;
+    private final ShutdownReport report;
+    private final long stepTimeout;
+    private final long deadline;
+
+    /**
+     * <p>Constructor for ShutdownOrchestrator; the shutdown budget starts now.</p>
+     *
+     * @param executor pool to run the steps on; it must start a thread for each step rather than queue it
+     * @param report report to record the steps in
+     * @param stepTimeout time in milliseconds after which a single step is abandoned
+     * @param budget overall time budget in milliseconds
+     */
+    ShutdownOrchestrator(ExecutorService executor, ShutdownReport report, long stepTimeout, long budget) {
+        this.executor = executor;
+        this.report = report;
+        this.stepTimeout = TimeUnit.MILLISECONDS.toNanos(stepTimeout);
+        this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budget);
+    }
+
+    /**
+     * @return remaining shutdown budget in nanoseconds
+     */
+    long remaining() {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    /**
+     * Run the given steps, at most the given number of them at a time, and record them together as a phase
+     *
+     * @param phase name of the phase
+     * @param steps named steps in the order to start them
+     * @param parallelism maximum number of steps to run concurrently
+     * @return the outcome of the phase: the worst outcome of its steps
+     */
+    Outcome run(String phase, Map<String, Callable<?>> steps, int parallelism) {
+        long start = System.nanoTime();
+        Outcome outcome = Outcome.COMPLETED;
+
+        CompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+        Iterator<Map.Entry<String, Callable<?>>> pending = steps.entrySet().iterator();
+        Map<Future<Object>, Step> running = new HashMap<>();
+        try {
+            while (pending.hasNext() || !running.isEmpty()) {
+
+                // start steps while slots are free and budget remains
+                while (running.size() < parallelism && pending.hasNext()) {
+                    Map.Entry<String, Callable<?>> entry = pending.next();
+                    long now = System.nanoTime();
+                    if (now - deadline >= 0) {
+                        logger.warn("Shutdown budget spent, skipping shutdown of {}", entry.getKey());
+                        report.record(entry.getKey(), now, Outcome.SKIPPED);
+                        outcome = worst(outcome, Outcome.SKIPPED);
+                        continue;
+                    }
+                    Callable<?> callable = entry.getValue();
+                    try {
+                        Future<Object> future = completion.submit(callable::call);
+                        running.put(future, new Step(entry.getKey(), now, Math.min(now + stepTimeout, deadline)));
+                    } catch (RejectedExecutionException e) {
+                        // all threads of the pool are held by abandoned steps
+                        logger.error("Unable to start shutdown of {}: {}", entry.getKey(), e.getMessage());
+                        report.record(entry.getKey(), now, Outcome.SKIPPED);
+                        outcome = worst(outcome, Outcome.SKIPPED);
+                    }
+                }
+                if (running.isEmpty())
+                    continue;
+
+                // wait for the next step to finish, at most until the earliest deadline
+                long earliest = Long.MAX_VALUE;
+                for (Step step : running.values())
+                    earliest = Math.min(earliest, step.deadline - System.nanoTime());
+                Future<Object> done = completion.poll(Math.max(0, earliest), TimeUnit.NANOSECONDS);
+
+                // abandoned steps are queued once cancelled and are no longer in the running map
+                Step step = done != null ? running.remove(done) : null;
+                if (step != null) {
+                    try {
+                        done.get();
+                        report.record(step.name, step.start, Outcome.COMPLETED);
+                    } catch (ExecutionException e) {
+                        logger.error("Failed to shutdown {}: {}", step.name, e.getCause().getMessage(), e.getCause());
+                        report.record(step.name, step.start, Outcome.FAILED);
+                        outcome = worst(outcome, Outcome.FAILED);
+                    }
+                }
+
+                // abandon steps whose deadline has passed
+                long now = System.nanoTime();
+                Iterator<Map.Entry<Future<Object>, Step>> it = running.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<Future<Object>, Step> entry = it.next();
+                    if (now - entry.getValue().deadline < 0)
+                        continue;
+                    it.remove();
+                    entry.getKey().cancel(true);
+                    logger.warn("Shutdown of {} did not complete within {} ms, abandoning it",
+                        entry.getValue().name, TimeUnit.NANOSECONDS.toMillis(now - entry.getValue().start));
+                    report.record(entry.getValue().name, entry.getValue().start, Outcome.TIMED_OUT);
+                    outcome = worst(outcome, Outcome.TIMED_OUT);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Was interrupted while shutting down {}", phase);
+            for (Map.Entry<Future<Object>, Step> entry : running.entrySet()) {
+                entry.getKey().cancel(true);
+                report.record(entry.getValue().name, entry.getValue().start, Outcome.TIMED_OUT);
+            }
+            while (pending.hasNext())
+                report.record(pending.next().getKey(), System.nanoTime(), Outcome.SKIPPED);
+            outcome = worst(outcome, Outcome.TIMED_OUT);
+        }
+
+        report.record(phase, start, outcome);
+        return outcome;
+    }
+
+    private static Outcome worst(Outcome a, Outcome b) {
+        return a.ordinal() >= b.ordinal() ? a : b;
+    }
+
+    private static final class Step {
+        private final String name;
+        private final long start;
+        private final long deadline;
+
+        private Step(String name, long start, long deadline) {
+            this.name = name;
+            this.start = start;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.pi4j.util;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  ExecutorModel.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Threading model of the executor pools of a Pi4J runtime.</p>
+ *
+ * @see com.pi4j.context.ContextBuilder#executorModel(ExecutorModel)
+ */
+public enum ExecutorModel {
+    /**
+     * Unbounded cached pools of platform threads (default); threads are created on demand and
+     * expire after 60 seconds of idleness.
+     */
+    CACHED,
+    /**
+     * Pools with a bounded number of platform threads and a bounded task queue; when the queue of
+     * the task pool is full, the submitting thread runs the task itself.  Long-running monitor tasks
+     * get a thread each, up to a maximum, beyond which they are rejected.
+     */
+    BOUNDED,
+    /**
+     * Virtual threads for tasks and timers on JDK 21 and later, falling back to {@link #BOUNDED} on older
+     * JDKs.  Monitor tasks, which typically block in native code and would pin their carrier thread,
+     * keep running on bounded platform threads.
+     */
+    VIRTUAL
+}
@@ -3,13 +3,14 @@ package com.pi4j.util;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import static java.util.concurrent.Executors.*;
-
 public class ExecutorPool {
 
     private static final Logger logger = LoggerFactory.getLogger(ExecutorPool.class);
@@ -17,62 +18,317 @@ public class ExecutorPool {
     private final Map<String, ExecutorService> executors;
     private final Map<String, ScheduledExecutorService> scheduledExecutors;
 
+    private final ExecutorModel model;
+    private final int maxThreads;
+    private final int queueCapacity;
+    private final int maxMonitorThreads;
+    private final int schedulerThreads;
+    private final int priority;
+
     public ExecutorPool() {
+        this(ExecutorModel.CACHED, 16, 256, 64, 4, Thread.NORM_PRIORITY);
+    }
+
+    /**
+     * Creates the executor pool of a runtime
+     *
+     * @param model threading model of the pools
+     * @param maxThreads maximum number of threads of a task pool with the {@link ExecutorModel#BOUNDED} model
+     * @param queueCapacity capacity of the task queue of a pool with the {@link ExecutorModel#BOUNDED} model
+     * @param maxMonitorThreads maximum number of threads of a monitor pool, unless the model is {@link ExecutorModel#CACHED}
+     * @param schedulerThreads number of threads of a scheduled pool
+     * @param priority priority of the platform threads
+     */
+    public ExecutorPool(ExecutorModel model, int maxThreads, int queueCapacity, int maxMonitorThreads,
+                        int schedulerThreads, int priority) {
         this.executors = new ConcurrentHashMap<>();
         this.scheduledExecutors = new ConcurrentHashMap<>();
+        this.maxThreads = Math.max(1, maxThreads);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.maxMonitorThreads = Math.max(1, maxMonitorThreads);
+        this.schedulerThreads = Math.max(1, schedulerThreads);
+        this.priority = Math.min(Thread.MAX_PRIORITY, Math.max(Thread.MIN_PRIORITY, priority));
+
+        if (model == ExecutorModel.VIRTUAL && VirtualThreads.BUILDER == null) {
+            logger.info("Virtual threads are not available on Java {}, using bounded pools",
+                System.getProperty("java.version"));
+            model = ExecutorModel.BOUNDED;
+        }
+        this.model = model;
+    }
+
+    /**
+     * @return the threading model of the pools, {@link ExecutorModel#BOUNDED} if virtual threads were
+     * requested but are not available
+     */
+    public ExecutorModel getModel() {
+        return model;
     }
 
+    /**
+     * Returns the pool for short-lived tasks with the given name, creating it according to the threading model
+     *
+     * @param poolName name of the pool
+     * @return the pool
+     */
     public ExecutorService getExecutor(String poolName) {
         if (poolName == null || poolName.isEmpty())
             throw new IllegalStateException("poolName must be set!");
-        return this.executors.computeIfAbsent(poolName, p -> newCachedThreadPool(new NamedThreadPoolFactory(p)));
+        return this.executors.computeIfAbsent(poolName, p -> {
+            switch (model) {
+                case BOUNDED: {
+                    // the submitting thread runs tasks that do not fit into the queue
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(queueCapacity), threadFactory(p, false),
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+                    executor.allowCoreThreadTimeOut(true);
+                    return executor;
+                }
+                case VIRTUAL:
+                    return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+                        new SynchronousQueue<>(), threadFactory(p, true));
+                default:
+                    return newCachedThreadPool(p);
+            }
+        });
+    }
+
+    public ExecutorService getExecutor(String poolName, int maxThreads) {
+        if (poolName == null || poolName.isEmpty())
+            throw new IllegalStateException("poolName must be set!");
+        return this.executors.computeIfAbsent(poolName, p -> {
+            // bounded pool whose idle threads expire like those of a cached pool
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory(p, false));
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        });
+    }
+
+    /**
+     * Returns the pool for long-running tasks, such as the event loops of inputs, with the given name.  Each
+     * task gets a platform thread of its own; unless the model is {@link ExecutorModel#CACHED}, tasks beyond
+     * the maximum number of monitor threads are rejected with a {@link RejectedExecutionException}.
+     *
+     * @param poolName name of the pool
+     * @return the pool
+     */
+    public ExecutorService getMonitorExecutor(String poolName) {
+        if (poolName == null || poolName.isEmpty())
+            throw new IllegalStateException("poolName must be set!");
+        return this.executors.computeIfAbsent(poolName, p -> {
+            if (model == ExecutorModel.CACHED)
+                return newCachedThreadPool(p);
+            return new ThreadPoolExecutor(0, maxMonitorThreads, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), threadFactory(p, false));
+        });
     }
 
     public ExecutorService getSingleThreadExecutor(String poolName) {
         if (poolName == null || poolName.isEmpty())
             throw new IllegalStateException("poolName must be set!");
-        return this.executors.computeIfAbsent(poolName, p -> newSingleThreadExecutor(new NamedThreadPoolFactory(p)));
+        return this.executors.computeIfAbsent(poolName, p -> new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), threadFactory(p, false)));
     }
 
     public ScheduledExecutorService getScheduledExecutor(String poolName) {
         if (poolName == null || poolName.isEmpty())
             throw new IllegalStateException("poolName must be set!");
         return this.scheduledExecutors.computeIfAbsent(poolName,
-            p -> newScheduledThreadPool(4, new NamedThreadPoolFactory(p)));
+            p -> new ScheduledThreadPoolExecutor(schedulerThreads, threadFactory(p, model == ExecutorModel.VIRTUAL)));
+    }
+
+    /**
+     * @return the current utilization of all pools created so far
+     */
+    public List<Statistics> statistics() {
+        List<Statistics> statistics = new ArrayList<>();
+        this.executors.forEach((name, executor) -> statistics.add(new Statistics(name, executor)));
+        this.scheduledExecutors.forEach((name, executor) -> statistics.add(new Statistics(name, executor)));
+        statistics.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return Collections.unmodifiableList(statistics);
     }
 
     public void destroy() {
+        destroy(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops all pools and waits for their running tasks to finish, all pools sharing the given time budget
+     *
+     * @param timeout maximum time to wait for all pools to terminate
+     * @param unit time unit of the timeout
+     */
+    public void destroy(long timeout, TimeUnit unit) {
+        // interrupt all pools first, so that they stop concurrently
         this.executors.forEach(this::shutdownExecutor);
         this.scheduledExecutors.forEach(this::shutdownExecutor);
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        this.executors.forEach((name, executor) -> awaitExecutor(name, executor, deadline));
+        this.scheduledExecutors.forEach((name, executor) -> awaitExecutor(name, executor, deadline));
     }
 
     private void shutdownExecutor(String name, ExecutorService executor) {
         logger.info("Shutting down executor pool {}", name);
-        try {
-            List<Runnable> tasks = executor.shutdownNow();
-            if (!tasks.isEmpty()) {
-                logger.warn("The following {} tasks were never started for executor {} :", tasks.size(), name);
-                for (Runnable runnable : tasks) {
-                    //noinspection StringConcatenationArgumentToLogCall avoid risk of multithreaded access to arbitrary objects via async logging
-                    logger.warn("  " + runnable);
-                }
+        List<Runnable> tasks = executor.shutdownNow();
+        if (!tasks.isEmpty()) {
+            logger.warn("The following {} tasks were never started for executor {} :", tasks.size(), name);
+            for (Runnable runnable : tasks) {
+                //noinspection StringConcatenationArgumentToLogCall avoid risk of multithreaded access to arbitrary objects via async logging
+                logger.warn("  " + runnable);
             }
+        }
+    }
 
-            if (!executor.awaitTermination(5, TimeUnit.SECONDS))
-                logger.error("Executor {} did not stop after 5s!", name);
+    private void awaitExecutor(String name, ExecutorService executor, long deadline) {
+        try {
+            if (!executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS))
+                logger.error("Executor {} did not stop in time!", name);
         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             logger.error("Was interrupted while shutting down tasks");
         }
     }
 
+    private ThreadPoolExecutor newCachedThreadPool(String poolName) {
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), threadFactory(poolName, false));
+    }
+
+    private ThreadFactory threadFactory(String poolName, boolean virtual) {
+        if (virtual && model == ExecutorModel.VIRTUAL)
+            return VirtualThreads.factory(poolName + "-");
+        return new NamedThreadPoolFactory(poolName, priority);
+    }
+
+    /**
+     * <p>Utilization of a single pool at the time the statistics were taken.</p>
+     */
+    public static class Statistics {
+        private final String name;
+        private final int poolSize;
+        private final int activeThreads;
+        private final int largestPoolSize;
+        private final int maxThreads;
+        private final int queued;
+        private final long completedTasks;
+
+        private Statistics(String name, ExecutorService executor) {
+            this.name = name;
+            if (executor instanceof ThreadPoolExecutor) {
+                ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+                this.poolSize = pool.getPoolSize();
+                this.activeThreads = pool.getActiveCount();
+                this.largestPoolSize = pool.getLargestPoolSize();
+                this.maxThreads = executor instanceof ScheduledThreadPoolExecutor
+                    ? pool.getCorePoolSize() : pool.getMaximumPoolSize();
+                this.queued = pool.getQueue().size();
+                this.completedTasks = pool.getCompletedTaskCount();
+            } else {
+                this.poolSize = this.activeThreads = this.largestPoolSize = this.maxThreads = this.queued = 0;
+                this.completedTasks = 0;
+            }
+        }
+
+        /** @return name of the pool */
+        public String getName() {
+            return name;
+        }
+
+        /** @return current number of threads */
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        /** @return number of threads running a task */
+        public int getActiveThreads() {
+            return activeThreads;
+        }
+
+        /** @return largest number of threads the pool ever had */
+        public int getLargestPoolSize() {
+            return largestPoolSize;
+        }
+
+        /** @return maximum number of threads, {@link Integer#MAX_VALUE} for unbounded pools */
+        public int getMaxThreads() {
+            return maxThreads;
+        }
+
+        /** @return number of tasks waiting in the queue */
+        public int getQueued() {
+            return queued;
+        }
+
+        /** @return approximate number of completed tasks */
+        public long getCompletedTasks() {
+            return completedTasks;
+        }
+
+        /** @return fraction of the maximum number of threads currently running a task; 0 for unbounded pools */
+        public double getUtilization() {
+            if (maxThreads <= 0 || maxThreads == Integer.MAX_VALUE)
+                return 0;
+            return (double) activeThreads / maxThreads;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d/%s active, %d threads (largest %d), %d queued, %d completed", name,
+                activeThreads, maxThreads == Integer.MAX_VALUE ? "unbounded" : String.valueOf(maxThreads),
+                poolSize, largestPoolSize, queued, completedTasks);
+        }
+    }
+
+    /**
+     * Access to virtual threads (JDK 21+) through reflection, so that the library still runs on JDK 11
+     */
+    private static final class VirtualThreads {
+        private static final Object BUILDER;
+        private static final Method NAME;
+        private static final Method FACTORY;
+
+        static {
+            Object builder = null;
+            Method name = null;
+            Method factory = null;
+            try {
+                Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+                builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                name = builderClass.getMethod("name", String.class, long.class);
+                factory = builderClass.getMethod("factory");
+                // fails on JDKs that only have virtual threads as preview feature
+                ((ThreadFactory) factory.invoke(builder)).newThread(() -> { });
+            } catch (Throwable e) {
+                builder = null;
+            }
+            BUILDER = builder;
+            NAME = name;
+            FACTORY = factory;
+        }
+
+        private static ThreadFactory factory(String prefix) {
+            try {
+                // builders are not thread safe; use a fresh one for every pool
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                return (ThreadFactory) FACTORY.invoke(NAME.invoke(builder, prefix, 1L));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Unable to create virtual thread factory", e);
+            }
+        }
+    }
+
     private static class NamedThreadPoolFactory implements ThreadFactory {
         private final ThreadGroup group;
         private final AtomicInteger threadNumber = new AtomicInteger(1);
         private final String poolName;
+        private final int priority;
 
-        public NamedThreadPoolFactory(String poolName) {
+        public NamedThreadPoolFactory(String poolName, int priority) {
             this.group = Thread.currentThread().getThreadGroup();
             this.poolName = poolName + "-";
+            this.priority = priority;
         }
 
         @Override
@@ -80,8 +336,8 @@ public class ExecutorPool {
             Thread t = new Thread(this.group, r, this.poolName + this.threadNumber.getAndIncrement(), 0);
             if (t.isDaemon())
                 t.setDaemon(false);
-            if (t.getPriority() != Thread.NORM_PRIORITY)
-                t.setPriority(Thread.NORM_PRIORITY);
+            if (t.getPriority() != this.priority)
+                t.setPriority(this.priority);
             return t;
         }
     }
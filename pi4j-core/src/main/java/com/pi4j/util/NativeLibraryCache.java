@@ -0,0 +1,189 @@
+package com.pi4j.util;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  NativeLibraryCache.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * <p>Extracts native libraries embedded in a JAR into a persistent cache, so that they are written to
+ * disk only once instead of on every start of the JVM.</p>
+ *
+ * <p>Every library is stored as {@code <cache>/<sha-256 of its content>/<file name>}, so different
+ * versions of a library never collide and an existing file can be verified against its directory
+ * name before it is loaded. New files are written to a temporary file in the same directory and
+ * renamed atomically, which makes concurrent starts safe.</p>
+ *
+ * <p>The cache directory is defined by the system property {@value #CACHE_PROPERTY}; by default it is
+ * {@code $XDG_CACHE_HOME/pi4j/native} or {@code ~/.cache/pi4j/native}. If the property is set to
+ * {@code none}, or the cache can not be used, the library is extracted to a temporary file that is
+ * deleted on exit.</p>
+ */
+public final class NativeLibraryCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(NativeLibraryCache.class);
+
+    /**
+     * System property defining the cache directory, or {@code none} to disable the cache.
+     */
+    public static final String CACHE_PROPERTY = "pi4j.library.cache";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // private constructor
+    private NativeLibraryCache() {
+        // forbid object construction
+    }
+
+    /**
+     * Extract an embedded native library into the cache, unless a verified copy is already present
+     *
+     * @param owner a class of the module/JAR containing the library, used to locate the resource
+     * @param resource the absolute resource path of the library, e.g. {@code /lib/aarch64/libpi4j.so}
+     * @return the path of the extracted library, to be passed to {@link System#load(String)}
+     * @throws IOException if the resource does not exist or can not be extracted
+     */
+    public static Path extract(Class<?> owner, String resource) throws IOException {
+        byte[] content = read(owner, resource);
+        Path directory = directory();
+        if (directory != null) {
+            try {
+                return extract(content, fileName(resource), directory);
+            } catch (IOException e) {
+                logger.warn("Unable to use the native library cache [{}], extracting [{}] to a temporary file: {}",
+                    directory, resource, e.getMessage());
+            }
+        }
+        return extractTemporary(content, fileName(resource));
+    }
+
+    /**
+     * @return the cache directory, or null if the cache is disabled
+     */
+    public static Path directory() {
+        String property = System.getProperty(CACHE_PROPERTY);
+        if (StringUtil.isNotNullOrEmpty(property, true)) {
+            return property.trim().equalsIgnoreCase("none") ? null : Paths.get(property.trim());
+        }
+        String xdg = System.getenv("XDG_CACHE_HOME");
+        if (StringUtil.isNotNullOrEmpty(xdg, true)) {
+            return Paths.get(xdg, "pi4j", "native");
+        }
+        return Paths.get(System.getProperty("user.home"), ".cache", "pi4j", "native");
+    }
+
+    static Path extract(byte[] content, String fileName, Path directory) throws IOException {
+        String hash = sha256(content);
+        Path target = directory.resolve(hash).resolve(fileName);
+
+        if (Files.isRegularFile(target)) {
+            if (hash.equals(sha256(Files.readAllBytes(target)))) {
+                logger.debug("Using cached native library [{}]", target);
+                return target;
+            }
+            logger.warn("Cached native library [{}] does not match its checksum; extracting it again", target);
+        }
+
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), fileName, ".tmp");
+        try {
+            write(temp, content);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        logger.debug("Extracted native library [{}] into the cache", target);
+        return target;
+    }
+
+    private static Path extractTemporary(byte[] content, String fileName) throws IOException {
+        int dotIndex = fileName.indexOf('.');
+        Path target = dotIndex < 0
+            ? Files.createTempFile(fileName, null)
+            : Files.createTempFile(fileName.substring(0, dotIndex), fileName.substring(dotIndex));
+        target.toFile().deleteOnExit();
+        write(target, content);
+        return target;
+    }
+
+    private static byte[] read(Class<?> owner, String resource) throws IOException {
+        try (InputStream source = owner.getResourceAsStream(resource)) {
+            if (source == null) {
+                throw new FileNotFoundException("File " + resource + " was not found in classpath.");
+            }
+            return source.readAllBytes();
+        }
+    }
+
+    private static void write(Path file, byte[] content) throws IOException {
+        // make sure the content is on disk before the file is renamed into place
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    private static String fileName(String resource) {
+        return Paths.get(resource).getFileName().toString();
+    }
+
+    static String sha256(byte[] content) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+        }
+        return new String(hex);
+    }
+}
@@ -0,0 +1,267 @@
+package com.pi4j.util;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  PropertyTree.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <p>Immutable snapshot of a set of properties, indexed as a tree of dot-separated key segments.</p>
+ *
+ * <p>Sub-tree queries ({@link #subProperties(String)}) return a read-only view of the matching branch
+ * instead of copying and filtering all properties, and suffix queries ({@link #keysEndsWith(String)})
+ * use an index of the last key segment.  Both cost time proportional to the size of the result, not
+ * to the total number of properties.</p>
+ */
+public final class PropertyTree {
+
+    /** An empty property tree */
+    public static final PropertyTree EMPTY = new PropertyTree(Collections.emptyMap());
+
+    private final Map<String, String> properties;
+    private final Node root = new Node();
+    private final Map<String, List<String>> lastSegments = new HashMap<>();
+
+    /**
+     * Create a snapshot of the given properties
+     *
+     * @param properties the properties; the map is copied
+     * @return a new {@link PropertyTree}
+     */
+    public static PropertyTree of(Map<String, String> properties) {
+        return properties.isEmpty() ? EMPTY : new PropertyTree(new HashMap<>(properties));
+    }
+
+    private PropertyTree(Map<String, String> properties) {
+        this.properties = Collections.unmodifiableMap(properties);
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            String key = entry.getKey();
+            if (entry.getValue() == null) continue;
+
+            // walk (and create) the branch for each segment of the key
+            Node node = root;
+            int start = 0;
+            int dot;
+            while ((dot = key.indexOf('.', start)) >= 0) {
+                node.size++;
+                node = node.child(key.substring(start, dot));
+                start = dot + 1;
+            }
+            node.size++;
+            node = node.child(key.substring(start));
+            node.size++;
+            node.key = key;
+            node.value = entry.getValue();
+
+            lastSegments.computeIfAbsent(key.substring(start), k -> new ArrayList<>(1)).add(key);
+        }
+    }
+
+    /**
+     * @return all properties as a read-only map
+     */
+    public Map<String, String> all() {
+        return properties;
+    }
+
+    /**
+     * @return number of properties
+     */
+    public int size() {
+        return properties.size();
+    }
+
+    /**
+     * @param key property key
+     * @return the property value or null
+     */
+    public String get(String key) {
+        return properties.get(key);
+    }
+
+    /**
+     * @param key property key
+     * @return true if the property exists
+     */
+    public boolean has(String key) {
+        return properties.containsKey(key);
+    }
+
+    /**
+     * Get all properties below the given key prefix, with the prefix (and its trailing dot) removed
+     * from the keys.  The result is a read-only view of this snapshot.
+     *
+     * @param prefix key prefix; a trailing dot is optional
+     * @return read-only map of the properties below the prefix
+     */
+    public Map<String, String> subProperties(String prefix) {
+        if (StringUtil.isNullOrEmpty(prefix)) return Collections.emptyMap();
+        if (prefix.endsWith(".")) prefix = prefix.substring(0, prefix.length() - 1);
+
+        Node node = find(root, prefix);
+        if (node == null || node.children == null) return Collections.emptyMap();
+        return new SubTree(node, prefix.length() + 1);
+    }
+
+    /**
+     * Get all properties whose keys end with the given suffix (on a segment boundary), with the
+     * suffix (and its leading dot) removed from the keys.
+     *
+     * @param suffix key suffix; a leading dot is optional
+     * @return map of the matching properties
+     */
+    public Map<String, String> keysEndsWith(String suffix) {
+        if (StringUtil.isNullOrEmpty(suffix)) return Collections.emptyMap();
+        final String sfx = (suffix.startsWith(".")) ? suffix : "." + suffix;
+
+        List<String> candidates = lastSegments.get(sfx.substring(sfx.lastIndexOf('.') + 1));
+        if (candidates == null) return Collections.emptyMap();
+
+        Map<String, String> result = new HashMap<>();
+        for (String key : candidates) {
+            if (key.endsWith(sfx))
+                result.put(key.substring(0, key.length() - sfx.length()), properties.get(key));
+        }
+        return result;
+    }
+
+    private static Node find(Node node, String path) {
+        int start = 0;
+        int dot;
+        while (node != null && (dot = path.indexOf('.', start)) >= 0) {
+            node = node.children == null ? null : node.children.get(path.substring(start, dot));
+            start = dot + 1;
+        }
+        if (node == null || node.children == null) return null;
+        return node.children.get(path.substring(start));
+    }
+
+    private static final class Node {
+        Map<String, Node> children;
+        String key;
+        String value;
+        int size;
+
+        Node child(String segment) {
+            if (children == null) children = new HashMap<>();
+            return children.computeIfAbsent(segment, s -> new Node());
+        }
+    }
+
+    /**
+     * Read-only view of the properties below a node; keys are relative to the node.
+     */
+    private static final class SubTree extends AbstractMap<String, String> {
+        private final Node node;
+        private final int offset;
+        private Set<Entry<String, String>> entries;
+
+        SubTree(Node node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+
+        @Override
+        public int size() {
+            // the node's own value (if any) is not part of its sub-tree
+            return node.value == null ? node.size : node.size - 1;
+        }
+
+        @Override
+        public String get(Object key) {
+            if (!(key instanceof String)) return null;
+            Node n = find(node, (String) key);
+            return n == null ? null : n.value;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            if (entries == null) {
+                entries = new AbstractSet<>() {
+                    @Override
+                    public Iterator<Entry<String, String>> iterator() {
+                        return new SubTreeIterator(node, offset);
+                    }
+
+                    @Override
+                    public int size() {
+                        return SubTree.this.size();
+                    }
+                };
+            }
+            return entries;
+        }
+    }
+
+    private static final class SubTreeIterator implements Iterator<Map.Entry<String, String>> {
+        private final Deque<Node> stack = new ArrayDeque<>();
+        private final int offset;
+        private Node next;
+
+        SubTreeIterator(Node node, int offset) {
+            this.offset = offset;
+            stack.addAll(node.children.values());
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (next == null && !stack.isEmpty()) {
+                Node n = stack.pop();
+                if (n.children != null) stack.addAll(n.children.values());
+                if (n.value != null) next = n;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (next == null) throw new NoSuchElementException();
+            Node n = next;
+            advance();
+            return new AbstractMap.SimpleImmutableEntry<>(n.key.substring(offset), n.value);
+        }
+    }
+}
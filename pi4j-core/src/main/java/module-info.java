@@ -32,6 +32,9 @@ module com.pi4j {
     // depends on SLF4J
     requires org.slf4j;
 
+    // metrics exporter; its public API takes an MBeanServer
+    requires transitive java.management;
+
     // exposed interfaces/classes
     exports com.pi4j;
     exports com.pi4j.boardinfo.definition;
@@ -47,6 +50,7 @@ module com.pi4j {
     exports com.pi4j.event;
     exports com.pi4j.io;
     exports com.pi4j.io.binding;
+    exports com.pi4j.io.bitbang;
     exports com.pi4j.io.gpio.analog;
     exports com.pi4j.io.gpio.digital;
     exports com.pi4j.io.exception;
@@ -55,6 +59,7 @@ module com.pi4j {
     exports com.pi4j.io.pwm;
     exports com.pi4j.io.serial;
     exports com.pi4j.io.spi;
+    exports com.pi4j.metrics;
     exports com.pi4j.platform;
     exports com.pi4j.platform.exception;
     exports com.pi4j.provider;
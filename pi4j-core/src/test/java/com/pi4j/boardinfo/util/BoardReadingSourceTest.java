@@ -0,0 +1,149 @@
+package com.pi4j.boardinfo.util;
+
+import com.pi4j.boardinfo.model.BoardReading;
+import com.pi4j.boardinfo.util.command.CommandResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardReadingSourceTest {
+
+    private Path root;
+
+    private BoardReadingSource source;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        root = Files.createTempDirectory("boardreading");
+        write("sys/class/thermal/thermal_zone0/type", "gpu-thermal\n");
+        write("sys/class/thermal/thermal_zone0/temp", "39000\n");
+        write("sys/class/thermal/thermal_zone1/type", "cpu-thermal\n");
+        write("sys/class/thermal/thermal_zone1/temp", "45277\n");
+        write("sys/class/hwmon/hwmon0/name", "ina219\n");
+        write("sys/class/hwmon/hwmon0/in0_input", "5000\n");
+        write("sys/class/hwmon/hwmon1/name", "rpi_volt\n");
+        write("sys/class/hwmon/hwmon1/in0_lcrit_alarm", "0\n");
+        write("proc/uptime", "200523.45 774391.23\n");
+        write("proc/device-tree/model", "Raspberry Pi 4 Model B Rev 1.4\0");
+        write("proc/cpuinfo", "processor\t: 0\nHardware\t: BCM2835\nRevision\t: c03114\nModel\t\t: Raspberry Pi 4\n");
+        write("proc/meminfo", "MemTotal:        8192 kB\nMemFree:         4096 kB\n");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (source != null) {
+            source.close();
+        }
+        try (var paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    void testReadings() {
+        source = new BoardReadingSource(root.toString(), 0, TimeUnit.MILLISECONDS,
+            () -> CommandResult.success("volt=0.8500V"));
+
+        assertEquals(45.277, source.getTemperature(), 0.0001);
+        assertEquals(0.85, source.getCoreVoltage(), 0.0001);
+        assertEquals(200523.45, source.getUptime(), 0.0001);
+        assertEquals("Raspberry Pi 4 Model B Rev 1.4", source.getBoardName());
+        assertEquals("c03114", source.getBoardVersionCode());
+        assertEquals("MemTotal:        8192 kB", source.getMemTotal());
+
+        BoardReading reading = source.getBoardReading();
+        assertEquals("temp=45.3'C", reading.getTemperature());
+        assertEquals(45.3, reading.getTemperatureInCelsius(), 0.0001);
+        assertEquals(0.85, reading.getVoltValue(), 0.0001);
+        assertEquals("up 2 days, 7:42", reading.getUptimeInfo());
+        assertEquals("c03114", reading.getBoardVersionCode());
+    }
+
+    @Test
+    void testCoreVoltageCommand() {
+        AtomicInteger executions = new AtomicInteger();
+        source = new BoardReadingSource(root.toString(), 1, TimeUnit.HOURS, () -> {
+            executions.incrementAndGet();
+            return CommandResult.success("volt=0.8625V");
+        });
+
+        // the input of another hwmon sensor is not taken for the core voltage
+        assertEquals(0.8625, source.getCoreVoltage(), 0.0001);
+        assertEquals("volt=0.8625V", source.getBoardReading().getVolt());
+
+        // the command is executed once per time-to-live
+        assertEquals(0.8625, source.getCoreVoltage(), 0.0001);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void testCoreVoltageCommandFailure() {
+        source = new BoardReadingSource(root.toString(), 0, TimeUnit.MILLISECONDS,
+            () -> CommandResult.failure("vcgencmd: not found"));
+        assertTrue(Double.isNaN(source.getCoreVoltage()));
+        assertEquals("", source.getBoardReading().getVolt());
+    }
+
+    @Test
+    void testCaching() throws IOException {
+        source = new BoardReadingSource(root.toString(), 1, TimeUnit.HOURS);
+        assertEquals(45.277, source.getTemperature(), 0.0001);
+
+        // cached within the time-to-live
+        write("sys/class/thermal/thermal_zone1/temp", "51000\n");
+        assertEquals(45.277, source.getTemperature(), 0.0001);
+
+        // files are re-read without a time-to-live
+        source.close();
+        source = new BoardReadingSource(root.toString(), 0, TimeUnit.MILLISECONDS);
+        assertEquals(51.0, source.getTemperature(), 0.0001);
+        write("sys/class/thermal/thermal_zone1/temp", "52500\n");
+        assertEquals(52.5, source.getTemperature(), 0.0001);
+    }
+
+    @Test
+    void testMissingFiles() {
+        source = new BoardReadingSource(root.resolve("missing").toString(), 0, TimeUnit.MILLISECONDS,
+            () -> CommandResult.failure("vcgencmd: not found"));
+        assertTrue(Double.isNaN(source.getTemperature()));
+        assertTrue(Double.isNaN(source.getUptime()));
+        assertEquals("", source.getBoardName());
+        assertEquals("", source.getBoardReading().getTemperature());
+    }
+
+    @Test
+    void testMonitor() throws InterruptedException {
+        source = new BoardReadingSource(root.toString(), 0, TimeUnit.MILLISECONDS,
+            () -> CommandResult.success("volt=0.8500V"));
+        BlockingQueue<BoardReading> readings = new ArrayBlockingQueue<>(16);
+
+        try (BoardReadingMonitor monitor = new BoardReadingMonitor(source)) {
+            monitor.addListener(readings::offer).start(10, TimeUnit.MILLISECONDS);
+            assertTrue(monitor.isRunning());
+
+            BoardReading first = readings.poll(5, TimeUnit.SECONDS);
+            assertNotNull(first);
+            assertEquals(45.3, first.getTemperatureInCelsius(), 0.0001);
+            assertNotNull(readings.poll(5, TimeUnit.SECONDS));
+            assertNotNull(monitor.last());
+        }
+    }
+
+    private void write(String path, String content) throws IOException {
+        Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,320 @@
+package com.pi4j.io.bitbang;
+
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.spi.SpiMode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBangTest {
+
+    @Test
+    void testSpiLoopback() {
+        for (SpiMode mode : SpiMode.values()) {
+            // MOSI wired to MISO
+            TestPin clock = new TestPin();
+            TestPin loop = new TestPin();
+            TestPin chipSelect = new TestPin();
+            BitBangSpi spi = new BitBangSpi(clock, loop, loop, chipSelect, mode, 0, false);
+            boolean idle = mode == SpiMode.MODE_2 || mode == SpiMode.MODE_3;
+            assertEquals(idle, clock.level, mode.toString());
+            clock.rising = 0;
+
+            byte[] write = {(byte) 0xA5, 0x3C, 0x00, (byte) 0xFF};
+            byte[] read = new byte[write.length];
+            spi.transfer(write, read, write.length);
+            assertArrayEquals(write, read, mode.toString());
+            assertEquals(idle, clock.level, mode.toString());
+            assertTrue(chipSelect.level);
+            assertEquals(8 * write.length, clock.rising, mode.toString());
+            assertTrue(spi.bitRate() > 0);
+            assertEquals(32, spi.bits());
+        }
+    }
+
+    @Test
+    void testSpiDeselectsOnFailure() {
+        TestPin clock = new TestPin();
+        TestPin chipSelect = new TestPin();
+        TestPin mosi = new TestPin() {
+            @Override
+            public void high() {
+                throw new IOException("pin failed");
+            }
+        };
+        BitBangSpi spi = new BitBangSpi(clock, mosi, null, chipSelect, SpiMode.MODE_0, 0, false);
+        assertThrows(IOException.class, () -> spi.write((byte) 0xFF));
+        assertTrue(chipSelect.level);
+        assertEquals(0, spi.bits());
+    }
+
+    @Test
+    void testReadOnlyPins() {
+        TestPin readOnly = new TestPin() {
+            @Override
+            public boolean isDrivable() {
+                return false;
+            }
+        };
+        assertThrows(IllegalArgumentException.class,
+            () -> new BitBangSpi(readOnly, new TestPin(), null, null, SpiMode.MODE_0, 0, false));
+        assertThrows(IllegalArgumentException.class,
+            () -> new BitBangSpi(new TestPin(), null, null, readOnly, SpiMode.MODE_0, 0, false));
+        assertThrows(IllegalArgumentException.class,
+            () -> new BitBangShiftRegister(new TestPin(), new TestPin(), readOnly, 0, false));
+
+        // a read-only pin is fine for MISO and for shifting in
+        new BitBangSpi(new TestPin(), null, readOnly, null, SpiMode.MODE_0, 0, false).read(new byte[1]);
+        new BitBangShiftRegister(readOnly, new TestPin(), null, 0, false).shiftIn(new byte[1]);
+    }
+
+    @Test
+    void testShiftOut() {
+        ByteArrayOutputStream bits = new ByteArrayOutputStream();
+        TestPin data = new TestPin();
+        TestPin latch = new TestPin();
+        TestPin clock = new TestPin() {
+            @Override
+            public void high() {
+                if (!level)
+                    bits.write(data.level ? 1 : 0);
+                super.high();
+            }
+        };
+        BitBangShiftRegister register = new BitBangShiftRegister(data, clock, latch, 1_000_000, false);
+        register.shiftOut((byte) 0b1011_0001);
+
+        assertArrayEquals(new byte[]{1, 0, 1, 1, 0, 0, 0, 1}, bits.toByteArray());
+        assertEquals(1, latch.rising);
+        assertFalse(latch.level);
+        assertTrue(register.bitRate() > 0);
+        assertTrue(register.bitRate() < 1_100_000);
+    }
+
+    @Test
+    void testI2C() {
+        I2CSlave slave = new I2CSlave(0x50, new byte[]{0x12, 0x34, 0x56});
+        BitBangI2C i2c = new BitBangI2C(slave.sda, slave.scl, 0);
+
+        i2c.write(0x50, new byte[]{1, 2, 3}, 1, 2);
+        assertArrayEquals(new byte[]{2, 3}, slave.received.toByteArray());
+
+        byte[] read = new byte[3];
+        i2c.read(0x50, read, 0, read.length);
+        assertArrayEquals(new byte[]{0x12, 0x34, 0x56}, read);
+
+        slave.received.reset();
+        read = new byte[2];
+        i2c.writeRead(0x50, new byte[]{7}, read);
+        assertArrayEquals(new byte[]{7}, slave.received.toByteArray());
+        assertArrayEquals(new byte[]{0x12, 0x34}, read);
+        assertTrue(i2c.bitRate() > 0);
+
+        assertThrows(IOException.class, () -> i2c.write(0x51, new byte[]{1}, 0, 1));
+        // the bus is released after a failed transfer
+        assertTrue(slave.sda.read());
+        assertTrue(slave.scl.read());
+
+        // a failure to release the bus does not hide the error of the transfer
+        slave.holdSclOnMismatch = true;
+        IOException e = assertThrows(IOException.class, () -> i2c.write(0x51, new byte[]{1}, 0, 1));
+        assertTrue(e.getMessage().startsWith("No ACK"), e.getMessage());
+        assertEquals(1, e.getSuppressed().length);
+        assertTrue(e.getSuppressed()[0].getMessage().contains("clock held low"), e.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    void testCrc8() {
+        // ROM code from Maxim application note 27, with its CRC in the last byte
+        byte[] rom = {0x02, 0x1C, (byte) 0xB8, 0x01, 0x00, 0x00, 0x00, (byte) 0xA2};
+        assertEquals(0xA2, BitBangOneWire.crc8(rom, 0, 7));
+        assertEquals(0, BitBangOneWire.crc8(rom, 0, 8));
+    }
+
+    @Test
+    void testClock() {
+        BitBangClock clock = BitBangClock.ofFrequency(10_000);
+        assertEquals(50_000, clock.period());
+        long start = System.nanoTime();
+        clock.start();
+        for (int i = 0; i < 20; i++)
+            clock.tick();
+        assertTrue(System.nanoTime() - start >= 20 * 50_000);
+    }
+
+    private static class TestPin implements BitBangPin {
+        boolean level;
+        int rising;
+
+        @Override
+        public void high() {
+            if (!level)
+                rising++;
+            level = true;
+        }
+
+        @Override
+        public void low() {
+            level = false;
+        }
+
+        @Override
+        public boolean read() {
+            return level;
+        }
+    }
+
+    /**
+     * An I2C slave with open-drain lines, answering to a single address; it receives bytes written to it
+     * and transmits a fixed response.
+     */
+    private static class I2CSlave {
+
+        private enum Phase {IDLE, RECEIVE, ACK, NACK, TRANSMIT, MASTER_ACK}
+
+        final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        final OpenDrainPin sda = new OpenDrainPin();
+        final OpenDrainPin scl = new OpenDrainPin();
+        boolean holdSclOnMismatch;
+        private boolean holdScl;
+
+        private final int address;
+        private final byte[] response;
+        private Phase phase = Phase.IDLE;
+        private boolean slaveSda;
+        private boolean lastSda = true;
+        private boolean lastScl = true;
+        private boolean addressed;
+        private boolean reading;
+        private boolean acked;
+        private int bits;
+        private int shift;
+        private int index;
+
+        I2CSlave(int address, byte[] response) {
+            this.address = address;
+            this.response = response;
+        }
+
+        private boolean sdaLevel() {
+            return !sda.masterLow && !slaveSda;
+        }
+
+        private void update() {
+            boolean sclLevel = !scl.masterLow;
+            boolean sdaLevel = sdaLevel();
+            if (sclLevel && lastScl && sdaLevel != lastSda) {
+                // start or stop condition
+                phase = sdaLevel ? Phase.IDLE : Phase.RECEIVE;
+                addressed = false;
+                bits = 0;
+                shift = 0;
+            } else if (sclLevel && !lastScl) {
+                if (phase == Phase.RECEIVE) {
+                    shift = (shift << 1) | (sdaLevel ? 1 : 0);
+                    bits++;
+                } else if (phase == Phase.TRANSMIT) {
+                    bits++;
+                } else if (phase == Phase.MASTER_ACK) {
+                    acked = !sdaLevel;
+                }
+            } else if (!sclLevel && lastScl) {
+                falling();
+            }
+            lastScl = sclLevel;
+            lastSda = sdaLevel();
+        }
+
+        private void falling() {
+            switch (phase) {
+                case RECEIVE:
+                    if (bits < 8)
+                        return;
+                    if (!addressed) {
+                        if ((shift >> 1) != address) {
+                            phase = holdSclOnMismatch ? Phase.NACK : Phase.IDLE;
+                            return;
+                        }
+                        addressed = true;
+                        reading = (shift & 1) != 0;
+                        index = 0;
+                    } else {
+                        received.write(shift);
+                    }
+                    slaveSda = true;
+                    phase = Phase.ACK;
+                    return;
+                case ACK:
+                    slaveSda = false;
+                    bits = 0;
+                    shift = 0;
+                    if (reading)
+                        transmit();
+                    else
+                        phase = Phase.RECEIVE;
+                    return;
+                case TRANSMIT:
+                    if (bits == 8) {
+                        slaveSda = false;
+                        phase = Phase.MASTER_ACK;
+                    } else {
+                        slaveSda = ((response[index] >> (7 - bits)) & 1) == 0;
+                    }
+                    return;
+                case NACK:
+                    // hold the clock low once the master has seen the missing ACK
+                    holdScl = true;
+                    phase = Phase.IDLE;
+                    return;
+                case MASTER_ACK:
+                    if (acked) {
+                        index++;
+                        bits = 0;
+                        transmit();
+                    } else {
+                        phase = Phase.IDLE;
+                    }
+                    return;
+                default:
+            }
+        }
+
+        private void transmit() {
+            phase = Phase.TRANSMIT;
+            slaveSda = ((response[index] >> 7) & 1) == 0;
+        }
+
+        private class OpenDrainPin implements BitBangPin {
+            boolean masterLow;
+
+            @Override
+            public void high() {
+                release();
+            }
+
+            @Override
+            public void low() {
+                masterLow = true;
+                update();
+            }
+
+            @Override
+            public void release() {
+                masterLow = false;
+                update();
+            }
+
+            @Override
+            public boolean read() {
+                return this == sda ? sdaLevel() : !masterLow && !holdScl;
+            }
+
+            @Override
+            public boolean isBidirectional() {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.pi4j.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeLibraryCacheTest {
+
+    private static final String RESOURCE = "/com/pi4j/util/NativeLibraryCacheTest.class";
+
+    private Path directory;
+
+    @BeforeEach
+    void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("pi4j-cache");
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException {
+        System.clearProperty(NativeLibraryCache.CACHE_PROPERTY);
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void testExtractOnce() throws IOException {
+        byte[] content = "library".getBytes(StandardCharsets.US_ASCII);
+        Path first = NativeLibraryCache.extract(content, "libtest.so", directory);
+
+        assertEquals(directory.resolve(NativeLibraryCache.sha256(content)).resolve("libtest.so"), first);
+        assertArrayEquals(content, Files.readAllBytes(first));
+
+        // a verified copy is reused without writing it again
+        assertTrue(first.toFile().setLastModified(0));
+        assertEquals(first, NativeLibraryCache.extract(content, "libtest.so", directory));
+        assertEquals(0, first.toFile().lastModified());
+
+        // no temporary files are left behind
+        try (Stream<Path> files = Files.list(first.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void testVersions() throws IOException {
+        Path v1 = NativeLibraryCache.extract("v1".getBytes(StandardCharsets.US_ASCII), "libtest.so", directory);
+        Path v2 = NativeLibraryCache.extract("v2".getBytes(StandardCharsets.US_ASCII), "libtest.so", directory);
+
+        assertNotEquals(v1.getParent(), v2.getParent());
+        assertEquals("v1", Files.readString(v1));
+        assertEquals("v2", Files.readString(v2));
+    }
+
+    @Test
+    void testCorruptCopy() throws IOException {
+        byte[] content = "library".getBytes(StandardCharsets.US_ASCII);
+        Path target = NativeLibraryCache.extract(content, "libtest.so", directory);
+        Files.writeString(target, "truncated");
+
+        assertEquals(target, NativeLibraryCache.extract(content, "libtest.so", directory));
+        assertArrayEquals(content, Files.readAllBytes(target));
+    }
+
+    @Test
+    void testExtractResource() throws IOException {
+        System.setProperty(NativeLibraryCache.CACHE_PROPERTY, directory.toString());
+        assertEquals(directory, NativeLibraryCache.directory());
+
+        Path target = NativeLibraryCache.extract(NativeLibraryCacheTest.class, RESOURCE);
+        assertTrue(target.startsWith(directory));
+        assertEquals("NativeLibraryCacheTest.class", target.getFileName().toString());
+
+        assertThrows(FileNotFoundException.class, () -> NativeLibraryCache.extract(NativeLibraryCacheTest.class, "/missing.so"));
+    }
+
+    @Test
+    void testDisabled() throws IOException {
+        System.setProperty(NativeLibraryCache.CACHE_PROPERTY, "none");
+        assertNull(NativeLibraryCache.directory());
+
+        Path target = NativeLibraryCache.extract(NativeLibraryCacheTest.class, RESOURCE);
+        try {
+            assertFalse(target.startsWith(directory));
+            assertTrue(Files.size(target) > 0);
+        } finally {
+            Files.deleteIfExists(target);
+        }
+    }
+}
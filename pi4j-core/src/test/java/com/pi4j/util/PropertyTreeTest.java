@@ -0,0 +1,76 @@
+package com.pi4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertyTreeTest {
+
+    private static PropertyTree tree() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("led", "not-a-branch");
+        properties.put("led.address", "22");
+        properties.put("led.provider", "pigpio-digital-output");
+        properties.put("led.inject", "true");
+        properties.put("button.address", "24");
+        properties.put("button.debounce.time", "5000");
+        properties.put("button.inject", "false");
+        properties.put("ledstrip.address", "18");
+        properties.put("my.sensor.address", "4");
+        properties.put("my.sensor.inject", "true");
+        return PropertyTree.of(properties);
+    }
+
+    @Test
+    void testSubProperties() {
+        PropertyTree tree = tree();
+
+        Map<String, String> led = tree.subProperties("led");
+        assertEquals(Map.of("address", "22", "provider", "pigpio-digital-output", "inject", "true"), led);
+        assertEquals(3, led.size());
+        assertEquals("22", led.get("address"));
+        assertNull(led.get("debounce"));
+
+        // nested keys and dotted prefixes
+        assertEquals(Map.of("address", "24", "debounce.time", "5000", "inject", "false"), tree.subProperties("button."));
+        assertEquals(Map.of("address", "4", "inject", "true"), tree.subProperties("my.sensor"));
+        assertEquals(Map.of("sensor.address", "4", "sensor.inject", "true"), tree.subProperties("my"));
+
+        // no partial segment matches
+        assertTrue(tree.subProperties("le").isEmpty());
+        assertTrue(tree.subProperties("unknown").isEmpty());
+        assertTrue(tree.subProperties("").isEmpty());
+    }
+
+    @Test
+    void testMatchesPropertiesUtil() {
+        PropertyTree tree = tree();
+        for (String prefix : new String[]{"led", "button", "my.sensor", "ledstrip", "my"}) {
+            assertEquals(PropertiesUtil.subProperties(tree.all(), prefix), tree.subProperties(prefix), prefix);
+        }
+        assertEquals(PropertiesUtil.keysEndsWith(tree.all(), "inject"), tree.keysEndsWith("inject"));
+    }
+
+    @Test
+    void testKeysEndsWith() {
+        PropertyTree tree = tree();
+        assertEquals(Map.of("led", "true", "button", "false", "my.sensor", "true"), tree.keysEndsWith("inject"));
+        assertEquals(Map.of("button", "5000"), tree.keysEndsWith(".debounce.time"));
+        assertTrue(tree.keysEndsWith("missing").isEmpty());
+    }
+
+    @Test
+    void testSnapshotIsImmutable() {
+        Map<String, String> properties = new HashMap<>(Map.of("a.b", "1"));
+        PropertyTree tree = PropertyTree.of(properties);
+        properties.put("a.c", "2");
+
+        assertEquals(1, tree.size());
+        assertEquals(Map.of("b", "1"), tree.subProperties("a"));
+        assertThrows(UnsupportedOperationException.class, () -> tree.all().put("x", "y"));
+        assertThrows(UnsupportedOperationException.class, () -> tree.subProperties("a").put("x", "y"));
+    }
+}
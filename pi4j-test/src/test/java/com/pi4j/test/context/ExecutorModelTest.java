@@ -0,0 +1,153 @@
+package com.pi4j.test.context;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  ExecutorModelTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.util.ExecutorModel;
+import com.pi4j.util.ExecutorPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_METHOD)
+public class ExecutorModelTest {
+
+    private Context pi4j;
+
+    @AfterEach
+    public void afterEach() {
+        if (pi4j != null)
+            pi4j.shutdown();
+    }
+
+    @Test
+    public void testBoundedTasks() throws Exception {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms()
+            .executorModel(ExecutorModel.BOUNDED).maxThreads(2, 4).build();
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        Future<?>[] tasks = new Future<?>[6];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = pi4j.submitTask(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        ExecutorPool.Statistics statistics = statistics("Pi4J.RUNTIME");
+        assertEquals(2, statistics.getMaxThreads());
+        assertEquals(2, statistics.getActiveThreads());
+        assertEquals(4, statistics.getQueued());
+        assertEquals(1.0, statistics.getUtilization());
+
+        release.countDown();
+        for (Future<?> task : tasks)
+            task.get(5, TimeUnit.SECONDS);
+        assertEquals(2, statistics("Pi4J.RUNTIME").getLargestPoolSize());
+    }
+
+    @Test
+    public void testBoundedMonitors() throws Exception {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms()
+            .executorModel(ExecutorModel.BOUNDED).maxMonitorThreads(2).build();
+
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable monitor = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        Future<?> first = pi4j.submitMonitor(monitor);
+        Future<?> second = pi4j.submitMonitor(monitor);
+        assertThrows(RejectedExecutionException.class, () -> pi4j.submitMonitor(monitor));
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testThreadPriority() throws Exception {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms()
+            .threadPriority(Thread.MAX_PRIORITY).schedulerThreads(1).build();
+
+        AtomicInteger priority = new AtomicInteger();
+        pi4j.submitTask(() -> priority.set(Thread.currentThread().getPriority())).get(5, TimeUnit.SECONDS);
+        assertEquals(Thread.MAX_PRIORITY, priority.get());
+
+        CountDownLatch ticked = new CountDownLatch(1);
+        Future<?> timer = pi4j.scheduleTask(ticked::countDown, 1, TimeUnit.MILLISECONDS);
+        assertTrue(ticked.await(5, TimeUnit.SECONDS));
+        timer.cancel(false);
+        assertEquals(1, statistics("Pi4J.SCHEDULER").getMaxThreads());
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        // falls back to bounded pools before JDK 21
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms()
+            .executorModel(ExecutorModel.VIRTUAL).build();
+
+        AtomicInteger ran = new AtomicInteger();
+        for (int i = 0; i < 32; i++)
+            pi4j.submitTask(ran::incrementAndGet).get(5, TimeUnit.SECONDS);
+        assertEquals(32, ran.get());
+        assertNotNull(statistics("Pi4J.RUNTIME"));
+    }
+
+    @Test
+    public void testCachedDefault() {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms().build();
+        assertEquals(Integer.MAX_VALUE, statistics("Pi4J.RUNTIME").getMaxThreads());
+        assertEquals(0.0, statistics("Pi4J.RUNTIME").getUtilization());
+    }
+
+    private ExecutorPool.Statistics statistics(String pool) {
+        for (ExecutorPool.Statistics statistics : pi4j.executorStatistics()) {
+            if (statistics.getName().equals(pool))
+                return statistics;
+        }
+        return fail("no statistics for pool " + pool);
+    }
+}
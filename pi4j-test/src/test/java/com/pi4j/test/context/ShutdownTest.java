@@ -0,0 +1,146 @@
+package com.pi4j.test.context;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  ShutdownTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.context.ShutdownReport;
+import com.pi4j.context.ShutdownReport.Outcome;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalInputProvider;
+import com.pi4j.plugin.mock.Mock;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_METHOD)
+public class ShutdownTest {
+
+    private Context pi4j;
+
+    @AfterEach
+    public void afterEach() {
+        if (pi4j != null && !pi4j.isShutdown())
+            pi4j.shutdown();
+    }
+
+    @Test
+    public void testShutdownReport() {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms().build();
+        pi4j.din().create(3, "in-3");
+
+        ShutdownReport report = pi4j.shutdownReport();
+        assertFalse(report.isComplete());
+        pi4j.shutdown();
+
+        assertTrue(report.isComplete());
+        assertTrue(report.duration() > 0);
+        for (String phase : new String[]{"registry", "platforms", "providers", "plugins", "executors", "io:in-3",
+            "provider:" + Mock.DIGITAL_INPUT_PROVIDER_ID}) {
+            assertNotNull(report.phase(phase), phase);
+            assertEquals(Outcome.COMPLETED, report.phase(phase).outcome(), phase);
+        }
+        assertFalse(pi4j.registry().exists("in-3"));
+        assertTrue(pi4j.providers().all().isEmpty());
+    }
+
+    @Test
+    public void testParallelShutdown() {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms()
+            .parallelShutdown().build();
+        for (int i = 0; i < 8; i++)
+            pi4j.registry().add(slowInput(i, 500));
+
+        long start = System.nanoTime();
+        pi4j.shutdown();
+        long took = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // one after the other the inputs would take 4s to shut down
+        assertTrue(took < 2500, "shutdown took " + took + "ms");
+        assertEquals(Outcome.COMPLETED, pi4j.shutdownReport().phase("registry").outcome());
+        assertTrue(pi4j.registry().all().isEmpty());
+    }
+
+    @Test
+    public void testIoShutdownTimeout() {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms()
+            .ioShutdownTimeout(200, TimeUnit.MILLISECONDS).build();
+        pi4j.registry().add(slowInput(1, 10000));
+        pi4j.din().create(2, "in-2");
+
+        long start = System.nanoTime();
+        pi4j.shutdown();
+        long took = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        ShutdownReport report = pi4j.shutdownReport();
+        assertTrue(took < 5000, "shutdown took " + took + "ms");
+        assertEquals(Outcome.TIMED_OUT, report.phase("io:slow-1").outcome());
+        assertEquals(Outcome.COMPLETED, report.phase("io:in-2").outcome());
+        assertEquals(Outcome.TIMED_OUT, report.phase("registry").outcome());
+        assertEquals(Outcome.COMPLETED, report.phase("providers").outcome());
+    }
+
+    @Test
+    public void testShutdownBudget() {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms()
+            .shutdownTimeout(300, TimeUnit.MILLISECONDS).build();
+        for (int i = 0; i < 3; i++)
+            pi4j.registry().add(slowInput(i, 10000));
+
+        long start = System.nanoTime();
+        pi4j.shutdown();
+        long took = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // the first input exhausts the budget, everything after it is skipped
+        ShutdownReport report = pi4j.shutdownReport();
+        assertTrue(took < 5000, "shutdown took " + took + "ms");
+        assertEquals(1, report.phases(Outcome.TIMED_OUT).stream().filter(p -> p.name().startsWith("io:")).count());
+        assertEquals(2, report.phases(Outcome.SKIPPED).stream().filter(p -> p.name().startsWith("io:")).count());
+        assertEquals(Outcome.SKIPPED, report.phase("provider:" + Mock.DIGITAL_INPUT_PROVIDER_ID).outcome());
+    }
+
+    private DigitalInput slowInput(int address, long shutdownMillis) {
+        DigitalInputProvider provider = pi4j.provider(Mock.DIGITAL_INPUT_PROVIDER_ID);
+        return new MockDigitalInput(provider, DigitalInput.newConfigBuilder(pi4j).address(address).id("slow-" + address).build()) {
+            @Override
+            public DigitalInput shutdown(Context context) throws ShutdownException {
+                try {
+                    Thread.sleep(shutdownMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.shutdown(context);
+            }
+        };
+    }
+}
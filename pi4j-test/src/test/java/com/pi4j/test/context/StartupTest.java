@@ -0,0 +1,102 @@
+package com.pi4j.test.context;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  StartupTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.context.StartupReport;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.plugin.mock.Mock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_METHOD)
+public class StartupTest {
+
+    private Context pi4j;
+
+    @AfterEach
+    public void afterEach() {
+        if (pi4j != null)
+            pi4j.shutdown();
+    }
+
+    @Test
+    public void testStartupReport() {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms().build();
+
+        StartupReport report = pi4j.startupReport();
+        assertTrue(report.isComplete());
+        assertTrue(report.duration() > 0);
+        for (String phase : new String[]{"board", "plugins", "registry", "providers", "platforms", "inject",
+            "provider:" + Mock.DIGITAL_INPUT_PROVIDER_ID, "platform:" + Mock.PLATFORM_ID}) {
+            assertNotNull(report.phase(phase), phase);
+            assertFalse(report.phase(phase).deferred(), phase);
+        }
+    }
+
+    @Test
+    public void testParallelInitialization() {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms()
+            .parallelInitialization().build();
+
+        assertTrue(pi4j.providers().exists(Mock.DIGITAL_INPUT_PROVIDER_ID));
+        assertTrue(pi4j.providers().exists(Mock.DIGITAL_OUTPUT_PROVIDER_ID));
+        assertNotNull(pi4j.startupReport().phase("provider:" + Mock.DIGITAL_OUTPUT_PROVIDER_ID));
+
+        DigitalInput input = pi4j.din().create(3);
+        assertNotNull(input);
+    }
+
+    @Test
+    public void testLazyProviders() {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms()
+            .parallelInitialization().lazyProviders().build();
+
+        // providers are registered, but not initialized
+        StartupReport report = pi4j.startupReport();
+        assertTrue(pi4j.providers().exists(Mock.DIGITAL_INPUT_PROVIDER_ID));
+        assertNull(report.phase("provider:" + Mock.DIGITAL_INPUT_PROVIDER_ID));
+
+        // first use initializes only the requested provider
+        DigitalInput input = pi4j.din().create(3);
+        assertNotNull(input);
+        assertEquals(pi4j, pi4j.provider(Mock.DIGITAL_INPUT_PROVIDER_ID).context());
+
+        StartupReport.Phase phase = report.phase("provider:" + Mock.DIGITAL_INPUT_PROVIDER_ID);
+        assertNotNull(phase);
+        assertTrue(phase.deferred());
+        assertNull(report.phase("provider:" + Mock.DIGITAL_OUTPUT_PROVIDER_ID));
+
+        // listing all providers does not initialize the deferred ones
+        assertTrue(pi4j.providers().all().containsKey(Mock.DIGITAL_OUTPUT_PROVIDER_ID));
+        assertNull(report.phase("provider:" + Mock.DIGITAL_OUTPUT_PROVIDER_ID));
+    }
+}
@@ -0,0 +1,231 @@
+package com.pi4j.test.io.binding;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  BindingOptionsTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.binding.AnalogOutputBinding;
+import com.pi4j.io.binding.BindingOptions;
+import com.pi4j.io.binding.DigitalOutputBinding;
+import com.pi4j.io.gpio.analog.AnalogInput;
+import com.pi4j.io.gpio.analog.AnalogOutput;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.mock.provider.gpio.analog.MockAnalogInput;
+import com.pi4j.plugin.mock.provider.gpio.analog.MockAnalogInputProvider;
+import com.pi4j.plugin.mock.provider.gpio.analog.MockAnalogOutputProvider;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalOutputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class BindingOptionsTest {
+
+    private Context pi4j;
+    private MockDigitalOutputProvider outputProvider;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK providers
+        outputProvider = MockDigitalOutputProvider.newInstance();
+        pi4j = Pi4J.newContextBuilder()
+            .add(MockDigitalInputProvider.newInstance(), outputProvider,
+                MockAnalogInputProvider.newInstance(), MockAnalogOutputProvider.newInstance())
+            .build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    private MockDigitalInput input(int address) {
+        return (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("binding-input-" + address)
+            .address(address)
+            .build());
+    }
+
+    private DigitalOutput output(int address) {
+        return pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j)
+            .id("binding-output-" + address)
+            .address(address)
+            .build());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void testInline() {
+        MockDigitalInput input = input(1);
+        DigitalOutput output = output(2);
+        DigitalOutputBinding binding = DigitalOutputBinding.newInstance(output);
+        assertSame(BindingOptions.inline(), binding.options());
+        input.bind(binding);
+
+        input.mockState(DigitalState.HIGH);
+        assertEquals(DigitalState.HIGH, output.state());
+        assertThrows(IllegalStateException.class, () -> BindingOptions.inline().maxRate(10));
+    }
+
+    @Test
+    public void testCoalescing() throws InterruptedException {
+        MockDigitalInput input = input(3);
+        DigitalOutput output = output(4);
+        AtomicInteger writes = new AtomicInteger();
+        AtomicReference<String> thread = new AtomicReference<>();
+        output.addListener(event -> {
+            writes.incrementAndGet();
+            thread.set(Thread.currentThread().getName());
+        });
+        input.bind(DigitalOutputBinding.newInstance(output)
+            .options(BindingOptions.coalescing().maxRate(20)));
+
+        // a chattering input is not blocked by the rate limit
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            input.mockState(i % 2 == 0 ? DigitalState.HIGH : DigitalState.LOW);
+        }
+        input.mockState(DigitalState.HIGH);
+        assertTrue(System.nanoTime() - start < 1_000_000_000L);
+
+        // the latest state is propagated, intermediate ones are coalesced
+        await(() -> output.state() == DigitalState.HIGH && writes.get() > 0);
+        Thread.sleep(100);
+        assertEquals(DigitalState.HIGH, output.state());
+        assertTrue(writes.get() <= 4, "writes: " + writes.get());
+
+        // propagated on the task pool of the context, which is stopped with the context
+        assertTrue(thread.get().startsWith("Pi4J.RUNTIME"), thread.get());
+    }
+
+    @Test
+    public void testRateLimitDoesNotBlock() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            MockDigitalInput input = input(10);
+            DigitalOutput output = output(11);
+            input.bind(DigitalOutputBinding.newInstance(output)
+                .options(BindingOptions.coalescing(executor).maxRate(2)));
+
+            input.mockState(DigitalState.HIGH);
+            await(() -> output.state() == DigitalState.HIGH);
+            input.mockState(DigitalState.LOW);
+
+            // the next write waits for its slot on the scheduler, not on the propagation thread
+            long start = System.nanoTime();
+            executor.submit(() -> { }).get();
+            assertTrue(System.nanoTime() - start < 250_000_000L);
+            assertEquals(DigitalState.HIGH, output.state());
+
+            await(() -> output.state() == DigitalState.LOW);
+            assertEquals(DigitalState.LOW, output.state());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBatched() {
+        MockDigitalInput input = input(5);
+        DigitalOutput first = output(6);
+        DigitalOutput second = output(7);
+        DigitalOutput third = output(40);
+        DigitalOutputBinding binding = DigitalOutputBinding.newInstance(first, second, third)
+            .options(BindingOptions.inline().batched(true));
+        input.bind(binding);
+
+        // one bank write for each of the banks 0 and 1
+        long writes = outputProvider.bankWrites();
+        input.mockState(DigitalState.HIGH);
+        assertEquals(writes + 2, outputProvider.bankWrites());
+        assertEquals(DigitalState.HIGH, first.state());
+        assertEquals(DigitalState.HIGH, second.state());
+        assertEquals(DigitalState.HIGH, third.state());
+
+        // removed members are no longer written
+        binding.remove(third);
+        input.mockState(DigitalState.LOW);
+        assertEquals(writes + 3, outputProvider.bankWrites());
+        assertEquals(DigitalState.LOW, first.state());
+        assertEquals(DigitalState.HIGH, third.state());
+
+        // outputs that have been shut down are no longer written
+        AtomicInteger changes = new AtomicInteger();
+        second.addListener(event -> changes.incrementAndGet());
+        pi4j.shutdown(second.id());
+        input.mockState(DigitalState.HIGH);
+        assertEquals(writes + 4, outputProvider.bankWrites());
+        assertEquals(DigitalState.HIGH, first.state());
+        assertEquals(0, changes.get());
+    }
+
+    @Test
+    public void testAnalogExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            MockAnalogInput input = (MockAnalogInput) pi4j.ain().create(AnalogInput.newConfigBuilder(pi4j)
+                .id("binding-analog-input")
+                .address(8)
+                .build());
+            AnalogOutput output = pi4j.aout().create(AnalogOutput.newConfigBuilder(pi4j)
+                .id("binding-analog-output")
+                .address(9)
+                .build());
+            input.bind(AnalogOutputBinding.newInstance(output).options(BindingOptions.coalescing(executor)));
+
+            for (int value = 1; value <= 1000; value++) {
+                input.mockValue(value);
+            }
+            await(() -> output.intValue() == 1000);
+            assertEquals(1000, output.intValue());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
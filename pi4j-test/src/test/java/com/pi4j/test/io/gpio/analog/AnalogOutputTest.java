@@ -0,0 +1,133 @@
+package com.pi4j.test.io.gpio.analog;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  AnalogOutputTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.binding.AnalogOutputBinding;
+import com.pi4j.io.exception.IOBoundsException;
+import com.pi4j.io.exception.IOIllegalValueException;
+import com.pi4j.io.gpio.analog.AnalogInput;
+import com.pi4j.io.gpio.analog.AnalogOutput;
+import com.pi4j.io.gpio.analog.AnalogValueChangeEvent;
+import com.pi4j.plugin.mock.provider.gpio.analog.MockAnalogInput;
+import com.pi4j.plugin.mock.provider.gpio.analog.MockAnalogInputProvider;
+import com.pi4j.plugin.mock.provider.gpio.analog.MockAnalogOutputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class AnalogOutputTest {
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK analog providers
+        pi4j = Pi4J.newContextBuilder()
+            .add(MockAnalogInputProvider.newInstance(), MockAnalogOutputProvider.newInstance())
+            .build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    private AnalogOutput create(int address) {
+        return pi4j.aout().create(AnalogOutput.newConfigBuilder(pi4j)
+            .id("analog-output-" + address)
+            .address(address)
+            .min(-100)
+            .max(1000)
+            .step(50)
+            .build());
+    }
+
+    @Test
+    public void testPrimitiveValues() {
+        AnalogOutput output = create(1);
+        List<AnalogValueChangeEvent> events = new ArrayList<>();
+        output.addListener(events::add);
+
+        output.value(500);
+        assertEquals(500, output.intValue());
+        assertEquals(500.0, output.doubleValue());
+        assertTrue(output.equals(500));
+
+        // doubles are rounded to the nearest value
+        output.value(499.6);
+        assertEquals(500, output.intValue());
+        assertEquals(1, events.size());
+        output.value(-12.5);
+        assertEquals(-12, output.intValue());
+        assertThrows(IOIllegalValueException.class, () -> output.value(Double.NaN));
+
+        assertEquals(2, events.size());
+        assertEquals(500, events.get(1).oldIntValue());
+        assertEquals(-12, events.get(1).intValue());
+        assertEquals(Integer.valueOf(-12), events.get(1).value());
+
+        // steps are limited to the range, values outside it are rejected
+        output.value(980).stepUp();
+        assertEquals(1000, output.intValue());
+        output.step(-2000);
+        assertEquals(-100, output.intValue());
+        assertThrows(IOBoundsException.class, () -> output.value(1001));
+        assertThrows(IOBoundsException.class, () -> output.value(1e12));
+        assertEquals(-100, output.intValue());
+    }
+
+    @Test
+    public void testBinding() {
+        MockAnalogInput input = (MockAnalogInput) pi4j.ain().create(AnalogInput.newConfigBuilder(pi4j)
+            .id("analog-input")
+            .address(2)
+            .build());
+        AnalogOutput output = create(3);
+        input.bind(AnalogOutputBinding.newInstance(output));
+
+        input.mockValue(42);
+        assertEquals(42, input.intValue());
+        assertEquals(42, output.intValue());
+
+        // changes are still applied without listeners or bindings
+        AnalogOutput unbound = create(4);
+        unbound.value(7);
+        assertEquals(7, unbound.intValue());
+    }
+}
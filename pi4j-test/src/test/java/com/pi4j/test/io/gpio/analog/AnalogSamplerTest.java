@@ -0,0 +1,208 @@
+package com.pi4j.test.io.gpio.analog;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  AnalogSamplerTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.analog.AnalogInput;
+import com.pi4j.io.gpio.analog.AnalogSampleWindow;
+import com.pi4j.io.gpio.analog.AnalogSampler;
+import com.pi4j.io.gpio.analog.AnalogSamplerChannel;
+import com.pi4j.io.gpio.analog.AnalogValueChangeEvent;
+import com.pi4j.plugin.mock.provider.gpio.analog.MockAnalogInput;
+import com.pi4j.plugin.mock.provider.gpio.analog.MockAnalogInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class AnalogSamplerTest {
+
+    private Context pi4j;
+    private AnalogSampler sampler;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK analog input provider
+        pi4j = Pi4J.newContextBuilder().add(MockAnalogInputProvider.newInstance()).build();
+        sampler = AnalogSampler.newInstance(pi4j);
+    }
+
+    @AfterEach
+    public void afterTest() {
+        sampler.close();
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    private MockAnalogInput create(int address) {
+        return (MockAnalogInput) pi4j.ain().create(AnalogInput.newConfigBuilder(pi4j)
+            .id("sampled-input-" + address)
+            .address(address)
+            .build());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void testBuffer() throws InterruptedException {
+        MockAnalogInput input = create(1);
+        input.mockValue(100);
+        AnalogSamplerChannel channel = sampler.add(input, 1, TimeUnit.MILLISECONDS, 8, 0);
+        assertSame(channel, sampler.channel(input));
+
+        await(() -> channel.count() >= 3);
+        AnalogSampleWindow window = channel.window(3);
+        assertEquals(3, window.count());
+        assertEquals(100, window.min());
+        assertEquals(100, window.max());
+        assertEquals(100.0, window.mean(), 1e-9);
+        assertEquals(100.0, window.rms(), 1e-9);
+
+        input.mockValue(-50);
+        long count = channel.count();
+        await(() -> channel.count() >= count + 10);
+        sampler.remove(input);
+        assertNull(sampler.channel(input));
+
+        // the buffer keeps the most recent readings only
+        long total = channel.count();
+        assertEquals(8, channel.size());
+        Thread.sleep(5);
+        assertEquals(total, channel.count());
+        assertEquals(-50, channel.latest());
+
+        int[] values = new int[10];
+        long[] timestamps = new long[10];
+        assertEquals(8, channel.copy(values, timestamps));
+        long sum = 0;
+        double squares = 0;
+        for (int i = 0; i < 8; i++) {
+            if (i > 0) assertTrue(timestamps[i] >= timestamps[i - 1]);
+            sum += values[i];
+            squares += (double) values[i] * values[i];
+        }
+        assertEquals(channel.latestTimestamp(), timestamps[7]);
+
+        window = channel.window(100);
+        assertEquals(8, window.count());
+        assertEquals(-50, window.min());
+        assertEquals(sum / 8.0, window.mean(), 1e-9);
+        assertEquals(Math.sqrt(squares / 8), window.rms(), 1e-9);
+        assertEquals(timestamps[0], window.windowStart());
+        assertEquals(timestamps[7], window.windowEnd());
+
+        // a window older than the readings is empty
+        Thread.sleep(20);
+        window = channel.window(10, TimeUnit.MILLISECONDS);
+        assertEquals(0, window.count());
+        assertTrue(Double.isNaN(window.mean()));
+    }
+
+    @Test
+    public void testDeadband() throws InterruptedException {
+        MockAnalogInput input = create(2);
+        MockAnalogInput other = create(3);
+        input.mockValue(100);
+        List<AnalogValueChangeEvent> events = new CopyOnWriteArrayList<>();
+        sampler.addListener(events::add);
+        AnalogSamplerChannel channel = sampler.add(input, 1, TimeUnit.MILLISECONDS, 16, 10);
+        sampler.add(other, 2, TimeUnit.MILLISECONDS, 16, 0);
+        assertEquals(2, sampler.channels().size());
+
+        // changes within the deadband around the last reported value are not reported
+        long count = channel.count();
+        await(() -> channel.count() > count);
+        input.mockValue(110);
+        long settled = channel.count();
+        await(() -> channel.count() > settled + 2);
+        assertTrue(events.isEmpty());
+
+        input.mockValue(111);
+        await(() -> events.size() >= 1);
+        assertEquals(1, events.size());
+        assertSame(input, events.get(0).source());
+        assertEquals(100, events.get(0).oldValue());
+        assertEquals(111, events.get(0).value());
+
+        other.mockValue(1);
+        await(() -> events.size() >= 2);
+        assertSame(other, events.get(1).source());
+    }
+
+    @Test
+    public void testListenerChangesChannels() throws InterruptedException {
+        MockAnalogInput input = create(4);
+        MockAnalogInput other = create(5);
+        input.mockValue(0);
+        AnalogSamplerChannel channel = sampler.add(input, 1, TimeUnit.MILLISECONDS, 4, 0);
+        await(() -> channel.count() > 0);
+
+        // another thread keeps changing the channels sampled at the same interval
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread churn = new Thread(() -> {
+            while (running.get()) {
+                sampler.add(other, 1, TimeUnit.MILLISECONDS, 4, 0);
+                sampler.remove(other);
+            }
+        });
+        churn.setDaemon(true);
+        churn.start();
+
+        // a listener removing its channel must not deadlock with that thread
+        sampler.addListener(event -> {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sampler.remove((AnalogInput) event.source());
+        });
+        input.mockValue(1);
+        await(() -> sampler.channel(input) == null);
+        running.set(false);
+        churn.join(5000);
+        assertNull(sampler.channel(input));
+        assertFalse(churn.isAlive());
+    }
+}
@@ -0,0 +1,161 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalInputFilterTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.DigitalInputFilter;
+import com.pi4j.io.gpio.digital.DigitalState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.pi4j.io.gpio.digital.DigitalState.HIGH;
+import static com.pi4j.io.gpio.digital.DigitalState.LOW;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DigitalInputFilterTest {
+
+    private static final long MS = 1_000_000L;
+
+    private final List<DigitalState> states = new ArrayList<>();
+    private final List<Long> timestamps = new ArrayList<>();
+
+    @BeforeEach
+    public void beforeTest() {
+        states.clear();
+        timestamps.clear();
+    }
+
+    private DigitalInputFilter filter(long riseNanos, long fallNanos) {
+        DigitalInputFilter filter = new DigitalInputFilter(riseNanos, fallNanos, (state, timestamp) -> {
+            states.add(state);
+            timestamps.add(timestamp);
+        });
+        filter.reset(LOW);
+        return filter;
+    }
+
+    @Test
+    public void testDebounceSuppressesBounces() {
+        DigitalInputFilter filter = filter(10 * MS, 10 * MS);
+
+        // contact bounce while closing
+        filter.edge(HIGH, 0);
+        filter.edge(LOW, MS);
+        filter.edge(HIGH, 2 * MS);
+        filter.edge(LOW, 3 * MS);
+        filter.edge(HIGH, 4 * MS);
+        assertTrue(states.isEmpty());
+        assertEquals(14 * MS, filter.deadline());
+
+        // not yet stable
+        assertFalse(filter.expire(13 * MS));
+        assertTrue(states.isEmpty());
+
+        // stable; reported with the timestamp of the edge that started the stable period
+        assertTrue(filter.expire(14 * MS));
+        assertEquals(List.of(HIGH), states);
+        assertEquals(List.of(4 * MS), timestamps);
+        assertEquals(Long.MAX_VALUE, filter.deadline());
+    }
+
+    @Test
+    public void testPendingChangeConfirmedByNextEdge() {
+        DigitalInputFilter filter = filter(MS, MS);
+
+        filter.edge(HIGH, 0);
+        filter.edge(LOW, 5 * MS);
+
+        // the HIGH phase was stable before the falling edge, which is now pending itself
+        assertEquals(List.of(HIGH), states);
+        assertTrue(filter.isPending());
+        assertEquals(HIGH, filter.state());
+    }
+
+    @Test
+    public void testMinimumPulseWidth() {
+        // rising edges need 5ms, falling edges are accepted immediately
+        DigitalInputFilter filter = filter(5 * MS, 0);
+
+        // short pulse is rejected
+        filter.edge(HIGH, 0);
+        filter.edge(LOW, 2 * MS);
+        assertTrue(states.isEmpty());
+        assertFalse(filter.isPending());
+
+        // long pulse is accepted and its end is reported without delay
+        filter.edge(HIGH, 10 * MS);
+        filter.edge(LOW, 20 * MS);
+        assertEquals(List.of(HIGH, LOW), states);
+        assertEquals(List.of(10 * MS, 20 * MS), timestamps);
+    }
+
+    @Test
+    public void testUnfilteredEdgesPassThrough() {
+        DigitalInputFilter filter = filter(0, 0);
+
+        filter.edge(HIGH, 1);
+        filter.edge(HIGH, 2);
+        filter.edge(LOW, 3);
+        assertEquals(List.of(HIGH, LOW), states);
+    }
+
+    @Test
+    public void testConcurrentDelivery() throws InterruptedException {
+        AtomicInteger delivering = new AtomicInteger();
+        AtomicReference<String> error = new AtomicReference<>();
+        List<DigitalState> delivered = new ArrayList<>();
+        DigitalInputFilter filter = new DigitalInputFilter(1, 1, (state, timestamp) -> {
+            if (delivering.incrementAndGet() != 1)
+                error.compareAndSet(null, "concurrent delivery");
+            if (!delivered.isEmpty() && delivered.get(delivered.size() - 1) == state)
+                error.compareAndSet(null, "out of order delivery of " + state);
+            delivered.add(state);
+            Thread.yield();
+            delivering.decrementAndGet();
+        });
+        filter.reset(LOW);
+
+        // the event thread feeds edges while a timer confirms pending changes
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread timer = new Thread(() -> {
+            while (running.get())
+                filter.expire(Long.MAX_VALUE);
+        });
+        timer.start();
+        for (int i = 1; i <= 100_000; i++)
+            filter.edge(i % 2 == 1 ? HIGH : LOW, i * 10L);
+        running.set(false);
+        timer.join();
+
+        assertNull(error.get(), error.get());
+        assertFalse(delivered.isEmpty());
+    }
+}
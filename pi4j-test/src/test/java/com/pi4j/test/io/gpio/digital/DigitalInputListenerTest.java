@@ -0,0 +1,244 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalInputListenerTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.event.DispatchMode;
+import com.pi4j.event.ListenerOptions;
+import com.pi4j.event.ListenerStatistics;
+import com.pi4j.event.OverflowPolicy;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.DigitalStateChangeEvent;
+import com.pi4j.io.gpio.digital.DigitalStateChangeListener;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class DigitalInputListenerTest {
+
+    private Context pi4j;
+    private MockDigitalInput input;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK digital input provider
+        pi4j = Pi4J.newContextBuilder().add(MockDigitalInputProvider.newInstance()).build();
+        input = (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("test-input")
+            .address(1)
+            .build());
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    private void toggle(int count) {
+        for (int i = 0; i < count; i++) {
+            input.mockState(input.isHigh() ? DigitalState.LOW : DigitalState.HIGH);
+        }
+    }
+
+    private static void awaitDelivered(ListenerStatistics statistics, long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (statistics.delivered() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void testInlineListener() {
+        List<DigitalState> states = new CopyOnWriteArrayList<>();
+        DigitalStateChangeListener listener = event -> states.add(event.state());
+        input.addListener(listener);
+
+        toggle(4);
+
+        // inline listeners are invoked before 'mockState' returns
+        assertEquals(List.of(DigitalState.HIGH, DigitalState.LOW, DigitalState.HIGH, DigitalState.LOW), states);
+        ListenerStatistics statistics = input.listenerStatistics().get(0);
+        assertEquals(DispatchMode.INLINE, statistics.options().mode());
+        assertEquals(4, statistics.delivered());
+        assertEquals(0, statistics.dropped());
+    }
+
+    @Test
+    public void testOrderedListener() throws InterruptedException {
+        List<DigitalState> states = new CopyOnWriteArrayList<>();
+        input.addListener(ListenerOptions.ordered(), event -> states.add(event.state()));
+
+        toggle(100);
+
+        ListenerStatistics statistics = input.listenerStatistics().get(0);
+        awaitDelivered(statistics, 100);
+        assertEquals(100, states.size());
+        for (int i = 0; i < states.size(); i++) {
+            assertEquals(i % 2 == 0 ? DigitalState.HIGH : DigitalState.LOW, states.get(i));
+        }
+        assertEquals(100, statistics.delivered());
+    }
+
+    @Test
+    public void testOrderedListenerOnSharedExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<DigitalState> states = new CopyOnWriteArrayList<>();
+            AtomicInteger delivering = new AtomicInteger();
+            AtomicInteger overlaps = new AtomicInteger();
+            input.addListener(ListenerOptions.ordered(executor), event -> {
+                if (delivering.incrementAndGet() > 1)
+                    overlaps.incrementAndGet();
+                states.add(event.state());
+                delivering.decrementAndGet();
+            });
+
+            toggle(1000);
+
+            // delivered one at a time and in order, although the executor has several threads
+            ListenerStatistics statistics = input.listenerStatistics().get(0);
+            awaitDelivered(statistics, 1000);
+            assertEquals(1000, states.size());
+            for (int i = 0; i < states.size(); i++) {
+                assertEquals(i % 2 == 0 ? DigitalState.HIGH : DigitalState.LOW, states.get(i));
+            }
+            assertEquals(0, overlaps.get());
+            assertEquals(0, statistics.pending());
+
+            // events for an executor that has been shut down are dropped
+            executor.shutdownNow();
+            toggle(3);
+            assertEquals(3, statistics.dropped());
+            assertEquals(0, statistics.pending());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBufferedListenerDropsOnOverflow() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        input.addListener(ListenerOptions.buffered(4, OverflowPolicy.DROP_NEWEST), event -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // the first event occupies the listener thread, the next four fill the buffer
+        toggle(1);
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        toggle(10);
+
+        ListenerStatistics statistics = input.listenerStatistics().get(0);
+        assertEquals(6, statistics.dropped());
+        assertEquals(4, statistics.pending());
+
+        release.countDown();
+        awaitDelivered(statistics, 5);
+        assertEquals(5, statistics.delivered());
+        assertEquals(0, statistics.pending());
+    }
+
+    @Test
+    public void testRemoveListener() {
+        List<DigitalState> states = new CopyOnWriteArrayList<>();
+        DigitalStateChangeListener listener = event -> states.add(event.state());
+        input.addListener(listener);
+        toggle(1);
+        input.removeListener(listener);
+        toggle(1);
+
+        assertEquals(1, states.size());
+        assertTrue(input.listenerStatistics().isEmpty());
+    }
+
+    @Test
+    public void testEventTimestampAndSequence() {
+        List<DigitalStateChangeEvent> events = new CopyOnWriteArrayList<>();
+        input.addListener(events::add);
+
+        long start = System.nanoTime();
+        toggle(3);
+
+        assertEquals(3, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(i + 1, events.get(i).sequence());
+            assertTrue(events.get(i).timestamp() >= start);
+            if (i > 0)
+                assertTrue(events.get(i).timestamp() >= events.get(i - 1).timestamp());
+        }
+    }
+
+    @Test
+    public void testPooledEvents() {
+        MockDigitalInput pooled = (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("pooled-input")
+            .address(2)
+            .eventPooling(true)
+            .build());
+
+        List<DigitalStateChangeEvent> events = new CopyOnWriteArrayList<>();
+        List<DigitalStateChangeEvent> copies = new CopyOnWriteArrayList<>();
+        pooled.addListener(event -> {
+            events.add(event);
+            copies.add(event.copy());
+        });
+
+        pooled.mockState(DigitalState.HIGH);
+        pooled.mockState(DigitalState.LOW);
+
+        // the same instance is reused for every inline dispatch
+        assertSame(events.get(0), events.get(1));
+        assertEquals(DigitalState.HIGH, copies.get(0).state());
+        assertEquals(1, copies.get(0).sequence());
+        assertEquals(DigitalState.LOW, copies.get(1).state());
+        assertEquals(2, copies.get(1).sequence());
+    }
+}
@@ -0,0 +1,154 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalInputPollingTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.config.exception.ConfigInvalidValueException;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalBankReader;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class DigitalInputPollingTest {
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK digital input provider
+        pi4j = Pi4J.newContextBuilder().add(MockDigitalInputProvider.newInstance()).build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    private MockDigitalInput create(int address, int threshold, int samples) {
+        return (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("polled-input-" + address)
+            .address(address)
+            .poll(1L, TimeUnit.MILLISECONDS)
+            .pollFilter(threshold, samples)
+            .oversample(3)
+            .build());
+    }
+
+    private static void await(List<?> list, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (list.size() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void testPolledStateChanges() throws InterruptedException {
+        MockDigitalInput input = create(1, 2, 3);
+        MockDigitalInput other = create(33, 2, 3);
+        List<DigitalState> states = new CopyOnWriteArrayList<>();
+        List<DigitalState> otherStates = new CopyOnWriteArrayList<>();
+        input.addListener(event -> states.add(event.state()));
+        other.addListener(event -> otherStates.add(event.state()));
+
+        // provider events are not dispatched directly for polled inputs
+        input.mockState(DigitalState.HIGH);
+        assertTrue(states.isEmpty());
+
+        await(states, 1);
+        assertEquals(List.of(DigitalState.HIGH), states);
+
+        input.mockState(DigitalState.LOW);
+        await(states, 2);
+        assertEquals(List.of(DigitalState.HIGH, DigitalState.LOW), states);
+
+        // inputs in other banks are sampled independently
+        assertTrue(otherStates.isEmpty());
+        other.mockState(DigitalState.HIGH);
+        await(otherStates, 1);
+        assertEquals(List.of(DigitalState.HIGH), otherStates);
+        assertEquals(2, states.size());
+    }
+
+    @Test
+    public void testPolledGlitchIsFiltered() throws InterruptedException {
+        MockDigitalInput input = create(2, 50, 50);
+        List<DigitalState> states = new CopyOnWriteArrayList<>();
+        input.addListener(event -> states.add(event.state()));
+
+        // let the sampler pick up the initial state, then pulse for far less than 50 samples
+        Thread.sleep(20);
+        input.mockState(DigitalState.HIGH);
+        Thread.sleep(5);
+        input.mockState(DigitalState.LOW);
+        Thread.sleep(100);
+        assertTrue(states.isEmpty());
+
+        input.mockState(DigitalState.HIGH);
+        await(states, 1);
+        assertEquals(List.of(DigitalState.HIGH), states);
+    }
+
+    @Test
+    public void testBankReadAfterShutdown() {
+        MockDigitalInput input = (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("bank-input")
+            .address(4)
+            .build());
+        DigitalBankReader reader = (DigitalBankReader) input.provider();
+        input.mockState(DigitalState.HIGH);
+        assertEquals(1 << 4, reader.readBank(0));
+
+        // inputs that have been shut down are no longer read
+        pi4j.shutdown(input.id());
+        assertEquals(0, reader.readBank(0));
+    }
+
+    @Test
+    public void testInvalidPollFilter() {
+        assertThrows(ConfigInvalidValueException.class, () -> DigitalInput.newConfigBuilder(pi4j)
+            .address(3)
+            .poll(1L, TimeUnit.MILLISECONDS)
+            .pollFilter(4, 3)
+            .build());
+    }
+}
@@ -0,0 +1,278 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  MemoryMappedGpioTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.binding.BindingOptions;
+import com.pi4j.io.binding.DigitalOutputBinding;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.bitbang.BitBangPin;
+import com.pi4j.io.bitbang.BitBangProvider;
+import com.pi4j.io.gpio.digital.DigitalBankWriter;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.PullResistance;
+import com.pi4j.plugin.linuxfs.provider.gpio.mmap.MemoryMappedBitBangPin;
+import com.pi4j.plugin.linuxfs.provider.gpio.mmap.MemoryMappedDigitalOutputProvider;
+import com.pi4j.plugin.linuxfs.provider.gpio.mmap.MemoryMappedGpio;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the memory mapped GPIO registers against a file-backed fake register map; writes to the set
+ * and clear registers are not applied to the level registers, so the tests check the raw writes.
+ */
+public class MemoryMappedGpioTest {
+
+    // BCM2835 registers
+    private static final int GPFSEL1 = 0x04;
+    private static final int GPSET0 = 0x1C;
+    private static final int GPSET1 = 0x20;
+    private static final int GPCLR0 = 0x28;
+    private static final int GPLEV0 = 0x34;
+    private static final int GPPUD = 0x94;
+    private static final int GPIO_PUP_PDN_CNTRL_REG1 = 0xE8;
+    private static final int GPIO_PUP_PDN_CNTRL_REG3 = 0xF0;
+
+    // RP1 registers
+    private static final int RP1_SIZE = 0x30000;
+    private static final int RIO_OUT_SET = 0x12000;
+    private static final int RIO_OUT_CLR = 0x13000;
+    private static final int RIO_OE_SET = 0x12004;
+    private static final int RIO_OE_CLR = 0x13004;
+    private static final int RIO_NOSYNC_IN = 0x10008;
+    private static final int RIO_SYNC_IN = 0x1000C;
+
+    private Path file;
+    private MappedByteBuffer registers;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        file = Files.createTempFile("gpiomem", ".bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            registers = channel.map(FileChannel.MapMode.READ_WRITE, 0, RP1_SIZE);
+            registers.order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testBcm2835Output() throws IOException {
+        try (MemoryMappedGpio gpio = MemoryMappedGpio.open(file.toString(), false)) {
+            registers.putInt(GPFSEL1, 0xFFFFFFFF);
+            gpio.output(17);
+            assertEquals(~(0b110 << 21), registers.getInt(GPFSEL1));
+            gpio.input(17);
+            assertEquals(~(0b111 << 21), registers.getInt(GPFSEL1));
+
+            gpio.high(17);
+            assertEquals(1 << 17, registers.getInt(GPSET0));
+            gpio.low(4);
+            assertEquals(1 << 4, registers.getInt(GPCLR0));
+            gpio.high(40);
+            assertEquals(1 << 8, registers.getInt(GPSET1));
+
+            gpio.set(0x00F0_000F);
+            assertEquals(0x00F0_000F, registers.getInt(GPSET0));
+            gpio.clear(0x0F00_0000);
+            assertEquals(0x0F00_0000, registers.getInt(GPCLR0));
+
+            registers.putInt(GPLEV0, 1 << 5);
+            assertTrue(gpio.state(5));
+            assertFalse(gpio.state(6));
+            assertEquals(1 << 5, gpio.levels());
+        }
+    }
+
+    @Test
+    public void testBcm2835Pull() throws IOException {
+        try (MemoryMappedGpio gpio = MemoryMappedGpio.open(file.toString(), false)) {
+            // BCM2711: two bits per pin
+            gpio.pull(17, PullResistance.PULL_UP);
+            assertEquals(0b01 << 2, registers.getInt(GPIO_PUP_PDN_CNTRL_REG1));
+            gpio.pull(17, PullResistance.PULL_DOWN);
+            assertEquals(0b10 << 2, registers.getInt(GPIO_PUP_PDN_CNTRL_REG1));
+
+            // BCM2835 to BCM2837: the code is clocked in and reset afterwards
+            registers.putInt(GPIO_PUP_PDN_CNTRL_REG3, 0x6770696F);
+            gpio.pull(4, PullResistance.PULL_UP);
+            assertEquals(0b10 << 2, registers.getInt(GPIO_PUP_PDN_CNTRL_REG1));
+            assertEquals(0, registers.getInt(GPPUD));
+        }
+    }
+
+    @Test
+    public void testRp1Output() throws IOException {
+        try (MemoryMappedGpio gpio = MemoryMappedGpio.open(file.toString(), true)) {
+            gpio.output(17);
+            assertEquals(5, registers.getInt(17 * 8 + 4) & 0x1F);
+            assertEquals(1 << 6, registers.getInt(0x20000 + 17 * 4 + 4) & (0b11 << 6));
+            assertEquals(1 << 17, registers.getInt(RIO_OE_SET));
+            gpio.input(18);
+            assertEquals(1 << 18, registers.getInt(RIO_OE_CLR));
+
+            gpio.high(17);
+            assertEquals(1 << 17, registers.getInt(RIO_OUT_SET));
+            gpio.low(17);
+            assertEquals(1 << 17, registers.getInt(RIO_OUT_CLR));
+
+            // the levels come from the synchronized input register
+            registers.putInt(RIO_NOSYNC_IN, 1 << 17);
+            registers.putInt(RIO_SYNC_IN, 1 << 18);
+            assertTrue(gpio.state(18));
+            assertFalse(gpio.state(17));
+
+            assertThrows(IllegalArgumentException.class, () -> gpio.high(28));
+        }
+    }
+
+    @Test
+    public void testDigitalOutput() {
+        Context pi4j = Pi4J.newContextBuilder()
+            .add(MemoryMappedDigitalOutputProvider.newInstance(file.toString(), false))
+            .build();
+        try {
+            var output = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j)
+                .id("mmap-output")
+                .address(22)
+                .initial(DigitalState.HIGH)
+                .build());
+
+            // the initial state is latched before the pin is switched to output
+            assertEquals(1 << 22, registers.getInt(GPSET0));
+            assertEquals(0b001 << 6, registers.getInt(0x08));
+
+            output.low();
+            assertEquals(1 << 22, registers.getInt(GPCLR0));
+        } finally {
+            pi4j.shutdown();
+        }
+    }
+
+    @Test
+    public void testBitBangPin() {
+        Context pi4j = Pi4J.newContextBuilder()
+            .add(MemoryMappedDigitalOutputProvider.newInstance(file.toString(), false))
+            .build();
+        try {
+            var output = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j)
+                .id("mmap-output")
+                .address(17)
+                .build());
+
+            BitBangPin pin = BitBangPin.of(output);
+            assertTrue(pin instanceof MemoryMappedBitBangPin);
+            assertTrue(pin.isBidirectional());
+
+            // a released pin is an input; driving it switches it back to output
+            pin.release();
+            assertEquals(0, registers.getInt(GPFSEL1) & (0b111 << 21));
+            pin.low();
+            assertEquals(1 << 17, registers.getInt(GPCLR0));
+            assertEquals(0b001 << 21, registers.getInt(GPFSEL1) & (0b111 << 21));
+
+            registers.putInt(GPLEV0, 1 << 17);
+            assertTrue(pin.read());
+        } finally {
+            pi4j.shutdown();
+        }
+    }
+
+    @Test
+    public void testUseAfterShutdown() {
+        Context pi4j = Pi4J.newContextBuilder()
+            .add(MemoryMappedDigitalOutputProvider.newInstance(file.toString(), false))
+            .build();
+        var output = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j)
+            .id("mmap-output")
+            .address(17)
+            .build());
+        BitBangPin pin = BitBangPin.of(output);
+        DigitalBankWriter writer = (DigitalBankWriter) output.provider();
+        pi4j.shutdown();
+
+        // the unmapped registers are not accessed, and not mapped again
+        assertThrows(IllegalStateException.class, pin::low);
+        assertThrows(IllegalStateException.class, pin::read);
+        registers.putInt(GPCLR0, 0);
+        writer.writeBank(0, 1 << 17, 0);
+        assertEquals(0, registers.getInt(GPCLR0));
+        assertThrows(Pi4JException.class, () -> ((BitBangProvider) writer).bitBangPin(18));
+    }
+
+    @Test
+    public void testBatchedBinding() {
+        Context pi4j = Pi4J.newContextBuilder()
+            .add(MockDigitalInputProvider.newInstance())
+            .add(MemoryMappedDigitalOutputProvider.newInstance(file.toString(), false))
+            .build();
+        try {
+            var input = (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+                .id("mock-input")
+                .address(1)
+                .build());
+            var first = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j).id("mmap-5").address(5).build());
+            var second = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j).id("mmap-6").address(6).build());
+            input.bind(DigitalOutputBinding.newInstance(first, second).options(BindingOptions.inline().batched(true)));
+
+            // both pins are set with a single register write
+            input.mockState(DigitalState.HIGH);
+            assertEquals((1 << 5) | (1 << 6), registers.getInt(GPSET0));
+            assertEquals(DigitalState.HIGH, first.state());
+            assertEquals(DigitalState.HIGH, second.state());
+
+            input.mockState(DigitalState.LOW);
+            assertEquals((1 << 5) | (1 << 6), registers.getInt(GPCLR0));
+            assertEquals(DigitalState.LOW, second.state());
+
+            // pins of outputs that have been shut down are no longer driven
+            pi4j.shutdown(second.id());
+            input.mockState(DigitalState.HIGH);
+            assertEquals(1 << 5, registers.getInt(GPSET0));
+        } finally {
+            pi4j.shutdown();
+        }
+    }
+}
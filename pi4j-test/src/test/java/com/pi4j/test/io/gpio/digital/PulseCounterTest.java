@@ -0,0 +1,111 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PulseCounterTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.PulseCounter;
+import com.pi4j.io.gpio.digital.PulseCounterSnapshot;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class PulseCounterTest {
+
+    private Context pi4j;
+    private MockDigitalInput input;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK digital input provider
+        pi4j = Pi4J.newContextBuilder().add(MockDigitalInputProvider.newInstance()).build();
+        input = (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("test-input")
+            .address(1)
+            .build());
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    @Test
+    public void testCountsInputEdges() {
+        PulseCounter counter = PulseCounter.newInstance(input);
+
+        for (int i = 0; i < 10; i++) {
+            input.mockState(DigitalState.HIGH);
+            input.mockState(DigitalState.LOW);
+        }
+
+        assertEquals(10, counter.count());
+        assertEquals(10, counter.fallingEdges());
+        assertEquals(10, counter.snapshot().pulses());
+
+        // detached counters no longer count
+        counter.close();
+        input.mockState(DigitalState.HIGH);
+        assertEquals(10, counter.count());
+    }
+
+    @Test
+    public void testFrequencyAndDutyCycle() {
+        PulseCounter counter = PulseCounter.newInstance(input);
+
+        // 1 kHz signal (1 ms period) with 25% duty cycle
+        long t = 0;
+        for (int i = 0; i < 100; i++) {
+            counter.onEdge(DigitalState.HIGH, t);
+            counter.onEdge(DigitalState.LOW, t + 250_000);
+            t += 1_000_000;
+        }
+
+        PulseCounterSnapshot snapshot = counter.snapshot();
+        assertEquals(100, snapshot.pulses());
+        assertEquals(1000.0, snapshot.frequency(), 0.001);
+        assertEquals(1_000_000.0, snapshot.period(), 0.1);
+        assertEquals(0.25, snapshot.dutyCycle(), 0.001);
+
+        // the next window starts empty but keeps measuring against the last edge
+        assertEquals(0, counter.snapshot().pulses());
+        counter.onEdge(DigitalState.HIGH, t + 1_000_000);
+        assertEquals(500.0, counter.snapshot().frequency(), 0.001);
+        assertEquals(101, counter.count());
+    }
+}
@@ -0,0 +1,151 @@
+package com.pi4j.test.metrics;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  MetricsTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.i2c.I2C;
+import com.pi4j.io.spi.Spi;
+import com.pi4j.io.spi.SpiBus;
+import com.pi4j.metrics.JmxMetricsExporter;
+import com.pi4j.metrics.LatencyHistogram;
+import com.pi4j.metrics.OperationMetrics;
+import com.pi4j.metrics.TextMetricsExporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_METHOD)
+public class MetricsTest {
+
+    private Context pi4j;
+
+    @AfterEach
+    public void afterEach() {
+        if (pi4j != null && !pi4j.isShutdown())
+            pi4j.shutdown();
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms().build();
+        assertFalse(pi4j.metrics().isEnabled());
+        assertSame(OperationMetrics.DISABLED, pi4j.metrics().operation("any", "transfer"));
+
+        Spi spi = pi4j.spi().create(Spi.newConfigBuilder(pi4j).id("spi-0").bus(SpiBus.BUS_0).channel(0).build());
+        spi.transfer(new byte[4]);
+        assertTrue(pi4j.metrics().operations().isEmpty());
+        assertEquals(0, OperationMetrics.DISABLED.count());
+        assertEquals(0, OperationMetrics.DISABLED.start());
+    }
+
+    @Test
+    public void testOperations() {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms().enableMetrics().build();
+
+        Spi spi = pi4j.spi().create(Spi.newConfigBuilder(pi4j).id("spi-0").bus(SpiBus.BUS_0).channel(0).build());
+        for (int i = 0; i < 10; i++)
+            spi.transfer(new byte[4]);
+        OperationMetrics transfer = pi4j.metrics().operation("spi-0", "transfer");
+        assertEquals(10, transfer.count());
+        assertEquals(40, transfer.bytes());
+        assertEquals(0, transfer.errors());
+        assertTrue(transfer.latency().max() > 0);
+
+        I2C i2c = pi4j.i2c().create(I2C.newConfigBuilder(pi4j).id("i2c-1").bus(1).device(0x40).build());
+        assertEquals(1, (int) i2c.execute(() -> 1));
+        assertThrows(RuntimeException.class, () -> i2c.execute(() -> { throw new IllegalStateException(); }));
+        OperationMetrics execute = pi4j.metrics().operation("i2c-1", "execute");
+        assertEquals(2, execute.count());
+        assertEquals(1, execute.errors());
+
+        DigitalOutput output = pi4j.dout().create(5, "out-5");
+        output.addListener(event -> { });
+        output.state(DigitalState.HIGH);
+        output.state(DigitalState.LOW);
+        assertEquals(2, pi4j.metrics().operation("out-5", "dispatch").count());
+
+        String report = TextMetricsExporter.format(pi4j.metrics());
+        assertTrue(report.contains("spi-0"));
+        assertTrue(report.contains("execute"));
+
+        // removing an I/O instance drops its metrics
+        pi4j.registry().remove("spi-0");
+        assertTrue(pi4j.metrics().operations("spi-0").isEmpty());
+
+        pi4j.metrics().reset();
+        assertEquals(0, execute.count());
+        assertEquals(0, execute.latency().count());
+    }
+
+    @Test
+    public void testJmxExporter() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms()
+            .add(new JmxMetricsExporter("test.pi4j", server)).build();
+        assertTrue(pi4j.metrics().isEnabled());
+
+        Spi spi = pi4j.spi().create(Spi.newConfigBuilder(pi4j).id("spi-0").bus(SpiBus.BUS_0).channel(0).build());
+        spi.transfer(new byte[8]);
+        ObjectName name = new ObjectName("test.pi4j:type=Metrics,id=\"spi-0\",operation=\"transfer\"");
+        assertTrue(server.isRegistered(name));
+        assertEquals(1L, server.getAttribute(name, "Count"));
+        assertEquals(8L, server.getAttribute(name, "Bytes"));
+
+        pi4j.shutdown();
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    public void testHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.percentile(99));
+        for (long i = 1; i <= 10000; i++)
+            histogram.record(i * 1000);
+
+        assertEquals(10000, histogram.count());
+        assertEquals(1000, histogram.min());
+        assertEquals(10_000_000, histogram.max());
+        assertEquals(5_000_500, histogram.mean(), 1);
+        assertEquals(5_000_000, histogram.percentile(50), 5_000_000 * 0.016);
+        assertEquals(9_900_000, histogram.percentile(99), 9_900_000 * 0.016);
+        assertEquals(10_000_000, histogram.percentile(100));
+
+        // values beyond the trackable range are counted in the highest bucket
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.max());
+        assertEquals(LatencyHistogram.HIGHEST_TRACKABLE_VALUE, histogram.percentile(100), LatencyHistogram.HIGHEST_TRACKABLE_VALUE * 0.016);
+    }
+}
@@ -0,0 +1,106 @@
+package com.pi4j.test.provider;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  MockBufferTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.serial.Serial;
+import com.pi4j.io.spi.Spi;
+import com.pi4j.io.spi.SpiBus;
+import com.pi4j.plugin.mock.util.ByteRingBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MockBufferTest {
+
+    @Test
+    public void testWrapAroundAndGrowth() {
+        ByteRingBuffer buffer = new ByteRingBuffer(8);
+        byte[] out = new byte[8];
+
+        // move the head so that the next writes wrap around the end of the array
+        buffer.put(new byte[] { 1, 2, 3, 4, 5, 6 }, 0, 6);
+        assertEquals(4, buffer.get(out, 0, 4));
+        buffer.put(new byte[] { 7, 8, 9, 10, 11 }, 0, 5);
+        assertEquals(7, buffer.size());
+        assertEquals(8, buffer.capacity());
+
+        // grow while wrapped
+        buffer.put(new byte[] { 12, 13, 14 }, 0, 3);
+        assertEquals(16, buffer.capacity());
+        assertArrayEquals(new byte[] { 5, 6, 7, 8, 9, 10, 11, 12, 13, 14 }, buffer.drain());
+        assertTrue(buffer.isEmpty());
+        assertThrows(NoSuchElementException.class, buffer::get);
+        assertEquals(0, buffer.get(out, 0, out.length));
+    }
+
+    @Test
+    public void testDirectByteBuffer() {
+        ByteRingBuffer buffer = new ByteRingBuffer(4);
+        ByteBuffer source = ByteBuffer.allocateDirect(6).put(new byte[] { 1, 2, 3, 4, 5, 6 });
+        source.flip();
+        buffer.put(source);
+        assertFalse(source.hasRemaining());
+        buffer.put((byte) 7);
+
+        ByteBuffer target = ByteBuffer.allocateDirect(5);
+        assertEquals(5, buffer.get(target));
+        assertEquals(2, buffer.size());
+        assertEquals(6, buffer.get());
+        assertEquals(7, buffer.get());
+        target.flip();
+        for (int i = 1; i <= 5; i++)
+            assertEquals(i, target.get());
+    }
+
+    @Test
+    public void testMockIoWithDirectByteBuffers() {
+        Context pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms().build();
+        try {
+            Spi spi = pi4j.spi().create(Spi.newConfigBuilder(pi4j).id("spi-0").bus(SpiBus.BUS_0).channel(0).build());
+            ByteBuffer data = ByteBuffer.allocateDirect(4).put(new byte[] { 1, 2, 3, 4 });
+            assertEquals(4, spi.write(data, 0, 4));
+            ByteBuffer read = ByteBuffer.allocateDirect(4);
+            assertEquals(4, spi.read(read, 0, 4));
+            assertEquals(4, read.position());
+            assertEquals(0x04030201, Integer.reverseBytes(read.getInt(0)));
+
+            Serial serial = pi4j.create(Serial.newConfigBuilder(pi4j).id("serial-0").device("/dev/ttyS0").build());
+            assertEquals(4, serial.write(data, 0, 4));
+            assertEquals(4, serial.available());
+            ByteBuffer received = ByteBuffer.allocateDirect(8);
+            assertEquals(4, serial.read(received, 2, 6));
+            assertEquals(3, received.get(4));
+            assertEquals(-1, serial.read(received, 0, 8));
+        } finally {
+            pi4j.shutdown();
+        }
+    }
+}
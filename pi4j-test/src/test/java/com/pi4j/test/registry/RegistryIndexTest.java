@@ -0,0 +1,169 @@
+package com.pi4j.test.registry;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  RegistryIndexTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.IOType;
+import com.pi4j.io.exception.IOAlreadyExistsException;
+import com.pi4j.io.exception.IONotFoundException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputBase;
+import com.pi4j.io.gpio.digital.DigitalOutputConfig;
+import com.pi4j.io.gpio.digital.DigitalOutputProvider;
+import com.pi4j.io.spi.Spi;
+import com.pi4j.io.spi.SpiBus;
+import com.pi4j.plugin.mock.Mock;
+import com.pi4j.registry.Registry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_METHOD)
+public class RegistryIndexTest {
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeEach() {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms().build();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        pi4j.shutdown();
+    }
+
+    @Test
+    public void testIndexes() {
+        DigitalInput input = pi4j.din().create(5, "in-5");
+        DigitalOutput output = pi4j.dout().create(6, "out-6");
+        Registry registry = pi4j.registry();
+
+        assertTrue(registry.exists(5));
+        assertTrue(registry.exists(Registry.GPIO_BUS, 6));
+        assertSame(input, registry.get(Registry.GPIO_BUS, 5));
+        assertSame(output, registry.get(Registry.GPIO_BUS, 6));
+        assertThrows(IONotFoundException.class, () -> registry.get(Registry.GPIO_BUS, 7));
+
+        assertEquals(1, registry.allByIoType(IOType.DIGITAL_INPUT).size());
+        assertSame(input, registry.allByIoType(IOType.DIGITAL_INPUT).get("in-5"));
+        assertEquals(1, registry.allByProvider(Mock.DIGITAL_OUTPUT_PROVIDER_ID).size());
+        assertSame(output, registry.allByProvider(Mock.DIGITAL_OUTPUT_PROVIDER_ID, DigitalOutput.class).get("out-6"));
+        assertTrue(registry.allByProvider(Mock.DIGITAL_OUTPUT_PROVIDER_ID, DigitalInput.class).isEmpty());
+
+        // addresses are unique per bus
+        assertThrows(IOAlreadyExistsException.class, () -> pi4j.din().create(5, "other-5"));
+        Spi spi = pi4j.spi().create(Spi.newConfigBuilder(pi4j).id("spi-5").bus(SpiBus.BUS_0).channel(5).build());
+        assertSame(spi, registry.get(Registry.SPI_BUS_PREFIX + SpiBus.BUS_0, 5));
+
+        // removal clears all indexes and frees the address
+        registry.remove("in-5");
+        assertFalse(registry.exists("in-5"));
+        assertFalse(registry.exists(5));
+        assertTrue(registry.allByIoType(IOType.DIGITAL_INPUT).isEmpty());
+        assertNotNull(pi4j.din().create(5, "in-5"));
+    }
+
+    @Test
+    public void testRetryAfterFailedInitialize() {
+        DigitalOutputProvider provider = pi4j.provider(Mock.DIGITAL_OUTPUT_PROVIDER_ID);
+        DigitalOutputConfig config = DigitalOutput.newConfigBuilder(pi4j).id("failing-7").address(7).build();
+        AtomicBoolean fail = new AtomicBoolean(true);
+        DigitalOutput output = new DigitalOutputBase(provider, config) {
+            @Override
+            public DigitalOutput initialize(Context context) {
+                if (fail.get())
+                    throw new IllegalArgumentException("initialization failed");
+                return super.initialize(context);
+            }
+        };
+
+        // a failed initialization releases the id and the address
+        assertThrows(IllegalArgumentException.class, () -> pi4j.registry().add(output));
+        assertFalse(pi4j.registry().exists("failing-7"));
+        assertFalse(pi4j.registry().exists(7));
+
+        fail.set(false);
+        pi4j.registry().add(output);
+        assertSame(output, pi4j.registry().get(Registry.GPIO_BUS, 7));
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        int threads = 8;
+        int perThread = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        // distinct addresses per thread plus one address all threads compete for
+                        pi4j.din().create(100 + thread * perThread + i, "in-" + thread + "-" + i);
+                        try {
+                            pi4j.din().create(99, "shared-" + thread + "-" + i);
+                            created.incrementAndGet();
+                        } catch (IOAlreadyExistsException e) {
+                            rejected.incrementAndGet();
+                        }
+                        assertTrue(pi4j.registry().exists("in-" + thread + "-" + i));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, created.get());
+        assertEquals(threads * perThread - 1, rejected.get());
+        assertEquals(threads * perThread + 1, pi4j.registry().allByIoType(IOType.DIGITAL_INPUT).size());
+        assertEquals(threads * perThread + 1, pi4j.registry().all().size());
+    }
+}
@@ -0,0 +1,204 @@
+package com.pi4j.test.simulation;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  SimulationTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.IOType;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.i2c.I2C;
+import com.pi4j.io.serial.Serial;
+import com.pi4j.io.spi.Spi;
+import com.pi4j.io.spi.SpiBus;
+import com.pi4j.plugin.mock.simulation.I2CRegisterMap;
+import com.pi4j.plugin.mock.simulation.LineSerialPeer;
+import com.pi4j.plugin.mock.simulation.Simulation;
+import com.pi4j.plugin.mock.simulation.SimulationClock;
+import com.pi4j.plugin.mock.simulation.SpiAdc;
+import com.pi4j.plugin.mock.simulation.Waveform;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_METHOD)
+public class SimulationTest {
+
+    private Context pi4j;
+    private Simulation simulation;
+
+    @BeforeEach
+    public void beforeEach() {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms().build();
+        simulation = Simulation.attach(pi4j);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        if (!pi4j.isShutdown())
+            pi4j.shutdown();
+        assertNull(Simulation.of(pi4j));
+    }
+
+    @Test
+    public void testAttachTwice() {
+        assertSame(simulation, Simulation.of(pi4j));
+        assertThrows(IllegalStateException.class, () -> Simulation.attach(pi4j));
+    }
+
+    @Test
+    public void testClock() {
+        SimulationClock clock = simulation.clock();
+        List<String> order = new ArrayList<>();
+        clock.schedule(20, TimeUnit.MILLISECONDS, () -> order.add("once@" + clock.nanoTime()));
+        SimulationClock.Task periodic = clock.scheduleAtFixedRate(15, TimeUnit.MILLISECONDS,
+            () -> order.add("periodic@" + clock.nanoTime()));
+
+        clock.advance(40, TimeUnit.MILLISECONDS);
+        assertEquals(List.of("periodic@15000000", "once@20000000", "periodic@30000000"), order);
+        assertEquals(40_000_000, clock.nanoTime());
+
+        periodic.cancel();
+        clock.advance(1, TimeUnit.SECONDS);
+        assertEquals(3, order.size());
+    }
+
+    @Test
+    public void testI2CRegisterMap() {
+        AtomicInteger command = new AtomicInteger(-1);
+        I2CRegisterMap sensor = new I2CRegisterMap(256)
+            .set(0x0F, (byte) 0x44)
+            .value(0x00, 2, Waveform.sawtooth(0, 1000, 1))
+            .onWrite(0x10, command::set);
+        simulation.i2c(1, 0x48, sensor);
+
+        I2C i2c = pi4j.i2c().create(I2C.newConfigBuilder(pi4j).id("i2c-sensor").bus(1).device(0x48).build());
+        assertEquals(0x44, i2c.readRegister(0x0F));
+
+        // the reading follows the waveform over simulated time
+        byte[] reading = new byte[2];
+        assertEquals(2, i2c.readRegister(0x00, reading, 0, 2));
+        assertArrayEquals(new byte[] { 0, 0 }, reading);
+        simulation.clock().advance(500, TimeUnit.MILLISECONDS);
+        i2c.readRegister(0x00, reading, 0, 2);
+        assertArrayEquals(new byte[] { 0x01, (byte) 0xF4 }, reading);
+
+        // write hooks and raw access through the register pointer
+        i2c.writeRegister(0x10, (byte) 0x5A);
+        assertEquals(0x5A, command.get());
+        i2c.write(new byte[] { 0x0F });
+        assertEquals(0x44, i2c.read());
+    }
+
+    @Test
+    public void testSpiAdc() {
+        simulation.spi(0, 0, SpiAdc.mcp3008(3.3)
+            .channel(0, Waveform.constant(1.65))
+            .channel(1, Waveform.square(0, 3.3, 1)));
+
+        Spi spi = pi4j.spi().create(Spi.newConfigBuilder(pi4j).id("spi-adc").bus(SpiBus.BUS_0).channel(0).build());
+        assertEquals(512, read(spi, 0));
+        assertEquals(1023, read(spi, 1));
+        simulation.clock().advance(600, TimeUnit.MILLISECONDS);
+        assertEquals(0, read(spi, 1));
+        assertEquals(0, read(spi, 2));
+    }
+
+    private static int read(Spi spi, int channel) {
+        byte[] data = { 0x01, (byte) (0x80 | (channel << 4)), 0x00 };
+        spi.transfer(data, data);
+        return ((data[1] & 0x03) << 8) | (data[2] & 0xFF);
+    }
+
+    @Test
+    public void testSerialPeer() {
+        simulation.serial("/dev/ttyS0", new LineSerialPeer(command -> command.equals("AT") ? "OK" : "ERROR"));
+
+        Serial serial = pi4j.create(Serial.newConfigBuilder(pi4j).id("serial-modem").device("/dev/ttyS0").build());
+        serial.write(StandardCharsets.US_ASCII, "AT\r\nATX\r\n");
+
+        byte[] buffer = new byte[serial.available()];
+        serial.read(buffer, 0, buffer.length);
+        assertEquals("OK\r\nERROR\r\n", new String(buffer, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testWiring() {
+        simulation.wire(5, 6).wire(5, 7, 10, TimeUnit.MILLISECONDS, true);
+
+        DigitalInput direct = pi4j.din().create(6, "in-6");
+        DigitalInput delayed = pi4j.din().create(7, "in-7");
+        DigitalOutput output = pi4j.dout().create(5, "out-5");
+
+        List<DigitalState> events = new ArrayList<>();
+        direct.addListener(event -> events.add(event.state()));
+
+        output.high();
+        assertEquals(DigitalState.HIGH, direct.state());
+        assertEquals(List.of(DigitalState.HIGH), events);
+
+        simulation.clock().advance(10, TimeUnit.MILLISECONDS);
+        assertEquals(DigitalState.LOW, delayed.state());
+        output.low();
+        assertEquals(DigitalState.LOW, direct.state());
+        assertEquals(DigitalState.LOW, delayed.state());
+        simulation.clock().advance(10, TimeUnit.MILLISECONDS);
+        assertEquals(DigitalState.HIGH, delayed.state());
+    }
+
+    @Test
+    public void testDrive() {
+        DigitalInput input = pi4j.din().create(8, "in-8");
+        simulation.drive(8, Waveform.square(0, 1, 10), 10, TimeUnit.MILLISECONDS);
+        assertEquals(DigitalState.HIGH, input.state());
+        simulation.clock().advance(50, TimeUnit.MILLISECONDS);
+        assertEquals(DigitalState.LOW, input.state());
+        simulation.clock().advance(50, TimeUnit.MILLISECONDS);
+        assertEquals(DigitalState.HIGH, input.state());
+    }
+
+    @Test
+    public void testLatency() {
+        simulation.latency(IOType.I2C, 100, 10, TimeUnit.MICROSECONDS);
+        I2C i2c = pi4j.i2c().create(I2C.newConfigBuilder(pi4j).id("i2c-slow").bus(1).device(0x20).build());
+
+        i2c.write(new byte[10]);
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(200), simulation.clock().nanoTime());
+        i2c.read(new byte[10]);
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(400), simulation.clock().nanoTime());
+    }
+}
@@ -8,7 +8,10 @@ import com.pi4j.library.gpiod.internal.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ObjLongConsumer;
 
 /**
  * <p>PiGpioDigitalOutput class.</p>
@@ -19,10 +22,10 @@ import java.util.concurrent.Future;
 public class GpioDDigitalInput extends DigitalInputBase implements DigitalInput {
     private static final Logger logger = LoggerFactory.getLogger(GpioDDigitalInput.class);
     private static final long inputMaxWaitNs = 10 * 1000 * 1000; // 10 ms
+    private static final int eventBatchSize = 64;
     private final GpioLine line;
-    private final long debounceNs;
     private volatile boolean inputListenerRun;
-    private volatile boolean inputListenerActive;
+    private volatile CountDownLatch inputListenerStopped;
     private Future<?> inputListener;
 
     /**
@@ -35,12 +38,6 @@ public class GpioDDigitalInput extends DigitalInputBase implements DigitalInput
     public GpioDDigitalInput(GpioLine line, DigitalInputProvider provider, DigitalInputConfig config) {
         super(provider, config);
         this.line = line;
-        if (config.getDebounce() == 0) {
-            this.debounceNs = 0;
-        } else {
-            // Convert microseconds to nanoseconds
-            this.debounceNs = 1000 * config.getDebounce();
-        }
     }
 
     @Override
@@ -65,8 +62,12 @@ public class GpioDDigitalInput extends DigitalInputBase implements DigitalInput
         }
         super.initialize(context);
 
+        // debounce is applied by the software edge filter, confirmed from the line event loop
+        enableFilter(true);
+
         this.inputListenerRun = true;
-        this.inputListener = context.submitTask(this::monitorLineEvents);
+        this.inputListenerStopped = new CountDownLatch(1);
+        this.inputListener = context.submitMonitor(this::monitorLineEvents);
         return this;
     }
 
@@ -79,24 +80,19 @@ public class GpioDDigitalInput extends DigitalInputBase implements DigitalInput
     }
 
     private void shutdownInputListener() {
-        this.inputListenerRun = true;
-        if (!this.inputListenerActive)
-            return;
+        // the listener notices the flag within one event wait; it is not cancelled, since a listener that
+        // was cancelled before it started would never signal that it stopped
+        this.inputListenerRun = false;
         if (this.inputListener.isDone())
             return;
 
-        if (!this.inputListener.cancel(true))
-            logger.error("Failed to cancel input listener!");
-
-        long start = System.currentTimeMillis();
-        while (this.inputListenerActive) {
-            if (System.currentTimeMillis() - start > 5000L)
+        try {
+            if (!this.inputListenerStopped.await(5, TimeUnit.SECONDS))
                 throw new IllegalArgumentException("Input listener didn't stop in 5s");
-            try {
-                Thread.sleep(0L, 500);
-            } catch (InterruptedException e) {
-                logger.warn("Interrupted, while waiting for input listener to stop");
-            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted, while waiting for input listener to stop");
+            return;
         }
 
         logger.info("Shutdown input listener for {}", this.id);
@@ -108,51 +104,56 @@ public class GpioDDigitalInput extends DigitalInputBase implements DigitalInput
     }
 
     private void monitorLineEvents() {
-        this.inputListenerActive = true;
-        GpioDContext gpioDContext = GpioDContext.getInstance();
         DigitalState lastState = null;
-        GpioLineEvent lineEvent = GpioDContext.getInstance().openLineEvent();
+        // all pending events are read in a single native call into these arrays
+        long[] timestamps = new long[eventBatchSize];
+        int[] types = new int[eventBatchSize];
+        ObjLongConsumer<DigitalState> dispatcher = this::dispatch;
 
         try {
-            while (this.inputListenerRun && this.inputListener != null && !this.inputListener.isCancelled()) {
-                long debounceNs = this.debounceNs;
-                // We have to use this function before calling eventRead() directly, since native methods can't be interrupted.
-                // eventRead() is blocking and prevents thread interrupt while running
-                while (!this.line.eventWait(inputMaxWaitNs)) {
-                    if (!this.inputListenerRun || this.inputListener == null || this.inputListener.isCancelled())
-                        return;
+            while (this.inputListenerRun) {
+                // We have to use this function before calling readEvents() directly, since native methods can't be interrupted.
+                // readEvents() is blocking and prevents thread interrupt while running.
+                // While a debounced change is pending, wait no longer than until it becomes stable.
+                long waitNs = inputMaxWaitNs;
+                long deadline = filterDeadline();
+                if (deadline != Long.MAX_VALUE)
+                    waitNs = Math.max(0, Math.min(waitNs, deadline - System.nanoTime()));
+
+                if (!this.line.eventWait(waitNs)) {
+                    expireFilter(System.nanoTime());
+                    continue;
                 }
 
-                this.line.eventRead(lineEvent);
-                long currentTime = System.nanoTime();
-
-                // Perform debouncing
-                // If the event is too new to be sure that it is debounced then ...
-                while (lineEvent.getTimeNs() + debounceNs >= currentTime) {
-                    if (!this.inputListenerRun || this.inputListener == null || this.inputListener.isCancelled())
-                        return;
-
-                    // ... wait for remaining debounce time and watch out for new event(s)
-                    if (this.line.eventWait(
-                        Math.min(inputMaxWaitNs, lineEvent.getTimeNs() + debounceNs - currentTime))) {
-                        // Repeat if a second event occurred withing debounce interval
-                        this.line.eventRead(lineEvent);
-                    }
-
-                    currentTime = System.nanoTime();
-                }
-
-                // Apply event only if the new state is not the same as the last state.
-                DigitalState newState = DigitalState.getState(lineEvent.getType() == LineEvent.RISING_EDGE);
-                if (lastState != newState) {
-                    lastState = newState;
-                    this.dispatch(new DigitalStateChangeEvent<>(this, newState));
-                }
+                int count = this.line.readEvents(timestamps, types);
+                lastState = dispatchEvents(count, timestamps, types, lastState, dispatcher);
             }
         } finally {
-            if (lineEvent != null)
-                gpioDContext.closeLineEvent(lineEvent);
-            this.inputListenerActive = false;
+            this.inputListenerStopped.countDown();
+        }
+    }
+
+    /**
+     * Pass a batch of line events, as read by {@link GpioLine#readEvents(long[], int[])}, on to a dispatcher
+     *
+     * @param count      the number of events in the arrays
+     * @param timestamps the timestamps of the events
+     * @param types      the {@link LineEvent} values of the events
+     * @param lastState  the state of the last event dispatched, or null if there was none
+     * @param dispatcher receives the new state and timestamp of every event that changes the state
+     * @return the state of the last event dispatched
+     */
+    static DigitalState dispatchEvents(int count, long[] timestamps, int[] types, DigitalState lastState,
+                                       ObjLongConsumer<DigitalState> dispatcher) {
+        int rising = LineEvent.RISING_EDGE.getVal();
+        for (int i = 0; i < count; i++) {
+            // Apply event only if the new state is not the same as the last state.
+            DigitalState newState = DigitalState.getState(types[i] == rising);
+            if (lastState != newState) {
+                lastState = newState;
+                dispatcher.accept(newState, timestamps[i]);
+            }
         }
+        return lastState;
     }
 }
@@ -0,0 +1,73 @@
+package com.pi4j.plugin.gpiod.provider.gpio.digital;
+
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.library.gpiod.internal.LineEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GpioDDigitalInputTest {
+
+    private static final int RISING = LineEvent.RISING_EDGE.getVal();
+    private static final int FALLING = LineEvent.FALLING_EDGE.getVal();
+
+    private final List<DigitalState> states = new ArrayList<>();
+    private final List<Long> timestamps = new ArrayList<>();
+
+    @Test
+    void testStateMapping() {
+        DigitalState last = dispatch(null, new int[]{RISING, FALLING, RISING}, 100, 200, 300);
+        assertEquals(DigitalState.HIGH, last);
+        assertEquals(List.of(DigitalState.HIGH, DigitalState.LOW, DigitalState.HIGH), states);
+        assertEquals(List.of(100L, 200L, 300L), timestamps);
+    }
+
+    @Test
+    void testRepeatedStatesAcrossBatches() {
+        DigitalState last = dispatch(null, new int[]{FALLING, FALLING, RISING}, 1, 2, 3);
+        // the next batch starts with the state the previous one ended with
+        last = dispatch(last, new int[]{RISING, RISING, FALLING}, 4, 5, 6);
+        assertEquals(DigitalState.LOW, last);
+        assertEquals(List.of(DigitalState.LOW, DigitalState.HIGH, DigitalState.LOW), states);
+        assertEquals(List.of(1L, 3L, 6L), timestamps);
+    }
+
+    @Test
+    void testPartialBatch() {
+        // the arrays are reused; entries beyond the count are stale
+        long[] times = {10, 20, 30, 40};
+        int[] types = {RISING, FALLING, RISING, FALLING};
+        assertEquals(DigitalState.LOW, GpioDDigitalInput.dispatchEvents(2, times, types, null, this::record));
+        assertEquals(List.of(10L, 20L), timestamps);
+
+        assertSame(DigitalState.LOW, GpioDDigitalInput.dispatchEvents(0, times, types, DigitalState.LOW, this::record));
+        assertNull(GpioDDigitalInput.dispatchEvents(0, times, types, null, this::record));
+        assertEquals(2, states.size());
+    }
+
+    @Test
+    void testFullBatch() {
+        int[] types = new int[64];
+        long[] times = new long[64];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = i % 2 == 0 ? RISING : FALLING;
+            times[i] = i;
+        }
+        assertEquals(DigitalState.LOW, GpioDDigitalInput.dispatchEvents(64, times, types, DigitalState.LOW, this::record));
+        assertEquals(64, states.size());
+        assertEquals(DigitalState.HIGH, states.get(0));
+        assertEquals(63L, timestamps.get(63));
+    }
+
+    private DigitalState dispatch(DigitalState last, int[] types, long... times) {
+        return GpioDDigitalInput.dispatchEvents(types.length, times, types, last, this::record);
+    }
+
+    private void record(DigitalState state, long timestamp) {
+        states.add(state);
+        timestamps.add(timestamp);
+    }
+}
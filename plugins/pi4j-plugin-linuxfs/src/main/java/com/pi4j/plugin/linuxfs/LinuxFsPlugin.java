@@ -32,6 +32,12 @@ import com.pi4j.boardinfo.util.BoardInfoHelper;
 import com.pi4j.extension.Plugin;
 import com.pi4j.extension.PluginService;
 import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
+import com.pi4j.plugin.linuxfs.provider.gpio.cdev.LinuxCdevDigitalInputProvider;
+import com.pi4j.plugin.linuxfs.provider.gpio.cdev.LinuxCdevDigitalOutputProvider;
+import com.pi4j.plugin.linuxfs.provider.gpio.cdev.LinuxGpioChip;
+import com.pi4j.plugin.linuxfs.provider.gpio.mmap.MemoryMappedDigitalInputProvider;
+import com.pi4j.plugin.linuxfs.provider.gpio.mmap.MemoryMappedDigitalOutputProvider;
+import com.pi4j.plugin.linuxfs.provider.gpio.mmap.MemoryMappedGpio;
 import com.pi4j.plugin.linuxfs.provider.i2c.LinuxFsI2CProvider;
 import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalInputProvider;
 import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalOutputProvider;
@@ -92,6 +98,22 @@ public class LinuxFsPlugin implements Plugin {
      */
     public static final String DIGITAL_OUTPUT_PROVIDER_ID = ID + "-digital-output";
 
+    // Digital Input (GPIO character device) Provider name and unique ID
+    public static final String CDEV_DIGITAL_INPUT_PROVIDER_NAME = NAME + " Character Device Digital Input (GPIO) Provider";
+    public static final String CDEV_DIGITAL_INPUT_PROVIDER_ID = ID + "-cdev-digital-input";
+
+    // Digital Output (GPIO character device) Provider name and unique ID
+    public static final String CDEV_DIGITAL_OUTPUT_PROVIDER_NAME = NAME + " Character Device Digital Output (GPIO) Provider";
+    public static final String CDEV_DIGITAL_OUTPUT_PROVIDER_ID = ID + "-cdev-digital-output";
+
+    // Digital Input (memory mapped GPIO) Provider name and unique ID
+    public static final String MMAP_DIGITAL_INPUT_PROVIDER_NAME = NAME + " Memory Mapped Digital Input (GPIO) Provider";
+    public static final String MMAP_DIGITAL_INPUT_PROVIDER_ID = ID + "-mmap-digital-input";
+
+    // Digital Output (memory mapped GPIO) Provider name and unique ID
+    public static final String MMAP_DIGITAL_OUTPUT_PROVIDER_NAME = NAME + " Memory Mapped Digital Output (GPIO) Provider";
+    public static final String MMAP_DIGITAL_OUTPUT_PROVIDER_ID = ID + "-mmap-digital-output";
+
     // PWM Provider name and unique ID
     public static final String PWM_PROVIDER_NAME = NAME + " PWM Provider";
     public static final String PWM_PROVIDER_ID = ID + "-pwm";
@@ -110,6 +132,7 @@ public class LinuxFsPlugin implements Plugin {
 
     public static String DEFAULT_GPIO_FILESYSTEM_PATH = LinuxGpio.DEFAULT_SYSTEM_PATH;
     public static String DEFAULT_PWM_FILESYSTEM_PATH = LinuxPwm.DEFAULT_SYSTEM_PATH;
+    public static String DEFAULT_GPIO_CHIP_PATH = LinuxGpioChip.DEFAULT_CHIP_PATH;
 
     private Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -122,6 +145,8 @@ public class LinuxFsPlugin implements Plugin {
         // get Linux file system path for GPIO & PWM
         String gpioFileSystemPath = DEFAULT_GPIO_FILESYSTEM_PATH;
         String pwmFileSystemPath = DEFAULT_PWM_FILESYSTEM_PATH;
+        String gpioChipPath = DEFAULT_GPIO_CHIP_PATH;
+        String gpioMemPath = MemoryMappedGpio.defaultPath();
 
         int pwmChip;
         if(BoardInfoHelper.usesRP1()) {
@@ -135,6 +160,16 @@ public class LinuxFsPlugin implements Plugin {
             gpioFileSystemPath = service.context().properties().get("linux.gpio.system.path", gpioFileSystemPath);
         }
 
+        // [GPIO] get overriding custom 'linux.gpio.chip.path' setting from Pi4J context
+        if(service.context().properties().has("linux.gpio.chip.path")){
+            gpioChipPath = service.context().properties().get("linux.gpio.chip.path", gpioChipPath);
+        }
+
+        // [GPIO] get overriding custom 'linux.gpio.mem.path' setting from Pi4J context
+        if(service.context().properties().has("linux.gpio.mem.path")){
+            gpioMemPath = service.context().properties().get("linux.gpio.mem.path", gpioMemPath);
+        }
+
         // [PWM] get overriding custom 'linux.gpio.system.path' setting from Pi4J context
         if(service.context().properties().has("linux.pwm.system.path")){
             pwmFileSystemPath = service.context().properties().get("linux.pwm.system.path", pwmFileSystemPath);
@@ -154,6 +189,10 @@ public class LinuxFsPlugin implements Plugin {
         Provider[] providers = {
             LinuxFsDigitalInputProvider.newInstance(gpioFileSystemPath),
             LinuxFsDigitalOutputProvider.newInstance(gpioFileSystemPath),
+            LinuxCdevDigitalInputProvider.newInstance(gpioChipPath),
+            LinuxCdevDigitalOutputProvider.newInstance(gpioChipPath),
+            MemoryMappedDigitalInputProvider.newInstance(gpioMemPath, BoardInfoHelper.usesRP1()),
+            MemoryMappedDigitalOutputProvider.newInstance(gpioMemPath, BoardInfoHelper.usesRP1()),
             LinuxFsPwmProvider.newInstance(pwmFileSystemPath, pwmChip),
             LinuxFsI2CProvider.newInstance()
         };
@@ -0,0 +1,181 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.cdev;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxCdevDigitalInput.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Digital input on a line of a GPIO chip character device.  Debounce is applied by the kernel and
+ * edge events carry the kernel's timestamps; they are read in batches into a direct buffer.</p>
+ */
+public class LinuxCdevDigitalInput extends DigitalInputBase implements DigitalInput {
+    private static final Logger logger = LoggerFactory.getLogger(LinuxCdevDigitalInput.class);
+    private static final long inputMaxWaitNs = 10 * 1000 * 1000; // 10 ms
+    private static final int eventBatchSize = 64;
+    private final LinuxGpioChip chip;
+    private LinuxGpioLines line;
+    private volatile boolean inputListenerRun;
+    private volatile CountDownLatch inputListenerStopped;
+    private Future<?> inputListener;
+
+    /**
+     * <p>Constructor for LinuxCdevDigitalInput.</p>
+     *
+     * @param chip     a {@link LinuxGpioChip} object.
+     * @param provider a {@link DigitalInputProvider} object.
+     * @param config   a {@link DigitalInputConfig} object.
+     */
+    public LinuxCdevDigitalInput(LinuxGpioChip chip, DigitalInputProvider provider, DigitalInputConfig config) {
+        super(provider, config);
+        this.chip = chip;
+    }
+
+    @Override
+    public DigitalInput initialize(Context context) throws InitializeException {
+        long flags = LinuxGpioChip.FLAG_EDGE_RISING | LinuxGpioChip.FLAG_EDGE_FALLING;
+        if (this.config.pull() == PullResistance.PULL_UP)
+            flags |= LinuxGpioChip.FLAG_BIAS_PULL_UP;
+        else if (this.config.pull() == PullResistance.PULL_DOWN)
+            flags |= LinuxGpioChip.FLAG_BIAS_PULL_DOWN;
+        else if (this.config.pull() == PullResistance.OFF)
+            flags |= LinuxGpioChip.FLAG_BIAS_DISABLED;
+
+        long debounce = this.config.debounce() != null ? this.config.debounce() : 0;
+        try {
+            this.line = this.chip.requestInputs(this.config.id(), flags, debounce, this.config.address());
+        } catch (java.io.IOException e) {
+            throw new InitializeException("Unable to request GPIO [" + config.address() + "] @ <" + chip.path() + ">; " + e.getMessage(), e);
+        }
+        super.initialize(context);
+
+        // debounce is applied by the kernel; the software edge filter only enforces the minimum pulse width
+        long minPulse = this.config.minPulse() != null ? this.config.minPulse() : 0;
+        if (this.config.onState() == DigitalState.LOW)
+            enableFilter(0, minPulse, true);
+        else
+            enableFilter(minPulse, 0, true);
+
+        this.inputListenerRun = true;
+        this.inputListenerStopped = new CountDownLatch(1);
+        this.inputListener = context.submitMonitor(this::monitorLineEvents);
+        return this;
+    }
+
+    @Override
+    public DigitalInput shutdown(Context context) throws ShutdownException {
+        // no longer part of the provider's bank reads
+        if (provider() instanceof LinuxCdevDigitalInputProviderImpl)
+            ((LinuxCdevDigitalInputProviderImpl) provider()).remove(this);
+        super.shutdown(context);
+        if (this.inputListener != null)
+            shutdownInputListener();
+        if (this.line != null) {
+            try {
+                this.line.close();
+            } catch (java.io.IOException e) {
+                throw new ShutdownException("Failed to release GPIO [" + config.address() + "] @ <" + chip.path() + ">; " + e.getMessage(), e);
+            }
+        }
+        return this;
+    }
+
+    private void shutdownInputListener() {
+        // the listener notices the flag within one event wait, and must have stopped before the line is closed
+        this.inputListenerRun = false;
+        if (this.inputListener.isDone())
+            return;
+
+        try {
+            if (!this.inputListenerStopped.await(5, TimeUnit.SECONDS))
+                throw new IllegalArgumentException("Input listener didn't stop in 5s");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted, while waiting for input listener to stop");
+        }
+    }
+
+    @Override
+    public DigitalState state() {
+        try {
+            return DigitalState.getState(this.line.get(1) != 0);
+        } catch (java.io.IOException e) {
+            throw new IOException("Failed to get state of input " + this.id + "; " + e.getMessage(), e);
+        }
+    }
+
+    private void monitorLineEvents() {
+        DigitalState lastState = null;
+        // all pending events are read with a single read() into this buffer
+        ByteBuffer events = ByteBuffer.allocateDirect(eventBatchSize * LinuxGpioLines.EVENT_SIZE)
+            .order(ByteOrder.nativeOrder());
+
+        try {
+            while (this.inputListenerRun) {
+                // wait with a timeout, so that the listener notices when it is stopped;
+                // while a debounced change is pending, wait no longer than until it becomes stable
+                long waitNs = inputMaxWaitNs;
+                long deadline = filterDeadline();
+                if (deadline != Long.MAX_VALUE)
+                    waitNs = Math.max(0, Math.min(waitNs, deadline - System.nanoTime()));
+
+                if (!this.line.waitEvents(waitNs)) {
+                    expireFilter(System.nanoTime());
+                    continue;
+                }
+
+                events.clear();
+                int count = this.line.readEvents(events);
+                for (int i = 0; i < count; i++) {
+                    // Apply event only if the new state is not the same as the last state.
+                    DigitalState newState = DigitalState.getState(
+                        LinuxGpioLines.eventId(events, i) == LinuxGpioLines.EVENT_RISING_EDGE);
+                    if (lastState != newState) {
+                        lastState = newState;
+                        this.dispatch(newState, LinuxGpioLines.eventTimestamp(events, i));
+                    }
+                }
+            }
+        } catch (java.io.IOException e) {
+            logger.error("Failed to read events of input {}; {}", this.id, e.getMessage(), e);
+        } finally {
+            this.inputListenerStopped.countDown();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.cdev;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxCdevDigitalInputProvider.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.DigitalInputProvider;
+import com.pi4j.plugin.linuxfs.LinuxFsPlugin;
+
+/**
+ * <p>Digital input provider using the GPIO character device ({@code /dev/gpiochipN}) of the Linux kernel.</p>
+ */
+public interface LinuxCdevDigitalInputProvider extends DigitalInputProvider {
+    /** Constant <code>NAME="LinuxFs.CDEV_DIGITAL_INPUT_PROVIDER_NAME"</code> */
+    String NAME = LinuxFsPlugin.CDEV_DIGITAL_INPUT_PROVIDER_NAME;
+    /** Constant <code>ID="LinuxFs.CDEV_DIGITAL_INPUT_PROVIDER_ID"</code> */
+    String ID = LinuxFsPlugin.CDEV_DIGITAL_INPUT_PROVIDER_ID;
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param chipPath the path of the GPIO chip character device
+     * @return a {@link com.pi4j.plugin.linuxfs.provider.gpio.cdev.LinuxCdevDigitalInputProvider} object.
+     */
+    static LinuxCdevDigitalInputProvider newInstance(String chipPath) {
+        return new LinuxCdevDigitalInputProviderImpl(chipPath);
+    }
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @return a {@link com.pi4j.plugin.linuxfs.provider.gpio.cdev.LinuxCdevDigitalInputProvider} object.
+     */
+    static LinuxCdevDigitalInputProvider newInstance() {
+        return new LinuxCdevDigitalInputProviderImpl(LinuxFsPlugin.DEFAULT_GPIO_CHIP_PATH);
+    }
+}
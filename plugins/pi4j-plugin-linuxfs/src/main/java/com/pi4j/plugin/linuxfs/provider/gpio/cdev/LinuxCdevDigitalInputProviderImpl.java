@@ -0,0 +1,134 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.cdev;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxCdevDigitalInputProviderImpl.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.gpio.digital.DigitalBankReader;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalInputConfig;
+import com.pi4j.io.gpio.digital.DigitalInputProvider;
+import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
+import com.pi4j.io.gpio.digital.DigitalState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>LinuxCdevDigitalInputProviderImpl class.</p>
+ *
+ * <p>Bank reads read the lines of the inputs in the bank.  Each input holds a line request of its own,
+ * since the kernel can not add lines to an existing request without releasing it, so a bank read costs
+ * one ioctl per input.</p>
+ */
+public class LinuxCdevDigitalInputProviderImpl extends DigitalInputProviderBase implements LinuxCdevDigitalInputProvider, DigitalBankReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(LinuxCdevDigitalInputProviderImpl.class);
+
+    final String chipPath;
+    private LinuxGpioChip chip;
+    private final Map<Integer, LinuxCdevDigitalInput> inputs = new ConcurrentHashMap<>();
+
+    /**
+     * <p>Constructor for LinuxCdevDigitalInputProviderImpl.</p>
+     * @param chipPath the path of the GPIO chip character device
+     */
+    public LinuxCdevDigitalInputProviderImpl(String chipPath) {
+        this.id = ID;
+        this.name = NAME;
+        this.chipPath = chipPath;
+    }
+
+    @Override
+    public int getPriority() {
+        // lower than the sysfs and gpiod drivers; select this provider explicitly by its ID
+        return 40;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized DigitalInput create(DigitalInputConfig config) {
+        // the chip is opened on first use, so that the plugin loads on systems without it
+        if (this.chip == null) {
+            try {
+                this.chip = new LinuxGpioChip(this.chipPath);
+            } catch (IOException e) {
+                throw new Pi4JException("Unable to open GPIO chip <" + this.chipPath + ">; " + e.getMessage(), e);
+            }
+        }
+        LinuxCdevDigitalInput digitalInput = new LinuxCdevDigitalInput(this.chip, this, config);
+        this.context.registry().add(digitalInput);
+        this.inputs.put(config.address(), digitalInput);
+        return digitalInput;
+    }
+
+    /**
+     * Stop tracking an input that is being shut down
+     *
+     * @param input the input
+     */
+    void remove(LinuxCdevDigitalInput input) {
+        this.inputs.remove(input.address(), input);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int readBank(int bank) {
+        int levels = 0;
+        for (int bit = 0; bit < BANK_SIZE; bit++) {
+            LinuxCdevDigitalInput input = this.inputs.get(bank * BANK_SIZE + bit);
+            if (input != null && input.state() == DigitalState.HIGH)
+                levels |= 1 << bit;
+        }
+        return levels;
+    }
+
+    @Override
+    public synchronized DigitalInputProvider shutdown(Context context) throws ShutdownException {
+        // release the lines of all I/O instances before the chip is closed
+        DigitalInputProvider provider = super.shutdown(context);
+        this.inputs.clear();
+        if (this.chip != null) {
+            try {
+                this.chip.close();
+            } catch (IOException e) {
+                logger.warn("Unable to close GPIO chip <{}>; {}", this.chipPath, e.getMessage());
+            }
+            this.chip = null;
+        }
+        return provider;
+    }
+}
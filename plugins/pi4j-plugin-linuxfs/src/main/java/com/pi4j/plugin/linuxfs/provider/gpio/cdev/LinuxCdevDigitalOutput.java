@@ -0,0 +1,99 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.cdev;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxCdevDigitalOutput.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.*;
+
+/**
+ * <p>Digital output on a line of a GPIO chip character device.</p>
+ */
+public class LinuxCdevDigitalOutput extends DigitalOutputBase implements DigitalOutput {
+    private final LinuxGpioChip chip;
+    private LinuxGpioLines line;
+
+    /**
+     * <p>Constructor for LinuxCdevDigitalOutput.</p>
+     *
+     * @param chip     a {@link LinuxGpioChip} object.
+     * @param provider a {@link DigitalOutputProvider} object.
+     * @param config   a {@link DigitalOutputConfig} object.
+     */
+    public LinuxCdevDigitalOutput(LinuxGpioChip chip, DigitalOutputProvider provider, DigitalOutputConfig config) {
+        super(provider, config);
+        this.chip = chip;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DigitalOutput initialize(Context context) throws InitializeException {
+        // the line is requested with its initial state, so that it never glitches to the other state
+        long initialState = this.config.initialState() == DigitalState.HIGH ? 1 : 0;
+        try {
+            this.line = this.chip.requestOutputs(this.config.id(), 0, initialState, this.config.address());
+        } catch (java.io.IOException e) {
+            throw new InitializeException("Unable to request GPIO [" + config.address() + "] @ <" + chip.path() + ">; " + e.getMessage(), e);
+        }
+        super.initialize(context);
+        return this;
+    }
+
+    @Override
+    public DigitalOutput shutdown(Context context) throws ShutdownException {
+        // no longer part of the provider's bank writes
+        if (provider() instanceof LinuxCdevDigitalOutputProviderImpl)
+            ((LinuxCdevDigitalOutputProviderImpl) provider()).remove(this);
+        super.shutdown(context);
+        if (this.line != null) {
+            try {
+                this.line.close();
+            } catch (java.io.IOException e) {
+                throw new ShutdownException("Failed to release GPIO [" + config.address() + "] @ <" + chip.path() + ">; " + e.getMessage(), e);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DigitalOutput state(DigitalState state) throws IOException {
+        try {
+            this.line.set(state.isHigh() ? 1 : 0);
+        } catch (java.io.IOException e) {
+            throw new IOException("Failed to set state for output " + this.id + " to " + state, e);
+        }
+        return super.state(state);
+    }
+}
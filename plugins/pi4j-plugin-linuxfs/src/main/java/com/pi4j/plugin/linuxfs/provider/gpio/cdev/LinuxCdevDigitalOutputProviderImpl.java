@@ -0,0 +1,134 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.cdev;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxCdevDigitalOutputProviderImpl.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.gpio.digital.DigitalBankWriter;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputConfig;
+import com.pi4j.io.gpio.digital.DigitalOutputProvider;
+import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
+import com.pi4j.io.gpio.digital.DigitalState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>LinuxCdevDigitalOutputProviderImpl class.</p>
+ *
+ * <p>Bank writes write the lines of the outputs in the bank.  Each output holds a line request of its
+ * own, since the kernel can not add lines to an existing request without releasing it (which could
+ * glitch the outputs), so a bank write costs one ioctl per output.</p>
+ */
+public class LinuxCdevDigitalOutputProviderImpl extends DigitalOutputProviderBase implements LinuxCdevDigitalOutputProvider, DigitalBankWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LinuxCdevDigitalOutputProviderImpl.class);
+
+    final String chipPath;
+    private LinuxGpioChip chip;
+    private final Map<Integer, LinuxCdevDigitalOutput> outputs = new ConcurrentHashMap<>();
+
+    /**
+     * <p>Constructor for LinuxCdevDigitalOutputProviderImpl.</p>
+     * @param chipPath the path of the GPIO chip character device
+     */
+    public LinuxCdevDigitalOutputProviderImpl(String chipPath) {
+        this.id = ID;
+        this.name = NAME;
+        this.chipPath = chipPath;
+    }
+
+    @Override
+    public int getPriority() {
+        // lower than the sysfs and gpiod drivers; select this provider explicitly by its ID
+        return 40;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized DigitalOutput create(DigitalOutputConfig config) {
+        // the chip is opened on first use, so that the plugin loads on systems without it
+        if (this.chip == null) {
+            try {
+                this.chip = new LinuxGpioChip(this.chipPath);
+            } catch (IOException e) {
+                throw new Pi4JException("Unable to open GPIO chip <" + this.chipPath + ">; " + e.getMessage(), e);
+            }
+        }
+        LinuxCdevDigitalOutput digitalOutput = new LinuxCdevDigitalOutput(this.chip, this, config);
+        this.context.registry().add(digitalOutput);
+        this.outputs.put(config.address(), digitalOutput);
+        return digitalOutput;
+    }
+
+    /**
+     * Stop tracking an output that is being shut down
+     *
+     * @param output the output
+     */
+    void remove(LinuxCdevDigitalOutput output) {
+        this.outputs.remove(output.address(), output);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeBank(int bank, int mask, int states) {
+        for (int bit = 0; bit < BANK_SIZE; bit++) {
+            if ((mask & (1 << bit)) == 0)
+                continue;
+            LinuxCdevDigitalOutput output = this.outputs.get(bank * BANK_SIZE + bit);
+            if (output != null)
+                output.state((states & (1 << bit)) != 0 ? DigitalState.HIGH : DigitalState.LOW);
+        }
+    }
+
+    @Override
+    public synchronized DigitalOutputProvider shutdown(Context context) throws ShutdownException {
+        // release the lines of all I/O instances before the chip is closed
+        DigitalOutputProvider provider = super.shutdown(context);
+        this.outputs.clear();
+        if (this.chip != null) {
+            try {
+                this.chip.close();
+            } catch (IOException e) {
+                logger.warn("Unable to close GPIO chip <{}>; {}", this.chipPath, e.getMessage());
+            }
+            this.chip = null;
+        }
+        return provider;
+    }
+}
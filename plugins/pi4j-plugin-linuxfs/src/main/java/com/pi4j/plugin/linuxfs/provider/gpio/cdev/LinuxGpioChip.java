@@ -0,0 +1,228 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.cdev;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxGpioChip.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.linuxfs.LinuxFile;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>A GPIO chip character device ({@code /dev/gpiochipN}), accessed directly through the GPIO v2
+ * ioctl interface of the Linux kernel (5.10 and newer), without libgpiod.</p>
+ *
+ * <p>Lines are requested in groups of up to {@link #MAX_LINES} lines of the same chip; the returned
+ * {@link LinuxGpioLines} reads and writes all lines of a group atomically.  Edge detection, debounce
+ * and event timestamps are handled by the kernel.</p>
+ *
+ * @see "https://www.kernel.org/doc/html/latest/userspace-api/gpio/chardev.html"
+ */
+public class LinuxGpioChip implements Closeable {
+
+    /** Constant <code>DEFAULT_CHIP_PATH="/dev/gpiochip0"</code> */
+    public static String DEFAULT_CHIP_PATH = "/dev/gpiochip0";
+
+    /** Maximum number of lines in a single request */
+    public static final int MAX_LINES = 64;
+
+    // line flags (enum gpio_v2_line_flag)
+    public static final long FLAG_ACTIVE_LOW = 1L << 1;
+    public static final long FLAG_INPUT = 1L << 2;
+    public static final long FLAG_OUTPUT = 1L << 3;
+    public static final long FLAG_EDGE_RISING = 1L << 4;
+    public static final long FLAG_EDGE_FALLING = 1L << 5;
+    public static final long FLAG_OPEN_DRAIN = 1L << 6;
+    public static final long FLAG_OPEN_SOURCE = 1L << 7;
+    public static final long FLAG_BIAS_PULL_UP = 1L << 8;
+    public static final long FLAG_BIAS_PULL_DOWN = 1L << 9;
+    public static final long FLAG_BIAS_DISABLED = 1L << 10;
+
+    // ioctl commands; _IOWR(0xB4, nr, struct)
+    static final long GPIO_V2_GET_LINE_IOCTL = 0xC250B407L;
+    static final long GPIO_V2_LINE_GET_VALUES_IOCTL = 0xC010B40EL;
+    static final long GPIO_V2_LINE_SET_VALUES_IOCTL = 0xC010B40FL;
+
+    // struct gpio_v2_line_request
+    private static final int REQUEST_SIZE = 592;
+    private static final int REQUEST_CONSUMER = 256;
+    private static final int REQUEST_CONFIG = 288;
+    private static final int REQUEST_NUM_LINES = 560;
+    private static final int REQUEST_EVENT_BUFFER_SIZE = 564;
+    private static final int REQUEST_FD = 588;
+    private static final int CONSUMER_SIZE = 32;
+
+    // struct gpio_v2_line_config, relative to REQUEST_CONFIG
+    private static final int CONFIG_FLAGS = 0;
+    private static final int CONFIG_NUM_ATTRS = 8;
+    private static final int CONFIG_ATTRS = 32;
+
+    // struct gpio_v2_line_config_attribute
+    private static final int ATTR_SIZE = 24;
+    private static final int ATTR_ID = 0;
+    private static final int ATTR_VALUE = 8;
+    private static final int ATTR_MASK = 16;
+    private static final int ATTR_ID_OUTPUT_VALUES = 2;
+    private static final int ATTR_ID_DEBOUNCE = 3;
+
+    protected final String path;
+    protected final LinuxFile file;
+
+    /**
+     * <p>Constructor for LinuxGpioChip.</p>
+     *
+     * @param path the path of the GPIO chip character device, e.g. {@code /dev/gpiochip0}
+     * @throws IOException if the chip can not be opened
+     */
+    public LinuxGpioChip(String path) throws IOException {
+        this.path = path;
+        this.file = new LinuxFile(path, "rw");
+    }
+
+    /**
+     * @return the path of the GPIO chip character device
+     */
+    public String path() {
+        return path;
+    }
+
+    /**
+     * Request a group of input lines.
+     *
+     * @param consumer the consumer label shown by the kernel for the lines
+     * @param flags additional line flags, e.g. {@link #FLAG_EDGE_RISING} or {@link #FLAG_BIAS_PULL_UP}
+     * @param debounceMicros kernel debounce period in microseconds; 0 to disable debounce
+     * @param lines the line offsets on this chip
+     * @return the requested lines
+     * @throws IOException if the lines can not be requested
+     */
+    public LinuxGpioLines requestInputs(String consumer, long flags, long debounceMicros, int... lines) throws IOException {
+        return request(consumer, FLAG_INPUT | flags, debounceMicros, 0, 0, lines);
+    }
+
+    /**
+     * Request a group of output lines.
+     *
+     * @param consumer the consumer label shown by the kernel for the lines
+     * @param flags additional line flags, e.g. {@link #FLAG_OPEN_DRAIN}
+     * @param values the initial values of the lines; bit {@code i} is the value of {@code lines[i]}
+     * @param lines the line offsets on this chip
+     * @return the requested lines
+     * @throws IOException if the lines can not be requested
+     */
+    public LinuxGpioLines requestOutputs(String consumer, long flags, long values, int... lines) throws IOException {
+        return request(consumer, FLAG_OUTPUT | flags, 0, values, 0, lines);
+    }
+
+    /**
+     * Request a group of lines.
+     *
+     * @param consumer the consumer label shown by the kernel for the lines
+     * @param flags the line flags, applied to all lines
+     * @param debounceMicros kernel debounce period in microseconds for input lines; 0 to disable debounce
+     * @param values the initial values of output lines; bit {@code i} is the value of {@code lines[i]}
+     * @param eventBufferSize the number of edge events buffered by the kernel; 0 for the kernel default
+     * @param lines the line offsets on this chip
+     * @return the requested lines
+     * @throws IOException if the lines can not be requested
+     */
+    public synchronized LinuxGpioLines request(String consumer, long flags, long debounceMicros, long values,
+                                               int eventBufferSize, int... lines) throws IOException {
+        ByteBuffer request = encodeRequest(consumer, flags, debounceMicros, values, eventBufferSize, lines);
+        file.ioctl(GPIO_V2_GET_LINE_IOCTL, request);
+        return new LinuxGpioLines(requestFd(request), lines.clone());
+    }
+
+    /**
+     * Encode a {@code struct gpio_v2_line_request} for the {@link #GPIO_V2_GET_LINE_IOCTL} ioctl; the
+     * arguments are those of {@link #request(String, long, long, long, int, int...)}.
+     *
+     * @return a direct buffer in native byte order holding the request
+     */
+    static ByteBuffer encodeRequest(String consumer, long flags, long debounceMicros, long values,
+                                    int eventBufferSize, int... lines) {
+        if (lines.length == 0 || lines.length > MAX_LINES)
+            throw new IllegalArgumentException("between 1 and " + MAX_LINES + " lines can be requested; got " + lines.length);
+
+        ByteBuffer request = ByteBuffer.allocateDirect(REQUEST_SIZE).order(ByteOrder.nativeOrder());
+        for (int i = 0; i < lines.length; i++)
+            request.putInt(i * 4, lines[i]);
+
+        byte[] label = consumer == null ? new byte[0] : consumer.getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < Math.min(label.length, CONSUMER_SIZE - 1); i++)
+            request.put(REQUEST_CONSUMER + i, label[i]);
+
+        long mask = lines.length == MAX_LINES ? -1L : (1L << lines.length) - 1;
+        int attrs = 0;
+        request.putLong(REQUEST_CONFIG + CONFIG_FLAGS, flags);
+        if ((flags & FLAG_OUTPUT) != 0) {
+            int attr = REQUEST_CONFIG + CONFIG_ATTRS + attrs++ * ATTR_SIZE;
+            request.putInt(attr + ATTR_ID, ATTR_ID_OUTPUT_VALUES);
+            request.putLong(attr + ATTR_VALUE, values & mask);
+            request.putLong(attr + ATTR_MASK, mask);
+        }
+        if (debounceMicros > 0) {
+            int attr = REQUEST_CONFIG + CONFIG_ATTRS + attrs++ * ATTR_SIZE;
+            request.putInt(attr + ATTR_ID, ATTR_ID_DEBOUNCE);
+            request.putInt(attr + ATTR_VALUE, (int) Math.min(debounceMicros, 0xFFFFFFFFL));
+            request.putLong(attr + ATTR_MASK, mask);
+        }
+        request.putInt(REQUEST_CONFIG + CONFIG_NUM_ATTRS, attrs);
+        request.putInt(REQUEST_NUM_LINES, lines.length);
+        request.putInt(REQUEST_EVENT_BUFFER_SIZE, eventBufferSize);
+
+        return request;
+    }
+
+    /**
+     * Read the file descriptor of the requested lines from a request filled by the kernel.
+     *
+     * @param request a request encoded by {@link #encodeRequest(String, long, long, long, int, int...)}
+     * @return the file descriptor of the lines
+     */
+    static int requestFd(ByteBuffer request) {
+        return request.getInt(REQUEST_FD);
+    }
+
+    /**
+     * Close the chip; lines requested from it remain valid until they are closed themselves.
+     *
+     * @throws IOException if the chip can not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
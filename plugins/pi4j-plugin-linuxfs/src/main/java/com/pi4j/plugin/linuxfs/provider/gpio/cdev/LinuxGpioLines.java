@@ -0,0 +1,220 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.cdev;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxGpioLines.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.linuxfs.LinuxFile;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * <p>A group of lines requested from a {@link LinuxGpioChip}.</p>
+ *
+ * <p>Values are passed as bit masks, where bit {@code i} is the value of the {@code i}-th requested line;
+ * all lines of a group are read or written with a single ioctl, i.e. atomically.  Edge events of input
+ * lines are read in bulk into a direct buffer, as {@code struct gpio_v2_line_event} records of
+ * {@link #EVENT_SIZE} bytes, and decoded with {@link #eventTimestamp(ByteBuffer, int)},
+ * {@link #eventId(ByteBuffer, int)} and {@link #eventLine(ByteBuffer, int)}.</p>
+ */
+public class LinuxGpioLines implements Closeable {
+
+    /** Size in bytes of a single edge event */
+    public static final int EVENT_SIZE = 48;
+
+    /** Event id of a rising edge */
+    public static final int EVENT_RISING_EDGE = 1;
+    /** Event id of a falling edge */
+    public static final int EVENT_FALLING_EDGE = 2;
+
+    // struct gpio_v2_line_event
+    private static final int EVENT_TIMESTAMP = 0;
+    private static final int EVENT_ID = 8;
+    private static final int EVENT_OFFSET = 12;
+
+    // struct gpio_v2_line_values
+    private static final int VALUES_BITS = 0;
+    private static final int VALUES_MASK = 8;
+
+    private final int fd;
+    private final int[] lines;
+    private final long mask;
+    private final ByteBuffer values = ByteBuffer.allocateDirect(16).order(ByteOrder.nativeOrder());
+    private boolean closed;
+
+    LinuxGpioLines(int fd, int[] lines) {
+        this.fd = fd;
+        this.lines = lines;
+        this.mask = lines.length == LinuxGpioChip.MAX_LINES ? -1L : (1L << lines.length) - 1;
+    }
+
+    /**
+     * @return the number of lines in this group
+     */
+    public int size() {
+        return lines.length;
+    }
+
+    /**
+     * @param index the index of the line in this group
+     * @return the offset of the line on its chip
+     */
+    public int line(int index) {
+        return lines[index];
+    }
+
+    /**
+     * Read the values of all lines.
+     *
+     * @return the values of the lines; bit {@code i} is the value of the {@code i}-th line
+     * @throws IOException if the values can not be read
+     */
+    public long get() throws IOException {
+        return get(mask);
+    }
+
+    /**
+     * Read the values of the selected lines.
+     *
+     * @param mask the lines to read; bit {@code i} selects the {@code i}-th line
+     * @return the values of the selected lines; bits of other lines are 0
+     * @throws IOException if the values can not be read
+     */
+    public synchronized long get(long mask) throws IOException {
+        checkOpen();
+        values.putLong(VALUES_BITS, 0);
+        values.putLong(VALUES_MASK, mask & this.mask);
+        LinuxFile.ioctl(fd, LinuxGpioChip.GPIO_V2_LINE_GET_VALUES_IOCTL, values);
+        return values.getLong(VALUES_BITS) & mask;
+    }
+
+    /**
+     * Write the values of all lines.
+     *
+     * @param bits the values of the lines; bit {@code i} is the value of the {@code i}-th line
+     * @throws IOException if the values can not be written
+     */
+    public void set(long bits) throws IOException {
+        set(bits, mask);
+    }
+
+    /**
+     * Write the values of the selected lines; other lines keep their values.
+     *
+     * @param bits the values of the lines; bit {@code i} is the value of the {@code i}-th line
+     * @param mask the lines to write; bit {@code i} selects the {@code i}-th line
+     * @throws IOException if the values can not be written
+     */
+    public synchronized void set(long bits, long mask) throws IOException {
+        checkOpen();
+        values.putLong(VALUES_BITS, bits);
+        values.putLong(VALUES_MASK, mask & this.mask);
+        LinuxFile.ioctl(fd, LinuxGpioChip.GPIO_V2_LINE_SET_VALUES_IOCTL, values);
+    }
+
+    /**
+     * Wait for edge events of the input lines.
+     *
+     * @param timeoutNanos the maximum time to wait in nanoseconds
+     * @return true if events are available, false if the timeout elapsed
+     * @throws IOException if waiting fails
+     */
+    public boolean waitEvents(long timeoutNanos) throws IOException {
+        return LinuxFile.poll(fd, timeoutNanos);
+    }
+
+    /**
+     * Read the pending edge events into the remaining space of a direct buffer, as many as fit;
+     * blocks if no event is pending.  The buffer position is advanced past the events read.
+     *
+     * @param events a direct buffer in native byte order
+     * @return the number of events read
+     * @throws IOException if the events can not be read
+     */
+    public int readEvents(ByteBuffer events) throws IOException {
+        int limit = events.limit();
+        events.limit(events.position() + events.remaining() / EVENT_SIZE * EVENT_SIZE);
+        try {
+            return LinuxFile.read(fd, events) / EVENT_SIZE;
+        } finally {
+            events.limit(limit);
+        }
+    }
+
+    /**
+     * @param events a buffer filled by {@link #readEvents(ByteBuffer)}
+     * @param index the index of the event, counted from the start of the buffer
+     * @return the timestamp of the event in nanoseconds, on the clock of {@link System#nanoTime()}
+     */
+    public static long eventTimestamp(ByteBuffer events, int index) {
+        return events.getLong(index * EVENT_SIZE + EVENT_TIMESTAMP);
+    }
+
+    /**
+     * @param events a buffer filled by {@link #readEvents(ByteBuffer)}
+     * @param index the index of the event, counted from the start of the buffer
+     * @return {@link #EVENT_RISING_EDGE} or {@link #EVENT_FALLING_EDGE}
+     */
+    public static int eventId(ByteBuffer events, int index) {
+        return events.getInt(index * EVENT_SIZE + EVENT_ID);
+    }
+
+    /**
+     * @param events a buffer filled by {@link #readEvents(ByteBuffer)}
+     * @param index the index of the event, counted from the start of the buffer
+     * @return the offset on its chip of the line that triggered the event
+     */
+    public static int eventLine(ByteBuffer events, int index) {
+        return events.getInt(index * EVENT_SIZE + EVENT_OFFSET);
+    }
+
+    /**
+     * Release the lines.
+     *
+     * @throws IOException if the lines can not be released
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed)
+            return;
+        closed = true;
+        LinuxFile.close(fd);
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed)
+            throw new IOException("GPIO lines " + Arrays.toString(lines) + " are closed");
+    }
+
+    @Override
+    public String toString() {
+        return "LinuxGpioLines" + Arrays.toString(lines);
+    }
+}
@@ -38,6 +38,7 @@ import org.slf4j.LoggerFactory;
 
 import java.nio.file.*;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>LinuxFsDigitalInput class.</p>
@@ -120,6 +121,9 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
         // [INITIALIZE] perform any further initialization on GPIO  via superclass impl
         super.initialize(context);
 
+        // [DEBOUNCE] apply debounce via the software edge filter, confirmed from the monitoring loop
+        enableFilter(true);
+
         // [MONITOR] start background monitoring thread for GPIO state changes
         logger.trace("start monitoring thread for GPIO [{}]; {}", this.config.address(), gpio.getPinPath());
         Runnable monitorTask = () -> {
@@ -138,7 +142,18 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
 				path.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY);
 
 				// dispatch value change event
-				while ((key = watchService.take()) != null) {
+				while (true) {
+					// while a debounced change is pending, wait no longer than until it becomes stable
+					long deadline = filterDeadline();
+					if (deadline == Long.MAX_VALUE) {
+						key = watchService.take();
+					} else {
+						key = watchService.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+						if (key == null) {
+							expireFilter(System.nanoTime());
+							continue;
+						}
+					}
 					for (WatchEvent<?> event : key.pollEvents()) {
 						if (event.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
 							if (event.context().toString().equalsIgnoreCase("value")) {
@@ -146,8 +161,7 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
 								DigitalState newState = LinuxFsDigitalInput.this.gpio.state();
 								if (newState != LinuxFsDigitalInput.this.state) {
 									LinuxFsDigitalInput.this.state = newState;
-									LinuxFsDigitalInput.this.dispatch(
-										new DigitalStateChangeEvent(LinuxFsDigitalInput.this, newState));
+									LinuxFsDigitalInput.this.dispatch(newState, System.nanoTime());
 								}
 							}
 						}
@@ -160,7 +174,7 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
 				// thread interrupted; likely exiting on shutdown
 			}
 		};
-        this.inputListener = context.submitTask(monitorTask);
+        this.inputListener = context.submitMonitor(monitorTask);
 
         // return this I/O instance
         return this;
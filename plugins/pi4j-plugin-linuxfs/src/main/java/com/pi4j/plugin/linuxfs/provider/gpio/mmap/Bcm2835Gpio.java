@@ -0,0 +1,159 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.mmap;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  Bcm2835Gpio.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.PullResistance;
+
+import java.nio.ByteBuffer;
+
+/**
+ * GPIO registers of the BCM2835 to BCM2711, as mapped by {@code /dev/gpiomem}.
+ *
+ * @see "BCM2835 ARM Peripherals, chapter 6; BCM2711 ARM Peripherals, chapter 5"
+ */
+class Bcm2835Gpio extends MemoryMappedGpio {
+
+    static final int SIZE = 0xF4;
+
+    static final int GPFSEL0 = 0x00;
+    static final int GPSET0 = 0x1C;
+    static final int GPSET1 = 0x20;
+    static final int GPCLR0 = 0x28;
+    static final int GPCLR1 = 0x2C;
+    static final int GPLEV0 = 0x34;
+    static final int GPLEV1 = 0x38;
+
+    // pull control of the BCM2835 to BCM2837: a code is clocked into the selected pins
+    static final int GPPUD = 0x94;
+    static final int GPPUDCLK0 = 0x98;
+
+    // pull control of the BCM2711: two bits per pin
+    static final int GPIO_PUP_PDN_CNTRL_REG0 = 0xE4;
+    static final int GPIO_PUP_PDN_CNTRL_REG3 = 0xF0;
+
+    // the BCM2835 to BCM2837 return "gpio" for the unused BCM2711 pull control registers
+    static final int LEGACY_PULL_MAGIC = 0x6770696F;
+
+    private static final int PINS = 54;
+
+    Bcm2835Gpio(ByteBuffer registers, boolean mapped) {
+        super(registers, mapped);
+    }
+
+    @Override
+    protected int size() {
+        return SIZE;
+    }
+
+    @Override
+    public int pins() {
+        return PINS;
+    }
+
+    @Override
+    public void input(int pin) {
+        function(pin, 0b000);
+    }
+
+    @Override
+    public void output(int pin) {
+        function(pin, 0b001);
+    }
+
+    private synchronized void function(int pin, int function) {
+        checkPin(pin);
+        int offset = GPFSEL0 + (pin / 10) * 4;
+        int shift = (pin % 10) * 3;
+        write(offset, (read(offset) & ~(0b111 << shift)) | (function << shift));
+    }
+
+    @Override
+    public synchronized void pull(int pin, PullResistance pull) {
+        checkPin(pin);
+        if (read(GPIO_PUP_PDN_CNTRL_REG3) == LEGACY_PULL_MAGIC) {
+            int code = pull == PullResistance.PULL_UP ? 0b10 : pull == PullResistance.PULL_DOWN ? 0b01 : 0b00;
+            int clock = GPPUDCLK0 + (pin / 32) * 4;
+            write(GPPUD, code);
+            settle();
+            write(clock, 1 << (pin % 32));
+            settle();
+            write(GPPUD, 0);
+            write(clock, 0);
+        } else {
+            int code = pull == PullResistance.PULL_UP ? 0b01 : pull == PullResistance.PULL_DOWN ? 0b10 : 0b00;
+            int offset = GPIO_PUP_PDN_CNTRL_REG0 + (pin / 16) * 4;
+            int shift = (pin % 16) * 2;
+            write(offset, (read(offset) & ~(0b11 << shift)) | (code << shift));
+        }
+    }
+
+    // the legacy pull control requires 150 cycles of setup and hold time
+    private static void settle() {
+        long until = System.nanoTime() + 1000;
+        while (System.nanoTime() < until)
+            Thread.onSpinWait();
+    }
+
+    @Override
+    public void high(int pin) {
+        checkPin(pin);
+        if (pin < 32)
+            write(GPSET0, 1 << pin);
+        else
+            write(GPSET1, 1 << (pin - 32));
+    }
+
+    @Override
+    public void low(int pin) {
+        checkPin(pin);
+        if (pin < 32)
+            write(GPCLR0, 1 << pin);
+        else
+            write(GPCLR1, 1 << (pin - 32));
+    }
+
+    @Override
+    public void set(int mask) {
+        write(GPSET0, mask);
+    }
+
+    @Override
+    public void clear(int mask) {
+        write(GPCLR0, mask);
+    }
+
+    @Override
+    public int levels() {
+        return read(GPLEV0);
+    }
+
+    @Override
+    protected int levels(int pin) {
+        return pin < 32 ? read(GPLEV0) : read(GPLEV1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.mmap;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  MemoryMappedBitBangPin.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.bitbang.BitBangPin;
+
+/**
+ * <p>A bidirectional bit-bang pin driven directly through the GPIO registers.  A released pin is
+ * switched to input; driving it switches it back to output after its level has been latched.</p>
+ */
+public class MemoryMappedBitBangPin implements BitBangPin {
+
+    private final MemoryMappedGpio gpio;
+    private final int pin;
+    private boolean released = true;
+
+    /**
+     * <p>Constructor for MemoryMappedBitBangPin.</p>
+     *
+     * @param gpio the GPIO registers
+     * @param pin the GPIO number
+     */
+    public MemoryMappedBitBangPin(MemoryMappedGpio gpio, int pin) {
+        gpio.checkPin(pin);
+        this.gpio = gpio;
+        this.pin = pin;
+    }
+
+    @Override
+    public void high() {
+        gpio.high(pin);
+        drive();
+    }
+
+    @Override
+    public void low() {
+        gpio.low(pin);
+        drive();
+    }
+
+    @Override
+    public void release() {
+        gpio.input(pin);
+        released = true;
+    }
+
+    @Override
+    public boolean read() {
+        return gpio.state(pin);
+    }
+
+    @Override
+    public boolean isBidirectional() {
+        return true;
+    }
+
+    private void drive() {
+        if (released) {
+            gpio.output(pin);
+            released = false;
+        }
+    }
+}
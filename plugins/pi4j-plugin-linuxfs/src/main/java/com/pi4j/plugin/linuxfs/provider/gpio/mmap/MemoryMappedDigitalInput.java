@@ -0,0 +1,72 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.mmap;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  MemoryMappedDigitalInput.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.io.gpio.digital.*;
+
+/**
+ * <p>Digital input read from the memory mapped GPIO registers.  The registers do not report edges, so
+ * state change events are only dispatched if the input is polled (see
+ * {@link DigitalInputConfig#pollInterval()}).</p>
+ */
+public class MemoryMappedDigitalInput extends DigitalInputBase implements DigitalInput {
+    private final MemoryMappedGpio gpio;
+    private final int pin;
+
+    /**
+     * <p>Constructor for MemoryMappedDigitalInput.</p>
+     *
+     * @param gpio     a {@link MemoryMappedGpio} object.
+     * @param provider a {@link DigitalInputProvider} object.
+     * @param config   a {@link DigitalInputConfig} object.
+     */
+    public MemoryMappedDigitalInput(MemoryMappedGpio gpio, DigitalInputProvider provider, DigitalInputConfig config) {
+        super(provider, config);
+        this.gpio = gpio;
+        this.pin = config.address();
+    }
+
+    @Override
+    public DigitalInput initialize(Context context) throws InitializeException {
+        try {
+            this.gpio.input(this.pin);
+            if (this.config.pull() != null)
+                this.gpio.pull(this.pin, this.config.pull());
+        } catch (IllegalArgumentException e) {
+            throw new InitializeException("Unable to configure GPIO [" + config.address() + "]; " + e.getMessage(), e);
+        }
+        return super.initialize(context);
+    }
+
+    @Override
+    public DigitalState state() {
+        return DigitalState.getState(this.gpio.state(this.pin));
+    }
+}
@@ -0,0 +1,129 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.mmap;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  MemoryMappedDigitalInputProviderImpl.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.bitbang.BitBangPin;
+import com.pi4j.io.bitbang.BitBangProvider;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalInputConfig;
+import com.pi4j.io.gpio.digital.DigitalInputProvider;
+import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * <p>MemoryMappedDigitalInputProviderImpl class.</p>
+ */
+public class MemoryMappedDigitalInputProviderImpl extends DigitalInputProviderBase implements MemoryMappedDigitalInputProvider, BitBangProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemoryMappedDigitalInputProviderImpl.class);
+
+    final String gpioMemPath;
+    final boolean rp1;
+    private MemoryMappedGpio gpio;
+    private boolean shutdown;
+
+    /**
+     * <p>Constructor for MemoryMappedDigitalInputProviderImpl.</p>
+     * @param gpioMemPath the register device, or a regular file holding a fake register map
+     * @param rp1 true for the RP1 register layout, false for the BCM2835 layout
+     */
+    public MemoryMappedDigitalInputProviderImpl(String gpioMemPath, boolean rp1) {
+        this.id = ID;
+        this.name = NAME;
+        this.gpioMemPath = gpioMemPath;
+        this.rp1 = rp1;
+    }
+
+    @Override
+    public int getPriority() {
+        // opt-in only; select this provider explicitly by its ID
+        return 20;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized DigitalInput create(DigitalInputConfig config) {
+        MemoryMappedDigitalInput digitalInput = new MemoryMappedDigitalInput(gpio(), this, config);
+        this.context.registry().add(digitalInput);
+        return digitalInput;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized BitBangPin bitBangPin(int address) {
+        return new MemoryMappedBitBangPin(gpio(), address);
+    }
+
+    private synchronized MemoryMappedGpio gpio() {
+        if (this.shutdown)
+            throw new Pi4JException("Provider <" + this.id + "> has been shut down");
+        // the registers are mapped on first use, so that the plugin loads on systems without them
+        if (this.gpio == null) {
+            try {
+                this.gpio = MemoryMappedGpio.open(this.gpioMemPath, this.rp1);
+            } catch (IOException e) {
+                throw new Pi4JException("Unable to map GPIO registers <" + this.gpioMemPath + ">; " + e.getMessage(), e);
+            }
+        }
+        return this.gpio;
+    }
+
+    @Override
+    public synchronized DigitalInputProvider initialize(Context context) throws InitializeException {
+        this.shutdown = false;
+        return super.initialize(context);
+    }
+
+    @Override
+    public synchronized DigitalInputProvider shutdown(Context context) throws ShutdownException {
+        // the registers are not mapped again once they have been unmapped
+        this.shutdown = true;
+        // shut down all I/O instances before the registers are unmapped
+        DigitalInputProvider provider = super.shutdown(context);
+        if (this.gpio != null) {
+            try {
+                this.gpio.close();
+            } catch (IOException e) {
+                logger.warn("Unable to unmap GPIO registers <{}>; {}", this.gpioMemPath, e.getMessage());
+            }
+            this.gpio = null;
+        }
+        return provider;
+    }
+}
@@ -0,0 +1,101 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.mmap;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  MemoryMappedDigitalOutput.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.*;
+
+/**
+ * <p>Digital output driven through the memory mapped GPIO registers.  Bit-banged protocols that need
+ * the full speed of the registers should use {@link MemoryMappedGpio} directly, which bypasses the
+ * state tracking and event dispatching of this class.</p>
+ */
+public class MemoryMappedDigitalOutput extends DigitalOutputBase implements DigitalOutput {
+    private final MemoryMappedGpio gpio;
+    private final int pin;
+
+    /**
+     * <p>Constructor for MemoryMappedDigitalOutput.</p>
+     *
+     * @param gpio     a {@link MemoryMappedGpio} object.
+     * @param provider a {@link DigitalOutputProvider} object.
+     * @param config   a {@link DigitalOutputConfig} object.
+     */
+    public MemoryMappedDigitalOutput(MemoryMappedGpio gpio, DigitalOutputProvider provider, DigitalOutputConfig config) {
+        super(provider, config);
+        this.gpio = gpio;
+        this.pin = config.address();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DigitalOutput initialize(Context context) throws InitializeException {
+        try {
+            // latch the initial state before the pin is switched to output, so that it never glitches
+            this.gpio.state(this.pin, this.config.initialState() == DigitalState.HIGH);
+            this.gpio.output(this.pin);
+        } catch (IllegalArgumentException e) {
+            throw new InitializeException("Unable to configure GPIO [" + config.address() + "]; " + e.getMessage(), e);
+        }
+        return super.initialize(context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DigitalOutput state(DigitalState state) throws IOException {
+        this.gpio.state(this.pin, state.isHigh());
+        return super.state(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DigitalOutput shutdown(Context context) throws ShutdownException {
+        // no longer part of the provider's bank writes
+        if (provider() instanceof MemoryMappedDigitalOutputProviderImpl)
+            ((MemoryMappedDigitalOutputProviderImpl) provider()).remove(this);
+        return super.shutdown(context);
+    }
+
+    /**
+     * Track a state that has already been written to the registers by a bank write.
+     *
+     * @param state the state written
+     */
+    void written(DigitalState state) {
+        super.state(state);
+    }
+}
@@ -0,0 +1,62 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.mmap;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  MemoryMappedDigitalOutputProvider.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.io.gpio.digital.DigitalOutputProvider;
+import com.pi4j.plugin.linuxfs.LinuxFsPlugin;
+
+/**
+ * <p>Digital input provider writing the memory mapped GPIO registers.</p>
+ */
+public interface MemoryMappedDigitalOutputProvider extends DigitalOutputProvider {
+    /** Constant <code>NAME="LinuxFs.MMAP_DIGITAL_OUTPUT_PROVIDER_NAME"</code> */
+    String NAME = LinuxFsPlugin.MMAP_DIGITAL_OUTPUT_PROVIDER_NAME;
+    /** Constant <code>ID="LinuxFs.MMAP_DIGITAL_OUTPUT_PROVIDER_ID"</code> */
+    String ID = LinuxFsPlugin.MMAP_DIGITAL_OUTPUT_PROVIDER_ID;
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param gpioMemPath the register device, or a regular file holding a fake register map
+     * @param rp1 true for the RP1 register layout, false for the BCM2835 layout
+     * @return a {@link com.pi4j.plugin.linuxfs.provider.gpio.mmap.MemoryMappedDigitalOutputProvider} object.
+     */
+    static MemoryMappedDigitalOutputProvider newInstance(String gpioMemPath, boolean rp1) {
+        return new MemoryMappedDigitalOutputProviderImpl(gpioMemPath, rp1);
+    }
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @return a {@link com.pi4j.plugin.linuxfs.provider.gpio.mmap.MemoryMappedDigitalOutputProvider} object.
+     */
+    static MemoryMappedDigitalOutputProvider newInstance() {
+        return new MemoryMappedDigitalOutputProviderImpl(MemoryMappedGpio.defaultPath(), BoardInfoHelper.usesRP1());
+    }
+}
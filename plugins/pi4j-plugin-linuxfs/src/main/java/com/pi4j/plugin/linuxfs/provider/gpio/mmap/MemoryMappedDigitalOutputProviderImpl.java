@@ -0,0 +1,182 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.mmap;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  MemoryMappedDigitalOutputProviderImpl.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.bitbang.BitBangPin;
+import com.pi4j.io.bitbang.BitBangProvider;
+import com.pi4j.io.gpio.digital.DigitalBankWriter;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputConfig;
+import com.pi4j.io.gpio.digital.DigitalOutputProvider;
+import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
+import com.pi4j.io.gpio.digital.DigitalState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>MemoryMappedDigitalOutputProviderImpl class.</p>
+ */
+public class MemoryMappedDigitalOutputProviderImpl extends DigitalOutputProviderBase implements MemoryMappedDigitalOutputProvider, BitBangProvider, DigitalBankWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemoryMappedDigitalOutputProviderImpl.class);
+
+    final String gpioMemPath;
+    final boolean rp1;
+    private MemoryMappedGpio gpio;
+    private boolean shutdown;
+    private final Map<Integer, MemoryMappedDigitalOutput> outputs = new ConcurrentHashMap<>();
+
+    /**
+     * <p>Constructor for MemoryMappedDigitalOutputProviderImpl.</p>
+     * @param gpioMemPath the register device, or a regular file holding a fake register map
+     * @param rp1 true for the RP1 register layout, false for the BCM2835 layout
+     */
+    public MemoryMappedDigitalOutputProviderImpl(String gpioMemPath, boolean rp1) {
+        this.id = ID;
+        this.name = NAME;
+        this.gpioMemPath = gpioMemPath;
+        this.rp1 = rp1;
+    }
+
+    @Override
+    public int getPriority() {
+        // opt-in only; select this provider explicitly by its ID
+        return 20;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized DigitalOutput create(DigitalOutputConfig config) {
+        MemoryMappedDigitalOutput digitalOutput = new MemoryMappedDigitalOutput(gpio(), this, config);
+        this.context.registry().add(digitalOutput);
+        this.outputs.put(config.address(), digitalOutput);
+        return digitalOutput;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeBank(int bank, int mask, int states) {
+        // pins whose outputs have been shut down are no longer driven
+        for (int bit = 0; bit < BANK_SIZE; bit++)
+            if ((mask & (1 << bit)) != 0 && !this.outputs.containsKey(bank * BANK_SIZE + bit))
+                mask &= ~(1 << bit);
+        if (mask == 0)
+            return;
+
+        // serialized with shutdown(), so that the registers are not unmapped while they are written
+        synchronized (this) {
+            MemoryMappedGpio gpio = gpio();
+            if (bank == 0) {
+                // a single write to the set and clear registers each
+                if ((mask & states) != 0)
+                    gpio.set(mask & states);
+                if ((mask & ~states) != 0)
+                    gpio.clear(mask & ~states);
+            } else {
+                for (int bit = 0; bit < BANK_SIZE; bit++)
+                    if ((mask & (1 << bit)) != 0)
+                        gpio.state(bank * BANK_SIZE + bit, (states & (1 << bit)) != 0);
+            }
+        }
+
+        for (int bit = 0; bit < BANK_SIZE; bit++) {
+            if ((mask & (1 << bit)) != 0) {
+                MemoryMappedDigitalOutput output = this.outputs.get(bank * BANK_SIZE + bit);
+                if (output != null)
+                    output.written((states & (1 << bit)) != 0 ? DigitalState.HIGH : DigitalState.LOW);
+            }
+        }
+    }
+
+    /**
+     * Stop tracking an output that is being shut down
+     *
+     * @param output the output
+     */
+    void remove(MemoryMappedDigitalOutput output) {
+        this.outputs.remove(output.address(), output);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized BitBangPin bitBangPin(int address) {
+        return new MemoryMappedBitBangPin(gpio(), address);
+    }
+
+    private synchronized MemoryMappedGpio gpio() {
+        if (this.shutdown)
+            throw new Pi4JException("Provider <" + this.id + "> has been shut down");
+        // the registers are mapped on first use, so that the plugin loads on systems without them
+        if (this.gpio == null) {
+            try {
+                this.gpio = MemoryMappedGpio.open(this.gpioMemPath, this.rp1);
+            } catch (IOException e) {
+                throw new Pi4JException("Unable to map GPIO registers <" + this.gpioMemPath + ">; " + e.getMessage(), e);
+            }
+        }
+        return this.gpio;
+    }
+
+    @Override
+    public synchronized DigitalOutputProvider initialize(Context context) throws InitializeException {
+        this.shutdown = false;
+        return super.initialize(context);
+    }
+
+    @Override
+    public synchronized DigitalOutputProvider shutdown(Context context) throws ShutdownException {
+        // the registers are not mapped again once they have been unmapped
+        this.shutdown = true;
+        // shut down all I/O instances before the registers are unmapped
+        DigitalOutputProvider provider = super.shutdown(context);
+        this.outputs.clear();
+        if (this.gpio != null) {
+            try {
+                this.gpio.close();
+            } catch (IOException e) {
+                logger.warn("Unable to unmap GPIO registers <{}>; {}", this.gpioMemPath, e.getMessage());
+            }
+            this.gpio = null;
+        }
+        return provider;
+    }
+}
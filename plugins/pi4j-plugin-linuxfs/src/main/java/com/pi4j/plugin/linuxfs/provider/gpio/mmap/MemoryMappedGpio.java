@@ -0,0 +1,259 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.mmap;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  MemoryMappedGpio.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.io.gpio.digital.PullResistance;
+import com.pi4j.library.linuxfs.LinuxFile;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>Direct access to the GPIO registers, memory mapped from {@code /dev/gpiomem} (BCM2835 to BCM2711)
+ * or {@code /dev/gpiomem0} (RP1 on the Raspberry Pi 5).  Pins are set, cleared and read with plain
+ * memory accesses, without any system call, which allows toggling pins at MHz rates from Java.</p>
+ *
+ * <p>Register writes are release stores and reads are acquire loads, so that they are neither
+ * eliminated nor reordered by the JIT compiler.  Bank 0 (pins 0 to 31) can be set, cleared and read as
+ * a whole with {@link #set(int)}, {@link #clear(int)} and {@link #levels()}.</p>
+ *
+ * <p>Mapping a regular file instead of a device yields a fake register map, which is useful for tests.</p>
+ */
+public abstract class MemoryMappedGpio implements Closeable {
+
+    /** Constant <code>DEFAULT_GPIOMEM_PATH="/dev/gpiomem"</code> */
+    public static String DEFAULT_GPIOMEM_PATH = "/dev/gpiomem";
+    /** Constant <code>DEFAULT_RP1_GPIOMEM_PATH="/dev/gpiomem0"</code> */
+    public static String DEFAULT_RP1_GPIOMEM_PATH = "/dev/gpiomem0";
+
+    private static final VarHandle REGISTER = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    protected final ByteBuffer registers;
+    private final boolean mapped;
+    private volatile boolean closed;
+
+    protected MemoryMappedGpio(ByteBuffer registers, boolean mapped) {
+        if (registers.capacity() < size())
+            throw new IllegalArgumentException("register map of " + registers.capacity() + " bytes is smaller than " + size() + " bytes");
+        this.registers = registers;
+        this.mapped = mapped;
+    }
+
+    /**
+     * @return the default register device of the board, depending on {@link BoardInfoHelper#usesRP1()}
+     */
+    public static String defaultPath() {
+        return BoardInfoHelper.usesRP1() ? DEFAULT_RP1_GPIOMEM_PATH : DEFAULT_GPIOMEM_PATH;
+    }
+
+    /**
+     * Map the GPIO registers of the board from the default register device.
+     *
+     * @return the register map
+     * @throws IOException if the registers can not be mapped
+     */
+    public static MemoryMappedGpio open() throws IOException {
+        return open(defaultPath(), BoardInfoHelper.usesRP1());
+    }
+
+    /**
+     * Map GPIO registers from a register device or, for tests, a regular file.
+     *
+     * @param path the register device or file
+     * @param rp1 true for the RP1 register layout, false for the BCM2835 layout
+     * @return the register map
+     * @throws IOException if the registers can not be mapped
+     */
+    public static MemoryMappedGpio open(String path, boolean rp1) throws IOException {
+        int size = rp1 ? Rp1Gpio.SIZE : Bcm2835Gpio.SIZE;
+        Path file = Paths.get(path);
+        if (Files.isRegularFile(file)) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                ByteBuffer registers = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                return rp1 ? new Rp1Gpio(registers, false) : new Bcm2835Gpio(registers, false);
+            }
+        }
+
+        // a character device can only be mapped natively
+        try (LinuxFile device = new LinuxFile(path, "rw")) {
+            ByteBuffer registers = device.map(0, size);
+            return rp1 ? new Rp1Gpio(registers, true) : new Bcm2835Gpio(registers, true);
+        }
+    }
+
+    /**
+     * @return the size in bytes of the register map
+     */
+    protected abstract int size();
+
+    /**
+     * @return the number of pins accessible through the registers
+     */
+    public abstract int pins();
+
+    /**
+     * Configure a pin as input.
+     *
+     * @param pin the GPIO number
+     */
+    public abstract void input(int pin);
+
+    /**
+     * Configure a pin as output.
+     *
+     * @param pin the GPIO number
+     */
+    public abstract void output(int pin);
+
+    /**
+     * Configure the pull resistor of a pin.
+     *
+     * @param pin the GPIO number
+     * @param pull the pull resistance
+     */
+    public abstract void pull(int pin, PullResistance pull);
+
+    /**
+     * Drive an output pin high.
+     *
+     * @param pin the GPIO number
+     */
+    public abstract void high(int pin);
+
+    /**
+     * Drive an output pin low.
+     *
+     * @param pin the GPIO number
+     */
+    public abstract void low(int pin);
+
+    /**
+     * Drive an output pin.
+     *
+     * @param pin the GPIO number
+     * @param high true to drive the pin high, false to drive it low
+     */
+    public void state(int pin, boolean high) {
+        if (high)
+            high(pin);
+        else
+            low(pin);
+    }
+
+    /**
+     * Read the level of a pin.
+     *
+     * @param pin the GPIO number
+     * @return true if the pin is high
+     */
+    public boolean state(int pin) {
+        checkPin(pin);
+        return (levels(pin) & (1 << (pin & 31))) != 0;
+    }
+
+    /**
+     * Drive the output pins of bank 0 that are selected by the mask high, in a single write.
+     *
+     * @param mask bit {@code n} selects GPIO {@code n}
+     */
+    public abstract void set(int mask);
+
+    /**
+     * Drive the output pins of bank 0 that are selected by the mask low, in a single write.
+     *
+     * @param mask bit {@code n} selects GPIO {@code n}
+     */
+    public abstract void clear(int mask);
+
+    /**
+     * @return the levels of the pins of bank 0; bit {@code n} is the level of GPIO {@code n}
+     */
+    public abstract int levels();
+
+    /**
+     * @param pin a GPIO number of the bank to read
+     * @return the levels of the pins of the bank containing the pin
+     */
+    protected int levels(int pin) {
+        return levels();
+    }
+
+    /**
+     * Unmap the registers.  Register accesses after the registers have been unmapped fail with an
+     * {@link IllegalStateException}; accesses must not run concurrently with this method.
+     *
+     * @throws IOException if the registers can not be unmapped
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed)
+            return;
+        closed = true;
+        // a mapped file is unmapped once the buffer is garbage collected
+        if (mapped)
+            LinuxFile.unmap(registers);
+    }
+
+    /**
+     * @return true if the registers have been unmapped
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    protected int read(int offset) {
+        checkOpen();
+        return (int) REGISTER.getAcquire(registers, offset);
+    }
+
+    protected void write(int offset, int value) {
+        checkOpen();
+        REGISTER.setRelease(registers, offset, value);
+    }
+
+    private void checkOpen() {
+        // an access to unmapped registers would crash the JVM
+        if (closed)
+            throw new IllegalStateException("GPIO registers have been unmapped");
+    }
+
+    protected void checkPin(int pin) {
+        if (pin < 0 || pin >= pins())
+            throw new IllegalArgumentException("GPIO " + pin + " is out of range [0, " + pins() + ")");
+    }
+}
@@ -0,0 +1,145 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.mmap;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  Rp1Gpio.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.PullResistance;
+
+import java.nio.ByteBuffer;
+
+/**
+ * GPIO registers of bank 0 of the RP1 of the Raspberry Pi 5, as mapped by {@code /dev/gpiomem0}.  Pins
+ * are switched to the registered I/O (RIO) function and driven through its atomic set and clear
+ * aliases.
+ *
+ * @see "RP1 Peripherals, chapter 3"
+ */
+class Rp1Gpio extends MemoryMappedGpio {
+
+    static final int SIZE = 0x30000;
+
+    // register blocks
+    static final int IO_BANK0 = 0x00000;
+    static final int SYS_RIO0 = 0x10000;
+    static final int PADS_BANK0 = 0x20000;
+
+    // atomic aliases of every register block
+    static final int SET = 0x2000;
+    static final int CLR = 0x3000;
+
+    // IO_BANK0: GPIOn_STATUS at 8n, GPIOn_CTRL at 8n + 4
+    static final int CTRL_FUNCSEL_MASK = 0x1F;
+    static final int FUNCSEL_RIO = 5;
+
+    // SYS_RIO0
+    static final int RIO_OUT = SYS_RIO0;
+    static final int RIO_OE = SYS_RIO0 + 0x4;
+    // 0x8 is RIO_NOSYNC_IN, the raw pad levels; SYNC_IN passes them through the input synchronizer
+    static final int RIO_SYNC_IN = SYS_RIO0 + 0xC;
+
+    // PADS_BANK0: GPIOn at 4n + 4
+    static final int PAD_OD = 1 << 7;
+    static final int PAD_IE = 1 << 6;
+    static final int PAD_PUE = 1 << 3;
+    static final int PAD_PDE = 1 << 2;
+
+    private static final int PINS = 28;
+
+    Rp1Gpio(ByteBuffer registers, boolean mapped) {
+        super(registers, mapped);
+    }
+
+    @Override
+    protected int size() {
+        return SIZE;
+    }
+
+    @Override
+    public int pins() {
+        return PINS;
+    }
+
+    @Override
+    public synchronized void input(int pin) {
+        rio(pin);
+        write(RIO_OE + CLR, 1 << pin);
+    }
+
+    @Override
+    public synchronized void output(int pin) {
+        rio(pin);
+        write(RIO_OE + SET, 1 << pin);
+    }
+
+    private void rio(int pin) {
+        checkPin(pin);
+        int ctrl = IO_BANK0 + pin * 8 + 4;
+        write(ctrl, (read(ctrl) & ~CTRL_FUNCSEL_MASK) | FUNCSEL_RIO);
+        // enable the input buffer, so that outputs can be read back as well
+        int pad = PADS_BANK0 + pin * 4 + 4;
+        write(pad, (read(pad) & ~PAD_OD) | PAD_IE);
+    }
+
+    @Override
+    public synchronized void pull(int pin, PullResistance pull) {
+        checkPin(pin);
+        int pad = PADS_BANK0 + pin * 4 + 4;
+        int value = read(pad) & ~(PAD_PUE | PAD_PDE);
+        if (pull == PullResistance.PULL_UP)
+            value |= PAD_PUE;
+        else if (pull == PullResistance.PULL_DOWN)
+            value |= PAD_PDE;
+        write(pad, value);
+    }
+
+    @Override
+    public void high(int pin) {
+        checkPin(pin);
+        write(RIO_OUT + SET, 1 << pin);
+    }
+
+    @Override
+    public void low(int pin) {
+        checkPin(pin);
+        write(RIO_OUT + CLR, 1 << pin);
+    }
+
+    @Override
+    public void set(int mask) {
+        write(RIO_OUT + SET, mask);
+    }
+
+    @Override
+    public void clear(int mask) {
+        write(RIO_OUT + CLR, mask);
+    }
+
+    @Override
+    public int levels() {
+        return read(RIO_SYNC_IN);
+    }
+}
@@ -37,6 +37,8 @@ module com.pi4j.plugin.linuxfs {
 
     exports com.pi4j.plugin.linuxfs;
     exports com.pi4j.plugin.linuxfs.provider.gpio.digital;
+    exports com.pi4j.plugin.linuxfs.provider.gpio.cdev;
+    exports com.pi4j.plugin.linuxfs.provider.gpio.mmap;
     exports com.pi4j.plugin.linuxfs.provider.pwm;
     exports com.pi4j.plugin.linuxfs.provider.i2c;
 
@@ -0,0 +1,115 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.cdev;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the encoding of {@code struct gpio_v2_line_request} against the layout of the kernel's
+ * {@code include/uapi/linux/gpio.h}.
+ */
+class LinuxGpioChipTest {
+
+    // struct gpio_v2_line_request
+    private static final int OFFSETS = 0;
+    private static final int CONSUMER = 256;
+    private static final int FLAGS = 288;
+    private static final int NUM_ATTRS = 296;
+    private static final int ATTRS = 320;
+    private static final int ATTR_SIZE = 24;
+    private static final int NUM_LINES = 560;
+    private static final int EVENT_BUFFER_SIZE = 564;
+    private static final int FD = 588;
+    private static final int SIZE = 592;
+
+    @Test
+    void testInputRequest() {
+        long flags = LinuxGpioChip.FLAG_INPUT | LinuxGpioChip.FLAG_EDGE_RISING | LinuxGpioChip.FLAG_BIAS_PULL_UP;
+        ByteBuffer request = LinuxGpioChip.encodeRequest("button", flags, 0, 0, 16, 17, 27);
+
+        assertEquals(SIZE, request.capacity());
+        assertTrue(request.isDirect());
+        assertEquals(ByteOrder.nativeOrder(), request.order());
+        assertEquals(17, request.getInt(OFFSETS));
+        assertEquals(27, request.getInt(OFFSETS + 4));
+        assertEquals(0, request.getInt(OFFSETS + 8));
+        assertEquals("button", consumer(request));
+        assertEquals((1L << 2) | (1L << 4) | (1L << 8), request.getLong(FLAGS));
+        assertEquals(0, request.getInt(NUM_ATTRS));
+        assertEquals(2, request.getInt(NUM_LINES));
+        assertEquals(16, request.getInt(EVENT_BUFFER_SIZE));
+        assertEquals(0, request.getInt(FD));
+    }
+
+    @Test
+    void testOutputValues() {
+        ByteBuffer request = LinuxGpioChip.encodeRequest("leds", LinuxGpioChip.FLAG_OUTPUT, 0, 0b1101, 0, 5, 6, 13);
+
+        assertEquals(1L << 3, request.getLong(FLAGS));
+        assertEquals(1, request.getInt(NUM_ATTRS));
+        // GPIO_V2_LINE_ATTR_ID_OUTPUT_VALUES; values beyond the requested lines are dropped
+        assertEquals(2, request.getInt(ATTRS));
+        assertEquals(0b101, request.getLong(ATTRS + 8));
+        assertEquals(0b111, request.getLong(ATTRS + 16));
+        assertEquals(3, request.getInt(NUM_LINES));
+    }
+
+    @Test
+    void testDebounce() {
+        ByteBuffer request = LinuxGpioChip.encodeRequest(null, LinuxGpioChip.FLAG_INPUT, 5_000, 0, 0, 4);
+
+        assertEquals("", consumer(request));
+        assertEquals(1, request.getInt(NUM_ATTRS));
+        // GPIO_V2_LINE_ATTR_ID_DEBOUNCE, the period in the low 32 bits of the union
+        assertEquals(3, request.getInt(ATTRS));
+        assertEquals(5_000, request.getInt(ATTRS + 8));
+        assertEquals(1, request.getLong(ATTRS + 16));
+        assertEquals(0, request.getInt(ATTRS + ATTR_SIZE));
+    }
+
+    @Test
+    void testAllLines() {
+        int[] lines = new int[LinuxGpioChip.MAX_LINES];
+        for (int i = 0; i < lines.length; i++)
+            lines[i] = i;
+        ByteBuffer request = LinuxGpioChip.encodeRequest("bus", LinuxGpioChip.FLAG_OUTPUT, 1_000, -1L, 0, lines);
+
+        assertEquals(63, request.getInt(OFFSETS + 63 * 4));
+        assertEquals(2, request.getInt(NUM_ATTRS));
+        assertEquals(-1L, request.getLong(ATTRS + 8));
+        assertEquals(-1L, request.getLong(ATTRS + 16));
+        assertEquals(3, request.getInt(ATTRS + ATTR_SIZE));
+        assertEquals(-1L, request.getLong(ATTRS + ATTR_SIZE + 16));
+        assertEquals(64, request.getInt(NUM_LINES));
+
+        assertThrows(IllegalArgumentException.class, () -> LinuxGpioChip.encodeRequest("bus", 0, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> LinuxGpioChip.encodeRequest("bus", 0, 0, 0, 0, new int[LinuxGpioChip.MAX_LINES + 1]));
+    }
+
+    @Test
+    void testConsumerTruncated() {
+        ByteBuffer request = LinuxGpioChip.encodeRequest("a-consumer-label-that-is-far-too-long", 0, 0, 0, 0, 1);
+
+        // at most 31 characters and the terminating zero
+        assertEquals(31, consumer(request).length());
+        assertEquals(0, request.get(CONSUMER + 31));
+    }
+
+    @Test
+    void testRequestFd() {
+        ByteBuffer request = LinuxGpioChip.encodeRequest("fd", 0, 0, 0, 0, 1);
+        request.putInt(FD, 42);
+        assertEquals(42, LinuxGpioChip.requestFd(request));
+    }
+
+    private static String consumer(ByteBuffer request) {
+        StringBuilder consumer = new StringBuilder();
+        for (int i = CONSUMER; request.get(i) != 0; i++)
+            consumer.append((char) request.get(i));
+        return consumer.toString();
+    }
+}
@@ -0,0 +1,48 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.cdev;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the decoding of {@code struct gpio_v2_line_event} records against the layout of the kernel's
+ * {@code include/uapi/linux/gpio.h}.
+ */
+class LinuxGpioLinesTest {
+
+    @Test
+    void testEventDecoding() {
+        assertEquals(48, LinuxGpioLines.EVENT_SIZE);
+
+        ByteBuffer events = ByteBuffer.allocateDirect(3 * LinuxGpioLines.EVENT_SIZE).order(ByteOrder.nativeOrder());
+        event(events, 0, 1_000_000_123L, LinuxGpioLines.EVENT_RISING_EDGE, 17, 1);
+        event(events, 1, 1_000_500_456L, LinuxGpioLines.EVENT_FALLING_EDGE, 27, 2);
+        event(events, 2, Long.MAX_VALUE, LinuxGpioLines.EVENT_RISING_EDGE, 63, 3);
+
+        assertEquals(1_000_000_123L, LinuxGpioLines.eventTimestamp(events, 0));
+        assertEquals(LinuxGpioLines.EVENT_RISING_EDGE, LinuxGpioLines.eventId(events, 0));
+        assertEquals(17, LinuxGpioLines.eventLine(events, 0));
+
+        assertEquals(1_000_500_456L, LinuxGpioLines.eventTimestamp(events, 1));
+        assertEquals(LinuxGpioLines.EVENT_FALLING_EDGE, LinuxGpioLines.eventId(events, 1));
+        assertEquals(27, LinuxGpioLines.eventLine(events, 1));
+
+        assertEquals(Long.MAX_VALUE, LinuxGpioLines.eventTimestamp(events, 2));
+        assertEquals(63, LinuxGpioLines.eventLine(events, 2));
+    }
+
+    // struct gpio_v2_line_event { u64 timestamp_ns; u32 id; u32 offset; u32 seqno; u32 line_seqno; u32 padding[6]; }
+    private static void event(ByteBuffer events, int index, long timestamp, int id, int offset, int seqno) {
+        int base = index * 48;
+        events.putLong(base, timestamp);
+        events.putInt(base + 8, id);
+        events.putInt(base + 12, offset);
+        events.putInt(base + 16, seqno);
+        events.putInt(base + 20, seqno);
+        for (int i = 24; i < 48; i += 4)
+            events.putInt(base + i, 0xDEADBEEF);
+    }
+}
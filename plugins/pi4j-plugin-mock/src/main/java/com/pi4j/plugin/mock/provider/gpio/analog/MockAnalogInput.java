@@ -38,7 +38,7 @@ import com.pi4j.io.gpio.analog.*;
  */
 public class MockAnalogInput extends AnalogInputBase implements AnalogInput {
 
-    private Integer value = 0;
+    private int value = 0;
 
     /**
      * <p>Constructor for MockAnalogInput.</p>
@@ -56,6 +56,12 @@ public class MockAnalogInput extends AnalogInputBase implements AnalogInput {
         return this.value;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public int intValue() {
+        return this.value;
+    }
+
     /**
      * <p>mockValue.</p>
      *
@@ -63,19 +69,29 @@ public class MockAnalogInput extends AnalogInputBase implements AnalogInput {
      * @return a {@link com.pi4j.plugin.mock.provider.gpio.analog.MockAnalogInput} object.
      */
     public MockAnalogInput mockValue(Integer value){
+        return mockValue(value.intValue());
+    }
+
+    /**
+     * <p>mockValue.</p>
+     *
+     * @param value the new value
+     * @return a {@link com.pi4j.plugin.mock.provider.gpio.analog.MockAnalogInput} object.
+     */
+    public MockAnalogInput mockValue(int value){
 
         // check to see of there is a value change; if there is then we need
         // to update the internal value variable and dispatch the change event
-        if(this.value().intValue() != value.intValue()) {
+        if(this.value != value) {
 
             // cache copy of old value for change event
-            Integer oldValue = this.value();
+            int oldValue = this.value;
 
             // update current/new value
             this.value = value;
 
             // dispatch value change event
-            this.dispatch(new AnalogValueChangeEvent(this, this.value(), oldValue));
+            this.dispatch(value, oldValue);
         }
         return this;
     }
@@ -28,7 +28,11 @@ package com.pi4j.plugin.mock.provider.gpio.digital;
  */
 
 
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.gpio.digital.*;
+import com.pi4j.plugin.mock.simulation.Simulation;
 
 /**
  * <p>MockDigitalInput class.</p>
@@ -50,6 +54,26 @@ public class MockDigitalInput extends DigitalInputBase implements DigitalInput {
         super(provider, config);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInput initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        Simulation simulation = Simulation.of(context);
+        if (simulation != null) {
+            simulation.inputCreated(this);
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInput shutdown(Context context) throws ShutdownException {
+        // no longer part of the provider's bank reads
+        if (provider() instanceof MockDigitalInputProviderImpl)
+            ((MockDigitalInputProviderImpl) provider()).remove(this);
+        return super.shutdown(context);
+    }
+
     /** {@inheritDoc} */
     @Override
     public DigitalState state() {
@@ -65,7 +89,7 @@ public class MockDigitalInput extends DigitalInputBase implements DigitalInput {
     public MockDigitalInput mockState(DigitalState state){
         if(!this.state.equals(state)) {
             this.state = state;
-            this.dispatch(new DigitalStateChangeEvent(this, this.state));
+            this.dispatch(this.state, System.nanoTime());
         }
         return this;
     }
@@ -27,9 +27,14 @@ package com.pi4j.plugin.mock.provider.gpio.digital;
  * #L%
  */
 
+import com.pi4j.io.gpio.digital.DigitalBankReader;
 import com.pi4j.io.gpio.digital.DigitalInput;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
 import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
+import com.pi4j.io.gpio.digital.DigitalState;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>MockDigitalInputProviderImpl class.</p>
@@ -37,7 +42,10 @@ import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
-public class MockDigitalInputProviderImpl extends DigitalInputProviderBase implements MockDigitalInputProvider {
+public class MockDigitalInputProviderImpl extends DigitalInputProviderBase implements MockDigitalInputProvider, DigitalBankReader {
+
+    // mock inputs by address; used to serve bank reads
+    private final Map<Integer, MockDigitalInput> inputs = new ConcurrentHashMap<>();
 
     /**
      * <p>Constructor for MockDigitalInputProviderImpl.</p>
@@ -60,6 +68,30 @@ public class MockDigitalInputProviderImpl extends DigitalInputProviderBase imple
     public DigitalInput create(DigitalInputConfig config) {
         MockDigitalInput input = new MockDigitalInput(this, config);
         this.context.registry().add(input);
+        this.inputs.put(config.address(), input);
         return input;
     }
+
+    /**
+     * Stop tracking an input that is being shut down
+     *
+     * @param input the input
+     */
+    void remove(MockDigitalInput input) {
+        this.inputs.remove(input.address(), input);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int readBank(int bank) {
+        int levels = 0;
+        for (int bit = 0; bit < BANK_SIZE; bit++) {
+            MockDigitalInput input = this.inputs.get(bank * BANK_SIZE + bit);
+            if (input != null && input.state() == DigitalState.HIGH)
+                levels |= 1 << bit;
+        }
+        return levels;
+    }
 }
@@ -28,12 +28,16 @@ package com.pi4j.plugin.mock.provider.gpio.digital;
  */
 
 
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.exception.IOException;
 import com.pi4j.io.gpio.digital.DigitalOutput;
 import com.pi4j.io.gpio.digital.DigitalOutputBase;
 import com.pi4j.io.gpio.digital.DigitalOutputConfig;
 import com.pi4j.io.gpio.digital.DigitalOutputProvider;
 import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.mock.simulation.Simulation;
 
 
 /**
@@ -43,6 +47,10 @@ import com.pi4j.io.gpio.digital.DigitalState;
  * @version $Id: $Id
  */
 public class MockDigitalOutput extends DigitalOutputBase implements DigitalOutput {
+
+    // the simulation attached to the context, if any
+    private Simulation simulation;
+
     /**
      * <p>Constructor for MockDigitalOutput.</p>
      *
@@ -53,6 +61,33 @@ public class MockDigitalOutput extends DigitalOutputBase implements DigitalOutpu
         super(provider, config);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public DigitalOutput initialize(Context context) throws InitializeException {
+        // resolve the simulation first, the initial state is applied by the base class
+        this.simulation = Simulation.of(context);
+        return super.initialize(context);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalOutput state(DigitalState state) throws IOException {
+        super.state(state);
+        if (simulation != null) {
+            simulation.outputChanged(address().intValue(), state());
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalOutput shutdown(Context context) throws ShutdownException {
+        // no longer part of the provider's bank writes
+        if (provider() instanceof MockDigitalOutputProviderImpl)
+            ((MockDigitalOutputProviderImpl) provider()).remove(this);
+        return super.shutdown(context);
+    }
+
     /**
      * <p>mockState.</p>
      *
@@ -49,4 +49,11 @@ public interface MockDigitalOutputProvider extends DigitalOutputProvider {
     static MockDigitalOutputProvider newInstance() {
         return new MockDigitalOutputProviderImpl();
     }
+
+    /**
+     * <p>bankWrites.</p>
+     *
+     * @return the number of bank writes performed through {@link com.pi4j.io.gpio.digital.DigitalBankWriter}
+     */
+    long bankWrites();
 }
@@ -27,9 +27,15 @@ package com.pi4j.plugin.mock.provider.gpio.digital;
  * #L%
  */
 
+import com.pi4j.io.gpio.digital.DigitalBankWriter;
 import com.pi4j.io.gpio.digital.DigitalOutput;
 import com.pi4j.io.gpio.digital.DigitalOutputConfig;
 import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
+import com.pi4j.io.gpio.digital.DigitalState;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>MockDigitalOutputProviderImpl class.</p>
@@ -37,7 +43,10 @@ import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
-public class MockDigitalOutputProviderImpl extends DigitalOutputProviderBase implements MockDigitalOutputProvider {
+public class MockDigitalOutputProviderImpl extends DigitalOutputProviderBase implements MockDigitalOutputProvider, DigitalBankWriter {
+
+    private final Map<Integer, MockDigitalOutput> outputs = new ConcurrentHashMap<>();
+    private final AtomicLong bankWrites = new AtomicLong();
 
     /**
      * <p>Constructor for MockDigitalOutputProviderImpl.</p>
@@ -60,6 +69,40 @@ public class MockDigitalOutputProviderImpl extends DigitalOutputProviderBase imp
     public DigitalOutput create(DigitalOutputConfig config) {
         MockDigitalOutput output = new MockDigitalOutput(this, config);
         this.context.registry().add(output);
+        this.outputs.put(config.address(), output);
         return output;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeBank(int bank, int mask, int states) {
+        this.bankWrites.incrementAndGet();
+        for (int bit = 0; bit < BANK_SIZE; bit++) {
+            if ((mask & (1 << bit)) != 0) {
+                // outputs that have been shut down are no longer written
+                MockDigitalOutput output = this.outputs.get(bank * BANK_SIZE + bit);
+                if (output != null)
+                    output.state((states & (1 << bit)) != 0 ? DigitalState.HIGH : DigitalState.LOW);
+            }
+        }
+    }
+
+    /**
+     * Stop tracking an output that is being shut down
+     *
+     * @param output the output
+     */
+    void remove(MockDigitalOutput output) {
+        this.outputs.remove(output.address(), output);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long bankWrites() {
+        return this.bankWrites.get();
+    }
 }
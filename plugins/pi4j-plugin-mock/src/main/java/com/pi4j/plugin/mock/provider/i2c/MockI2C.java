@@ -27,14 +27,20 @@ package com.pi4j.plugin.mock.provider.i2c;
  * #L%
  */
 
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.io.IOType;
 import com.pi4j.io.i2c.*;
 import com.pi4j.plugin.mock.Mock;
+import com.pi4j.plugin.mock.simulation.I2CDeviceModel;
+import com.pi4j.plugin.mock.simulation.Simulation;
+import com.pi4j.plugin.mock.util.ByteRingBuffer;
 import com.pi4j.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
-import java.util.ArrayDeque;
 import java.util.Objects;
 
 /**
@@ -48,14 +54,17 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     private static final Logger logger = LoggerFactory.getLogger(MockI2C.class);
 
     /**
-     * ATTENTION:  The storage and management of the byte arrays
-     *  are terribly inefficient and not intended for real-world
-     *  usage.  These are only intended to unit testing the
-     *  Pi4J I2C APIs.
+     * Data written to a register (or the device) is queued and consumed by
+     *  subsequent reads of the same register (or the device).  Register
+     *  buffers are created on first use.
      */
     // Supporting two byte registers values, requires larger Array.  Limit register value to 0x200
-    protected ArrayDeque<Byte>[] registers = new ArrayDeque[512]; // 512 supported registers (0-511)
-    protected ArrayDeque<Byte> raw = new ArrayDeque<>();
+    protected ByteRingBuffer[] registers = new ByteRingBuffer[512]; // 512 supported registers (0-511)
+    protected ByteRingBuffer raw = new ByteRingBuffer();
+
+    // the simulation attached to the context and the model of this device, if any
+    private Simulation simulation;
+    private I2CDeviceModel model;
 
     /**
      * <p>Constructor for MockI2C.</p>
@@ -69,6 +78,17 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
             Mock.I2C_PROVIDER_NAME, this.id, config.bus(), config.device());
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public I2C initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        this.simulation = Simulation.of(context);
+        if (simulation != null) {
+            this.model = simulation.i2c(config.bus(), config.device());
+        }
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() {
@@ -84,7 +104,10 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     /** {@inheritDoc} */
     @Override
     public int write(byte b) {
-        raw.add(b);
+        if (simulated(1)) {
+            return model.write(new byte[] { b }, 0, 1) == 1 ? 0 : -1;
+        }
+        raw.put(b);
         if (logger.isDebugEnabled()) {
             logger.debug("[{}::{}] :: WRITE(0x{})",
                 Mock.I2C_PROVIDER_NAME, this.id, StringUtil.toHexString(b));
@@ -96,9 +119,10 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     @Override
     public int write(byte[] data, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, data.length);
-        for(int p = offset; p-offset < length; p++){
-            raw.add(data[p]); // add to internal buffer
+        if (simulated(length)) {
+            return model.write(data, offset, length);
         }
+        raw.put(data, offset, length); // add to internal buffer
         if (logger.isDebugEnabled()) {
             logger.debug("[{}::{}] :: WRITE(0x{})",
                 Mock.I2C_PROVIDER_NAME, this.id, StringUtil.toHexString(data, offset, length));
@@ -110,9 +134,11 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     @Override
     public int write(Charset charset, CharSequence data) {
         byte[] buffer = data.toString().getBytes(charset);
-        for (byte b : buffer) {
-            raw.add(b); // add to internal buffer
+        if (simulated(buffer.length)) {
+            model.write(buffer, 0, buffer.length);
+            return data.length();
         }
+        raw.put(buffer, 0, buffer.length); // add to internal buffer
         logger.debug("[{}::{}] :: WRITE(0x{})", Mock.I2C_PROVIDER_NAME, this.id, data);
         return data.length();
     }
@@ -124,8 +150,12 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     /** {@inheritDoc} */
     @Override
     public int read() {
+        if (simulated(1)) {
+            byte[] buffer = new byte[1];
+            return model.read(buffer, 0, 1) == 1 ? buffer[0] & 0xFF : -1;
+        }
         if(raw.isEmpty()) return -1;
-        byte b = raw.pop();
+        byte b = raw.get();
         if (logger.isDebugEnabled()) {
             logger.debug("[{}::{}] :: READ(0x{})",
                 Mock.I2C_PROVIDER_NAME, this.id, StringUtil.toHexString(b));
@@ -137,15 +167,12 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     @Override
     public int read(byte[] buffer, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (simulated(length)) {
+            return model.read(buffer, offset, length);
+        }
 
         if(raw.isEmpty()) return -1;
-        int counter = 0;
-        for(int p = 0; p < length; p++) {
-            if(p+offset > buffer.length) break;
-            if(raw.isEmpty()) break;
-            buffer[offset + p] = raw.pop();
-            counter++;
-        }
+        int counter = raw.get(buffer, offset, length);
 
         if (logger.isDebugEnabled()) {
             logger.debug("[{}::{}] :: READ(0x{})",
@@ -158,17 +185,44 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     /** {@inheritDoc} */
     @Override
     public String readString(Charset charset, int length) {
+        if (simulated(length)) {
+            byte[] buffer = new byte[length];
+            int count = model.read(buffer, 0, length);
+            return count < 0 ? null : new String(buffer, 0, count, charset);
+        }
         if(raw.isEmpty()) return null;
         byte[] buffer = new byte[length];
-        for(int p = 0; p < length; p++) {
-            if(raw.isEmpty()) break;
-            buffer[p] = raw.pop();
-        }
+        raw.get(buffer, 0, length);
         String result = new String(buffer, charset);
         logger.debug("[{}::{}] :: READ()", Mock.I2C_PROVIDER_NAME, this.id, result);
         return result;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer buffer, int offset, int length) {
+        if (simulation != null) return super.read(buffer, offset, length);
+        if(raw.isEmpty()) return -1;
+        ByteBuffer target = buffer.duplicate();
+        target.clear().position(offset).limit(offset + Math.min(length, buffer.capacity() - offset));
+        int counter = raw.get(target);
+        buffer.position(offset + counter);
+        logger.debug("[{}::{}] :: READ({} bytes)", Mock.I2C_PROVIDER_NAME, this.id, counter);
+        return counter;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer buffer, int offset, int length) {
+        if (simulation != null) return super.write(buffer, offset, length);
+        ByteBuffer source = buffer.duplicate();
+        source.clear().position(offset).limit(offset + Math.min(length, buffer.capacity() - offset));
+        int counter = source.remaining();
+        raw.put(source); // add to internal buffer
+        logger.debug("[{}::{}] :: WRITE({} bytes)", Mock.I2C_PROVIDER_NAME, this.id, counter);
+        return counter;
+    }
+
     // -------------------------------------------------------------------
     // DEVICE REGISTER WRITE FUNCTIONS
     // -------------------------------------------------------------------
@@ -176,11 +230,11 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     /** {@inheritDoc} */
     @Override
     public int writeRegister(int register, byte b) {
-
-        if (registers[register] == null) {
-            registers[register] = new ArrayDeque<Byte>();
+        if (simulated(1)) {
+            return model.writeRegister(register, new byte[] { b }, 0, 1) == 1 ? 0 : -1;
         }
-        registers[register].add(b);
+
+        registerBuffer(register).put(b);
 
         if (logger.isDebugEnabled()) {
             logger.debug("[{}::{}] :: WRITE(REG={}, 0x{})",
@@ -194,12 +248,10 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     @Override
     public int writeRegister(int register, byte[] data, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, data.length);
-        if (registers[register] == null) {
-            registers[register] = new ArrayDeque<Byte>();
-        }
-        for(int p = offset; p-offset < length; p++){
-            registers[register].add(data[p]);
+        if (simulated(length)) {
+            return model.writeRegister(register, data, offset, length);
         }
+        registerBuffer(register).put(data, offset, length);
 
         if (logger.isDebugEnabled()) {
             logger.debug("[{}::{}] :: WRITE(REG={}, 0x{})",
@@ -213,12 +265,12 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     public int writeRegister(byte[] register, byte[] data, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, data.length);
         int internalOffset = (register[0] & 0xff) + (register[1] << 8);
-
-        if(registers[internalOffset] == null) registers[internalOffset] = new ArrayDeque<Byte>();
-        for(int p = offset; p-offset < length; p++){
-            registers[internalOffset].add(data[p]);
+        if (simulated(length)) {
+            return model.writeRegister(internalOffset, data, offset, length);
         }
 
+        registerBuffer(internalOffset).put(data, offset, length);
+
         if (logger.isDebugEnabled()) {
             logger.debug("[{}::{}] :: WRITEREGISTER(REG=(two byte offset LSB first) {}, Chip register offset Decimal : {}  Hex : {}, offset = {}, User data: 0x{})",
                 Mock.I2C_PROVIDER_NAME, this.id, StringUtil.toHexString(register, 0, register.length),
@@ -232,13 +284,13 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     /** {@inheritDoc} */
     @Override
     public int writeRegister(int register, Charset charset, CharSequence data) {
-        if (registers[register] == null) {
-            registers[register] = new ArrayDeque<Byte>();
+        if (simulated(data.length())) {
+            byte[] buffer = data.toString().getBytes(charset);
+            model.writeRegister(register, buffer, 0, buffer.length);
+            return data.length();
         }
         byte[] buffer = data.toString().getBytes(charset);
-        for (int p = 0; p < buffer.length; p++) {
-            registers[register].add(buffer[p]); // add to internal buffer
-        }
+        registerBuffer(register).put(buffer, 0, buffer.length); // add to internal buffer
 
         logger.debug("[{}::{}] :: WRITE(REG={}, 0x{})", Mock.I2C_PROVIDER_NAME, this.id, register, data);
 
@@ -252,9 +304,14 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     /** {@inheritDoc} */
     @Override
     public int readRegister(int register) {
+        if (simulated(1)) {
+            byte[] buffer = new byte[1];
+            if (model.readRegister(register, buffer, 0, 1) != 1) throw new IllegalStateException("No available data to read");
+            return buffer[0] & 0xFF;
+        }
         if(registers[register] == null) throw new IllegalStateException("No available data to read");
         if(registers[register].isEmpty()) throw new IllegalStateException("No available data to read");
-        byte b = registers[register].pop();
+        byte b = registers[register].get();
 
         if (logger.isDebugEnabled()) {
             logger.debug("[{}::{}] :: WRITE(REG={}, 0x{})",
@@ -269,6 +326,9 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     @Override
     public int readRegister(byte[] register, byte[] buffer, int offset, int length) {
         int internalOffset = (register[0] & 0xff) + (register[1] << 8);
+        if (simulated(length)) {
+            return model.readRegister(internalOffset, buffer, offset, length);
+        }
 
         if (registers[internalOffset] == null) {
             return -1;
@@ -277,13 +337,7 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
             return -1;
         }
 
-        int counter = 0;
-        for (int p = 0; p < length; p++) {
-            if(p+offset > buffer.length) break;
-            if(registers[internalOffset].isEmpty()) break;
-            buffer[offset + p] = registers[internalOffset].pop();
-            counter++;
-        }
+        int counter = registers[internalOffset].get(buffer, offset, length);
 
         if (logger.isDebugEnabled()) {
             logger.debug("[{}::{}] :: READREGISTER(REG= (two byte offset LSB first) {}, offset = {}, Chip register offset Decimal : {}  Hex : {}, 0x{})",
@@ -298,16 +352,13 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     /** {@inheritDoc} */
     @Override
     public int readRegister(int register, byte[] buffer, int offset, int length) {
+        if (simulated(length)) {
+            return model.readRegister(register, buffer, offset, length);
+        }
         if(registers[register] == null) return -1;
         if(registers[register].isEmpty()) return -1;
 
-        int counter = 0;
-        for(int p = 0; p < length; p++) {
-            if(p+offset > buffer.length) break;
-            if(registers[register].isEmpty()) break;
-            buffer[offset + p] = registers[register].pop();
-            counter++;
-        }
+        int counter = registers[register].get(buffer, offset, length);
 
         if (logger.isDebugEnabled()) {
             logger.debug("[{}::{}] :: WRITE(REG={}, 0x{})",
@@ -320,18 +371,39 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     /** {@inheritDoc} */
     @Override
     public String readRegisterString(int register, Charset charset, int length) {
+        if (simulated(length)) {
+            byte[] buffer = new byte[length];
+            int count = model.readRegister(register, buffer, 0, length);
+            return count < 0 ? null : new String(buffer, 0, count, charset);
+        }
         if(registers[register] == null) return null;
         if(registers[register].isEmpty()) return null;
 
         byte[] buffer = new byte[length];
-        for(int p = 0; p < length; p++) {
-            if(registers[register].isEmpty()) break;
-            buffer[p] = registers[register].pop();
-        }
+        registers[register].get(buffer, 0, length);
         String result = new String(buffer, charset);
 
         logger.debug("[{}::{}] :: WRITE(REG={}, 0x{})", Mock.I2C_PROVIDER_NAME, this.id, register, result);
 
         return result;
     }
+
+    /**
+     * Spend the simulated bus latency of an operation
+     *
+     * @param length the number of bytes transferred
+     * @return true if the operation is handled by a simulated device model
+     */
+    private boolean simulated(int length) {
+        if (simulation == null) return false;
+        simulation.delay(IOType.I2C, length);
+        return model != null;
+    }
+
+    private ByteRingBuffer registerBuffer(int register) {
+        if (registers[register] == null) {
+            registers[register] = new ByteRingBuffer();
+        }
+        return registers[register];
+    }
 }
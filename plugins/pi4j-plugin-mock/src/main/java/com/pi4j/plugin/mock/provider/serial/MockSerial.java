@@ -27,17 +27,24 @@ package com.pi4j.plugin.mock.provider.serial;
  * #L%
  */
 
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.io.IOType;
 import com.pi4j.io.serial.Serial;
 import com.pi4j.io.serial.SerialBase;
 import com.pi4j.io.serial.SerialConfig;
 import com.pi4j.io.serial.SerialProvider;
 import com.pi4j.plugin.mock.Mock;
+import com.pi4j.plugin.mock.simulation.SerialLink;
+import com.pi4j.plugin.mock.simulation.SerialPeer;
+import com.pi4j.plugin.mock.simulation.Simulation;
+import com.pi4j.plugin.mock.util.ByteRingBuffer;
 import com.pi4j.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
-import java.util.ArrayDeque;
 import java.util.Objects;
 
 /**
@@ -51,12 +58,21 @@ public class MockSerial extends SerialBase implements Serial {
     private static final Logger logger = LoggerFactory.getLogger(MockSerial.class);
 
     /**
-     * ATTENTION:  The storage and management of the byte arrays
-     *  are terribly inefficient and not intended for real-world
-     *  usage.  These are only intended to unit testing the
-     *  Pi4J SERIAL APIs.
+     * Data written to the port is looped back and consumed by
+     *  subsequent reads, unless a simulated peer is connected.
+     *  Access is synchronized on the buffer.
      */
-    protected ArrayDeque<Byte> raw = new ArrayDeque<>();
+    protected ByteRingBuffer raw = new ByteRingBuffer();
+
+    // the simulation attached to the context and the peer connected to this port, if any
+    private Simulation simulation;
+    private SerialPeer peer;
+    private final SerialLink link = (data, offset, length) -> {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        synchronized (raw) {
+            raw.put(data, offset, length);
+        }
+    };
 
     /**
      * <p>Constructor for MockSerial.</p>
@@ -74,10 +90,26 @@ public class MockSerial extends SerialBase implements Serial {
         logger.info("");
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Serial initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        this.simulation = Simulation.of(context);
+        if (simulation != null) {
+            this.peer = simulation.serial(config.device());
+            if (peer != null) {
+                peer.attached(link);
+            }
+        }
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public int available() {
-        return raw.size();
+        synchronized (raw) {
+            return raw.size();
+        }
     }
 
     /** {@inheritDoc} */
@@ -95,7 +127,13 @@ public class MockSerial extends SerialBase implements Serial {
     /** {@inheritDoc} */
     @Override
     public int write(byte b) {
-        raw.add(b);
+        if (simulated(1)) {
+            peer.received(new byte[] { b }, 0, 1, link);
+            return 0;
+        }
+        synchronized (raw) {
+            raw.put(b);
+        }
         logger.info(" [");
         logger.info(Mock.SERIAL_PROVIDER_NAME);
         logger.info("::");
@@ -110,9 +148,15 @@ public class MockSerial extends SerialBase implements Serial {
     @Override
     public int write(byte[] data, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, data.length);
-        for(int p = offset; p-offset < length; p++){
-            raw.add(data[p]); // add to internal buffer
+        long start = writeMetrics.start();
+        if (simulated(length)) {
+            peer.received(data, offset, length, link);
+        } else {
+            synchronized (raw) {
+                raw.put(data, offset, length); // add to internal buffer
+            }
         }
+        writeMetrics.stop(start, length);
         logger.info(" [");
         logger.info(Mock.SERIAL_PROVIDER_NAME);
         logger.info("::");
@@ -127,8 +171,12 @@ public class MockSerial extends SerialBase implements Serial {
     @Override
     public int write(Charset charset, CharSequence data) {
         byte[] buffer = data.toString().getBytes(charset);
-        for(int p = 0; p < buffer.length; p++){
-            raw.add(buffer[p]); // add to internal buffer
+        if (simulated(buffer.length)) {
+            peer.received(buffer, 0, buffer.length, link);
+        } else {
+            synchronized (raw) {
+                raw.put(buffer, 0, buffer.length); // add to internal buffer
+            }
         }
         logger.info(" [");
         logger.info(Mock.SERIAL_PROVIDER_NAME);
@@ -143,8 +191,11 @@ public class MockSerial extends SerialBase implements Serial {
     /** {@inheritDoc} */
     @Override
     public int read() {
-        if(raw.isEmpty()) return -1;
-        byte b = raw.pop();
+        byte b;
+        synchronized (raw) {
+            if(raw.isEmpty()) return -1;
+            b = raw.get();
+        }
         logger.info(" [");
         logger.info(Mock.SERIAL_PROVIDER_NAME);
         logger.info("::");
@@ -160,14 +211,13 @@ public class MockSerial extends SerialBase implements Serial {
     public int read(byte[] buffer, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, buffer.length);
 
-        if(raw.isEmpty()) return -1;
+        long start = readMetrics.start();
         int counter = 0;
-        for(int p = 0; p < length; p++) {
-            if(p+offset > buffer.length) break;
-            if(raw.isEmpty()) break;
-            buffer[offset + p] = raw.pop();
-            counter++;
+        synchronized (raw) {
+            if(raw.isEmpty()) return -1;
+            counter = raw.get(buffer, offset, length);
         }
+        readMetrics.stop(start, counter);
 
         logger.info(" [");
         logger.info(Mock.SERIAL_PROVIDER_NAME);
@@ -179,4 +229,43 @@ public class MockSerial extends SerialBase implements Serial {
 
         return counter;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer buffer, int offset, int length) {
+        ByteBuffer target = buffer.duplicate();
+        target.clear().position(offset).limit(offset + Math.min(length, buffer.capacity() - offset));
+        int counter;
+        synchronized (raw) {
+            if(raw.isEmpty()) return -1;
+            counter = raw.get(target);
+        }
+        buffer.position(offset + counter);
+        return counter;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer buffer, int offset, int length) {
+        if (simulation != null) return super.write(buffer, offset, length);
+        ByteBuffer source = buffer.duplicate();
+        source.clear().position(offset).limit(offset + Math.min(length, buffer.capacity() - offset));
+        int counter = source.remaining();
+        synchronized (raw) {
+            raw.put(source); // add to internal buffer
+        }
+        return counter;
+    }
+
+    /**
+     * Spend the simulated transmission time of an operation
+     *
+     * @param length the number of bytes transferred
+     * @return true if the data is sent to a simulated peer
+     */
+    private boolean simulated(int length) {
+        if (simulation == null) return false;
+        simulation.delay(IOType.SERIAL, length);
+        return peer != null;
+    }
 }
@@ -27,17 +27,24 @@ package com.pi4j.plugin.mock.provider.spi;
  * #L%
  */
 
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.io.IOType;
 import com.pi4j.io.spi.Spi;
 import com.pi4j.io.spi.SpiBase;
 import com.pi4j.io.spi.SpiConfig;
 import com.pi4j.io.spi.SpiProvider;
 import com.pi4j.plugin.mock.Mock;
+import com.pi4j.plugin.mock.simulation.Simulation;
+import com.pi4j.plugin.mock.simulation.SpiDeviceModel;
+import com.pi4j.plugin.mock.util.ByteRingBuffer;
 import com.pi4j.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
-import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -51,7 +58,11 @@ public class MockSpi extends SpiBase implements Spi {
     private static final Logger logger = LoggerFactory.getLogger(MockSpi.class);
     private final String logPreamble;
 
-    protected ArrayDeque<Byte> raw = new ArrayDeque<>();
+    protected ByteRingBuffer raw = new ByteRingBuffer();
+
+    // the simulation attached to the context and the model of the device on this channel, if any
+    private Simulation simulation;
+    private SpiDeviceModel model;
 
     /**
      * <p>Constructor for MockSpi.</p>
@@ -74,14 +85,24 @@ public class MockSpi extends SpiBase implements Spi {
      * @return the bytes in the buffer
      */
     public byte[] readEntireMockBuffer() {
-        var bytes = new byte[raw.size()];
-        for (int i = 0; !raw.isEmpty(); ++i) {
-            bytes[i] = raw.pop();
-        }
+        var bytes = raw.drain();
         logger.info("{} READALL (0x{})", logPreamble, StringUtil.toHexString(bytes));
         return bytes;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Spi initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        this.simulation = Simulation.of(context);
+        if (simulation != null) {
+            this.model = simulation.spi(config.bus().getBus(), config.channel());
+        }
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -96,19 +117,34 @@ public class MockSpi extends SpiBase implements Spi {
      */
     @Override
     public int transfer(byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
-        byte[] prepared = new byte[numberOfBytes];
-        // read the (potentially) prepared mock data
-        readNoLogging(prepared, 0, numberOfBytes);
+        long start = transferMetrics.start();
+        if (simulated(numberOfBytes)) {
+            model.transfer(write, writeOffset, read, readOffset, numberOfBytes);
+            transferMetrics.stop(start, numberOfBytes);
+            return 0;
+        }
+        Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.length);
+        Objects.checkFromIndexSize(readOffset, numberOfBytes, read.length);
+
+        // keep the provided data if the 'read' buffer is about to overwrite it
+        byte[] source = write;
+        int sourceOffset = writeOffset;
+        if (read == write) {
+            source = Arrays.copyOfRange(write, writeOffset, writeOffset + numberOfBytes);
+            sourceOffset = 0;
+        }
+
+        // for every byte of the 'write' buffer, transfer a byte from the
+        // (potentially) prepared mock data to the 'read' buffer; 0 once it is exhausted
+        int prepared = raw.get(read, readOffset, numberOfBytes);
+        Arrays.fill(read, readOffset + prepared, readOffset + numberOfBytes, (byte) 0);
         //write the provided data for later verification
-        writeNoLogging(write, writeOffset, numberOfBytes);
+        raw.put(source, sourceOffset, numberOfBytes);
 
-        // for every byte of the 'write' buffer, transfer a byte
-        // from the prepared data to the 'read' buffer.
-        int offsetIndex = readOffset;
-        for (byte preparedByte : prepared) {
-            read[offsetIndex++] = preparedByte;
+        if (logger.isInfoEnabled()) {
+            logger.info("{} TRANSFER(READ(0x{}), WRITE(0x{})", logPreamble, StringUtil.toHexString(read, readOffset, numberOfBytes), StringUtil.toHexString(source, sourceOffset, numberOfBytes));
         }
-        logger.info("{} TRANSFER(READ(0x{}), WRITE(0x{})", logPreamble, StringUtil.toHexString(prepared), StringUtil.toHexString(write, writeOffset, numberOfBytes));
+        transferMetrics.stop(start, numberOfBytes);
         // code for 'OK'
         return 0;
     }
@@ -118,7 +154,11 @@ public class MockSpi extends SpiBase implements Spi {
      */
     @Override
     public int write(byte b) {
-        raw.add(b);
+        if (simulated(1)) {
+            model.transfer(new byte[] { b }, 0, new byte[1], 0, 1);
+            return 0;
+        }
+        raw.put(b);
         logger.info("{} WRITE(0x{})", logPreamble, StringUtil.toHexString(b));
         return 0;
     }
@@ -128,16 +168,19 @@ public class MockSpi extends SpiBase implements Spi {
      */
     @Override
     public int write(byte[] data, int offset, int length) {
-        writeNoLogging(data, offset, length);
-        logger.info("{} WRITE(0x{})", logPreamble, StringUtil.toHexString(data, offset, length));
-        return length;
-    }
-
-    private void writeNoLogging(byte[] data, int offset, int length) {
-        Objects.checkFromIndexSize(offset, length, data.length);
-        for (int p = offset; p - offset < length; p++) {
-            raw.add(data[p]); // add to internal buffer
+        long start = writeMetrics.start();
+        if (simulated(length)) {
+            Objects.checkFromIndexSize(offset, length, data.length);
+            model.transfer(data, offset, new byte[length], 0, length);
+            writeMetrics.stop(start, length);
+            return length;
+        }
+        raw.put(data, offset, length);
+        if (logger.isInfoEnabled()) {
+            logger.info("{} WRITE(0x{})", logPreamble, StringUtil.toHexString(data, offset, length));
         }
+        writeMetrics.stop(start, length);
+        return length;
     }
 
     /**
@@ -146,9 +189,11 @@ public class MockSpi extends SpiBase implements Spi {
     @Override
     public int write(Charset charset, CharSequence data) {
         byte[] buffer = data.toString().getBytes(charset);
-        for (int p = 0; p < buffer.length; p++) {
-            raw.add(buffer[p]); // add to internal buffer
+        if (simulated(buffer.length)) {
+            model.transfer(buffer, 0, new byte[buffer.length], 0, buffer.length);
+            return data.length();
         }
+        raw.put(buffer, 0, buffer.length); // add to internal buffer
         logger.info("{} WRITE(\"{}\")", logPreamble, data);
         return data.length();
     }
@@ -158,8 +203,13 @@ public class MockSpi extends SpiBase implements Spi {
      */
     @Override
     public int read() {
+        if (simulated(1)) {
+            byte[] buffer = new byte[1];
+            model.transfer(new byte[1], 0, buffer, 0, 1);
+            return buffer[0] & 0xFF;
+        }
         if (raw.isEmpty()) return -1;
-        byte b = raw.pop();
+        byte b = raw.get();
         logger.info("{} READ (0x{})", logPreamble, StringUtil.toHexString(b));
         return b;
     }
@@ -169,25 +219,66 @@ public class MockSpi extends SpiBase implements Spi {
      */
     @Override
     public int read(byte[] buffer, int offset, int length) {
-        Integer counter = readNoLogging(buffer, offset, length);
-        if (counter == null) return -1;
+        long start = readMetrics.start();
+        if (simulated(length)) {
+            Objects.checkFromIndexSize(offset, length, buffer.length);
+            model.transfer(new byte[length], 0, buffer, offset, length);
+            readMetrics.stop(start, length);
+            return length;
+        }
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (raw.isEmpty()) {
+            readMetrics.stop(start, 0);
+            return -1;
+        }
+        int counter = raw.get(buffer, offset, length);
+        readMetrics.stop(start, counter);
 
-        logger.info("{} READ (0x{})", logPreamble, StringUtil.toHexString(buffer, offset, length));
+        if (logger.isInfoEnabled()) {
+            logger.info("{} READ (0x{})", logPreamble, StringUtil.toHexString(buffer, offset, length));
+        }
 
         return counter;
     }
 
-    private Integer readNoLogging(byte[] buffer, int offset, int length) {
-        Objects.checkFromIndexSize(offset, length, buffer.length);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(ByteBuffer buffer, int offset, int length) {
+        if (simulation != null) return super.read(buffer, offset, length);
+        if (raw.isEmpty()) return -1;
+        ByteBuffer target = buffer.duplicate();
+        target.clear().position(offset).limit(offset + Math.min(length, buffer.capacity() - offset));
+        int counter = raw.get(target);
+        buffer.position(offset + counter);
+        logger.info("{} READ ({} bytes)", logPreamble, counter);
+        return counter;
+    }
 
-        if (raw.isEmpty()) return null;
-        int counter = 0;
-        for (int p = 0; p < length; p++) {
-            if (p + offset > buffer.length) break;
-            if (raw.isEmpty()) break;
-            buffer[offset + p] = raw.pop();
-            counter++;
-        }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int write(ByteBuffer buffer, int offset, int length) {
+        if (simulation != null) return super.write(buffer, offset, length);
+        ByteBuffer source = buffer.duplicate();
+        source.clear().position(offset).limit(offset + Math.min(length, buffer.capacity() - offset));
+        int counter = source.remaining();
+        raw.put(source);
+        logger.info("{} WRITE ({} bytes)", logPreamble, counter);
         return counter;
     }
+
+    /**
+     * Spend the simulated bus latency of an operation
+     *
+     * @param length the number of bytes transferred
+     * @return true if the operation is handled by a simulated device model
+     */
+    private boolean simulated(int length) {
+        if (simulation == null) return false;
+        simulation.delay(IOType.SPI, length);
+        return model != null;
+    }
 }
@@ -0,0 +1,89 @@
+package com.pi4j.plugin.mock.simulation;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: Mock Platform & Providers
+ * FILENAME      :  I2CDeviceModel.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>The simulated behaviour of a device on a mock I2C bus.</p>
+ *
+ * <p>Once installed with {@link Simulation#i2c(int, int, I2CDeviceModel)}, all reads and writes of the
+ * {@code MockI2C} instance for the bus and device address are delegated to the model instead of the mock's
+ * internal buffers.  Methods return the number of bytes transferred, or a negative value on error, like
+ * the I2C API.</p>
+ */
+public interface I2CDeviceModel {
+
+    /**
+     * Called when the model is installed in a simulation
+     *
+     * @param clock the clock of the simulation
+     */
+    default void attached(SimulationClock clock) {
+    }
+
+    /**
+     * Write raw bytes to the device
+     *
+     * @param data the data to write
+     * @param offset the offset of the first byte to write
+     * @param length the number of bytes to write
+     * @return the number of bytes written
+     */
+    int write(byte[] data, int offset, int length);
+
+    /**
+     * Read raw bytes from the device
+     *
+     * @param buffer the buffer to read into
+     * @param offset the offset of the first byte to read into
+     * @param length the number of bytes to read
+     * @return the number of bytes read
+     */
+    int read(byte[] buffer, int offset, int length);
+
+    /**
+     * Write bytes to a register of the device
+     *
+     * @param register the register address
+     * @param data the data to write
+     * @param offset the offset of the first byte to write
+     * @param length the number of bytes to write
+     * @return the number of bytes written
+     */
+    int writeRegister(int register, byte[] data, int offset, int length);
+
+    /**
+     * Read bytes from a register of the device
+     *
+     * @param register the register address
+     * @param buffer the buffer to read into
+     * @param offset the offset of the first byte to read into
+     * @param length the number of bytes to read
+     * @return the number of bytes read
+     */
+    int readRegister(int register, byte[] buffer, int offset, int length);
+}
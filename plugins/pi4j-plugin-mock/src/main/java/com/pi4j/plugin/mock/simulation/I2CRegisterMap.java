@@ -0,0 +1,239 @@
+package com.pi4j.plugin.mock.simulation;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: Mock Platform & Providers
+ * FILENAME      :  I2CRegisterMap.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * <p>A device model with a file of 8-bit registers, as found in most I2C sensors and port expanders.</p>
+ *
+ * <p>Register reads and writes start at the given register and auto-increment.  A raw write sets the
+ * register pointer with its first byte and writes the remaining bytes from there; a raw read reads from the
+ * register pointer.  Side effects, such as a status register that clears when read or a command register
+ * that starts a conversion, are added with {@link #onRead(int, Runnable)} and {@link #onWrite(int, IntConsumer)}.
+ * Registers holding a measurement can follow a {@link Waveform} over simulated time with
+ * {@link #value(int, int, Waveform)}.</p>
+ *
+ * <pre>
+ *     I2CRegisterMap sensor = new I2CRegisterMap(256)
+ *         .set(0x0F, (byte) 0x44)                                        // WHO_AM_I
+ *         .value(0x00, 2, Waveform.sine(2000, 100, 0.1));                // 16-bit reading
+ *     sensor.onWrite(0x10, value -&gt; { if (value == 0x01) sensor.reset(); });     // soft reset command
+ * </pre>
+ */
+public class I2CRegisterMap implements I2CDeviceModel {
+
+    private final byte[] registers;
+    private final Runnable[] readHooks;
+    private final IntConsumer[] writeHooks;
+    private final Waveform[] waveforms;
+    private final int[] waveformBase;
+    private final int[] waveformLength;
+    private SimulationClock clock = SimulationClock.virtual();
+    private int pointer;
+
+    /**
+     * <p>Constructor for I2CRegisterMap.</p>
+     *
+     * @param size the number of registers
+     */
+    public I2CRegisterMap(int size) {
+        if (size <= 0)
+            throw new IllegalArgumentException("size must be positive");
+        this.registers = new byte[size];
+        this.readHooks = new Runnable[size];
+        this.writeHooks = new IntConsumer[size];
+        this.waveforms = new Waveform[size];
+        this.waveformBase = new int[size];
+        this.waveformLength = new int[size];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void attached(SimulationClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Set the value of a register without triggering its write hook
+     *
+     * @param register the register address
+     * @param value the value
+     * @return this register map
+     */
+    public synchronized I2CRegisterMap set(int register, byte value) {
+        registers[index(register)] = value;
+        return this;
+    }
+
+    /**
+     * Set the values of consecutive registers without triggering their write hooks
+     *
+     * @param register the address of the first register
+     * @param values the values
+     * @return this register map
+     */
+    public synchronized I2CRegisterMap set(int register, byte[] values) {
+        Objects.checkFromIndexSize(register, values.length, registers.length);
+        System.arraycopy(values, 0, registers, register, values.length);
+        return this;
+    }
+
+    /**
+     * Get the current value of a register without triggering its read hook
+     *
+     * @param register the register address
+     * @return the value
+     */
+    public synchronized byte get(int register) {
+        int index = index(register);
+        return waveforms[index] != null ? sample(index) : registers[index];
+    }
+
+    /**
+     * Clear all registers and the register pointer; hooks and waveforms are kept
+     */
+    public synchronized void reset() {
+        Arrays.fill(registers, (byte) 0);
+        pointer = 0;
+    }
+
+    /**
+     * Run an action each time a register has been read by the I/O instance
+     *
+     * @param register the register address
+     * @param action the action
+     * @return this register map
+     */
+    public synchronized I2CRegisterMap onRead(int register, Runnable action) {
+        readHooks[index(register)] = action;
+        return this;
+    }
+
+    /**
+     * Run an action with the written value each time a register has been written by the I/O instance
+     *
+     * @param register the register address
+     * @param action the action
+     * @return this register map
+     */
+    public synchronized I2CRegisterMap onWrite(int register, IntConsumer action) {
+        writeHooks[index(register)] = action;
+        return this;
+    }
+
+    /**
+     * Let consecutive registers hold the value of a waveform at the simulated time they are read, rounded
+     * to an integer and encoded in two's complement, most significant byte first
+     *
+     * @param register the address of the first register
+     * @param length the number of registers (1 to 8)
+     * @param waveform the waveform
+     * @return this register map
+     */
+    public synchronized I2CRegisterMap value(int register, int length, Waveform waveform) {
+        if (length < 1 || length > Long.BYTES)
+            throw new IllegalArgumentException("length must be between 1 and 8");
+        Objects.checkFromIndexSize(register, length, registers.length);
+        for (int i = 0; i < length; i++) {
+            waveforms[register + i] = waveform;
+            waveformBase[register + i] = register;
+            waveformLength[register + i] = length;
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int write(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        if (length == 0)
+            return 0;
+        pointer = index(data[offset] & 0xFF);
+        store(data, offset + 1, length - 1);
+        return length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int read(byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        load(buffer, offset, length);
+        return length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int writeRegister(int register, byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        pointer = index(register);
+        store(data, offset, length);
+        return length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int readRegister(int register, byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        pointer = index(register);
+        load(buffer, offset, length);
+        return length;
+    }
+
+    private void store(byte[] data, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            int register = pointer;
+            registers[register] = data[offset + i];
+            pointer = (pointer + 1) % registers.length;
+            if (writeHooks[register] != null)
+                writeHooks[register].accept(data[offset + i] & 0xFF);
+        }
+    }
+
+    private void load(byte[] buffer, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            int register = pointer;
+            buffer[offset + i] = waveforms[register] != null ? sample(register) : registers[register];
+            pointer = (pointer + 1) % registers.length;
+            if (readHooks[register] != null)
+                readHooks[register].run();
+        }
+    }
+
+    private byte sample(int register) {
+        long value = Math.round(waveforms[register].value(clock.seconds()));
+        int shift = (waveformLength[register] - 1 - (register - waveformBase[register])) * Byte.SIZE;
+        return (byte) (value >> shift);
+    }
+
+    private int index(int register) {
+        return Objects.checkIndex(register, registers.length);
+    }
+}
@@ -0,0 +1,91 @@
+package com.pi4j.plugin.mock.simulation;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: Mock Platform & Providers
+ * FILENAME      :  LineSerialPeer.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * <p>A serial peer with a line-based command protocol, such as an AT modem or a GPS receiver.</p>
+ *
+ * <p>Bytes are collected up to a line feed; the line, without its line terminator, is passed to the
+ * responder and a non-null response is sent back followed by the line terminator.</p>
+ *
+ * <pre>
+ *     new LineSerialPeer(command -&gt; command.equals("AT") ? "OK" : "ERROR");
+ * </pre>
+ */
+public class LineSerialPeer implements SerialPeer {
+
+    private final Function<String, String> responder;
+    private final Charset charset;
+    private final String terminator;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+    /**
+     * <p>Constructor for LineSerialPeer, using US-ASCII and CR LF line terminators.</p>
+     *
+     * @param responder returns the response to a line, or null to send no response
+     */
+    public LineSerialPeer(Function<String, String> responder) {
+        this(responder, StandardCharsets.US_ASCII, "\r\n");
+    }
+
+    /**
+     * <p>Constructor for LineSerialPeer.</p>
+     *
+     * @param responder returns the response to a line, or null to send no response
+     * @param charset the character set of the protocol
+     * @param terminator the line terminator appended to responses
+     */
+    public LineSerialPeer(Function<String, String> responder, Charset charset, String terminator) {
+        this.responder = responder;
+        this.charset = charset;
+        this.terminator = terminator;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void received(byte[] data, int offset, int length, SerialLink link) {
+        for (int i = offset; i < offset + length; i++) {
+            if (data[i] != '\n') {
+                line.write(data[i]);
+                continue;
+            }
+            String request = line.toString(charset);
+            line.reset();
+            if (request.endsWith("\r"))
+                request = request.substring(0, request.length() - 1);
+            String response = responder.apply(request);
+            if (response != null)
+                link.send((response + terminator).getBytes(charset));
+        }
+    }
+}
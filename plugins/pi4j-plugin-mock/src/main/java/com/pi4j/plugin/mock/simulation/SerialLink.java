@@ -0,0 +1,53 @@
+package com.pi4j.plugin.mock.simulation;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: Mock Platform & Providers
+ * FILENAME      :  SerialLink.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>The connection of a {@link SerialPeer} to a mock serial port.</p>
+ */
+@FunctionalInterface
+public interface SerialLink {
+
+    /**
+     * Send bytes to the serial port, where they become available for reading
+     *
+     * @param data the buffer holding the data
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     */
+    void send(byte[] data, int offset, int length);
+
+    /**
+     * Send bytes to the serial port
+     *
+     * @param data the data
+     */
+    default void send(byte[] data) {
+        send(data, 0, data.length);
+    }
+}
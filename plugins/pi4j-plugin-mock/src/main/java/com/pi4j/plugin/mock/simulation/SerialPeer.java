@@ -0,0 +1,56 @@
+package com.pi4j.plugin.mock.simulation;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: Mock Platform & Providers
+ * FILENAME      :  SerialPeer.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>The simulated device at the other end of a mock serial port.</p>
+ *
+ * <p>Once installed with {@link Simulation#serial(String, SerialPeer)}, the bytes written by the
+ * {@code MockSerial} instance for the device are handed to the peer instead of being looped back, and the
+ * bytes the peer sends through its {@link SerialLink} can be read from the serial port.</p>
+ */
+public interface SerialPeer {
+
+    /**
+     * Called when the serial port is opened
+     *
+     * @param link the link to send data to the serial port
+     */
+    default void attached(SerialLink link) {
+    }
+
+    /**
+     * Called with the bytes written by the serial port
+     *
+     * @param data the buffer holding the data
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     * @param link the link to send data to the serial port
+     */
+    void received(byte[] data, int offset, int length, SerialLink link);
+}
@@ -0,0 +1,402 @@
+package com.pi4j.plugin.mock.simulation;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: Mock Platform & Providers
+ * FILENAME      :  Simulation.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.event.ShutdownEvent;
+import com.pi4j.event.ShutdownListener;
+import com.pi4j.io.IO;
+import com.pi4j.io.IOType;
+import com.pi4j.io.exception.IONotFoundException;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.mock.provider.gpio.analog.MockAnalogInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.registry.Registry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>A simulation of the hardware behind the mock providers of a context.</p>
+ *
+ * <p>Without a simulation, the mock I/O instances are passive buffers that a test fills and inspects.  A
+ * simulation attached to the context adds behaviour:</p>
+ * <ul>
+ *     <li>device models answer the reads and writes of mock I2C devices ({@link I2CRegisterMap}), mock SPI
+ *     channels ({@link SpiAdc}) and mock serial ports ({@link LineSerialPeer});</li>
+ *     <li>wires connect mock digital outputs to mock digital inputs, optionally delayed or inverted;</li>
+ *     <li>{@link Waveform}s drive mock digital and analog inputs over time;</li>
+ *     <li>bus operations take a configurable time.</li>
+ * </ul>
+ *
+ * <p>All timing follows the simulation's {@link SimulationClock}.  With the default virtual clock, time only
+ * passes when the clock is advanced, explicitly or by bus latency, which keeps simulations deterministic.</p>
+ *
+ * <p>Models are looked up when the mock I/O instance is created, so they must be installed before.</p>
+ *
+ * <pre>
+ *     Context pi4j = Pi4J.newContextBuilder().add(new MockPlatform()).add(MockPlugin.providers()...).build();
+ *     Simulation simulation = Simulation.attach(pi4j)
+ *         .i2c(1, 0x48, new I2CRegisterMap(256).value(0x00, 2, Waveform.sine(2000, 100, 0.1)))
+ *         .wire(17, 27)
+ *         .latency(IOType.I2C, 50, 25, TimeUnit.MICROSECONDS);
+ *     ...
+ *     simulation.clock().advance(1, TimeUnit.SECONDS);
+ * </pre>
+ */
+public final class Simulation {
+
+    private static final Logger logger = LoggerFactory.getLogger(Simulation.class);
+
+    // period of the task running due tasks of a real-time clock
+    private static final long PUMP_PERIOD_MILLIS = 1;
+
+    private static final Map<Context, Simulation> simulations = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Context context;
+    private final SimulationClock clock;
+    private final Map<String, I2CDeviceModel> i2c = new ConcurrentHashMap<>();
+    private final Map<String, SpiDeviceModel> spi = new ConcurrentHashMap<>();
+    private final Map<String, SerialPeer> serial = new ConcurrentHashMap<>();
+    private final Map<Integer, List<Wire>> wires = new ConcurrentHashMap<>();
+    private final Map<IOType, long[]> latencies = new ConcurrentHashMap<>();
+    private final List<SimulationClock.Task> drivers = new CopyOnWriteArrayList<>();
+    private final ShutdownListener shutdownListener;
+    private final ScheduledFuture<?> pump;
+
+    private Simulation(Context context, SimulationClock clock) {
+        this.context = context;
+        this.clock = clock;
+        this.pump = clock.isRealTime()
+            ? context.scheduleTask(clock::poll, PUMP_PERIOD_MILLIS, TimeUnit.MILLISECONDS)
+            : null;
+        this.shutdownListener = new ShutdownListener() {
+            @Override
+            public void onShutdown(ShutdownEvent event) {
+                detach(context);
+            }
+        };
+        context.addListener(shutdownListener);
+    }
+
+    /**
+     * Attach a new simulation with a virtual clock to a context
+     *
+     * @param context the context using the mock providers
+     * @return the simulation
+     * @throws IllegalStateException if a simulation is already attached to the context
+     */
+    public static Simulation attach(Context context) {
+        return attach(context, SimulationClock.virtual());
+    }
+
+    /**
+     * Attach a new simulation to a context
+     *
+     * @param context the context using the mock providers
+     * @param clock the clock of the simulation
+     * @return the simulation
+     * @throws IllegalStateException if a simulation is already attached to the context
+     */
+    public static Simulation attach(Context context, SimulationClock clock) {
+        Objects.requireNonNull(context, "context");
+        Objects.requireNonNull(clock, "clock");
+        synchronized (simulations) {
+            if (simulations.containsKey(context))
+                throw new IllegalStateException("A simulation is already attached to the context");
+            Simulation simulation = new Simulation(context, clock);
+            simulations.put(context, simulation);
+            logger.debug("Attached simulation (real-time={})", clock.isRealTime());
+            return simulation;
+        }
+    }
+
+    /**
+     * Return the simulation attached to a context
+     *
+     * @param context the context
+     * @return the simulation, or null if no simulation is attached to the context
+     */
+    public static Simulation of(Context context) {
+        return context == null ? null : simulations.get(context);
+    }
+
+    /**
+     * Detach the simulation from a context, stopping its waveforms; this happens automatically when the
+     * context is shut down.  Mock I/O instances created with the simulation keep their models.
+     *
+     * @param context the context
+     */
+    public static void detach(Context context) {
+        Simulation simulation = simulations.remove(context);
+        if (simulation == null)
+            return;
+        if (simulation.pump != null)
+            simulation.pump.cancel(false);
+        simulation.drivers.forEach(SimulationClock.Task::cancel);
+        simulation.drivers.clear();
+        logger.debug("Detached simulation");
+    }
+
+    /**
+     * @return the clock of the simulation
+     */
+    public SimulationClock clock() {
+        return clock;
+    }
+
+    // -------------------------------------------------------------------
+    // DEVICE MODELS
+    // -------------------------------------------------------------------
+
+    /**
+     * Install a device model on a mock I2C bus
+     *
+     * @param bus the I2C bus
+     * @param device the device address
+     * @param model the model
+     * @return this simulation
+     */
+    public Simulation i2c(int bus, int device, I2CDeviceModel model) {
+        model.attached(clock);
+        i2c.put(bus + "." + device, model);
+        return this;
+    }
+
+    /**
+     * Install a device model on a mock SPI channel
+     *
+     * @param bus the SPI bus
+     * @param channel the chip select channel
+     * @param model the model
+     * @return this simulation
+     */
+    public Simulation spi(int bus, int channel, SpiDeviceModel model) {
+        model.attached(clock);
+        spi.put(bus + "." + channel, model);
+        return this;
+    }
+
+    /**
+     * Connect a peer to a mock serial port
+     *
+     * @param device the serial device (e.g. {@code /dev/ttyS0})
+     * @param peer the peer
+     * @return this simulation
+     */
+    public Simulation serial(String device, SerialPeer peer) {
+        serial.put(Objects.requireNonNull(device, "device"), peer);
+        return this;
+    }
+
+    /**
+     * @param bus the I2C bus
+     * @param device the device address
+     * @return the model installed for the device, or null
+     */
+    public I2CDeviceModel i2c(int bus, int device) {
+        return i2c.get(bus + "." + device);
+    }
+
+    /**
+     * @param bus the SPI bus
+     * @param channel the chip select channel
+     * @return the model installed for the channel, or null
+     */
+    public SpiDeviceModel spi(int bus, int channel) {
+        return spi.get(bus + "." + channel);
+    }
+
+    /**
+     * @param device the serial device
+     * @return the peer connected to the serial port, or null
+     */
+    public SerialPeer serial(String device) {
+        return device == null ? null : serial.get(device);
+    }
+
+    // -------------------------------------------------------------------
+    // GPIO
+    // -------------------------------------------------------------------
+
+    /**
+     * Connect a mock digital output to a mock digital input
+     *
+     * @param output the address of the output
+     * @param input the address of the input
+     * @return this simulation
+     */
+    public Simulation wire(int output, int input) {
+        return wire(output, input, 0, TimeUnit.NANOSECONDS, false);
+    }
+
+    /**
+     * Connect a mock digital output to a mock digital input
+     *
+     * @param output the address of the output
+     * @param input the address of the input
+     * @param delay the propagation delay of a state change
+     * @param unit the time unit of the delay
+     * @param invert true if the input sees the inverted state of the output
+     * @return this simulation
+     */
+    public Simulation wire(int output, int input, long delay, TimeUnit unit, boolean invert) {
+        wires.computeIfAbsent(output, k -> new CopyOnWriteArrayList<>())
+            .add(new Wire(input, unit.toNanos(delay), invert));
+        return this;
+    }
+
+    /**
+     * Drive a mock input with a waveform, sampled periodically on the simulation clock: a digital input
+     * is high while the waveform is at least 0.5, an analog input reads the rounded value of the waveform.
+     *
+     * @param input the address of the input
+     * @param waveform the waveform
+     * @param period the sampling period
+     * @param unit the time unit of the sampling period
+     * @return this simulation
+     */
+    public Simulation drive(int input, Waveform waveform, long period, TimeUnit unit) {
+        Runnable sample = () -> {
+            IO<?, ?, ?> io = find(input);
+            double value = waveform.value(clock.seconds());
+            if (io instanceof MockDigitalInput)
+                ((MockDigitalInput) io).mockState(value >= 0.5 ? DigitalState.HIGH : DigitalState.LOW);
+            else if (io instanceof MockAnalogInput)
+                ((MockAnalogInput) io).mockValue((int) Math.round(value));
+        };
+        sample.run();
+        drivers.add(clock.scheduleAtFixedRate(period, unit, sample));
+        return this;
+    }
+
+    /**
+     * Propagate the state of a mock digital output over its wires; called by the output
+     *
+     * @param output the address of the output
+     * @param state the new state of the output
+     */
+    public void outputChanged(int output, DigitalState state) {
+        List<Wire> connected = wires.get(output);
+        if (connected == null)
+            return;
+        for (Wire wire : connected) {
+            DigitalState level = wire.invert ? DigitalState.getInverseState(state) : state;
+            if (wire.delay > 0)
+                clock.schedule(wire.delay, TimeUnit.NANOSECONDS, () -> apply(find(wire.input), level));
+            else
+                apply(find(wire.input), level);
+        }
+    }
+
+    /**
+     * Set a new mock digital input to the state of the outputs wired to it; called by the input
+     *
+     * @param input the input
+     */
+    public void inputCreated(MockDigitalInput input) {
+        int address = input.address().intValue();
+        wires.forEach((output, connected) -> {
+            for (Wire wire : connected) {
+                if (wire.input != address)
+                    continue;
+                IO<?, ?, ?> io = find(output);
+                if (io instanceof DigitalOutput) {
+                    DigitalState state = ((DigitalOutput) io).state();
+                    apply(input, wire.invert ? DigitalState.getInverseState(state) : state);
+                }
+            }
+        });
+    }
+
+    // -------------------------------------------------------------------
+    // LATENCY
+    // -------------------------------------------------------------------
+
+    /**
+     * Let operations of a type of mock I/O take time
+     *
+     * @param type the type of I/O (e.g. {@link IOType#I2C})
+     * @param fixed the time taken by every operation
+     * @param perByte the additional time taken per byte transferred
+     * @param unit the time unit
+     * @return this simulation
+     */
+    public Simulation latency(IOType type, long fixed, long perByte, TimeUnit unit) {
+        latencies.put(type, new long[] { unit.toNanos(fixed), unit.toNanos(perByte) });
+        return this;
+    }
+
+    /**
+     * Spend the configured latency of an operation, advancing a virtual clock or blocking the calling thread
+     * for a real-time clock; called by the mock I/O instances
+     *
+     * @param type the type of I/O
+     * @param bytes the number of bytes transferred
+     */
+    public void delay(IOType type, int bytes) {
+        long[] latency = latencies.get(type);
+        if (latency != null)
+            clock.advance(latency[0] + latency[1] * Math.max(0, bytes), TimeUnit.NANOSECONDS);
+    }
+
+    private IO<?, ?, ?> find(int address) {
+        try {
+            return context.registry().get(Registry.GPIO_BUS, address);
+        } catch (IONotFoundException e) {
+            return null;
+        }
+    }
+
+    private static void apply(IO<?, ?, ?> io, DigitalState state) {
+        if (io instanceof MockDigitalInput)
+            ((MockDigitalInput) io).mockState(state);
+    }
+
+    private static final class Wire {
+        private final int input;
+        private final long delay;
+        private final boolean invert;
+
+        private Wire(int input, long delay, boolean invert) {
+            this.input = input;
+            this.delay = delay;
+            this.invert = invert;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.pi4j.plugin.mock.simulation;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: Mock Platform & Providers
+ * FILENAME      :  SimulationClock.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>The time base of a {@link Simulation}.</p>
+ *
+ * <p>A <em>virtual</em> clock only moves when it is advanced, either explicitly with {@link #advance(long, TimeUnit)}
+ * or by the simulated bus latency of the mock I/O operations.  Scheduled tasks run on the thread advancing the
+ * clock, in the order of their due time, and see the clock at their due time.  This makes simulations
+ * deterministic and lets them cover hours of device time in milliseconds.</p>
+ *
+ * <p>A <em>real-time</em> clock follows {@link System#nanoTime()}; advancing it (e.g. by bus latency) blocks the
+ * calling thread for the given time.  Due tasks are run by {@link #poll()}, which the simulation calls
+ * periodically from the context's scheduler.</p>
+ */
+public final class SimulationClock {
+
+    // below this, real-time delays spin instead of parking the thread
+    private static final long SPIN_THRESHOLD = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final boolean realTime;
+    private final long origin;
+    private final PriorityQueue<Task> queue = new PriorityQueue<>();
+    private long now;
+    private long sequence;
+
+    private SimulationClock(boolean realTime) {
+        this.realTime = realTime;
+        this.origin = System.nanoTime();
+    }
+
+    /**
+     * @return a new virtual clock starting at 0
+     */
+    public static SimulationClock virtual() {
+        return new SimulationClock(false);
+    }
+
+    /**
+     * @return a new clock following the system clock, starting at 0
+     */
+    public static SimulationClock realTime() {
+        return new SimulationClock(true);
+    }
+
+    /**
+     * @return true if this clock follows the system clock
+     */
+    public boolean isRealTime() {
+        return realTime;
+    }
+
+    /**
+     * @return the time in nanoseconds since the clock was created
+     */
+    public synchronized long nanoTime() {
+        return realTime ? System.nanoTime() - origin : now;
+    }
+
+    /**
+     * @return the time in seconds since the clock was created
+     */
+    public double seconds() {
+        return nanoTime() / 1e9;
+    }
+
+    /**
+     * Advance the clock, running all tasks that become due; a real-time clock blocks the calling thread instead
+     *
+     * @param duration the time to advance the clock by
+     * @param unit the time unit of the duration
+     */
+    public void advance(long duration, TimeUnit unit) {
+        long nanos = unit.toNanos(duration);
+        if (nanos <= 0) {
+            poll();
+            return;
+        }
+        if (realTime) {
+            long deadline = System.nanoTime() + nanos;
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > SPIN_THRESHOLD)
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD);
+            while (deadline - System.nanoTime() > 0)
+                Thread.onSpinWait();
+            poll();
+            return;
+        }
+
+        long target;
+        synchronized (this) {
+            target = now + nanos;
+        }
+        Task task;
+        while ((task = next(target)) != null)
+            task.run();
+        synchronized (this) {
+            if (now < target)
+                now = target;
+        }
+    }
+
+    /**
+     * Run all tasks that are due
+     */
+    public void poll() {
+        long time = nanoTime();
+        List<Task> due = new ArrayList<>();
+        synchronized (this) {
+            while (!queue.isEmpty() && queue.peek().due <= time)
+                due.add(queue.poll());
+        }
+        for (Task task : due)
+            task.run();
+    }
+
+    /**
+     * Run a task once after a delay
+     *
+     * @param delay the delay
+     * @param unit the time unit of the delay
+     * @param task the task to run
+     * @return a handle to cancel the task
+     */
+    public Task schedule(long delay, TimeUnit unit, Runnable task) {
+        return enqueue(new Task(this, task, nanoTime() + Math.max(0, unit.toNanos(delay)), 0));
+    }
+
+    /**
+     * Run a task periodically, starting after one period
+     *
+     * @param period the period
+     * @param unit the time unit of the period
+     * @param task the task to run
+     * @return a handle to cancel the task
+     */
+    public Task scheduleAtFixedRate(long period, TimeUnit unit, Runnable task) {
+        long nanos = unit.toNanos(period);
+        if (nanos <= 0)
+            throw new IllegalArgumentException("period must be positive");
+        return enqueue(new Task(this, task, nanoTime() + nanos, nanos));
+    }
+
+    private synchronized Task enqueue(Task task) {
+        task.sequence = sequence++;
+        queue.add(task);
+        return task;
+    }
+
+    private synchronized Task next(long target) {
+        Task task = queue.peek();
+        if (task == null || task.due > target)
+            return null;
+        queue.poll();
+        if (task.due > now)
+            now = task.due;
+        return task;
+    }
+
+    private synchronized void remove(Task task) {
+        queue.remove(task);
+    }
+
+    /**
+     * <p>A task scheduled on a {@link SimulationClock}.</p>
+     */
+    public static final class Task implements Comparable<Task> {
+
+        private final SimulationClock clock;
+        private final Runnable runnable;
+        private final long period;
+        private long due;
+        private long sequence;
+        private volatile boolean cancelled;
+
+        private Task(SimulationClock clock, Runnable runnable, long due, long period) {
+            this.clock = clock;
+            this.runnable = runnable;
+            this.due = due;
+            this.period = period;
+        }
+
+        /**
+         * Cancel the task; it is not run again
+         */
+        public void cancel() {
+            cancelled = true;
+            clock.remove(this);
+        }
+
+        /**
+         * @return true if the task has been cancelled
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void run() {
+            if (cancelled)
+                return;
+            try {
+                runnable.run();
+            } finally {
+                if (period > 0 && !cancelled) {
+                    due += period;
+                    clock.enqueue(this);
+                }
+            }
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            int result = Long.compare(due, other.due);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
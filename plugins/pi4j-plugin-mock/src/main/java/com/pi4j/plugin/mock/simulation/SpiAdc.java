@@ -0,0 +1,164 @@
+package com.pi4j.plugin.mock.simulation;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: Mock Platform & Providers
+ * FILENAME      :  SpiAdc.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Objects;
+
+/**
+ * <p>A model of an 8-channel successive approximation ADC with the serial protocol of the Microchip
+ * MCP3008 (10 bits) and MCP3208 (12 bits).</p>
+ *
+ * <p>The protocol is emulated bit by bit, so any framing used by a driver works: the ADC waits for a start
+ * bit, reads the single-ended/differential bit and three channel bits, samples the input on the next clock,
+ * and then shifts out a null bit followed by the conversion result, most significant bit first.  Every
+ * transfer is a separate frame, as if chip select was asserted for its duration.  Inputs are
+ * {@link Waveform}s of the voltage over simulated time; unconnected inputs read 0 V.</p>
+ *
+ * <pre>
+ *     SpiAdc adc = SpiAdc.mcp3008(3.3)
+ *         .channel(0, Waveform.sine(1.65, 1.0, 50))
+ *         .channel(1, Waveform.constant(3.0));
+ * </pre>
+ */
+public class SpiAdc implements SpiDeviceModel {
+
+    /**
+     * Number of input channels.
+     */
+    public static final int CHANNELS = 8;
+
+    private final int bits;
+    private final double vref;
+    private final Waveform[] channels = new Waveform[CHANNELS];
+    private SimulationClock clock = SimulationClock.virtual();
+
+    /**
+     * <p>Constructor for SpiAdc.</p>
+     *
+     * @param bits the resolution of the ADC in bits
+     * @param vref the reference voltage, which corresponds to the full scale reading
+     */
+    public SpiAdc(int bits, double vref) {
+        if (bits < 1 || bits > 24)
+            throw new IllegalArgumentException("bits must be between 1 and 24");
+        if (!(vref > 0))
+            throw new IllegalArgumentException("vref must be positive");
+        this.bits = bits;
+        this.vref = vref;
+    }
+
+    /**
+     * @param vref the reference voltage
+     * @return a model of a 10-bit MCP3008
+     */
+    public static SpiAdc mcp3008(double vref) {
+        return new SpiAdc(10, vref);
+    }
+
+    /**
+     * @param vref the reference voltage
+     * @return a model of a 12-bit MCP3208
+     */
+    public static SpiAdc mcp3208(double vref) {
+        return new SpiAdc(12, vref);
+    }
+
+    /**
+     * Connect an input channel to a signal
+     *
+     * @param channel the channel (0-7)
+     * @param volts the voltage of the signal over simulated time
+     * @return this ADC
+     */
+    public synchronized SpiAdc channel(int channel, Waveform volts) {
+        channels[Objects.checkIndex(channel, CHANNELS)] = volts;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void attached(SimulationClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Return the conversion result the ADC currently produces for an input
+     *
+     * @param channel the channel (0-7)
+     * @param single true for a single-ended conversion, false for a differential conversion of the channel's pair
+     * @return the conversion result
+     */
+    public synchronized int convert(int channel, boolean single) {
+        Objects.checkIndex(channel, CHANNELS);
+        double t = clock.seconds();
+        double volts = voltage(channel, t);
+        if (!single)
+            volts -= voltage(channel ^ 1, t);
+        long code = Math.round(volts / vref * (1L << bits));
+        return (int) Math.max(0, Math.min((1L << bits) - 1, code));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void transfer(byte[] write, int writeOffset, byte[] read, int readOffset, int length) {
+        Objects.checkFromIndexSize(writeOffset, length, write.length);
+        Objects.checkFromIndexSize(readOffset, length, read.length);
+
+        // bits after the start bit: 4 control bits, 1 sample clock, the null bit and the result
+        int position = -1;
+        int control = 0;
+        int result = 0;
+        for (int i = 0; i < length; i++) {
+            int in = write[writeOffset + i] & 0xFF;
+            int out = 0;
+            for (int bit = 7; bit >= 0; bit--) {
+                int din = (in >> bit) & 1;
+                int dout = 0;
+                if (position < 0) {
+                    if (din == 1)
+                        position = 0;
+                } else {
+                    position++;
+                    if (position <= 4) {
+                        control = (control << 1) | din;
+                        if (position == 4)
+                            result = convert(control & 0x07, (control & 0x08) != 0);
+                    } else if (position >= 7 && position < 7 + bits) {
+                        dout = (result >> (bits - 1 - (position - 7))) & 1;
+                    }
+                }
+                out |= dout << bit;
+            }
+            read[readOffset + i] = (byte) out;
+        }
+    }
+
+    private double voltage(int channel, double seconds) {
+        return channels[channel] == null ? 0 : channels[channel].value(seconds);
+    }
+}
@@ -0,0 +1,58 @@
+package com.pi4j.plugin.mock.simulation;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: Mock Platform & Providers
+ * FILENAME      :  SpiDeviceModel.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>The simulated behaviour of a device on a mock SPI channel.</p>
+ *
+ * <p>SPI is full duplex: every byte written is exchanged for a byte read.  Plain reads and writes of the
+ * {@code MockSpi} instance are delegated to {@link #transfer(byte[], int, byte[], int, int)} as well, writing
+ * zeros or discarding the bytes read.</p>
+ */
+@FunctionalInterface
+public interface SpiDeviceModel {
+
+    /**
+     * Called when the model is installed in a simulation
+     *
+     * @param clock the clock of the simulation
+     */
+    default void attached(SimulationClock clock) {
+    }
+
+    /**
+     * Exchange bytes with the device
+     *
+     * @param write the bytes sent to the device
+     * @param writeOffset the offset of the first byte to send
+     * @param read the buffer receiving the bytes sent by the device
+     * @param readOffset the offset of the first byte to receive
+     * @param length the number of bytes to exchange
+     */
+    void transfer(byte[] write, int writeOffset, byte[] read, int readOffset, int length);
+}
@@ -0,0 +1,119 @@
+package com.pi4j.plugin.mock.simulation;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: Mock Platform & Providers
+ * FILENAME      :  Waveform.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>A signal over simulated time, used to drive simulated sensors, ADC channels and inputs.</p>
+ *
+ * <pre>
+ *     Waveform temperature = Waveform.sine(21.5, 0.5, 1 / 60.0).plus(Waveform.noise(0.05, 42));
+ * </pre>
+ */
+@FunctionalInterface
+public interface Waveform {
+
+    /**
+     * Return the value of the signal at the given time
+     *
+     * @param seconds the simulated time in seconds
+     * @return the value of the signal
+     */
+    double value(double seconds);
+
+    /**
+     * Return the sum of this signal and another
+     *
+     * @param other the signal to add
+     * @return a new waveform
+     */
+    default Waveform plus(Waveform other) {
+        return t -> value(t) + other.value(t);
+    }
+
+    /**
+     * @param value the value of the signal
+     * @return a constant signal
+     */
+    static Waveform constant(double value) {
+        return t -> value;
+    }
+
+    /**
+     * @param offset the mean value
+     * @param amplitude the peak deviation from the mean value
+     * @param frequency the frequency in Hz
+     * @return a sine wave
+     */
+    static Waveform sine(double offset, double amplitude, double frequency) {
+        return t -> offset + amplitude * Math.sin(2 * Math.PI * frequency * t);
+    }
+
+    /**
+     * @param low the value during the second half of each period
+     * @param high the value during the first half of each period
+     * @param frequency the frequency in Hz
+     * @return a square wave
+     */
+    static Waveform square(double low, double high, double frequency) {
+        return t -> phase(t, frequency) < 0.5 ? high : low;
+    }
+
+    /**
+     * @param low the value at the start of each period
+     * @param high the value approached at the end of each period
+     * @param frequency the frequency in Hz
+     * @return a sawtooth wave
+     */
+    static Waveform sawtooth(double low, double high, double frequency) {
+        return t -> low + (high - low) * phase(t, frequency);
+    }
+
+    /**
+     * Return reproducible, uniformly distributed noise; the value is a function of the time and the seed
+     * only, so repeated reads at the same simulated time return the same value.
+     *
+     * @param amplitude the maximum deviation from 0
+     * @param seed the seed of the noise
+     * @return a noise signal
+     */
+    static Waveform noise(double amplitude, long seed) {
+        return t -> {
+            // SplitMix64 finalizer over the time in nanoseconds
+            long z = (long) (t * 1e9) + seed * 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            z = z ^ (z >>> 31);
+            return amplitude * ((z >>> 11) * 0x1.0p-53 * 2 - 1);
+        };
+    }
+
+    private static double phase(double seconds, double frequency) {
+        double cycles = seconds * frequency;
+        return cycles - Math.floor(cycles);
+    }
+}
@@ -0,0 +1,221 @@
+package com.pi4j.plugin.mock.util;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: Mock Platform & Providers
+ * FILENAME      :  ByteRingBuffer.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * <p>A growable FIFO of primitive bytes, used as the data buffers of the mock I/O providers.</p>
+ *
+ * <p>Bytes are stored in a power-of-two sized array used as a ring; bulk reads and writes copy at most two
+ * contiguous regions with {@link System#arraycopy(Object, int, Object, int, int)} or the bulk methods of
+ * {@link ByteBuffer}, and never box.  The capacity doubles when the buffer is full and is never reduced.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+public class ByteRingBuffer {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private byte[] data;
+    private int head;
+    private int size;
+
+    /**
+     * <p>Constructor for ByteRingBuffer.</p>
+     */
+    public ByteRingBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * <p>Constructor for ByteRingBuffer.</p>
+     *
+     * @param initialCapacity the initial capacity, rounded up to a power of two
+     */
+    public ByteRingBuffer(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("Invalid capacity: " + initialCapacity);
+        this.data = new byte[Math.max(1, Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1)];
+    }
+
+    /**
+     * @return the number of bytes in the buffer
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the buffer holds no bytes
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the number of bytes the buffer can hold before it grows
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Remove all bytes
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Append a byte
+     *
+     * @param b the byte
+     */
+    public void put(byte b) {
+        ensureCapacity(size + 1);
+        data[(head + size) & (data.length - 1)] = b;
+        size++;
+    }
+
+    /**
+     * Append bytes from an array
+     *
+     * @param src the array
+     * @param offset the offset of the first byte to append
+     * @param length the number of bytes to append
+     */
+    public void put(byte[] src, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        ensureCapacity(size + length);
+        int tail = (head + size) & (data.length - 1);
+        int first = Math.min(length, data.length - tail);
+        System.arraycopy(src, offset, data, tail, first);
+        System.arraycopy(src, offset + first, data, 0, length - first);
+        size += length;
+    }
+
+    /**
+     * Append the remaining bytes of a (heap or direct) byte buffer, advancing its position
+     *
+     * @param src the byte buffer
+     */
+    public void put(ByteBuffer src) {
+        int length = src.remaining();
+        ensureCapacity(size + length);
+        int tail = (head + size) & (data.length - 1);
+        int first = Math.min(length, data.length - tail);
+        src.get(data, tail, first);
+        src.get(data, 0, length - first);
+        size += length;
+    }
+
+    /**
+     * Remove and return the first byte
+     *
+     * @return the byte
+     * @throws NoSuchElementException if the buffer is empty
+     */
+    public byte get() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        byte b = data[head];
+        head = (head + 1) & (data.length - 1);
+        size--;
+        return b;
+    }
+
+    /**
+     * Remove bytes into an array
+     *
+     * @param dst the array
+     * @param offset the offset of the first byte to store
+     * @param length the maximum number of bytes to remove
+     * @return the number of bytes removed, less than the length if the buffer held fewer bytes
+     */
+    public int get(byte[] dst, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, dst.length);
+        int count = Math.min(length, size);
+        int first = Math.min(count, data.length - head);
+        System.arraycopy(data, head, dst, offset, first);
+        System.arraycopy(data, 0, dst, offset + first, count - first);
+        consume(count);
+        return count;
+    }
+
+    /**
+     * Remove bytes into the remaining space of a (heap or direct) byte buffer, advancing its position
+     *
+     * @param dst the byte buffer
+     * @return the number of bytes removed
+     */
+    public int get(ByteBuffer dst) {
+        int count = Math.min(dst.remaining(), size);
+        int first = Math.min(count, data.length - head);
+        dst.put(data, head, first);
+        dst.put(data, 0, count - first);
+        consume(count);
+        return count;
+    }
+
+    /**
+     * Remove and return all bytes
+     *
+     * @return the bytes, in order
+     */
+    public byte[] drain() {
+        byte[] bytes = new byte[size];
+        get(bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    private void consume(int count) {
+        size -= count;
+        head = size == 0 ? 0 : (head + count) & (data.length - 1);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= data.length)
+            return;
+        if (required < 0 || required > MAX_CAPACITY)
+            throw new IllegalStateException("Buffer capacity exceeded");
+        int capacity = data.length;
+        while (capacity < required)
+            capacity <<= 1;
+        byte[] grown = new byte[capacity];
+        int first = Math.min(size, data.length - head);
+        System.arraycopy(data, head, grown, 0, first);
+        System.arraycopy(data, 0, grown, first, size - first);
+        data = grown;
+        head = 0;
+    }
+}
@@ -159,6 +159,11 @@ public class PiGpioPlugin implements Plugin {
             piGpio = PiGpio.newNativeInstance();
         }
 
+        // measure the round trips to the PIGPIO daemon
+        if(service.context().metrics().isEnabled()) {
+            piGpio.setRoundTripListener(new PiGpioRoundTripMetrics(service.context().metrics()));
+        }
+
         // create new instances of the PIGPIO plugin I/O providers using the newly created PIGPIO lib reference
         Provider providers[] = {
                 PiGpioDigitalInputProvider.newInstance(piGpio),
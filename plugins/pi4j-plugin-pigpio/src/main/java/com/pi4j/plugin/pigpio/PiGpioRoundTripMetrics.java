@@ -0,0 +1,59 @@
+package com.pi4j.plugin.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioRoundTripMetrics.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioRoundTripListener;
+import com.pi4j.metrics.Metrics;
+import com.pi4j.metrics.OperationMetrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>Records the round trips to the PIGPIO daemon as operations of the {@code "pigpio"} id,
+ * one operation per command (e.g. {@code "pigpio"/"WRITE"}).</p>
+ */
+class PiGpioRoundTripMetrics implements PiGpioRoundTripListener {
+
+    private final Metrics metrics;
+    private final AtomicReferenceArray<OperationMetrics> commands = new AtomicReferenceArray<>(PiGpioCmd.values().length);
+
+    PiGpioRoundTripMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void onRoundTrip(PiGpioCmd cmd, long nanos, boolean failed) {
+        OperationMetrics operation = commands.get(cmd.ordinal());
+        if (operation == null) {
+            operation = metrics.operation(PiGpioPlugin.ID, cmd.name());
+            commands.set(cmd.ordinal(), operation);
+        }
+        operation.record(nanos, failed);
+    }
+}
@@ -51,6 +51,10 @@ public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput
     private DigitalState state = DigitalState.LOW;
     private Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    // PIGPIO ticks are unsigned 32-bit microsecond counters that wrap around every ~72 minutes;
+    // they are extended into a monotonic 64-bit timestamp in the System.nanoTime() time base
+    private final PiGpioTickClock clock = new PiGpioTickClock();
+
 
     /**
      * Default Constructor
@@ -72,7 +76,7 @@ public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput
      * to registered Pi4J 'DigitalChangeEvent' event listeners on this digital pin.
      */
     private PiGpioStateChangeListener piGpioPinListener =
-            event -> dispatch(new DigitalStateChangeEvent(PiGpioDigitalInput.this, DigitalState.getState(event.state().value())));
+            event -> dispatch(DigitalState.getState(event.state().value()), clock.toNanos(event.tick(), System.nanoTime()));
 
     /** {@inheritDoc} */
     @Override
@@ -106,6 +110,14 @@ public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput
             this.piGpio.gpioGlitchFilter(pin, steadyInterval);
         }
 
+        // debounce is applied by the PIGPIO glitch filter (same steady-time semantics as the software
+        // edge filter); only a minimum pulse width to the ON state is left to the software filter
+        long minPulse = this.config.minPulse() != null ? this.config.minPulse() : 0;
+        if (this.config.onState() == DigitalState.LOW)
+            enableFilter(0, minPulse, false);
+        else
+            enableFilter(minPulse, 0, false);
+
         // add this pin listener
         this.piGpio.addPinListener(pin, piGpioPinListener);
         return this;
@@ -29,6 +29,7 @@ package com.pi4j.plugin.pigpio.provider.gpio.digital;
 
 
 import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.io.gpio.digital.DigitalBankReader;
 import com.pi4j.io.gpio.digital.DigitalInput;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
 import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
@@ -40,7 +41,7 @@ import com.pi4j.library.pigpio.PiGpio;
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
-public class PiGpioDigitalInputProviderImpl extends DigitalInputProviderBase implements PiGpioDigitalInputProvider {
+public class PiGpioDigitalInputProviderImpl extends DigitalInputProviderBase implements PiGpioDigitalInputProvider, DigitalBankReader {
 
     protected final PiGpio piGpio;
 
@@ -77,4 +78,16 @@ public class PiGpioDigitalInputProviderImpl extends DigitalInputProviderBase imp
             return digitalInput;
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int readBank(int bank) {
+        switch (bank) {
+            case 0: return this.piGpio.gpioRead_Bits_0_31();
+            case 1: return this.piGpio.gpioRead_Bits_32_53();
+            default: throw new IllegalArgumentException("Invalid GPIO bank [" + bank + "]; PIGPIO supports banks 0-1");
+        }
+    }
 }
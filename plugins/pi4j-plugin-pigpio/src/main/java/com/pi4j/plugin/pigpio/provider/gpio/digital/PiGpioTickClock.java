@@ -0,0 +1,68 @@
+package com.pi4j.plugin.pigpio.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioTickClock.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>Extends the unsigned 32-bit PIGPIO ticks (microseconds) of in-order pin events into monotonic
+ * timestamps in the {@link System#nanoTime()} time base.</p>
+ *
+ * <p>The tick counter wraps around every 2^32 microseconds (~71.6 minutes), so the distance between
+ * two ticks is ambiguous by whole wrap periods; the time elapsed between the receipt of the events
+ * tells how many periods passed in between.  Timestamps are never ahead of the receipt of their event.</p>
+ */
+final class PiGpioTickClock {
+
+    /** Period of the tick counter in microseconds */
+    static final long WRAP_MICROS = 1L << 32;
+
+    private long lastTick = -1;
+    private long lastNanos;
+    private long lastReceived;
+
+    /**
+     * @param tick the tick of the event
+     * @param received the {@link System#nanoTime()} at which the event was received
+     * @return the timestamp of the event in nanoseconds
+     */
+    long toNanos(long tick, long received) {
+        if (this.lastTick < 0) {
+            // the first event is anchored at its receipt
+            this.lastNanos = received;
+        } else {
+            long delta = (tick - this.lastTick) & 0xFFFFFFFFL;
+            long elapsed = (received - this.lastReceived) / 1000L;
+            long wraps = Math.max(0, Math.round((double) (elapsed - delta) / WRAP_MICROS));
+            this.lastNanos += (delta + wraps * WRAP_MICROS) * 1000L;
+            if (this.lastNanos - received > 0)
+                this.lastNanos = received;
+        }
+        this.lastTick = tick;
+        this.lastReceived = received;
+        return this.lastNanos;
+    }
+}
@@ -36,6 +36,7 @@ import com.pi4j.io.i2c.I2CProvider;
 import com.pi4j.library.pigpio.PiGpio;
 import com.pi4j.library.pigpio.PiGpioMode;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
@@ -123,6 +124,16 @@ public class PiGpioI2C extends I2CBase<PiGpioI2CBus> implements I2C {
         return length;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int write(ByteBuffer buffer, int offset, int length) {
+        length = Math.min(length, buffer.capacity() - offset);
+        piGpio.i2cWriteDevice(this.handle, buffer, offset, length);
+        return length;
+    }
+
     // -------------------------------------------------------------------
     // RAW DEVICE READ FUNCTIONS
     // -------------------------------------------------------------------
@@ -144,6 +155,14 @@ public class PiGpioI2C extends I2CBase<PiGpioI2CBus> implements I2C {
         return piGpio.i2cReadDevice(this.handle, buffer, offset, length);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(ByteBuffer buffer, int offset, int length) {
+        return piGpio.i2cReadDevice(this.handle, buffer, offset, length);
+    }
+
     // -------------------------------------------------------------------
     // DEVICE REGISTER WRITE FUNCTIONS
     // -------------------------------------------------------------------
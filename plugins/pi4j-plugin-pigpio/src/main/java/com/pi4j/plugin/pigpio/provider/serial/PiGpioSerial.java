@@ -37,6 +37,8 @@ import com.pi4j.io.serial.SerialProvider;
 import com.pi4j.library.pigpio.PiGpio;
 import com.pi4j.library.pigpio.PiGpioMode;
 
+import java.nio.ByteBuffer;
+
 /**
  * <p>PiGpioSerial class.</p>
  *
@@ -102,13 +104,43 @@ public class PiGpioSerial extends SerialBase implements Serial {
     /** {@inheritDoc} */
     @Override
     public int write(byte b) {
-        return piGpio.serWriteByte(this.handle, b);
+        long start = writeMetrics.start();
+        try {
+            int result = piGpio.serWriteByte(this.handle, b);
+            writeMetrics.stop(start, 1);
+            return result;
+        } catch (RuntimeException e) {
+            writeMetrics.error(start);
+            throw e;
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public int write(byte[] data, int offset, int length) {
-        return piGpio.serWrite(this.handle, data, offset, length);
+        long start = writeMetrics.start();
+        try {
+            int result = piGpio.serWrite(this.handle, data, offset, length);
+            writeMetrics.stop(start, length);
+            return result;
+        } catch (RuntimeException e) {
+            writeMetrics.error(start);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer buffer, int offset, int length) {
+        long start = writeMetrics.start();
+        try {
+            int result = piGpio.serWrite(this.handle, buffer, offset, length);
+            writeMetrics.stop(start, length);
+            return result;
+        } catch (RuntimeException e) {
+            writeMetrics.error(start);
+            throw e;
+        }
     }
 
 
@@ -119,13 +151,43 @@ public class PiGpioSerial extends SerialBase implements Serial {
     /** {@inheritDoc} */
     @Override
     public int read() {
-        return piGpio.serReadByte(this.handle);
+        long start = readMetrics.start();
+        try {
+            int result = piGpio.serReadByte(this.handle);
+            readMetrics.stop(start, result < 0 ? 0 : 1);
+            return result;
+        } catch (RuntimeException e) {
+            readMetrics.error(start);
+            throw e;
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public int read(byte[] buffer, int offset, int length) {
-        return piGpio.serRead(this.handle, buffer, offset, length);
+        long start = readMetrics.start();
+        try {
+            int result = piGpio.serRead(this.handle, buffer, offset, length);
+            readMetrics.stop(start, result);
+            return result;
+        } catch (RuntimeException e) {
+            readMetrics.error(start);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer buffer, int offset, int length) {
+        long start = readMetrics.start();
+        try {
+            int result = piGpio.serRead(this.handle, buffer, offset, length);
+            readMetrics.stop(start, result);
+            return result;
+        } catch (RuntimeException e) {
+            readMetrics.error(start);
+            throw e;
+        }
     }
 
     // -------------------------------------------------------------------
@@ -34,6 +34,8 @@ import com.pi4j.io.exception.IOException;
 import com.pi4j.io.spi.*;
 import com.pi4j.library.pigpio.PiGpio;
 
+import java.nio.ByteBuffer;
+
 /**
  * <p>PiGpioSpi class.</p>
  *
@@ -164,7 +166,43 @@ public class PiGpioSpi extends SpiBase implements Spi {
     /** {@inheritDoc} */
     @Override
     public int transfer(byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
-        return piGpio.spiXfer(this.handle, write, writeOffset, read, readOffset, numberOfBytes);
+        long start = transferMetrics.start();
+        try {
+            int result = piGpio.spiXfer(this.handle, write, writeOffset, read, readOffset, numberOfBytes);
+            transferMetrics.stop(start, result);
+            return result;
+        } catch (RuntimeException e) {
+            transferMetrics.error(start);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int transfer(ByteBuffer write, int writeOffset, ByteBuffer read, int readOffset, int numberOfBytes) {
+        long start = transferMetrics.start();
+        try {
+            int result = piGpio.spiXfer(this.handle, write, writeOffset, read, readOffset, numberOfBytes);
+            transferMetrics.stop(start, result);
+            return result;
+        } catch (RuntimeException e) {
+            transferMetrics.error(start);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int transfer(ByteBuffer buffer, int offset, int length) {
+        long start = transferMetrics.start();
+        try {
+            int result = piGpio.spiXfer(this.handle, buffer, offset, length);
+            transferMetrics.stop(start, result);
+            return result;
+        } catch (RuntimeException e) {
+            transferMetrics.error(start);
+            throw e;
+        }
     }
 
     // -------------------------------------------------------------------
@@ -174,13 +212,43 @@ public class PiGpioSpi extends SpiBase implements Spi {
     /** {@inheritDoc} */
     @Override
     public int write(byte b) {
-        return piGpio.spiWriteByte(this.handle, b);
+        long start = writeMetrics.start();
+        try {
+            int result = piGpio.spiWriteByte(this.handle, b);
+            writeMetrics.stop(start, 1);
+            return result;
+        } catch (RuntimeException e) {
+            writeMetrics.error(start);
+            throw e;
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public int write(byte[] data, int offset, int length) {
-        return piGpio.spiWrite(this.handle, data, offset, length);
+        long start = writeMetrics.start();
+        try {
+            int result = piGpio.spiWrite(this.handle, data, offset, length);
+            writeMetrics.stop(start, result);
+            return result;
+        } catch (RuntimeException e) {
+            writeMetrics.error(start);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer buffer, int offset, int length) {
+        long start = writeMetrics.start();
+        try {
+            int result = piGpio.spiWrite(this.handle, buffer, offset, length);
+            writeMetrics.stop(start, result);
+            return result;
+        } catch (RuntimeException e) {
+            writeMetrics.error(start);
+            throw e;
+        }
     }
 
 
@@ -191,12 +259,42 @@ public class PiGpioSpi extends SpiBase implements Spi {
     /** {@inheritDoc} */
     @Override
     public int read() {
-        return piGpio.spiReadByte(this.handle);
+        long start = readMetrics.start();
+        try {
+            int result = piGpio.spiReadByte(this.handle);
+            readMetrics.stop(start, 1);
+            return result;
+        } catch (RuntimeException e) {
+            readMetrics.error(start);
+            throw e;
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public int read(byte[] buffer, int offset, int length) {
-        return piGpio.spiRead(this.handle, buffer, offset, length);
+        long start = readMetrics.start();
+        try {
+            int result = piGpio.spiRead(this.handle, buffer, offset, length);
+            readMetrics.stop(start, result);
+            return result;
+        } catch (RuntimeException e) {
+            readMetrics.error(start);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer buffer, int offset, int length) {
+        long start = readMetrics.start();
+        try {
+            int result = piGpio.spiRead(this.handle, buffer, offset, length);
+            readMetrics.stop(start, result);
+            return result;
+        } catch (RuntimeException e) {
+            readMetrics.error(start);
+            throw e;
+        }
     }
 }
@@ -0,0 +1,87 @@
+package com.pi4j.plugin.pigpio;
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A stand-in for the pigpio daemon on the loopback interface.  SPI writes and transfers succeed with
+ * the number of bytes sent, and a transfer reads back the bytes it wrote; every other command returns 0.
+ */
+final class FakePiGpioDaemon implements Closeable, Runnable {
+
+    private final ServerSocket server;
+    private volatile Socket client;
+
+    FakePiGpioDaemon() throws IOException {
+        this.server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        Thread thread = new Thread(this, "fake-pigpiod");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    String host() {
+        return server.getInetAddress().getHostAddress();
+    }
+
+    int port() {
+        return server.getLocalPort();
+    }
+
+    @Override
+    public void run() {
+        while (!server.isClosed()) {
+            try (Socket socket = server.accept()) {
+                client = socket;
+                socket.setTcpNoDelay(true);
+                serve(socket);
+            } catch (IOException e) {
+                // client disconnected or daemon closed
+            }
+        }
+    }
+
+    private void serve(Socket socket) throws IOException {
+        DataInputStream in = new DataInputStream(socket.getInputStream());
+        OutputStream out = socket.getOutputStream();
+        byte[] header = new byte[16];
+        ByteBuffer rx = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+        while (true) {
+            in.readFully(header);
+            int cmd = rx.getInt(0);
+            byte[] data = new byte[rx.getInt(12)];
+            in.readFully(data);
+
+            int result = 0;
+            byte[] reply = new byte[0];
+            if (cmd == PiGpioCmd.SPIW.value()) {
+                result = data.length;
+            } else if (cmd == PiGpioCmd.SPIX.value()) {
+                result = data.length;
+                reply = data;
+            }
+
+            // the response repeats the command and parameters, with the result in place of P3
+            ByteBuffer tx = ByteBuffer.allocate(16 + reply.length).order(ByteOrder.LITTLE_ENDIAN);
+            tx.putInt(cmd).putInt(rx.getInt(4)).putInt(rx.getInt(8)).putInt(result).put(reply);
+            out.write(tx.array());
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+        Socket socket = client;
+        if (socket != null)
+            socket.close();
+    }
+}
@@ -0,0 +1,96 @@
+package com.pi4j.plugin.pigpio;
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.serial.Serial;
+import com.pi4j.io.spi.Spi;
+import com.pi4j.io.spi.SpiBus;
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.metrics.OperationMetrics;
+import com.pi4j.plugin.pigpio.provider.serial.PiGpioSerialProvider;
+import com.pi4j.plugin.pigpio.provider.spi.PiGpioSpiProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PiGpioRoundTripMetricsTest {
+
+    private FakePiGpioDaemon daemon;
+    private Context pi4j;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        daemon = new FakePiGpioDaemon();
+        PiGpio piGpio = PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        pi4j = Pi4J.newContextBuilder()
+            .add(PiGpioSpiProvider.newInstance(piGpio), PiGpioSerialProvider.newInstance(piGpio))
+            .enableMetrics().build();
+        piGpio.setRoundTripListener(new PiGpioRoundTripMetrics(pi4j.metrics()));
+    }
+
+    @AfterEach
+    void afterEach() throws Exception {
+        pi4j.shutdown();
+        daemon.close();
+    }
+
+    @Test
+    void testSpiRoundTrips() {
+        PiGpioSpiProvider provider = pi4j.provider(PiGpioSpiProvider.ID);
+        Spi spi = provider.create(Spi.newConfigBuilder(pi4j).id("spi-0").bus(SpiBus.BUS_0).channel(0).build());
+
+        byte[] write = { 1, 2, 3, 4 };
+        byte[] read = new byte[4];
+        for (int i = 0; i < 5; i++)
+            assertEquals(4, spi.transfer(write, read));
+        assertArrayEquals(write, read);
+        spi.write(new byte[8]);
+
+        OperationMetrics transfer = pi4j.metrics().operation("spi-0", "transfer");
+        assertEquals(5, transfer.count());
+        assertEquals(20, transfer.bytes());
+        assertEquals(0, transfer.errors());
+        assertEquals(8, pi4j.metrics().operation("spi-0", "write").bytes());
+
+        // one round trip per command, recorded whether or not the I/O instance has metrics
+        assertEquals(1, pi4j.metrics().operation(PiGpioPlugin.ID, PiGpioCmd.SPIO.name()).count());
+        OperationMetrics spix = pi4j.metrics().operation(PiGpioPlugin.ID, PiGpioCmd.SPIX.name());
+        assertEquals(5, spix.count());
+        assertEquals(5, spix.latency().count());
+        assertTrue(spix.latency().max() > 0);
+        assertEquals(1, pi4j.metrics().operation(PiGpioPlugin.ID, PiGpioCmd.SPIW.name()).count());
+    }
+
+    @Test
+    void testSerialRoundTrips() {
+        PiGpioSerialProvider provider = pi4j.provider(PiGpioSerialProvider.ID);
+        Serial serial = provider.create(Serial.newConfigBuilder(pi4j).id("serial-0").device("/dev/ttyAMA0").build());
+
+        serial.write(new byte[6]);
+        serial.write((byte) 1);
+
+        OperationMetrics write = pi4j.metrics().operation("serial-0", "write");
+        assertEquals(2, write.count());
+        assertEquals(7, write.bytes());
+        assertEquals(1, pi4j.metrics().operation(PiGpioPlugin.ID, PiGpioCmd.SERW.name()).count());
+        assertEquals(1, pi4j.metrics().operation(PiGpioPlugin.ID, PiGpioCmd.SERWB.name()).count());
+    }
+
+    @Test
+    void testFailedRoundTrip() throws Exception {
+        PiGpioSpiProvider provider = pi4j.provider(PiGpioSpiProvider.ID);
+        Spi spi = provider.create(Spi.newConfigBuilder(pi4j).id("spi-0").bus(SpiBus.BUS_0).channel(0).build());
+        daemon.close();
+
+        // the daemon is gone: the round trip and the transfer both count as failed
+        assertThrows(RuntimeException.class, () -> {
+            for (int i = 0; i < 100; i++)
+                spi.transfer(new byte[4]);
+        });
+        assertTrue(pi4j.metrics().operation("spi-0", "transfer").errors() > 0);
+        assertTrue(pi4j.metrics().operation(PiGpioPlugin.ID, PiGpioCmd.SPIX.name()).errors() > 0);
+    }
+}
@@ -0,0 +1,51 @@
+package com.pi4j.plugin.pigpio.provider.gpio.digital;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PiGpioTickClockTest {
+
+    private static final long US = 1000L;
+    private static final long WRAP_NANOS = PiGpioTickClock.WRAP_MICROS * US;
+
+    @Test
+    void testTickDistances() {
+        PiGpioTickClock clock = new PiGpioTickClock();
+        long start = 5_000_000_000L;
+
+        // anchored at the receipt of the first event, then spaced by the ticks
+        assertEquals(start, clock.toNanos(1000, start));
+        assertEquals(start + 250 * US, clock.toNanos(1250, start + 400 * US));
+
+        // a wrap of the counter between two close events
+        long tick = 0xFFFFFF00L;
+        long received = start + 10_000_000L;
+        long nanos = clock.toNanos(tick, received);
+        assertEquals(nanos + 0x200 * US, clock.toNanos(0x100, received + 0x200 * US));
+    }
+
+    @Test
+    void testIdleGapLongerThanWrapPeriod() {
+        PiGpioTickClock clock = new PiGpioTickClock();
+        long start = 1_000_000_000L;
+        assertEquals(start, clock.toNanos(1000, start));
+
+        // three full periods and 5 ms between the events; the masked tick distance is 5 ms only
+        long gap = 3 * WRAP_NANOS + 5_000 * US;
+        assertEquals(start + gap, clock.toNanos(1000 + 5_000, start + gap + 300 * US));
+
+        // no drift against the receipt time afterwards
+        long next = start + gap + 10_000 * US;
+        assertEquals(next, clock.toNanos(1000 + 15_000, next + 100 * US));
+    }
+
+    @Test
+    void testNeverAheadOfReceipt() {
+        PiGpioTickClock clock = new PiGpioTickClock();
+        // the first event was received late, so the ticks of the next one would place it in the future
+        clock.toNanos(0, 10_000 * US);
+        assertEquals(10_500 * US, clock.toNanos(1_000, 10_500 * US));
+        assertTrue(clock.toNanos(1_100, 10_600 * US) <= 10_600 * US);
+    }
+}